@@ -10,9 +10,39 @@ import java.awt.*;
 import java.awt.event.*;
 import javax.swing.*;
 import com.jogamp.opengl.*;
+import com.jogamp.opengl.awt.GLCanvas;
 import com.jogamp.opengl.awt.GLJPanel;
+import com.jogamp.newt.awt.NewtCanvasAWT;
+import com.jogamp.newt.opengl.GLWindow;
 import com.jogamp.opengl.util.gl2.GLUT;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.lang.management.ManagementFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.LockSupport;
+import javax.imageio.ImageIO;
 import fourlights.Camera; // Don't forget about this import!
 
 /**
@@ -33,45 +63,202 @@ import fourlights.Camera; // Don't forget about this import!
  * below. As such, to use this class, be sure to import the file or remove the above import and
  * simply add that class and its contents to a separate file in the same package as this. A copy of
  * the class is located <a href="http://math.hws.edu/graphicsbook/source/jogl/Camera.java">here</a>.
+ * The <code>fourlights/Camera.java</code> beside this file is a minimal stand-in, covering only
+ * the methods this class calls, namely <code>lookAt</code>, <code>setScale</code>,
+ * <code>getScale</code>, <code>getViewParameters</code>, and <code>installTrackball</code>, such
+ * that the Maven build under <code>Week 5 - OpenGL</code> compiles without the original. It is not
+ * the original's full interface, lacking <code>apply</code> among others, though the original may
+ * replace it unchanged.
+ * <br />
+ * <br />
+ * The program originally extended <code>JFrame</code> directly, but as a <code>JFrame</code>
+ * cannot so much as be constructed on a machine without a display, the window is now held as a
+ * field and only built when the program is not run with the <code>--headless</code> option. In
+ * that mode, the scene is instead rendered a set number of times into an offscreen drawable by
+ * <code>FourLights.HeadlessRenderer</code>, with the camera, image size, and light states taken
+ * from the command line as parsed by <code>FourLights.LaunchOptions</code>. Where no OpenGL is to
+ * be had at all, the <code>--backend software</code> option instead has
+ * <code>FourLights.SoftwareRasterizer</code> reproduce the fixed-function rendering on the CPU,
+ * and either backend's image may be checked against a reference with <code>--reference</code>.
  * <br />
  * <br />
  * <pre>
  * Table of Contents:
- * - Main method                  Line 0073
- * - Constants & class fields     Line 0077
- * - Setters                      Line 0141
- * - Getters                      Line 0263
- * - Utility methods              Line 0373
- * - Listener handlers            Line 0470
- * - Inner classes                Line 0521
- *   - SceneGLJPanel              Line 0536
- *     - Setter                   Line 0548
- *     - Getter                   Line 0560
- *     - Utility methods          Line 0571
- *   - SceneGLEventListener       Line 0832
- *   - LightSource                Line 0959
- *     - Setters                  Line 0994
- *     - Getters                  Line 1066
- *     - Utility methods          Line 1131
- *   - CheckBoxListener           Line 1220
- *   - TimerListener              Line 1247
- *   - TruncatedIcosahedron       Line 1280
+ * - Main method                  Line 0245
+ * - Constants & class fields     Line 0261
+ * - Setters                      Line 0523
+ * - Getters                      Line 0785
+ * - Utility methods              Line 1025
+ * - Listener handlers            Line 1358
+ * - Inner classes                Line 1400
+ *   - SceneGLJPanel              Line 1418
+ *   - ScenePresenter             Line 1501
+ *     - Getter                   Line 1545
+ *     - Utility methods          Line 1556
+ *   - SceneGLCanvas              Line 1658
+ *   - SceneNewtCanvas            Line 1700
+ *   - NewtMouseBridge            Line 1744
+ *     - Utility methods          Line 1758
+ *   - SceneGLEventListener       Line 1848
+ *     - Setters                  Line 1894
+ *     - Getters                  Line 2101
+ *     - Utility methods          Line 2284
+ *   - LightSource                Line 3652
+ *     - Setters                  Line 3686
+ *     - Getters                  Line 3768
+ *     - Utility methods          Line 3842
+ *   - CheckBoxListener           Line 4082
+ *   - CameraListener             Line 4114
+ *   - RenderLoop                 Line 4185
+ *     - Utility methods          Line 4217
+ *   - PacingReport               Line 4572
+ *   - FramePipeline              Line 4624
+ *     - Utility methods          Line 4656
+ *   - TruncatedIcosahedron       Line 4871
+ *   - Octahedron                 Line 5044
+ *   - Icosahedron                Line 5114
+ *   - PolyhedronMesh             Line 5222
+ *     - Getters                  Line 5286
+ *     - Utility methods          Line 5423
+ *   - MeshNormals                Line 5672
+ *     - Getters                  Line 5770
+ *     - Utility methods          Line 5828
+ *   - MeshLoader                 Line 6102
+ *     - Utility methods          Line 6178
+ *   - MeshCache                  Line 7319
+ *     - Utility methods          Line 7360
+ *   - MeshEdges                  Line 7854
+ *     - Getters                  Line 7905
+ *     - Utility methods          Line 7925
+ *   - MeshOptimizer              Line 7973
+ *     - Getters                  Line 8097
+ *     - Utility methods          Line 8138
+ *   - RetainedShapeRenderer      Line 8447
+ *     - Setters                  Line 8469
+ *     - Getters                  Line 8553
+ *     - Utility methods          Line 8627
+ *   - TiledLightRenderer         Line 8850
+ *     - Getters                  Line 8931
+ *     - Utility methods          Line 8942
+ *   - UniformLightRenderer       Line 9454
+ *     - Utility methods          Line 9515
+ *   - OrbitingLights             Line 9759
+ *     - Getters                  Line 9809
+ *     - Utility methods          Line 9820
+ *   - ShaderPrograms             Line 9866
+ *     - Utility methods          Line 9868
+ *   - InstancedMeshRenderer      Line 9989
+ *     - Getters                  Line 10073
+ *     - Utility methods          Line 10084
+ *   - InstanceField              Line 10425
+ *     - Getters                  Line 10451
+ *     - Utility methods          Line 10462
+ *   - GeodesicMesh               Line 10556
+ *     - Getters                  Line 10620
+ *     - Utility methods          Line 10631
+ *   - LevelOfDetail              Line 10775
+ *     - Setters                  Line 10818
+ *     - Getters                  Line 10832
+ *     - Utility methods          Line 10843
+ *   - SceneNode                  Line 10976
+ *     - Setter                   Line 11013
+ *     - Getters                  Line 11026
+ *     - Utility methods          Line 11103
+ *   - Frustum                    Line 11230
+ *     - Utility methods          Line 11250
+ *   - SceneGraph                 Line 11346
+ *     - Setters                  Line 11367
+ *     - Getters                  Line 11380
+ *     - Utility methods          Line 11410
+ *   - DrawCommands               Line 11591
+ *     - Getters                  Line 11631
+ *     - Utility methods          Line 11681
+ *   - RecordedFrame              Line 11763
+ *     - Getters                  Line 11794
+ *     - Utility methods          Line 11878
+ *   - LaunchOptions              Line 12155
+ *     - Setters                  Line 12223
+ *     - Getters                  Line 12635
+ *     - Utility methods          Line 13008
+ *   - HeadlessRenderer           Line 13553
+ *     - Setters                  Line 13578
+ *     - Getters                  Line 13650
+ *     - Utility methods          Line 13715
+ *   - FrameImages                Line 13867
+ *     - Utility methods          Line 13869
+ *   - FrameExporter              Line 14023
+ *     - Getter                   Line 14077
+ *     - Utility methods          Line 14090
+ *   - PixelPackRing              Line 14372
+ *     - Utility methods          Line 14399
+ *   - SoftwareRasterizer         Line 14551
+ *     - Setters                  Line 14598
+ *     - Getters                  Line 14640
+ *     - Utility methods          Line 14696
+ *   - TileRasterizer             Line 15102
+ *     - Getters                  Line 15147
+ *     - Utility methods          Line 15176
+ *   - Matrices                   Line 15725
+ *     - Utility methods          Line 15730
+ *   - MatrixStack                Line 16026
+ *     - Getters                  Line 16052
+ *     - Utility methods          Line 16064
+ *   - ScenePaths                 Line 16208
+ *     - Getters                  Line 16248
+ *     - Utility methods          Line 16322
+ *   - MeshGLUT                   Line 16598
+ *   - GLStateCache               Line 16668
+ *     - Utility methods          Line 16707
+ *   - StartupProfile             Line 17105
+ *     - Getters                  Line 17166
+ *     - Utility methods          Line 17186
+ *   - TimingDump                 Line 17438
+ *   - FrameTimings               Line 17484
+ *     - Getters                  Line 17537
+ *     - Utility methods          Line 17548
+ *   - InputRecorder              Line 17708
+ *     - Utility methods          Line 17758
+ *   - InputReplay                Line 17889
+ *     - Getter                   Line 17922
+ *     - Utility methods          Line 17933
+ *   - LatencyHistogram           Line 18073
+ *     - Getter                   Line 18094
+ *     - Utility methods          Line 18105
+ *   - SimulationClock            Line 18227
+ *     - Getters                  Line 18242
+ *     - Utility methods          Line 18253
  * </pre>
  *
  * @see <a href="http://math.hws.edu/graphicsbook/source/jogl/Camera.java">Camera.java</a>
  * @see javax.swing.JFrame
  * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
  */
-final class FourLights extends JFrame {
+final class FourLights {
 
   /**
-   * The main method simply creates a new <code>FourLights</code> application instance.
+   * The main method simply creates a new <code>FourLights</code> application instance from the
+   * parsed command line options and launches it, the options deciding whether a window is shown
+   * or the scene is rendered offscreen, noting first when it was entered for the
+   * <code>FourLights.StartupProfile</code>.
    *
+   * @see FourLights.LaunchOptions#parse
    * @param args <code>String[]</code>, the command line arguments
    * @return void
    */
   public static void main(String[] args) {
-    final FourLights newApplication = new FourLights();
+
+    // Declarations
+    final long startNanos, startMillis;
+    final LaunchOptions options;
+    final FourLights newApplication;
+
+    // Definitions
+    startNanos = System.nanoTime();
+    startMillis = System.currentTimeMillis();
+    options = FourLights.LaunchOptions.parse(args);
+    newApplication = new FourLights(options,
+      new FourLights.StartupProfile(startNanos, startMillis, options));
+    newApplication.launch(options);
   }
 
   // Constants & class fields
@@ -82,12 +269,39 @@ final class FourLights extends JFrame {
   /** Constant defining the height of the entire application window, set to 600 */
   private final static int WINDOW_HEIGHT = 600;
 
-  /** Default <code>Timer</code> interval period, set by default to 30 milliseconds */
-  private final static int TIMER_DELAY = 30;
+  /** Fixed step of the animation's simulation clock, set to 30 ms, the old timer period */
+  private final static long SIMULATION_STEP_NANOS = 30000000L;
+
+  /** Most simulation steps taken at once to catch up after a stall, set to 8 */
+  private final static int MAX_CATCH_UP_STEPS = 8;
+
+  /** Degrees per second by which the lights circle, one degree per simulation step */
+  private final static double LIGHT_ROTATION_SPEED = 1e9 / FourLights.SIMULATION_STEP_NANOS;
+
+  /** Scene time by which a frame recorded ahead may be off in the window, set to 4 ms */
+  private final static long PIPELINE_TOLERANCE_NANOS = 4000000L;
 
-  /** The delay between the end of the <code>constructGUI</code> method and the timer start */
+  /** The delay between the end of the <code>constructGUI</code> method and the first frame */
   private final static int INITIAL_DELAY = 500;
 
+  /** Damage bit of <code>FourLights.RenderLoop#invalidate</code> for a camera moved by drag */
+  private final static int DAMAGE_CAMERA = 1;
+
+  /** Damage bit of <code>FourLights.RenderLoop#invalidate</code> for a toggled colored light */
+  private final static int DAMAGE_LIGHTS = 2;
+
+  /** Damage bit of <code>FourLights.RenderLoop#invalidate</code> for toggled ambient light */
+  private final static int DAMAGE_AMBIENT = 4;
+
+  /** Damage bit for the animation clock, which dirties every frame while animating */
+  private final static int DAMAGE_CLOCK = 8;
+
+  /** Every damage bit at once, assumed of any frame not drawn by the render loop */
+  private final static int DAMAGE_ALL = 15;
+
+  /** Display refresh rate assumed where the screen does not report its own, set to 60 */
+  private final static int DEFAULT_REFRESH_RATE = 60;
+
   /** This constant sets the scale of the main scene object, the icosahedron, set to 10.0 */
   private final static double OBJECT_SCALE = 10.0;
 
@@ -121,25 +335,206 @@ final class FourLights extends JFrame {
   /** <code>float</code> array for dim lighting, set to <code>{0.5F, 0.5F, 0.5F, 1}</code> */
   private final static float[] DIM_LIGHTING = {0.5F, 0.5F, 0.5F, 1};
 
+  /** Shape drawn from buffer objects uploaded once, set to <code>"retained"</code> */
+  private final static String RENDER_MODE_RETAINED = "retained";
+
+  /** Shape drawn face by face in immediate mode, set to <code>"immediate"</code> */
+  private final static String RENDER_MODE_IMMEDIATE = "immediate";
+
+  /** Index of the viewpoint light's on/off state within the light switches, set to 0 */
+  private final static int VIEWPOINT_SWITCH = 0;
+
+  /** Index of the red light's on/off state within the light switches, set to 1 */
+  private final static int RED_SWITCH = 1;
+
+  /** Index of the green light's on/off state within the light switches, set to 2 */
+  private final static int GREEN_SWITCH = 2;
+
+  /** Index of the blue light's on/off state within the light switches, set to 3 */
+  private final static int BLUE_SWITCH = 3;
+
+  /** Index of the global ambient light's on/off state within the light switches, set to 4 */
+  private final static int AMBIENT_SWITCH = 4;
+
+  /** Names of the light switches as accepted by <code>--lights</code>, in index order */
+  private final static String[] SWITCH_NAMES = {"viewpoint", "red", "green", "blue", "ambient"};
+
+  /** <code>float</code> array for light markers, set to <code>{0.5F, 0.5F, 0.5F, 1}</code> */
+  private final static float[] LIGHT_MARKER_COLOR = {0.5F, 0.5F, 0.5F, 1};
+
+  /** Headless backend rendering through JOGL, set to <code>"gl"</code> */
+  private final static String BACKEND_GL = "gl";
+
+  /** Headless backend rendering on the CPU alone, set to <code>"software"</code> */
+  private final static String BACKEND_SOFTWARE = "software";
+
+  /** Window shown through a Swing <code>GLJPanel</code>, set to <code>"gljpanel"</code> */
+  private final static String PRESENTER_GLJPANEL = "gljpanel";
+
+  /** Window shown through an AWT <code>GLCanvas</code>, set to <code>"glcanvas"</code> */
+  private final static String PRESENTER_GLCANVAS = "glcanvas";
+
+  /** Window shown through a NEWT <code>GLWindow</code>, set to <code>"newt"</code> */
+  private final static String PRESENTER_NEWT = "newt";
+
+  /** Lighting through the fixed-function lights, set to <code>"fixed"</code> */
+  private final static String LIGHTING_FIXED = "fixed";
+
+  /** Lighting by shader with tiled light culling, set to <code>"tiled"</code> */
+  private final static String LIGHTING_TILED = "tiled";
+
+  /** Lighting by shader from a uniform buffer light table, set to <code>"uniform"</code> */
+  private final static String LIGHTING_UNIFORM = "uniform";
+
+  /** Geodesic spheres built on the truncated icosahedron, set to <code>"truncated"</code> */
+  private final static String GEODESIC_TRUNCATED = "truncated";
+
+  /** Geodesic spheres built on the icosahedron, set to <code>"icosahedron"</code> */
+  private final static String GEODESIC_ICOSAHEDRON = "icosahedron";
+
+  /** Frames exported as PNG images, set to <code>"png"</code> */
+  private final static String EXPORT_PNG = "png";
+
+  /** Frames exported as the bare bytes of their pixels, set to <code>"raw"</code> */
+  private final static String EXPORT_RAW = "raw";
+
+  /** Finest geodesic level allowed, some twelve million triangles on the truncated icosahedron */
+  private final static int GEODESIC_MAX_DEPTH = 8;
+
+  /** Largest per-channel difference from a reference image still counted as a match, set to 16 */
+  private final static int REFERENCE_CHANNEL_THRESHOLD = 16;
+
   // Class fields
+  private JFrame frame;
   private JCheckBox animating, viewpointLight, redLight, greenLight, blueLight, ambientLight;
-  private SceneGLJPanel scenePanel;
-  private Timer animationTimer;
-  private int frameNumber;
+  private ScenePresenter scenePresenter;
+  private SceneGLEventListener sceneListener;
+  private RenderLoop renderLoop;
+  private volatile double sceneTime;
+  private boolean[] lightSwitches;
   private Camera sceneCamera;
   private GLUT glut;
   private GL2 gl;
+  private GLStateCache glState;
+  private MatrixStack modelView, projection;
+  private double[][] cameraView;
+  private double cameraScale;
+  private volatile boolean cameraMoved;
+  private volatile int frameDamage;
+  private FrameTimings frameTimings;
+  private StartupProfile startupProfile;
+  private InputRecorder inputRecorder;
+  private InputReplay inputReplay;
+
+  /**
+   * Parameterized constructor
+   *
+   * @param options <code>LaunchOptions</code>
+   * @param startupProfile <code>StartupProfile</code>
+   */
+  private FourLights(LaunchOptions options, StartupProfile startupProfile) {
+
+    // Declarations
+    FourLights.MeshCache tempCache;
+    final boolean tempJogl;
+
+    // Definitions
+    tempCache = null;
+    tempJogl = !FourLights.BACKEND_SOFTWARE.equals(options.getBackend());
 
-  /** Default constructor */
-  private FourLights() {
-    super("A Lighting Demo");
-    this.setFrameNumber(0);
+    this.setStartupProfile(startupProfile);
+    startupProfile.loadClasses(tempJogl);
+    this.setSceneTime(FourLights.SimulationClock.timeOfStep(options.getStartFrame()));
+    this.setLightSwitches(options.getLightSwitches().clone());
     this.setGlut(new GLUT());
-    this.constructGUI();
+    this.setGlState(new FourLights.GLStateCache());
+    this.setSceneCamera(this.constructCamera(options));
+    this.setModelView(new FourLights.MatrixStack(GL2.GL_MODELVIEW));
+    this.setProjection(new FourLights.MatrixStack(GL2.GL_PROJECTION));
+    this.setCameraView(new double[][] {options.getEye().clone(), options.getCenter().clone(),
+      options.getUp().clone()});
+    this.setCameraScale(options.getScale());
+    this.setCameraMoved(true);
+    this.setFrameDamage(FourLights.DAMAGE_ALL);
+    this.setSceneListener(new FourLights.SceneGLEventListener());
+    this.getSceneListener().setVsync(options.isVsync());
+    this.getSceneListener().setImmediateMode(
+      FourLights.RENDER_MODE_IMMEDIATE.equals(options.getRenderMode()));
+    if (options.getMeshCache() != null) {
+      tempCache = new FourLights.MeshCache(options.getMeshCache(), options.isMeshQuantized());
+    }
+    if (options.getMeshPath() != null) {
+      this.getSceneListener().setMesh((tempCache != null)
+        ? tempCache.loadFile(options.getMeshPath(), options.getThreadCount())
+        : FourLights.MeshLoader.load(options.getMeshPath(), options.getThreadCount()));
+    }
+    if (FourLights.LIGHTING_TILED.equals(options.getLighting())) {
+      this.getSceneListener().setTiledRenderer(new FourLights.TiledLightRenderer());
+      this.getSceneListener().setStressLights(
+        new FourLights.OrbitingLights(options.getStressLights()[0]));
+    }
+    if (FourLights.LIGHTING_UNIFORM.equals(options.getLighting())) {
+      this.getSceneListener().setUniformRenderer(new FourLights.UniformLightRenderer());
+    }
+    if (options.isInstanced()) {
+      this.getSceneListener().setShapeInstances(
+        new FourLights.InstancedMeshRenderer(this.getSceneListener().getMesh()));
+      this.getSceneListener().setMarkerInstances(
+        new FourLights.InstancedMeshRenderer(FourLights.PolyhedronMesh.OCTAHEDRON));
+    }
+    if (options.getGeodesicDepth() >= 0) {
+      this.getSceneListener().setLevelOfDetail(new FourLights.LevelOfDetail(
+        (FourLights.GEODESIC_ICOSAHEDRON.equals(options.getGeodesicBase()))
+          ? FourLights.PolyhedronMesh.ICOSAHEDRON
+          : this.getSceneListener().getMesh(),
+        options.getGeodesicDepth(), options.getLodPixels()));
+      if (tempCache != null) {
+        this.getSceneListener().getLevelOfDetail().setCache(tempCache);
+      }
+    }
+    if (options.isSceneGraph()) {
+      this.getSceneListener().setSceneGraph(
+        this.getSceneListener().buildSceneGraph(options.getInstances()[0]));
+    }
+    if (options.isPipelined() && tempJogl) {
+      this.getSceneListener().setFramePipeline(new FourLights.FramePipeline(
+        options.getThreadCount(), (options.isHeadless())
+          ? 1e-9
+          : FourLights.PIPELINE_TOLERANCE_NANOS / 1e9));
+      this.getSceneListener().getFramePipeline().start();
+    }
+
+    if (options.isTiming()) {
+      this.setFrameTimings(new FourLights.FrameTimings(options.isTimingOverlay()));
+      Runtime.getRuntime().addShutdownHook(new FourLights.TimingDump(options.getTimingOutput()));
+    }
+    if (options.getRecordPath() != null) {
+      this.setInputRecorder(new FourLights.InputRecorder(options.getRecordPath(),
+        this.getLightSwitches(), this.getCameraView()));
+      Runtime.getRuntime().addShutdownHook(this.getInputRecorder());
+    }
+    if (options.getReplayPath() != null) {
+      this.setInputReplay(new FourLights.InputReplay(options.getReplayPath()));
+    }
+
+    startupProfile.prepareMesh((tempJogl && !this.getSceneListener().isImmediateMode())
+      ? this.getSceneListener().getShapeRenderer()
+      : null, this.getSceneListener().getMesh());
+
   }
 
   // Setters
 
+  /**
+   * Setter for <code>FourLights.frame</code>
+   *
+   * @param frame <code>JFrame</code>
+   * @return void
+   */
+  private void setFrame(JFrame frame) {
+    this.frame = frame;
+  }
+
   /**
    * Setter for <code>FourLights.animating</code>
    *
@@ -201,33 +596,53 @@ final class FourLights extends JFrame {
   }
 
   /**
-   * Setter for <code>FourLights.scenePanel</code>
+   * Setter for <code>FourLights.scenePresenter</code>
+   *
+   * @param scenePresenter <code>ScenePresenter</code>
+   * @return void
+   */
+  private void setScenePresenter(ScenePresenter scenePresenter) {
+    this.scenePresenter = scenePresenter;
+  }
+
+  /**
+   * Setter for <code>FourLights.sceneListener</code>
+   *
+   * @param sceneListener <code>SceneGLEventListener</code>
+   * @return void
+   */
+  private void setSceneListener(SceneGLEventListener sceneListener) {
+    this.sceneListener = sceneListener;
+  }
+
+  /**
+   * Setter for <code>FourLights.renderLoop</code>
    *
-   * @param scenePanel <code>SceneGLJPanel</code>
+   * @param renderLoop <code>RenderLoop</code>
    * @return void
    */
-  private void setScenePanel(SceneGLJPanel scenePanel) {
-    this.scenePanel = scenePanel;
+  private void setRenderLoop(RenderLoop renderLoop) {
+    this.renderLoop = renderLoop;
   }
 
   /**
-   * Setter for <code>FourLights.animationTimer</code>
+   * Setter for <code>FourLights.sceneTime</code>
    *
-   * @param animationTimer <code>Timer</code>
+   * @param sceneTime <code>double</code> seconds of animation
    * @return void
    */
-  private void setAnimationTimer(Timer animationTimer) {
-    this.animationTimer = animationTimer;
+  private void setSceneTime(double sceneTime) {
+    this.sceneTime = sceneTime;
   }
 
   /**
-   * Setter for <code>FourLights.frameNumber</code>
+   * Setter for <code>FourLights.lightSwitches</code>
    *
-   * @param frameNumber <code>int</code>
+   * @param lightSwitches <code>boolean[]</code>
    * @return void
    */
-  private void setFrameNumber(int frameNumber) {
-    this.frameNumber = frameNumber;
+  private void setLightSwitches(boolean[] lightSwitches) {
+    this.lightSwitches = lightSwitches;
   }
 
   /**
@@ -260,8 +675,127 @@ final class FourLights extends JFrame {
     this.gl = gl;
   }
 
+  /**
+   * Setter for <code>FourLights.glState</code>
+   *
+   * @param glState <code>GLStateCache</code>
+   * @return void
+   */
+  private void setGlState(GLStateCache glState) {
+    this.glState = glState;
+  }
+
+  /**
+   * Setter for <code>FourLights.modelView</code>
+   *
+   * @param modelView <code>MatrixStack</code>
+   * @return void
+   */
+  private void setModelView(MatrixStack modelView) {
+    this.modelView = modelView;
+  }
+
+  /**
+   * Setter for <code>FourLights.projection</code>
+   *
+   * @param projection <code>MatrixStack</code>
+   * @return void
+   */
+  private void setProjection(MatrixStack projection) {
+    this.projection = projection;
+  }
+
+  /**
+   * Setter for <code>FourLights.cameraView</code>
+   *
+   * @param cameraView <code>double[][]</code> holding the eye, center, and up vectors
+   * @return void
+   */
+  private void setCameraView(double[][] cameraView) {
+    this.cameraView = cameraView;
+  }
+
+  /**
+   * Setter for <code>FourLights.cameraScale</code>
+   *
+   * @param cameraScale <code>double</code>
+   * @return void
+   */
+  private void setCameraScale(double cameraScale) {
+    this.cameraScale = cameraScale;
+  }
+
+  /**
+   * Setter for <code>FourLights.cameraMoved</code>
+   *
+   * @param cameraMoved <code>boolean</code>
+   * @return void
+   */
+  private void setCameraMoved(boolean cameraMoved) {
+    this.cameraMoved = cameraMoved;
+  }
+
+  /**
+   * Setter for <code>FourLights.frameDamage</code>
+   *
+   * @param frameDamage <code>int</code> one or more of the <code>DAMAGE_*</code> bits
+   * @return void
+   */
+  private void setFrameDamage(int frameDamage) {
+    this.frameDamage = frameDamage;
+  }
+
+  /**
+   * Setter for <code>FourLights.frameTimings</code>
+   *
+   * @param frameTimings <code>FrameTimings</code>
+   * @return void
+   */
+  private void setFrameTimings(FrameTimings frameTimings) {
+    this.frameTimings = frameTimings;
+  }
+
+  /**
+   * Setter for <code>FourLights.startupProfile</code>
+   *
+   * @param startupProfile <code>StartupProfile</code>
+   * @return void
+   */
+  private void setStartupProfile(StartupProfile startupProfile) {
+    this.startupProfile = startupProfile;
+  }
+
+  /**
+   * Setter for <code>FourLights.inputRecorder</code>
+   *
+   * @param inputRecorder <code>InputRecorder</code>
+   * @return void
+   */
+  private void setInputRecorder(InputRecorder inputRecorder) {
+    this.inputRecorder = inputRecorder;
+  }
+
+  /**
+   * Setter for <code>FourLights.inputReplay</code>
+   *
+   * @param inputReplay <code>InputReplay</code>
+   * @return void
+   */
+  private void setInputReplay(InputReplay inputReplay) {
+    this.inputReplay = inputReplay;
+  }
+
   // Getters
 
+  /**
+   * Getter for <code>FourLights.frame</code>
+   *
+   * @return frame <code>JFrame</code>
+   */
+  private JFrame getFrame() {
+    return this.frame;
+  }
+
   /**
    * Getter for <code>FourLights.animating</code>
    *
@@ -317,30 +851,48 @@ final class FourLights extends JFrame {
   }
 
   /**
-   * Getter for <code>FourLights.scenePanel</code>
+   * Getter for <code>FourLights.scenePresenter</code>
+   *
+   * @return scenePresenter <code>ScenePresenter</code>
+   */
+  private ScenePresenter getScenePresenter() {
+    return this.scenePresenter;
+  }
+
+  /**
+   * Getter for <code>FourLights.sceneListener</code>
+   *
+   * @return sceneListener <code>SceneGLEventListener</code>
+   */
+  private SceneGLEventListener getSceneListener() {
+    return this.sceneListener;
+  }
+
+  /**
+   * Getter for <code>FourLights.renderLoop</code>
    *
-   * @return scenePanel <code>SceneGLJPanel</code>
+   * @return renderLoop <code>RenderLoop</code>
    */
-  private SceneGLJPanel getScenePanel() {
-    return this.scenePanel;
+  private RenderLoop getRenderLoop() {
+    return this.renderLoop;
   }
 
   /**
-   * Getter for <code>FourLights.animationTimer</code>
+   * Getter for <code>FourLights.sceneTime</code>
    *
-   * @return animationTimer <code>Timer</code>
+   * @return sceneTime <code>double</code> seconds of animation
    */
-  private Timer getAnimationTimer() {
-    return this.animationTimer;
+  private double getSceneTime() {
+    return this.sceneTime;
   }
 
   /**
-   * Getter for <code>FourLights.frameNumber</code>
+   * Getter for <code>FourLights.lightSwitches</code>
    *
-   * @return frameNumber <code>int</code>
+   * @return lightSwitches <code>boolean[]</code>
    */
-  private int getFrameNumber() {
-    return this.frameNumber;
+  private boolean[] getLightSwitches() {
+    return this.lightSwitches;
   }
 
   /**
@@ -370,1070 +922,17411 @@ final class FourLights extends JFrame {
     return this.gl;
   }
 
-  // Utility methods
-
   /**
-   * This functionality is related to the display of the GUI itself to the viewer. Originally, this
-   * was pretty hard to read due to its jambled inclusion in the class constructor. To enhance its
-   * readability, the author divided the various parts of the code into logical sections and
-   * commented accordingly.
-   * <br />
-   * <br />
-   * A few pieces of functionality were modified or removed as needed. For instance, one of the
-   * <code>JCheckBox</code> instances related to the display of one of the original template file's
-   * objects, the teapot saucer, was removed. Relatedly, a number of layout managers were added to
-   * ensure the bottom interface panel retains its shape if the window dimensions were ever to
-   * change from their present values.
+   * Getter for <code>FourLights.glState</code>
    *
-   * @return void
+   * @return glState <code>GLStateCache</code>
    */
-  private void constructGUI() {
-
-    // Local declarations
-    final JPanel mainPanel, bottomPanel, topRow, bottomRow;
-    final JCheckBox animateBox, vpLightBox, redLightBox, greenLightBox, blueLightBox, ambientBox;
-    final Camera camera;
-    final SceneGLJPanel scene;
-    final Timer sceneTimer;
-
-    // Define main panels
-    mainPanel = new JPanel(new BorderLayout());
-    bottomPanel = new JPanel(new GridLayout(2, 1));
-    topRow = new JPanel(new GridLayout(1, 3, 5, 5));
-    bottomRow = new JPanel(new GridLayout(1, 3, 5, 5));
-
-    // Define GLJPanel scene
-    scene = new SceneGLJPanel();
-    scene.setPreferredSize(new Dimension(FourLights.WINDOW_WIDTH, FourLights.WINDOW_HEIGHT));
-    this.setScenePanel(scene);
-
-    // Define camera
-    camera = new Camera();
-    camera.lookAt(5,10,30, 0,0,0, 0,1,0);
-    camera.setScale(15);
-    camera.installTrackball(this.getScenePanel());
-    this.setSceneCamera(camera);
-
-    // Define checkboxes
-    animateBox = new JCheckBox("Animate", true);
-    vpLightBox = new JCheckBox("Viewpoint Light", false);
-    redLightBox = new JCheckBox("Red Light", true);
-    greenLightBox = new JCheckBox("Green Light", true);
-    blueLightBox = new JCheckBox("Blue Light", true);
-    ambientBox = new JCheckBox("Global Ambient Light", false);
-
-    // Add listeners
-    animateBox.addActionListener(new FourLights.CheckBoxListener());
-    vpLightBox.addActionListener(new FourLights.CheckBoxListener());
-    redLightBox.addActionListener(new FourLights.CheckBoxListener());
-    greenLightBox.addActionListener(new FourLights.CheckBoxListener());
-    blueLightBox.addActionListener(new FourLights.CheckBoxListener());
-    ambientBox.addActionListener(new FourLights.CheckBoxListener());
-
-    // Set class checkboxes
-    this.setAnimating(animateBox);
-    this.setViewpointLight(vpLightBox);
-    this.setRedLight(redLightBox);
-    this.setGreenLight(greenLightBox);
-    this.setBlueLight(blueLightBox);
-    this.setAmbientLight(ambientBox);
-
-    // Add checkboxes to panels
-    topRow.add(animateBox);
-    topRow.add(vpLightBox);
-    topRow.add(ambientBox);
-    bottomRow.add(redLightBox);
-    bottomRow.add(greenLightBox);
-    bottomRow.add(blueLightBox);
-
-    // Add minipanels to main panels
-    bottomPanel.add(topRow);
-    bottomPanel.add(bottomRow);
-    mainPanel.add(scene, BorderLayout.CENTER);
-    mainPanel.add(bottomPanel, BorderLayout.SOUTH);
-
-    // Define JFrame properties
-    this.setContentPane(mainPanel);
-    this.pack();
-    this.setLocation(50, 50);
-    this.setResizable(false);
-    this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-    this.setVisible(true);
-
-    // Define scene animation timer
-    sceneTimer = new Timer(FourLights.TIMER_DELAY, new FourLights.TimerListener());
-    sceneTimer.setInitialDelay(FourLights.INITIAL_DELAY);
-    sceneTimer.start();
-    this.setAnimationTimer(sceneTimer);
+  private GLStateCache getGlState() {
+    return this.glState;
   }
 
-  // Listener handlers
-
   /**
-   * This method serves as the primary handler of all <code>JCheckBox</code> selects and deselects,
-   * called within the body of <code>FourLights.CheckBoxListener#actionPerformed</code> as the sole
-   * operation. Basically, if the animation box is clicked, the method checks the state of the
-   * animation, switching it to its opposite status depending on its stored value. Otherwise, the
-   * scene is repainted, with the rendering of all lights handled deeper down in the logic code.
+   * Getter for <code>FourLights.modelView</code>
    *
-   * @see FourLights.CheckBoxListener#actionPerformed
-   * @param e <code>ActionEvent</code>, passed from <code>FourLights.CheckBoxListener</code>
-   * @return void
+   * @return modelView <code>MatrixStack</code>
    */
-  private void checkboxHandler(ActionEvent e) {
-
-    // Declarations (cache temp variables)
-    final Timer tempTimer;
-    final JCheckBox tempAnimating;
-    final SceneGLJPanel tempScenePanel;
-
-    // Definitions
-    tempTimer = this.getAnimationTimer();
-    tempAnimating = this.getAnimating();
-    tempScenePanel = this.getScenePanel();
+  private MatrixStack getModelView() {
+    return this.modelView;
+  }
 
-    if (e.getSource() == tempAnimating) {
-      if (tempAnimating.isSelected()) {
-        tempTimer.start();
-      } else {
-        tempTimer.stop();
-      }
-    } else {
-      tempScenePanel.repaint();
-    }
+  /**
+   * Getter for <code>FourLights.projection</code>
+   *
+   * @return projection <code>MatrixStack</code>
+   */
+  private MatrixStack getProjection() {
+    return this.projection;
   }
 
   /**
-   * This method, like that above it, is an example of a method used as the sole action handler of
-   * one of the main class's <code>ActionListener</code> inner classes, namely
-   * <code>FourLights.TimerListener</code>. This method, called from within the body of the
-   * <code>FourLights.TimerListener#actionPerformed</code> method, simply increases the value of the
-   * frame counter and repaints the scene accordingly.
+   * Getter for <code>FourLights.cameraView</code>
    *
-   * @see FourLights.TimerListener#actionPerformed
-   * @return void
+   * @return cameraView <code>double[][]</code> holding the eye, center, and up vectors
    */
-  private void timerHandler() {
-    this.setFrameNumber(this.getFrameNumber() + 1);
-    this.getScenePanel().repaint();
+  private double[][] getCameraView() {
+    return this.cameraView;
   }
 
-  // Inner classes
+  /**
+   * Getter for <code>FourLights.cameraScale</code>
+   *
+   * @return cameraScale <code>double</code>
+   */
+  private double getCameraScale() {
+    return this.cameraScale;
+  }
 
   /**
-   * This class, an extending class of the <code>GLJPanel</code> class, defines the scene itself,
-   * the instance of which is stored in the superclass. Its utility methods are solely related to
-   * the rendering of scene elements, such as the handling of lighting to the drawing and rendering
-   * of the central truncated isocahedron object and its octohedron <code>LightSouce</code>
-   * elements. This division of code based on the parts played by its functionality is in accordance
-   * with the <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single
-   * responsibility principle</a>, as per the rationale behind the author's decision to rewrite this
-   * program in the first place.
+   * Getter for <code>FourLights.cameraMoved</code>, set whenever the trackball may have moved
+   * the camera since its view was last read
    *
-   * @see com.jogamp.opengl.awt.GLJPanel
-   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   * @return cameraMoved <code>boolean</code>
    */
-  private final class SceneGLJPanel extends GLJPanel {
+  private boolean isCameraMoved() {
+    return this.cameraMoved;
+  }
 
-    // Class field
-    private ArrayList<LightSource> lightSourceArrayList;
+  /**
+   * Getter for <code>FourLights.frameDamage</code>, the damage the render loop took for the
+   * frame being drawn, or <code>DAMAGE_ALL</code> for frames drawn otherwise
+   *
+   * @return frameDamage <code>int</code>
+   */
+  private int getFrameDamage() {
+    return this.frameDamage;
+  }
+
+  /**
+   * Getter for <code>FourLights.frameTimings</code>
+   *
+   * @return frameTimings <code>FrameTimings</code>, or <code>null</code> if timing is off
+   */
+  private FrameTimings getFrameTimings() {
+    return this.frameTimings;
+  }
+
+  /**
+   * Getter for <code>FourLights.startupProfile</code>
+   *
+   * @return startupProfile <code>StartupProfile</code>
+   */
+  private StartupProfile getStartupProfile() {
+    return this.startupProfile;
+  }
+
+  /**
+   * Getter for <code>FourLights.inputRecorder</code>
+   *
+   * @return inputRecorder <code>InputRecorder</code>, or <code>null</code> without
+   *     <code>--record</code>
+   */
+  private InputRecorder getInputRecorder() {
+    return this.inputRecorder;
+  }
+
+  /**
+   * Getter for <code>FourLights.inputReplay</code>
+   *
+   * @return inputReplay <code>InputReplay</code>, or <code>null</code> without
+   *     <code>--replay</code>
+   */
+  private InputReplay getInputReplay() {
+    return this.inputReplay;
+  }
+
+  // Utility methods
+
+  /**
+   * This method launches the constructed application as the passed options ask, rendering the
+   * scene offscreen under <code>--headless</code> and opening the window otherwise. It is kept
+   * apart from the constructor so that <code>FourLights#scenePaths</code> may build the scene
+   * without doing either.
+   *
+   * @param options <code>LaunchOptions</code>
+   * @return void
+   */
+  private void launch(LaunchOptions options) {
+    if (options.isHeadless()) {
+      this.finishHeadless(options, (FourLights.BACKEND_SOFTWARE.equals(options.getBackend()))
+        ? new FourLights.SoftwareRasterizer(options).render(this.constructExporter(options))
+        : new FourLights.HeadlessRenderer(options).render(this.constructExporter(options)));
+    } else {
+      this.constructGUI(options);
+    }
+  }
+
+  /**
+   * This method builds the scene from the passed command line arguments, as for the software
+   * backend, neither opening a window nor rendering anything, and returns its hot paths drawn
+   * through the passed <code>GL2</code>, for the tests and benchmarks of the Maven build.
+   *
+   * @see FourLights.ScenePaths
+   * @param paramGl <code>GL2</code> needing no context
+   * @param paramArgs <code>String[]</code> launch options, the backend excepted
+   * @return <code>ScenePaths</code>
+   */
+  static ScenePaths scenePaths(GL2 paramGl, String... paramArgs) {
+
+    // Declarations
+    final String[] args;
+    final LaunchOptions options;
+
+    // Definitions
+    args = Arrays.copyOf(paramArgs, paramArgs.length + 2);
+    args[paramArgs.length] = "--backend";
+    args[paramArgs.length + 1] = FourLights.BACKEND_SOFTWARE;
+    options = LaunchOptions.parse(args);
+
+    return new FourLights(options, new StartupProfile(System.nanoTime(),
+      System.currentTimeMillis(), options)).new ScenePaths(options, paramGl);
+  }
+
+  /**
+   * Returns whether the light at the given switch index, one of the <code>*_SWITCH</code>
+   * constants, is presently switched on. The scene reads the light states through this method
+   * rather than from the <code>JCheckBox</code> instances so that it may also be rendered without
+   * any interface at all.
+   *
+   * @param paramSwitch <code>int</code>
+   * @return <code>boolean</code>
+   */
+  private boolean isLightSwitchOn(int paramSwitch) {
+    return this.getLightSwitches()[paramSwitch];
+  }
+
+  /**
+   * Switches the light at the given switch index on or off.
+   *
+   * @param paramSwitch <code>int</code>
+   * @param paramOn <code>boolean</code>
+   * @return void
+   */
+  private void setLightSwitch(int paramSwitch, boolean paramOn) {
+    this.getLightSwitches()[paramSwitch] = paramOn;
+  }
+
+  /**
+   * This method takes a repaint asked of the scene's component, which once the render loop runs
+   * only the camera's trackball asks for with each step of a drag, and passes it on to the loop as
+   * damage to the camera rather than having it queued with Swing. It is also called by
+   * <code>FourLights.CameraListener</code> for every drag, whatever the presenter. Should the
+   * animation be paused, a whole burst of such repaints thereby ends up in a single frame.
+   *
+   * @return <code>boolean</code> <code>true</code> if the loop took the repaint, or
+   *     <code>false</code> should the component be repainted as usual
+   */
+  private boolean invalidateCamera() {
+
+    // Declaration
+    final RenderLoop tempRenderLoop;
+
+    // Definition
+    tempRenderLoop = this.getRenderLoop();
+
+    if (tempRenderLoop != null && tempRenderLoop.isAlive()) {
+      tempRenderLoop.invalidate(FourLights.DAMAGE_CAMERA);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * This method builds the scene camera from the eye, center, up, and scale values held by the
+   * passed options, the defaults of which match the values originally hardcoded in
+   * <code>FourLights#constructGUI</code>. The trackball is only installed later on by that method,
+   * as there is nothing to drag when rendering offscreen.
+   *
+   * @param paramOptions <code>LaunchOptions</code>
+   * @return <code>Camera</code>
+   */
+  private Camera constructCamera(LaunchOptions paramOptions) {
+
+    // Declarations
+    final Camera camera;
+    final double[] eye, center, up;
+
+    // Definitions
+    camera = new Camera();
+    eye = paramOptions.getEye();
+    center = paramOptions.getCenter();
+    up = paramOptions.getUp();
+
+    camera.lookAt(eye[0], eye[1], eye[2], center[0], center[1], center[2], up[0], up[1], up[2]);
+    camera.setScale(paramOptions.getScale());
+    return camera;
+  }
+
+  /**
+   * This method creates the <code>FourLights.FrameExporter</code> writing every frame rendered in
+   * <code>--headless</code> mode to the <code>--export</code> directory, encoding on as many
+   * threads as <code>--threads</code> asks for.
+   *
+   * @param paramOptions <code>LaunchOptions</code>
+   * @return <code>FrameExporter</code>, or <code>null</code> without <code>--export</code>
+   */
+  private FrameExporter constructExporter(LaunchOptions paramOptions) {
+    return (paramOptions.getExportPath() == null)
+      ? null
+      : new FourLights.FrameExporter(paramOptions.getExportPath(),
+        paramOptions.getExportFormat(), paramOptions.getWidth(), paramOptions.getHeight(),
+        paramOptions.getThreadCount());
+  }
+
+  /**
+   * This method deals with the last frame rendered in <code>--headless</code> mode by either
+   * backend, writing it to the <code>--output</code> file and comparing it against the
+   * <code>--reference</code> image, if either was given. Under <code>--replay</code>, the replay
+   * is summarized along with a hash of the frame, such that two runs of the same log may be told
+   * apart or not at a glance.
+   *
+   * @param paramOptions <code>LaunchOptions</code>
+   * @param paramPixels <code>int[]</code>
+   * @return void
+   */
+  private void finishHeadless(LaunchOptions paramOptions, int[] paramPixels) {
+    if (paramOptions.getOutputPath() != null) {
+      FourLights.FrameImages.write(paramPixels, paramOptions.getWidth(), paramOptions.getHeight(),
+        paramOptions.getOutputPath());
+    }
+    if (paramOptions.getReferencePath() != null) {
+      this.compareWithReference(paramOptions, paramPixels);
+    }
+    if (this.getInputReplay() != null) {
+      System.out.println(this.getInputReplay().describe());
+      System.out.println("Last frame SHA-256: " + FourLights.FrameImages.digest(paramPixels));
+    }
+  }
+
+  /**
+   * This method compares a rendered frame against the <code>--reference</code> image, typically
+   * one written earlier by the <code>gl</code> backend under Mesa, and reports the root mean square
+   * difference over all color channels, the largest single channel difference, and the share of
+   * pixels differing in any channel by more than <code>REFERENCE_CHANNEL_THRESHOLD</code>. Should
+   * that share exceed the <code>--tolerance</code> option, an <code>IllegalStateException</code>
+   * is thrown, so that a script running the comparison sees it fail.
+   *
+   * @param paramOptions <code>LaunchOptions</code>
+   * @param paramPixels <code>int[]</code>
+   * @return void
+   */
+  private void compareWithReference(LaunchOptions paramOptions, int[] paramPixels) {
+
+    // Declarations
+    int difference, pixelDifference, largestDifference, mismatches;
+    long squaredSum;
+    final int[] reference;
+    final double rootMeanSquare, mismatchShare;
+
+    // Definitions
+    reference = FourLights.FrameImages.read(paramOptions.getReferencePath(),
+      paramOptions.getWidth(), paramOptions.getHeight());
+    largestDifference = mismatches = 0;
+    squaredSum = 0;
+
+    for (int i = 0; i < reference.length; i++) {
+      pixelDifference = 0;
+      for (int shift = 0; shift <= 16; shift += 8) {
+        difference = Math.abs((reference[i] >> shift & 0xFF) - (paramPixels[i] >> shift & 0xFF));
+        squaredSum += difference * difference;
+        pixelDifference = Math.max(pixelDifference, difference);
+      }
+      largestDifference = Math.max(largestDifference, pixelDifference);
+      if (pixelDifference > FourLights.REFERENCE_CHANNEL_THRESHOLD) {
+        mismatches++;
+      }
+    }
+    rootMeanSquare = Math.sqrt(squaredSum / (3.0 * reference.length));
+    mismatchShare = (double) mismatches / reference.length;
+
+    System.out.printf("Compared with %s: RMSE %.2f, largest channel difference %d, "
+      + "%.3f%% of pixels off by more than %d%n", paramOptions.getReferencePath(), rootMeanSquare,
+      largestDifference, mismatchShare * 100, FourLights.REFERENCE_CHANNEL_THRESHOLD);
+
+    if (mismatchShare > paramOptions.getTolerance()) {
+      throw new IllegalStateException(String.format("Image differs from %s in %.3f%% of pixels, "
+        + "above the tolerance of %.3f%%", paramOptions.getReferencePath(), mismatchShare * 100,
+        paramOptions.getTolerance() * 100));
+    }
+  }
+
+  /**
+   * This functionality is related to the display of the GUI itself to the viewer. Originally, this
+   * was pretty hard to read due to its jambled inclusion in the class constructor. To enhance its
+   * readability, the author divided the various parts of the code into logical sections and
+   * commented accordingly.
+   * <br />
+   * <br />
+   * A few pieces of functionality were modified or removed as needed. For instance, one of the
+   * <code>JCheckBox</code> instances related to the display of one of the original template file's
+   * objects, the teapot saucer, was removed. Relatedly, a number of layout managers were added to
+   * ensure the bottom interface panel retains its shape if the window dimensions were ever to
+   * change from their present values.
+   * <br />
+   * <br />
+   * The animation, once driven by a <code>javax.swing.Timer</code>, is now driven by a
+   * <code>FourLights.RenderLoop</code> thread started at the end, paced to the frame rate given by
+   * <code>--fps</code>. The scene's drawable, a <code>GLJPanel</code> or whichever other
+   * <code>--presenter</code> asked for, is created after the check boxes rather than before them,
+   * such that the rest of the window is built while JOGL's natives finish loading. Alongside the
+   * camera's trackball, a <code>FourLights.CameraListener</code> is added to its component to
+   * note when the view has been dragged.
+   *
+   * @param options <code>LaunchOptions</code>
+   * @return void
+   */
+  private void constructGUI(LaunchOptions options) {
+
+    // Local declarations
+    final JFrame window;
+    final JPanel mainPanel, bottomPanel, topRow, bottomRow;
+    final JCheckBox animateBox, vpLightBox, redLightBox, greenLightBox, blueLightBox, ambientBox;
+    final Component scene;
+    final CameraListener cameraListener;
+    final RenderLoop loop;
+    final StartupProfile tempProfile;
+
+    tempProfile = this.getStartupProfile();
+    tempProfile.begin(StartupProfile.WINDOW);
+
+    // Define window
+    window = new JFrame("A Lighting Demo");
+    this.setFrame(window);
+
+    // Define main panels
+    mainPanel = new JPanel(new BorderLayout());
+    bottomPanel = new JPanel(new GridLayout(2, 1));
+    topRow = new JPanel(new GridLayout(1, 3, 5, 5));
+    bottomRow = new JPanel(new GridLayout(1, 3, 5, 5));
+
+    // Define checkboxes
+    animateBox = new JCheckBox("Animate", true);
+    vpLightBox = new JCheckBox("Viewpoint Light",
+      this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH));
+    redLightBox = new JCheckBox("Red Light", this.isLightSwitchOn(FourLights.RED_SWITCH));
+    greenLightBox = new JCheckBox("Green Light", this.isLightSwitchOn(FourLights.GREEN_SWITCH));
+    blueLightBox = new JCheckBox("Blue Light", this.isLightSwitchOn(FourLights.BLUE_SWITCH));
+    ambientBox = new JCheckBox("Global Ambient Light",
+      this.isLightSwitchOn(FourLights.AMBIENT_SWITCH));
+
+    // Add listeners
+    animateBox.addActionListener(new FourLights.CheckBoxListener());
+    vpLightBox.addActionListener(new FourLights.CheckBoxListener());
+    redLightBox.addActionListener(new FourLights.CheckBoxListener());
+    greenLightBox.addActionListener(new FourLights.CheckBoxListener());
+    blueLightBox.addActionListener(new FourLights.CheckBoxListener());
+    ambientBox.addActionListener(new FourLights.CheckBoxListener());
+
+    // Set class checkboxes
+    this.setAnimating(animateBox);
+    this.setViewpointLight(vpLightBox);
+    this.setRedLight(redLightBox);
+    this.setGreenLight(greenLightBox);
+    this.setBlueLight(blueLightBox);
+    this.setAmbientLight(ambientBox);
+
+    // Add checkboxes to panels
+    topRow.add(animateBox);
+    topRow.add(vpLightBox);
+    topRow.add(ambientBox);
+    bottomRow.add(redLightBox);
+    bottomRow.add(greenLightBox);
+    bottomRow.add(blueLightBox);
+
+    // Define scene presenter, once JOGL's natives, loaded alongside the above, are in
+    tempProfile.awaitNatives();
+    this.setScenePresenter(new FourLights.ScenePresenter(options.getPresenter()));
+    scene = this.getScenePresenter().getComponent();
+    scene.setPreferredSize(new Dimension(FourLights.WINDOW_WIDTH, FourLights.WINDOW_HEIGHT));
+
+    // Let the camera be dragged about, noting each drag so that its view is read afresh
+    this.getSceneCamera().installTrackball(scene);
+    cameraListener = new FourLights.CameraListener();
+    scene.addMouseListener(cameraListener);
+    scene.addMouseMotionListener(cameraListener);
+
+    // Add minipanels to main panels
+    bottomPanel.add(topRow);
+    bottomPanel.add(bottomRow);
+    mainPanel.add(scene, BorderLayout.CENTER);
+    mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+
+    // Define JFrame properties
+    window.setContentPane(mainPanel);
+    window.pack();
+    window.setLocation(50, 50);
+    window.setResizable(false);
+    window.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    window.setVisible(true);
+    tempProfile.end(StartupProfile.WINDOW);
+    tempProfile.begin(StartupProfile.CONTEXT);
+
+    // Define scene render loop, reporting its pacing on exit
+    loop = new FourLights.RenderLoop(options.getFrameRate(), options.getStartFrame());
+    this.setRenderLoop(loop);
+    Runtime.getRuntime().addShutdownHook(new FourLights.PacingReport());
+    loop.start();
+  }
+
+  // Listener handlers
+
+  /**
+   * This method serves as the primary handler of all <code>JCheckBox</code> selects and deselects,
+   * called within the body of <code>FourLights.CheckBoxListener#actionPerformed</code> as the sole
+   * operation. Basically, if the animation box is clicked, the method pauses or resumes the
+   * render loop to match the box. Otherwise, the light switches are brought into line with the
+   * boxes and the render loop told which of them changed, such that it draws the change with its
+   * next frame, or with a frame of its own should the animation be paused, rather than the panel
+   * being repainted on the spot for every click.
+   *
+   * @see FourLights.CheckBoxListener#actionPerformed
+   * @param e <code>ActionEvent</code>, passed from <code>FourLights.CheckBoxListener</code>
+   * @return void
+   */
+  private void checkboxHandler(ActionEvent e) {
+
+    // Declarations (cache temp variables)
+    final RenderLoop tempRenderLoop;
+    final JCheckBox tempAnimating;
+
+    // Definitions
+    tempRenderLoop = this.getRenderLoop();
+    tempAnimating = this.getAnimating();
+
+    if (e.getSource() == tempAnimating) {
+      tempRenderLoop.setPaused(!tempAnimating.isSelected());
+    } else {
+      this.setLightSwitch(FourLights.VIEWPOINT_SWITCH, this.getViewpointLight().isSelected());
+      this.setLightSwitch(FourLights.RED_SWITCH, this.getRedLight().isSelected());
+      this.setLightSwitch(FourLights.GREEN_SWITCH, this.getGreenLight().isSelected());
+      this.setLightSwitch(FourLights.BLUE_SWITCH, this.getBlueLight().isSelected());
+      this.setLightSwitch(FourLights.AMBIENT_SWITCH, this.getAmbientLight().isSelected());
+      if (this.getInputRecorder() != null) {
+        this.getInputRecorder().switches(this.getLightSwitches());
+      }
+      tempRenderLoop.invalidate((e.getSource() == this.getAmbientLight())
+        ? FourLights.DAMAGE_AMBIENT
+        : FourLights.DAMAGE_LIGHTS);
+    }
+  }
+
+  // Inner classes
+
+  /**
+   * This class, an extending class of the <code>GLJPanel</code> class, defines the on-screen view
+   * of the scene, the instance of which is stored in the superclass. Originally, its utility
+   * methods handled the rendering of all scene elements, from the lighting to the drawing of the
+   * central truncated isocahedron object and its octohedron <code>LightSouce</code> elements.
+   * Those methods have since moved to <code>FourLights.SceneGLEventListener</code> so that the
+   * scene can also be rendered without a window, leaving this class with the sole responsibility
+   * of presenting that listener's output within the Swing interface, in keeping with the
+   * <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single responsibility
+   * principle</a> that motivated the author's rewrite in the first place. With timing on, it
+   * also records how long the panel takes to present each frame and paints the timing overlay.
+   *
+   * @see FourLights.SceneGLEventListener
+   * @see com.jogamp.opengl.awt.GLJPanel
+   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   */
+  private final class SceneGLJPanel extends GLJPanel {
+
+    /** Version of the serialized form, set to 1 */
+    private final static long serialVersionUID = 1L;
 
     /** Default constructor */
     private SceneGLJPanel() {
       super(new GLCapabilities(null));
-      this.setLightSourceArrayList(new ArrayList<>());
-      this.addGLEventListener(new FourLights.SceneGLEventListener());
+      this.addGLEventListener(FourLights.this.getSceneListener());
+    }
+
+    /**
+     * Paints the panel as <code>GLJPanel</code> does, which renders the scene if it needs it and
+     * then reads the frame back and draws it. Should timing be on, the time from the end of the
+     * listener's <code>display</code> to the end of this method is then recorded as the frame's
+     * presentation, and the overlay painted on top if requested.
+     *
+     * @see com.jogamp.opengl.awt.GLJPanel#paintComponent
+     * @param g <code>Graphics</code>
+     * @return void
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+
+      // Declaration
+      final FrameTimings tempTimings;
+
+      // Definition
+      tempTimings = FourLights.this.getFrameTimings();
+
+      super.paintComponent(g);
+      if (tempTimings != null) {
+        tempTimings.endPresent();
+        if (tempTimings.isOverlay()) {
+          tempTimings.paintOverlay(g);
+        }
+      }
+      FourLights.this.getStartupProfile().presented(true);
     }
 
-    // Setter
+    /**
+     * Once the render loop runs, the panel is only drawn by the loop, so any repaint asked of it
+     * is passed on to the loop by way of <code>FourLights#invalidateCamera</code>.
+     *
+     * @see java.awt.Component#repaint
+     * @param tm <code>long</code>
+     * @param x <code>int</code>
+     * @param y <code>int</code>
+     * @param width <code>int</code>
+     * @param height <code>int</code>
+     * @return void
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+      if (!FourLights.this.invalidateCamera()) {
+        super.repaint(tm, x, y, width, height);
+      }
+    }
+  }
+
+  /**
+   * This class is the presentation layer of the window, holding whichever drawable
+   * <code>--presenter</code> asked for along with the AWT component it is shown through, such
+   * that <code>FourLights#constructGUI</code> and <code>FourLights.RenderLoop</code> need not
+   * know which it is. The default, <code>gljpanel</code>, is the original
+   * <code>FourLights.SceneGLJPanel</code>, which renders offscreen and copies each frame back
+   * into a Swing image, blending in with the rest of the window at the cost of a readback per
+   * frame. <code>glcanvas</code> is a <code>FourLights.SceneGLCanvas</code>, a heavyweight
+   * <code>GLCanvas</code> swapping its buffers straight to the screen, and <code>newt</code>
+   * is a NEWT <code>GLWindow</code> parented into the window by a
+   * <code>FourLights.SceneNewtCanvas</code>, which bypasses AWT's drawing altogether. Each
+   * draws with the very same <code>FourLights.SceneGLEventListener</code>.
+   * <br />
+   * <br />
+   * This class is itself added to the drawable as a second listener, after the scene's own, such
+   * that its <code>display</code> notes when the scene has been drawn. The time from then until
+   * <code>GLAutoDrawable#display</code> returns to <code>ScenePresenter#present</code> is the
+   * frame's present cost, covering the readback and painting of the panel or the swap of the
+   * canvas and window, and is recorded into a <code>FourLights.LatencyHistogram</code> for every
+   * frame, timing on or not, to be reported by <code>FourLights.PacingReport</code> on exit.
+   *
+   * @see FourLights.SceneGLJPanel
+   * @see FourLights.SceneGLCanvas
+   * @see FourLights.SceneNewtCanvas
+   * @author Andrew Eissen
+   */
+  private final class ScenePresenter implements GLEventListener {
+
+    // Class fields
+    private final String kind;
+    private final GLAutoDrawable drawable;
+    private final Component component;
+    private final LatencyHistogram presentTimes;
+    private volatile long drawnNanos;
+
+    /**
+     * Parameterized constructor, building the drawable and component of the given kind
+     *
+     * @param paramKind <code>String</code>, one of the <code>PRESENTER_*</code> constants
+     */
+    private ScenePresenter(String paramKind) {
+
+      // Declarations
+      final SceneGLJPanel panel;
+      final SceneGLCanvas canvas;
+      final GLWindow window;
+      final SceneNewtCanvas newtCanvas;
+
+      this.kind = paramKind;
+      this.presentTimes = new LatencyHistogram();
+
+      if (FourLights.PRESENTER_GLCANVAS.equals(paramKind)) {
+        canvas = new SceneGLCanvas();
+        this.drawable = canvas;
+        this.component = canvas;
+      } else if (FourLights.PRESENTER_NEWT.equals(paramKind)) {
+        window = GLWindow.create(new GLCapabilities(null));
+        window.addGLEventListener(FourLights.this.getSceneListener());
+        newtCanvas = new SceneNewtCanvas(window);
+        window.addMouseListener(new FourLights.NewtMouseBridge(newtCanvas));
+        this.drawable = window;
+        this.component = newtCanvas;
+      } else {
+        panel = new SceneGLJPanel();
+        this.drawable = panel;
+        this.component = panel;
+      }
+      this.drawable.addGLEventListener(this);
+    }
+
+    // Getter
+
+    /**
+     * Getter for <code>ScenePresenter.component</code>
+     *
+     * @return component <code>Component</code> to add to the window and to drag the camera on
+     */
+    private Component getComponent() {
+      return this.component;
+    }
+
+    // Utility methods
+
+    /**
+     * Draws and presents a frame, recording its present cost. The panel records its own
+     * presentation with timing on as it paints, whereas the canvas and window are done with
+     * theirs once <code>GLAutoDrawable#display</code> has swapped, so it is recorded here.
+     *
+     * @return void
+     */
+    private void present() {
+
+      // Declarations
+      final long presentedNanos;
+      final FrameTimings tempTimings;
+
+      this.drawnNanos = 0;
+      this.drawable.display();
+
+      // Definitions
+      presentedNanos = System.nanoTime();
+      tempTimings = FourLights.this.getFrameTimings();
+
+      if (this.drawnNanos != 0) {
+        this.presentTimes.record(presentedNanos - this.drawnNanos);
+      }
+      if (!FourLights.PRESENTER_GLJPANEL.equals(this.kind)) {
+        if (tempTimings != null) {
+          tempTimings.endPresent();
+        }
+        FourLights.this.getStartupProfile().presented(true);
+      }
+    }
+
+    /**
+     * Noop method required by <code>GLEventListener</code>
+     *
+     * @see com.jogamp.opengl.GLEventListener#init
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void init(GLAutoDrawable drawable) {}
+
+    /**
+     * Notes that the scene listener, added before this one, has drawn the frame.
+     *
+     * @see com.jogamp.opengl.GLEventListener#display
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void display(GLAutoDrawable drawable) {
+      this.drawnNanos = System.nanoTime();
+    }
+
+    /**
+     * Noop method required by <code>GLEventListener</code>
+     *
+     * @see com.jogamp.opengl.GLEventListener#reshape
+     * @param drawable <code>GLAutoDrawable</code>
+     * @param x <code>int</code>
+     * @param y <code>int</code>
+     * @param width <code>int</code>
+     * @param height <code>int</code>
+     * @return void
+     */
+    @Override
+    public void reshape(GLAutoDrawable drawable, int x, int y, int width, int height) {}
+
+    /**
+     * Noop method required by <code>GLEventListener</code>
+     *
+     * @see com.jogamp.opengl.GLEventListener#dispose
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void dispose(GLAutoDrawable drawable) {}
+
+    /**
+     * Summarizes the present cost of the frames drawn so far.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+      return String.format("Presentation (%s): %d frame(s), p50 %.3f ms, p99 %.3f ms, max "
+        + "%.3f ms from the scene drawn to the frame presented", this.kind,
+        this.presentTimes.getCount(), this.presentTimes.percentile(0.5) / 1e6,
+        this.presentTimes.percentile(0.99) / 1e6, this.presentTimes.percentile(1) / 1e6);
+    }
+  }
+
+  /**
+   * This class is the heavyweight counterpart of <code>FourLights.SceneGLJPanel</code> shown
+   * under <code>--presenter glcanvas</code>, a <code>GLCanvas</code> drawing with the scene
+   * listener and swapping its buffers straight to the screen. As with the panel, repaints asked
+   * of it once the render loop runs are passed on to the loop as damage to the camera.
+   *
+   * @see FourLights.ScenePresenter
+   * @see com.jogamp.opengl.awt.GLCanvas
+   * @author Andrew Eissen
+   */
+  private final class SceneGLCanvas extends GLCanvas {
+
+    /** Version of the serialized form, set to 1 */
+    private final static long serialVersionUID = 1L;
+
+    /** Default constructor */
+    private SceneGLCanvas() {
+      super(new GLCapabilities(null));
+      this.addGLEventListener(FourLights.this.getSceneListener());
+    }
+
+    /**
+     * Passes the repaint on to the render loop, should it be running.
+     *
+     * @see java.awt.Component#repaint
+     * @param tm <code>long</code>
+     * @param x <code>int</code>
+     * @param y <code>int</code>
+     * @param width <code>int</code>
+     * @param height <code>int</code>
+     * @return void
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+      if (!FourLights.this.invalidateCamera()) {
+        super.repaint(tm, x, y, width, height);
+      }
+    }
+  }
+
+  /**
+   * This class is the AWT component holding the NEWT <code>GLWindow</code> shown under
+   * <code>--presenter newt</code>. The window draws and swaps on its own, so this component only
+   * serves as the place the window is parented to and as the target of the camera's trackball,
+   * the mouse events of the window being posted to it by
+   * <code>FourLights.NewtMouseBridge</code>. As with the panel, repaints asked of it once the
+   * render loop runs are passed on to the loop as damage to the camera.
+   *
+   * @see FourLights.ScenePresenter
+   * @see com.jogamp.newt.awt.NewtCanvasAWT
+   * @author Andrew Eissen
+   */
+  private final class SceneNewtCanvas extends NewtCanvasAWT {
+
+    /** Version of the serialized form, set to 1 */
+    private final static long serialVersionUID = 1L;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param paramWindow <code>GLWindow</code>
+     */
+    private SceneNewtCanvas(GLWindow paramWindow) {
+      super(paramWindow);
+    }
+
+    /**
+     * Passes the repaint on to the render loop, should it be running.
+     *
+     * @see java.awt.Component#repaint
+     * @param tm <code>long</code>
+     * @param x <code>int</code>
+     * @param y <code>int</code>
+     * @param width <code>int</code>
+     * @param height <code>int</code>
+     * @return void
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+      if (!FourLights.this.invalidateCamera()) {
+        super.repaint(tm, x, y, width, height);
+      }
+    }
+  }
+
+  /**
+   * This static class forwards the mouse events of a NEWT window, which NEWT delivers to its own
+   * listeners alone, to the AWT component the window is parented to, such that the camera's
+   * trackball and <code>FourLights.CameraListener</code>, both written against AWT, see the
+   * drags made over the window. Each event is rebuilt as an AWT <code>MouseEvent</code> with the
+   * same position, button, and modifier keys, and posted to the AWT event queue, to be handled
+   * on the event dispatch thread as the panel's own events are.
+   *
+   * @see FourLights.SceneNewtCanvas
+   * @author Andrew Eissen
+   */
+  private final static class NewtMouseBridge extends com.jogamp.newt.event.MouseAdapter {
+
+    // Class fields
+    private final Component target;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param paramTarget <code>Component</code>
+     */
+    private NewtMouseBridge(Component paramTarget) {
+      this.target = paramTarget;
+    }
+
+    // Utility methods
+
+    /**
+     * Forwards the press.
+     *
+     * @see com.jogamp.newt.event.MouseAdapter#mousePressed
+     * @param e <code>com.jogamp.newt.event.MouseEvent</code>
+     * @return void
+     */
+    @Override
+    public void mousePressed(com.jogamp.newt.event.MouseEvent e) {
+      this.post(MouseEvent.MOUSE_PRESSED, e);
+    }
+
+    /**
+     * Forwards the release.
+     *
+     * @see com.jogamp.newt.event.MouseAdapter#mouseReleased
+     * @param e <code>com.jogamp.newt.event.MouseEvent</code>
+     * @return void
+     */
+    @Override
+    public void mouseReleased(com.jogamp.newt.event.MouseEvent e) {
+      this.post(MouseEvent.MOUSE_RELEASED, e);
+    }
+
+    /**
+     * Forwards the drag.
+     *
+     * @see com.jogamp.newt.event.MouseAdapter#mouseDragged
+     * @param e <code>com.jogamp.newt.event.MouseEvent</code>
+     * @return void
+     */
+    @Override
+    public void mouseDragged(com.jogamp.newt.event.MouseEvent e) {
+      this.post(MouseEvent.MOUSE_DRAGGED, e);
+    }
+
+    /**
+     * Rebuilds the passed NEWT event as an AWT event of the given type and posts it.
+     *
+     * @param paramId <code>int</code>, one of the <code>MouseEvent.MOUSE_*</code> types
+     * @param paramEvent <code>com.jogamp.newt.event.MouseEvent</code>
+     * @return void
+     */
+    private void post(int paramId, com.jogamp.newt.event.MouseEvent paramEvent) {
+
+      // Declarations
+      int modifiers;
+      final int button;
+
+      // Definitions
+      button = paramEvent.getButton();
+      modifiers = (button >= MouseEvent.BUTTON1 && button <= MouseEvent.BUTTON3)
+        ? InputEvent.getMaskForButton(button)
+        : 0;
+
+      modifiers |= (paramEvent.isShiftDown()) ? InputEvent.SHIFT_DOWN_MASK : 0;
+      modifiers |= (paramEvent.isControlDown()) ? InputEvent.CTRL_DOWN_MASK : 0;
+      modifiers |= (paramEvent.isAltDown()) ? InputEvent.ALT_DOWN_MASK : 0;
+      modifiers |= (paramEvent.isMetaDown()) ? InputEvent.META_DOWN_MASK : 0;
+      Toolkit.getDefaultToolkit().getSystemEventQueue().postEvent(new MouseEvent(this.target,
+        paramId, paramEvent.getWhen(), modifiers, paramEvent.getX(), paramEvent.getY(),
+        paramEvent.getClickCount(), false, (paramId == MouseEvent.MOUSE_DRAGGED)
+          ? MouseEvent.NOBUTTON
+          : button));
+    }
+  }
+
+  /**
+   * This class serves the primary scene event listener of the program, implementing the required
+   * <code>GLEventListener</code> interface. However, only <code>GLEventListener#init</code> and
+   * <code>GLEventListener#display</code> were fully implemented due to their importance in
+   * initializing the scene and refreshing and updating its contents as required with each change.
+   * As per the <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single
+   * responsibility principle</a>, the code contained herein is only related to refreshing the scene
+   * and handling the elements contained therein.
+   * <br />
+   * <br />
+   * The lighting and geometry helpers originally lived in <code>FourLights.SceneGLJPanel</code>,
+   * which tied all rendering to a visible Swing panel. They now live here instead, alongside the
+   * state they use, so that the very same listener may be attached to the on-screen panel or to an
+   * offscreen drawable, as is done by <code>FourLights.HeadlessRenderer</code>. The on and off
+   * states of the lights are likewise read from <code>FourLights#isLightSwitchOn</code> rather
+   * than from the <code>JCheckBox</code> instances directly.
+   *
+   * @see FourLights.HeadlessRenderer
+   * @see com.jogamp.opengl.GLEventListener
+   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   */
+  private final class SceneGLEventListener implements GLEventListener {
+
+    // Class fields
+    private ArrayList<LightSource> lightSourceArrayList;
+    private PolyhedronMesh mesh;
+    private double[] lightRotationValues;
+    private RetainedShapeRenderer shapeRenderer;
+    private boolean immediateMode, vsync;
+    private TiledLightRenderer tiledRenderer;
+    private UniformLightRenderer uniformRenderer;
+    private OrbitingLights stressLights;
+    private InstancedMeshRenderer shapeInstances, markerInstances;
+    private SceneGraph sceneGraph;
+    private LevelOfDetail levelOfDetail;
+    private RetainedShapeRenderer[] levelShapes;
+    private InstancedMeshRenderer[] levelInstances;
+    private int[] levelInstanceCounts;
+    private int viewportWidth, viewportHeight;
+    private RecordedFrame sceneFrame;
+    private FramePipeline framePipeline;
+
+    /** Default constructor */
+    private SceneGLEventListener() {
+      this.setLightSourceArrayList(new ArrayList<>());
+      this.setMesh(FourLights.PolyhedronMesh.TRUNCATED_ICOSAHEDRON);
+      this.setLightRotationValues(new double[3]);
+      this.setShapeRenderer(new RetainedShapeRenderer());
+      this.setTiledRenderer(null);
+      this.setUniformRenderer(null);
+      this.setStressLights(new OrbitingLights(0));
+      this.setShapeInstances(null);
+      this.setMarkerInstances(null);
+      this.setSceneGraph(null);
+      this.setLevelOfDetail(null);
+      this.setLevelShapes(null);
+      this.setLevelInstances(null);
+      this.setLevelInstanceCounts(null);
+      this.setViewportWidth(1);
+      this.setViewportHeight(1);
+      this.setFramePipeline(null);
+      this.setImmediateMode(false);
+      this.constructLightSources();
+      this.setSceneFrame(new RecordedFrame(this.getLightRotationValues().length,
+        FourLights.this.getLightSwitches().length));
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>SceneGLEventListener.lightSourceArrayList</code>
+     *
+     * @param lightSourceArrayList <code>ArrayList</code>
+     * @return void
+     */
+    private void setLightSourceArrayList(ArrayList<LightSource> lightSourceArrayList) {
+      this.lightSourceArrayList = lightSourceArrayList;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.mesh</code>
+     *
+     * @param mesh <code>PolyhedronMesh</code>
+     * @return void
+     */
+    private void setMesh(PolyhedronMesh mesh) {
+      this.mesh = mesh;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.lightRotationValues</code>
+     *
+     * @param lightRotationValues <code>double[]</code>
+     * @return void
+     */
+    private void setLightRotationValues(double[] lightRotationValues) {
+      this.lightRotationValues = lightRotationValues;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.shapeRenderer</code>
+     *
+     * @param shapeRenderer <code>RetainedShapeRenderer</code>
+     * @return void
+     */
+    private void setShapeRenderer(RetainedShapeRenderer shapeRenderer) {
+      this.shapeRenderer = shapeRenderer;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.immediateMode</code>
+     *
+     * @param immediateMode <code>boolean</code>
+     * @return void
+     */
+    private void setImmediateMode(boolean immediateMode) {
+      this.immediateMode = immediateMode;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.vsync</code>
+     *
+     * @param vsync <code>boolean</code>
+     * @return void
+     */
+    private void setVsync(boolean vsync) {
+      this.vsync = vsync;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.tiledRenderer</code>
+     *
+     * @param tiledRenderer <code>TiledLightRenderer</code>, or <code>null</code> for fixed-function
+     *     lighting
+     * @return void
+     */
+    private void setTiledRenderer(TiledLightRenderer tiledRenderer) {
+      this.tiledRenderer = tiledRenderer;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.uniformRenderer</code>
+     *
+     * @param uniformRenderer <code>UniformLightRenderer</code>, or <code>null</code> for
+     *     fixed-function lighting
+     * @return void
+     */
+    private void setUniformRenderer(UniformLightRenderer uniformRenderer) {
+      this.uniformRenderer = uniformRenderer;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.stressLights</code>
+     *
+     * @param stressLights <code>OrbitingLights</code>
+     * @return void
+     */
+    private void setStressLights(OrbitingLights stressLights) {
+      this.stressLights = stressLights;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.shapeInstances</code>
+     *
+     * @param shapeInstances <code>InstancedMeshRenderer</code>, or <code>null</code>
+     * @return void
+     */
+    private void setShapeInstances(InstancedMeshRenderer shapeInstances) {
+      this.shapeInstances = shapeInstances;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.markerInstances</code>
+     *
+     * @param markerInstances <code>InstancedMeshRenderer</code>, or <code>null</code>
+     * @return void
+     */
+    private void setMarkerInstances(InstancedMeshRenderer markerInstances) {
+      this.markerInstances = markerInstances;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.sceneGraph</code>
+     *
+     * @param sceneGraph <code>SceneGraph</code>, or <code>null</code>
+     * @return void
+     */
+    private void setSceneGraph(SceneGraph sceneGraph) {
+      this.sceneGraph = sceneGraph;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.levelOfDetail</code>
+     *
+     * @param levelOfDetail <code>LevelOfDetail</code>, or <code>null</code> to draw the shape as
+     *     it is
+     * @return void
+     */
+    private void setLevelOfDetail(LevelOfDetail levelOfDetail) {
+      this.levelOfDetail = levelOfDetail;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.levelShapes</code>
+     *
+     * @param levelShapes <code>RetainedShapeRenderer[]</code>, one per level, or <code>null</code>
+     * @return void
+     */
+    private void setLevelShapes(RetainedShapeRenderer[] levelShapes) {
+      this.levelShapes = levelShapes;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.levelInstances</code>
+     *
+     * @param levelInstances <code>InstancedMeshRenderer[]</code>, one per level, or
+     *     <code>null</code>
+     * @return void
+     */
+    private void setLevelInstances(InstancedMeshRenderer[] levelInstances) {
+      this.levelInstances = levelInstances;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.levelInstanceCounts</code>
+     *
+     * @param levelInstanceCounts <code>int[]</code>, one per level, or <code>null</code>
+     * @return void
+     */
+    private void setLevelInstanceCounts(int[] levelInstanceCounts) {
+      this.levelInstanceCounts = levelInstanceCounts;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.viewportWidth</code>
+     *
+     * @param viewportWidth <code>int</code> in pixels
+     * @return void
+     */
+    private void setViewportWidth(int viewportWidth) {
+      this.viewportWidth = viewportWidth;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.viewportHeight</code>
+     *
+     * @param viewportHeight <code>int</code> in pixels
+     * @return void
+     */
+    private void setViewportHeight(int viewportHeight) {
+      this.viewportHeight = viewportHeight;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.sceneFrame</code>
+     *
+     * @param sceneFrame <code>RecordedFrame</code>
+     * @return void
+     */
+    private void setSceneFrame(RecordedFrame sceneFrame) {
+      this.sceneFrame = sceneFrame;
+    }
+
+    /**
+     * Setter for <code>SceneGLEventListener.framePipeline</code>
+     *
+     * @param framePipeline <code>FramePipeline</code>, or <code>null</code> to record each frame
+     *     as it is drawn
+     * @return void
+     */
+    private void setFramePipeline(FramePipeline framePipeline) {
+      this.framePipeline = framePipeline;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>SceneGLEventListener.lightSourceArrayList</code>
+     *
+     * @return lightSourceArrayList <code>ArrayList</code>
+     */
+    private ArrayList<LightSource> getLightSourceArrayList() {
+      return this.lightSourceArrayList;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.mesh</code>
+     *
+     * @return mesh <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh getMesh() {
+      return this.mesh;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.lightRotationValues</code>
+     *
+     * @return lightRotationValues <code>double[]</code>
+     */
+    private double[] getLightRotationValues() {
+      return this.lightRotationValues;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.shapeRenderer</code>
+     *
+     * @return shapeRenderer <code>RetainedShapeRenderer</code>
+     */
+    private RetainedShapeRenderer getShapeRenderer() {
+      return this.shapeRenderer;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.immediateMode</code>
+     *
+     * @return immediateMode <code>boolean</code>
+     */
+    private boolean isImmediateMode() {
+      return this.immediateMode;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.vsync</code>
+     *
+     * @return vsync <code>boolean</code>
+     */
+    private boolean isVsync() {
+      return this.vsync;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.tiledRenderer</code>
+     *
+     * @return tiledRenderer <code>TiledLightRenderer</code>, or <code>null</code>
+     */
+    private TiledLightRenderer getTiledRenderer() {
+      return this.tiledRenderer;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.uniformRenderer</code>
+     *
+     * @return uniformRenderer <code>UniformLightRenderer</code>, or <code>null</code>
+     */
+    private UniformLightRenderer getUniformRenderer() {
+      return this.uniformRenderer;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.stressLights</code>
+     *
+     * @return stressLights <code>OrbitingLights</code>
+     */
+    private OrbitingLights getStressLights() {
+      return this.stressLights;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.shapeInstances</code>
+     *
+     * @return shapeInstances <code>InstancedMeshRenderer</code>, or <code>null</code>
+     */
+    private InstancedMeshRenderer getShapeInstances() {
+      return this.shapeInstances;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.markerInstances</code>
+     *
+     * @return markerInstances <code>InstancedMeshRenderer</code>, or <code>null</code>
+     */
+    private InstancedMeshRenderer getMarkerInstances() {
+      return this.markerInstances;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.sceneGraph</code>
+     *
+     * @return sceneGraph <code>SceneGraph</code>, or <code>null</code>
+     */
+    private SceneGraph getSceneGraph() {
+      return this.sceneGraph;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.levelOfDetail</code>
+     *
+     * @return levelOfDetail <code>LevelOfDetail</code>, or <code>null</code>
+     */
+    private LevelOfDetail getLevelOfDetail() {
+      return this.levelOfDetail;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.levelShapes</code>
+     *
+     * @return levelShapes <code>RetainedShapeRenderer[]</code>, or <code>null</code>
+     */
+    private RetainedShapeRenderer[] getLevelShapes() {
+      return this.levelShapes;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.levelInstances</code>
+     *
+     * @return levelInstances <code>InstancedMeshRenderer[]</code>, or <code>null</code>
+     */
+    private InstancedMeshRenderer[] getLevelInstances() {
+      return this.levelInstances;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.levelInstanceCounts</code>
+     *
+     * @return levelInstanceCounts <code>int[]</code>, or <code>null</code>
+     */
+    private int[] getLevelInstanceCounts() {
+      return this.levelInstanceCounts;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.viewportWidth</code>, as of the last frame
+     *
+     * @return viewportWidth <code>int</code> in pixels
+     */
+    private int getViewportWidth() {
+      return this.viewportWidth;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.viewportHeight</code>, as of the last frame
+     *
+     * @return viewportHeight <code>int</code> in pixels
+     */
+    private int getViewportHeight() {
+      return this.viewportHeight;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.sceneFrame</code>, into which the scene graph is
+     * recorded and replayed when there is no frame pipeline
+     *
+     * @return sceneFrame <code>RecordedFrame</code>
+     */
+    private RecordedFrame getSceneFrame() {
+      return this.sceneFrame;
+    }
+
+    /**
+     * Getter for <code>SceneGLEventListener.framePipeline</code>
+     *
+     * @return framePipeline <code>FramePipeline</code>, or <code>null</code>
+     */
+    private FramePipeline getFramePipeline() {
+      return this.framePipeline;
+    }
+
+    // Utility methods
+
+    /**
+     * One of the four required methods of the <code>GLEventListener</code> interface, this method
+     * renders the original scene, defining all the necessary lighting modes and models; begins the
+     * initialization of new <code>LightSource</code> objects; and defines the global
+     * <code>GL2</code> instance used by all methods in other inner classes in coordination with
+     * this one.
+     * <br />
+     * <br />
+     * Under <code>--lighting uniform</code>, the light table is built before anything else, and
+     * unless it fails to build, <code>GL_LIGHTING</code> and the <code>GL_LIGHTn</code> slots are
+     * never enabled or configured, as its program lights the scene in their place.
+     *
+     * @see com.jogamp.opengl.GLEventListener#init
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void init(GLAutoDrawable drawable) {
+
+      // Declarations
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+
+      // Definitions
+      tempGl = drawable.getGL().getGL2();
+      tempGlState = FourLights.this.getGlState();
+      FourLights.this.getStartupProfile().end(StartupProfile.CONTEXT);
+      FourLights.this.getStartupProfile().begin(StartupProfile.INIT);
+
+      // Set as class GL2 instance, whose state and matrices are not yet known
+      FourLights.this.setGl(tempGl);
+      tempGlState.reset(tempGl);
+      FourLights.this.getModelView().forget();
+      FourLights.this.getProjection().forget();
+
+      tempGlState.glClearColor(0, 0, 0, 1); // black background
+      tempGlState.glEnable(GL2.GL_DEPTH_TEST);
+      tempGlState.glEnable(GL2.GL_NORMALIZE);
+      tempGlState.glEnable(GL2.GL_COLOR_MATERIAL);
+      tempGlState.glMateriali(GL2.GL_FRONT_AND_BACK, GL2.GL_SHININESS, 32);
+
+      // Wait for the display's refresh on each buffer swap, where the drawable honors it
+      if (this.isVsync()) {
+        tempGl.setSwapInterval(1);
+      }
+
+      // Build the uniform lighting shaders first, should they have been requested, as the light
+      // table then stands in for the fixed-function lights, which are left unset
+      this.prepareUniformLighting();
+      if (this.getUniformRenderer() == null) {
+        tempGlState.glEnable(GL2.GL_LIGHTING);
+        tempGlState.glEnable(GL2.GL_LIGHT0);
+        tempGlState.glLightModeli(GL2.GL_LIGHT_MODEL_LOCAL_VIEWER, 1);
+
+        // Allow the LightSource instances to configure themselves individually
+        this.configureLightSources();
+      }
+
+      // Upload the shape for retained-mode drawing unless immediate mode was requested
+      this.prepareShape();
+
+      // Build the tiled lighting shaders, should they have been requested
+      this.prepareTiledLighting();
+
+      // Upload the meshes for instanced drawing, should it have been requested
+      this.prepareInstancing();
+      FourLights.this.getStartupProfile().end(StartupProfile.INIT);
+    }
+
+    /**
+     * The other defined method of the four total methods required for implementation of the
+     * <code>GLEventListener</code> interface, this method is called every time the scene is
+     * refreshed to paint the scene objects anew in accordance with whatever transformations have
+     * been applied and whatever check boxes have been clicked. This method's contents were taken
+     * from the original version of the file and modified with extracts from the fellow template
+     * <code>UnlitCube.java</code> as needed.
+     * <br />
+     * <br />
+     * When run with <code>--timing</code>, each phase of the method is timed by the
+     * <code>FourLights.FrameTimings</code> instance. Without it, there is no such instance and the
+     * timing amounts to a handful of <code>null</code> checks.
+     * <br />
+     * <br />
+     * Every transformation is worked out on the CPU by the two <code>FourLights.MatrixStack</code>
+     * instances, starting from <code>FourLights.SceneGLEventListener#applyCamera</code>, and each
+     * is loaded just the once, before whatever it places is drawn, rather than built up on the
+     * context's own stacks with a push and pop per object.
+     * <br />
+     * <br />
+     * Under <code>--pipeline</code>, the light markers, cull, and draw commands of the scene
+     * graph come from the frame a <code>FourLights.FramePipeline</code> recorded during the last
+     * display, and the next frame is requested before this one is drawn, such that it is
+     * recorded on other threads in the meantime.
+     * <br />
+     * <br />
+     * Under <code>--lighting uniform</code>, the lights and the global ambient color go into the
+     * light table of a <code>FourLights.UniformLightRenderer</code> instead, uploaded in one call,
+     * and the light markers and the shape are shaded per pixel by its program.
+     *
+     * @see FourLights.FrameTimings
+     * @see com.jogamp.opengl.GLEventListener#display
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void display(GLAutoDrawable drawable) {
+
+      // Declarations
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+      final boolean tempAmbientLight;
+      final FrameTimings tempTimings;
+      final TiledLightRenderer tempTiledRenderer;
+      final UniformLightRenderer tempUniformRenderer;
+      final FramePipeline tempPipeline;
+      final RecordedFrame tempFrame;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempGlState = FourLights.this.getGlState();
+      tempPipeline = (this.getSceneGraph() != null) ? this.getFramePipeline() : null;
+      tempAmbientLight = FourLights.this.isLightSwitchOn(FourLights.AMBIENT_SWITCH);
+      tempTimings = FourLights.this.getFrameTimings();
+      tempTiledRenderer = this.getTiledRenderer();
+      tempUniformRenderer = this.getUniformRenderer();
+
+      if (tempTimings != null) {
+        tempTimings.mark();
+      }
+      FourLights.this.getStartupProfile().begin(StartupProfile.DISPLAY);
+      tempGlState.beginFrame();
+
+      // From UnlitCube.java
+      tempGlState.glClearColor(0, 0, 0, 0);
+      tempGl.glClear(GL2.GL_COLOR_BUFFER_BIT | GL2.GL_DEPTH_BUFFER_BIT);
+      if (tempTimings != null) {
+        tempTimings.lap(FrameTimings.CLEAR);
+      }
+
+      // Load the Camera instance's projection and view, as worked out on the CPU
+      this.applyCamera(drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+      if (tempTimings != null) {
+        tempTimings.lap(FrameTimings.CAMERA);
+      }
+
+      // Take the frame recorded ahead, should there be a pipeline, and have the next recorded
+      if (tempPipeline != null) {
+        tempFrame = tempPipeline.take(FourLights.this.getSceneTime(),
+          FourLights.this.getProjection().getTop(), FourLights.this.getModelView().getTop(),
+          this.getViewportHeight());
+        tempPipeline.request(FourLights.this.getSceneTime(),
+          FourLights.this.getProjection().getTop(), FourLights.this.getModelView().getTop(),
+          this.getViewportHeight());
+      } else {
+        tempFrame = null;
+      }
+
+      // Changing lighting of all the LightSource elements per change in their rotations
+      if (tempTiledRenderer != null) {
+        this.applyTiledLighting(tempTiledRenderer);
+      } else if (tempUniformRenderer != null) {
+        this.applyUniformLighting(tempUniformRenderer);
+      } else if (tempFrame != null) {
+        this.applyLighting(tempFrame.getRotations(), false);
+      } else {
+        this.applyLighting();
+      }
+      if (tempTimings != null) {
+        tempTimings.lap(FrameTimings.LIGHTING);
+      }
+
+      // Handle the selection of global ambient lighting if applied by user, unless it has gone
+      // into the uniform light table, in which case only the markers' emission is cleared
+      if (tempUniformRenderer != null) {
+        tempUniformRenderer.setEmission(tempGl, FourLights.BLACK);
+      } else if (tempAmbientLight) {
+          tempGlState.glLightModelfv(GL2.GL_LIGHT_MODEL_AMBIENT, FourLights.GLOBAL_AMBIENT, 0);
+      } else {
+          tempGlState.glLightModelfv(GL2.GL_LIGHT_MODEL_AMBIENT, FourLights.BLACK, 0);
+      }
+
+      tempGl.glColor3d(0.7, 0.7, 0.7);
+      if (tempUniformRenderer == null) {
+        tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_SPECULAR, FourLights.BLACK, 0);
+      }
+      if (tempTimings != null) {
+        tempTimings.lap(FrameTimings.AMBIENT);
+      }
+
+      if (tempTiledRenderer != null) {
+        tempTiledRenderer.bind(tempGl, (tempAmbientLight)
+          ? FourLights.GLOBAL_AMBIENT
+          : FourLights.BLACK);
+        this.drawShape();
+        tempTiledRenderer.unbind(tempGl);
+      } else if (tempUniformRenderer != null) {
+        this.drawShape();
+        tempUniformRenderer.unbind(tempGl);
+      } else if (tempFrame != null) {
+        this.submitVisible(tempFrame);
+      } else if (this.getSceneGraph() != null) {
+        this.getSceneGraph().cull(FourLights.this.getProjection().getTop(),
+          FourLights.this.getModelView().getTop(), this.getViewportHeight());
+        this.drawVisible();
+      } else {
+        this.drawShape();
+      }
+      if (tempTimings != null) {
+        tempTimings.lap(FrameTimings.SHAPE);
+        tempTimings.endFrame();
+      }
+      if (FourLights.this.getInputRecorder() != null) {
+        FourLights.this.getInputRecorder().frame(FourLights.this.getSceneTime());
+      }
+      FourLights.this.getStartupProfile().end(StartupProfile.DISPLAY);
+      FourLights.this.getStartupProfile().begin(StartupProfile.PRESENT);
+    }
+
+    /**
+     * Noop method required by <code>GLEventListener</code>
+     *
+     * @see com.jogamp.opengl.GLEventListener#reshape
+     * @param drawable <code>GLAutoDrawable</code>
+     * @param i <code>int</code>
+     * @param i1 <code>int</code>
+     * @param i2 <code>int</code>
+     * @param i3 <code>int</code>
+     * @return void
+     */
+    @Override
+    public void reshape(GLAutoDrawable drawable, int i, int i1, int i2, int i3) {}
+
+    /**
+     * Required by <code>GLEventListener</code>, this method releases the buffer objects uploaded
+     * by <code>FourLights.SceneGLEventListener#prepareShape</code>, and any tiled or uniform
+     * lighting, instanced drawing, or geodesic level shaders and buffers, before the context goes
+     * away.
+     *
+     * @see com.jogamp.opengl.GLEventListener#dispose
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    @Override
+    public void dispose(GLAutoDrawable drawable) {
+      if (this.getFramePipeline() != null) {
+        this.getFramePipeline().shutdown();
+      }
+      this.releaseShape();
+      if (this.getTiledRenderer() != null) {
+        this.getTiledRenderer().release(FourLights.this.getGl());
+      }
+      if (this.getUniformRenderer() != null) {
+        this.getUniformRenderer().release(FourLights.this.getGl());
+      }
+      if (this.getShapeInstances() != null) {
+        this.getShapeInstances().release(FourLights.this.getGl());
+        this.getMarkerInstances().release(FourLights.this.getGl());
+      }
+      if (this.getLevelShapes() != null) {
+        for (RetainedShapeRenderer levelShape : this.getLevelShapes()) {
+          if (levelShape != null) {
+            levelShape.release(FourLights.this.getGl());
+          }
+        }
+      }
+      if (this.getLevelInstances() != null) {
+        for (InstancedMeshRenderer levelInstance : this.getLevelInstances()) {
+          if (levelInstance != null) {
+            levelInstance.release(FourLights.this.getGl());
+          }
+        }
+      }
+    }
+
+    /**
+     * This method creates a number of new <code>LightSource</code> instances, specifically within
+     * the body of the constructor. These new objects are created and then shunted into the
+     * <code>lightSourceArrayList</code> list for later use in iteration. Originally, this happened
+     * within <code>FourLights.SceneGLEventListener#init</code> and the constructors then called
+     * their own configuration handlers straightaway. As the lights are also needed by
+     * <code>FourLights.SoftwareRasterizer</code>, which has no GL context at all, the GL side of
+     * that configuration is now left to
+     * <code>FourLights.SceneGLEventListener#configureLightSources</code>.
+     *
+     * @see FourLights.SceneGLEventListener#configureLightSources
+     * @return void
+     */
+    private void constructLightSources() {
+
+      // Declaration
+      final ArrayList<LightSource> tempLightSourceArrayList;
+
+      // Definition
+      tempLightSourceArrayList = this.getLightSourceArrayList();
+
+      // New red light
+      tempLightSourceArrayList.add(new LightSource(FourLights.RED_SWITCH,
+        GL2.GL_LIGHT1, FourLights.COLOR_1, FourLights.COLOR_1_AMBIENT, 11, 9, -25));
+
+      // New green light
+      tempLightSourceArrayList.add(new LightSource(FourLights.GREEN_SWITCH,
+        GL2.GL_LIGHT2, FourLights.COLOR_2, FourLights.COLOR_2_AMBIENT, 10, 5, -15));
+
+      // New blue light
+      tempLightSourceArrayList.add(new LightSource(FourLights.BLUE_SWITCH,
+        GL2.GL_LIGHT3, FourLights.COLOR_3, FourLights.COLOR_3_AMBIENT, 9, 7, -5));
+    }
+
+    /**
+     * This method is called from <code>FourLights.SceneGLEventListener#init</code>, once per GL
+     * context, to have each of the <code>LightSource</code> instances configure its light
+     * properties via <code>FourLights.LightSource#configureLightSource</code>. It is not called
+     * under <code>--lighting uniform</code>, whose light table leaves the slots unused.
+     *
+     * @see FourLights.LightSource#configureLightSource
+     * @return void
+     */
+    private void configureLightSources() {
+      for (LightSource lightSource : this.getLightSourceArrayList()) {
+        lightSource.configureLightSource();
+      }
+    }
+
+    /**
+     * This method works out the y-axis rotation angles of the three encircling light sources at
+     * the given scene time, writing them into the array allocated by the constructor, which is then
+     * returned. It is shared by <code>FourLights.SceneGLEventListener#applyLighting</code> and by
+     * <code>FourLights.SoftwareRasterizer</code> so that both place the lights identically. The
+     * angles once counted timer ticks, and so turned faster or slower with the rate at which the
+     * timer managed to fire; they now follow the elapsed time, at
+     * <code>LIGHT_ROTATION_SPEED</code> degrees per second, which keeps the old speed.
+     *
+     * @param paramSceneTime <code>double</code> seconds of animation
+     * @return <code>double[]</code> rotation angles in degrees, one per light source
+     */
+    private double[] updateLightRotations(double paramSceneTime) {
+      return this.lightRotationsAt(paramSceneTime, this.getLightRotationValues());
+    }
+
+    /**
+     * Works out the rotation angles as above, but into the passed array, such that a frame
+     * recorded ahead on another thread may keep its own.
+     *
+     * @param paramSceneTime <code>double</code> seconds of animation
+     * @param paramRotations <code>double[]</code>
+     * @return <code>double[]</code> the passed array
+     */
+    private double[] lightRotationsAt(double paramSceneTime, double[] paramRotations) {
+
+      // Declaration
+      final double angle;
+
+      // Definition
+      angle = paramSceneTime * FourLights.LIGHT_ROTATION_SPEED;
+
+      paramRotations[0] = -angle;
+      paramRotations[1] = (angle + 100) * 0.8743;
+      paramRotations[2] = (angle - 100) * 1.3057;
+      return paramRotations;
+    }
+
+    /**
+     * This method is called once per GL context from
+     * <code>FourLights.SceneGLEventListener#init</code> and uploads the panel's mesh into buffer
+     * objects for the retained-mode render path. Should the user have requested immediate mode via
+     * the <code>--render-mode</code> option, or should the context lack buffer object support,
+     * nothing is uploaded and <code>FourLights.SceneGLEventListener#drawShape</code> falls back to
+     * the original <code>glBegin</code>/<code>glEnd</code> loop. The levels of any
+     * <code>FourLights.LevelOfDetail</code> are not uploaded here, but on first being drawn by
+     * <code>FourLights.SceneGLEventListener#drawVisible</code>.
+     *
+     * @see FourLights.RetainedShapeRenderer#upload
+     * @return void
+     */
+    private void prepareShape() {
+
+      // Declarations
+      final GL2 tempGl;
+      final RetainedShapeRenderer tempShapeRenderer;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempShapeRenderer = this.getShapeRenderer();
+
+      // Any buffers belonged to a previous context, so start afresh
+      tempShapeRenderer.forget();
+      if (this.getLevelOfDetail() != null) {
+        this.setLevelShapes(new RetainedShapeRenderer[this.getLevelOfDetail().getMaxLevel() + 1]);
+      }
+
+      if (!this.isImmediateMode() && tempGl.isFunctionAvailable("glGenBuffers")) {
+        FourLights.this.getStartupProfile().awaitMesh();
+        tempShapeRenderer.upload(tempGl, this.getMesh());
+      }
+    }
+
+    /**
+     * Counterpart of the above, called from <code>FourLights.SceneGLEventListener#dispose</code> to
+     * delete any buffer objects while the owning context is still current.
+     *
+     * @return void
+     */
+    private void releaseShape() {
+      this.getShapeRenderer().release(FourLights.this.getGl());
+    }
+
+    /**
+     * This method is called once per GL context from
+     * <code>FourLights.SceneGLEventListener#init</code> and, should <code>--lighting tiled</code>
+     * have been requested, builds the shaders and textures of the tiled lighting. Should the
+     * context lack GLSL 1.30, the reason is printed and the scene falls back to fixed-function
+     * lighting, much as the shape falls back to immediate mode without buffer objects.
+     *
+     * @see FourLights.TiledLightRenderer#prepare
+     * @return void
+     */
+    private void prepareTiledLighting() {
+
+      // Declarations
+      final GL2 tempGl;
+      final TiledLightRenderer tempTiledRenderer;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempTiledRenderer = this.getTiledRenderer();
+
+      if (tempTiledRenderer == null) {
+        return;
+      }
+
+      try {
+        if (!tempGl.isFunctionAvailable("glCreateShader")) {
+          throw new GLException("This context has no shader support");
+        }
+        tempTiledRenderer.prepare(tempGl);
+      } catch (GLException e) {
+        System.err.println(e.getMessage() + "; falling back to fixed-function lighting");
+        this.setTiledRenderer(null);
+      }
+    }
+
+    /**
+     * The counterpart of the above for <code>--lighting uniform</code>, building the shaders and
+     * the uniform buffer of the light table. Should the context lack GLSL 1.30 or uniform
+     * buffers, the reason is printed and the scene falls back to fixed-function lighting.
+     *
+     * @see FourLights.UniformLightRenderer#prepare
+     * @return void
+     */
+    private void prepareUniformLighting() {
+
+      // Declarations
+      final GL2 tempGl;
+      final UniformLightRenderer tempUniformRenderer;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempUniformRenderer = this.getUniformRenderer();
+
+      if (tempUniformRenderer == null) {
+        return;
+      }
+
+      try {
+        if (!tempGl.isFunctionAvailable("glGetUniformBlockIndex")) {
+          throw new GLException("This context has no uniform buffer support");
+        }
+        tempUniformRenderer.prepare(tempGl);
+      } catch (GLException e) {
+        System.err.println(e.getMessage() + "; falling back to fixed-function lighting");
+        this.setUniformRenderer(null);
+      }
+    }
+
+    /**
+     * This method is called once per GL context from
+     * <code>FourLights.SceneGLEventListener#init</code> and, should <code>--instanced</code> have
+     * been requested, uploads the shape and light marker meshes for instanced drawing. Should the
+     * context lack instanced arrays or GLSL 1.30, the reason is printed and the scene falls back
+     * to drawing the shape and each marker on its own.
+     *
+     * @see FourLights.InstancedMeshRenderer#prepare
+     * @return void
+     */
+    private void prepareInstancing() {
+
+      // Declarations
+      final GL2 tempGl;
+      final InstancedMeshRenderer tempShapeInstances, tempMarkerInstances;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempShapeInstances = this.getShapeInstances();
+      tempMarkerInstances = this.getMarkerInstances();
+
+      if (tempShapeInstances == null) {
+        return;
+      }
+
+      try {
+        if (!tempGl.isFunctionAvailable("glDrawElementsInstanced")
+            || !tempGl.isFunctionAvailable("glVertexAttribDivisor")
+            || !tempGl.isFunctionAvailable("glGenVertexArrays")
+            || !tempGl.isFunctionAvailable("glCreateShader")) {
+          throw new GLException("This context has no support for instanced arrays");
+        }
+        tempShapeInstances.prepare(tempGl);
+        tempMarkerInstances.prepare(tempGl);
+        if (this.getLevelOfDetail() != null) {
+          this.setLevelInstances(
+            new InstancedMeshRenderer[this.getLevelOfDetail().getMaxLevel() + 1]);
+          this.setLevelInstanceCounts(new int[this.getLevelOfDetail().getMaxLevel() + 1]);
+        }
+      } catch (GLException e) {
+        System.err.println(e.getMessage() + "; falling back to drawing each shape on its own");
+        tempShapeInstances.release(tempGl);
+        tempMarkerInstances.release(tempGl);
+        this.setShapeInstances(null);
+        this.setMarkerInstances(null);
+      }
+    }
+
+    /**
+     * This method sets the size of whichever stress scene was requested, namely the number of
+     * orbiting lights of <code>--stress-lights</code> or, with the scene graph in use, the number
+     * of shape copies of <code>--instances</code>, in which case the graph is built anew, once any
+     * frame being recorded ahead of it is done with. As only the CPU side is touched, it may be
+     * called between frames without the context being current.
+     *
+     * @see FourLights.HeadlessRenderer#render
+     * @param paramCount <code>int</code>
+     * @return void
+     */
+    private void applyStressCount(int paramCount) {
+      if (this.getSceneGraph() != null) {
+        if (this.getFramePipeline() != null) {
+          this.getFramePipeline().drain();
+        }
+        this.setSceneGraph(this.buildSceneGraph(paramCount));
+      } else {
+        this.setStressLights(new OrbitingLights(paramCount));
+      }
+    }
+
+    /**
+     * This method builds the scene graph: the shape, a group holding a marker for each of the
+     * <code>LightSource</code> instances, which are handed their nodes to move, and a group
+     * holding the given number of copies of the shape, as placed by
+     * <code>FourLights.InstanceField</code>. Under <code>--geodesic</code>, the shape and its
+     * copies are all handed the same <code>FourLights.LevelOfDetail</code>.
+     *
+     * @see FourLights.SceneGraph
+     * @param paramCopies <code>int</code>
+     * @return <code>SceneGraph</code>
+     */
+    private SceneGraph buildSceneGraph(int paramCopies) {
+
+      // Declarations
+      final SceneGraph newSceneGraph;
+      final SceneNode shape, markers;
+      SceneNode marker;
+
+      // Definitions
+      newSceneGraph = new SceneGraph();
+      shape = new SceneNode(newSceneGraph.getRoot(), this.getMesh());
+      markers = new SceneNode(newSceneGraph.getRoot(), null);
+
+      Matrices.scale(shape.getLocal(), FourLights.OBJECT_SCALE);
+      shape.setColor(FourLights.PRIMARY_FACE_COLOR);
+      shape.setLevels(this.getLevelOfDetail());
+      for (LightSource lightSource : this.getLightSourceArrayList()) {
+        marker = new SceneNode(markers, PolyhedronMesh.OCTAHEDRON);
+        marker.setColor(FourLights.LIGHT_MARKER_COLOR);
+        lightSource.setMarkerNode(marker);
+      }
+      new InstanceField(paramCopies).populate(new SceneNode(newSceneGraph.getRoot(), null),
+        this.getMesh(), this.getLevelOfDetail());
+
+      return newSceneGraph;
+    }
+
+    /**
+     * This method stands in for <code>Camera#apply</code>, which was once called every frame to
+     * set the projection and view on the context's own stacks. The projection is instead built by
+     * <code>FourLights.Matrices#cameraProjection</code> for the passed surface size and the view
+     * by <code>FourLights.Matrices#lookAt</code>, into the bottom of the two
+     * <code>FourLights.MatrixStack</code> instances, and each is loaded only where it differs
+     * from that of the last frame. The eye, center, and up vectors are only read back from the
+     * camera once <code>FourLights.CameraListener</code> has seen the trackball dragged, as
+     * <code>Camera#getViewParameters</code> allocates with every call. The flag is cleared before
+     * the read, such that a drag landing during it is read the next frame. Under
+     * <code>--record</code>, each view so read is also written to the input log.
+     *
+     * @see FourLights.SceneGLEventListener#display
+     * @param paramWidth <code>int</code> width of the surface in pixels
+     * @param paramHeight <code>int</code> height of the surface in pixels
+     * @return void
+     */
+    private void applyCamera(int paramWidth, int paramHeight) {
+
+      // Declarations
+      final GL2 tempGl;
+      final MatrixStack tempModelView, tempProjection;
+      final double[][] tempCameraView;
+      final double[] viewParameters;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempModelView = FourLights.this.getModelView();
+      tempProjection = FourLights.this.getProjection();
+      tempCameraView = FourLights.this.getCameraView();
+
+      this.setViewportWidth(Math.max(1, paramWidth));
+      this.setViewportHeight(Math.max(1, paramHeight));
+
+      if (FourLights.this.isCameraMoved()) {
+        FourLights.this.setCameraMoved(false);
+        viewParameters = FourLights.this.getSceneCamera().getViewParameters();
+        for (int i = 0; i < viewParameters.length; i++) {
+          tempCameraView[i / 3][i % 3] = viewParameters[i];
+        }
+        if (FourLights.this.getInputRecorder() != null) {
+          FourLights.this.getInputRecorder().camera(tempCameraView);
+        }
+      }
+
+      tempProjection.clear();
+      Matrices.cameraProjection(tempProjection.getTop(), FourLights.this.getCameraScale(),
+        tempCameraView[0], tempCameraView[1],
+        (double) this.getViewportWidth() / this.getViewportHeight());
+      tempProjection.load(tempGl);
+
+      tempModelView.clear();
+      Matrices.lookAt(tempModelView.getTop(), tempCameraView[0], tempCameraView[1],
+        tempCameraView[2]);
+      tempModelView.load(tempGl);
+    }
+
+    /**
+     * This method is a helper method called with every repaint by the primary scene event listener
+     * display method, namely <code>FourLights.SceneGLEventListener#display</code>. It handles the
+     * changes in y-axis rotation angle placement of the three primary encircling light sources, the
+     * newly calculated values of which are then passed to all <code>LightSource</code> instances'
+     * <code>FourLights.LightSource#adjustLightSource</code> methods. It also handles the switches
+     * on and off of the viewpoint light. The rotation values are written into an array allocated
+     * once by the constructor rather than a fresh array literal, as this method runs every frame.
+     * <br />
+     * <br />
+     * The rotations are only worked out anew should the frame's damage include the animation
+     * clock, and the light markers of any scene graph only moved should it include the clock or
+     * a toggled light, such that a frame drawn while paused for a camera drag alone leaves the
+     * marker nodes, and so any instances uploaded for them, as they were.
+     *
+     * @see FourLights.SceneGLEventListener#display
+     * @see FourLights.SceneGLEventListener#updateLightRotations
+     * @return void
+     */
+    private void applyLighting() {
+
+      // Declaration
+      final int tempDamage;
+
+      // Definition
+      tempDamage = FourLights.this.getFrameDamage();
+
+      this.applyLighting(((tempDamage & FourLights.DAMAGE_CLOCK) != 0)
+        ? this.updateLightRotations(FourLights.this.getSceneTime())
+        : this.getLightRotationValues(),
+        this.getSceneGraph() != null
+          && (tempDamage & (FourLights.DAMAGE_CLOCK | FourLights.DAMAGE_LIGHTS)) != 0);
+    }
+
+    /**
+     * This method is an overloaded method of that above it, applying the passed rotations, and
+     * moving the light markers of the scene graph along with the lights only if asked to, as they
+     * have already been moved where the frame was recorded ahead by a
+     * <code>FourLights.FramePipeline</code>.
+     *
+     * @param arrayOfRotationValues <code>double[]</code> in degrees, one per light source
+     * @param paramPlaceMarkers <code>boolean</code>
+     * @return void
+     */
+    private void applyLighting(double[] arrayOfRotationValues, boolean paramPlaceMarkers) {
+
+      // Declarations (cache temp variables)
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+      final boolean tempViewpointLight;
+      final ArrayList<LightSource> tempLightSourceArrayList;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempGlState = FourLights.this.getGlState();
+      tempViewpointLight = FourLights.this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH);
+      tempLightSourceArrayList = this.getLightSourceArrayList();
+
+      // Adds a bit of pseudo-reflection to the lighting balls (helpful when they're switched off)
+      tempGl.glColor3d(0.5, 0.5, 0.5);
+      tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_SPECULAR, FourLights.BLACK, 0);
+
+      // Toggle viewpoint light source
+      if (tempViewpointLight) {
+          tempGlState.glEnable(GL2.GL_LIGHT0);
+          tempGlState.glLightfv(GL2.GL_LIGHT0, GL2.GL_DIFFUSE, FourLights.DIM_LIGHTING, 0);
+          tempGlState.glLightModeli(GL2.GL_LIGHT_MODEL_TWO_SIDE, 1);
+      } else {
+          tempGlState.glDisable(GL2.GL_LIGHT0);
+      }
+
+      // Redefine light source y-axis rotational angle values (a bit messy)
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        tempLightSourceArrayList.get(i).adjustLightSource(arrayOfRotationValues[i]);
+        if (paramPlaceMarkers) {
+          tempLightSourceArrayList.get(i).placeMarker(arrayOfRotationValues[i]);
+        }
+      }
+
+      // Turn off emission color
+      tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, FourLights.BLACK, 0);
+    }
+
+    /**
+     * This method stands in for <code>FourLights.SceneGLEventListener#applyLighting</code> under
+     * <code>--lighting tiled</code>. Rather than set up the <code>GL_LIGHTn</code> slots, it hands
+     * the viewpoint light, the three <code>LightSource</code> instances, and any stress lights to
+     * the tiled renderer, drawing the light markers unlit in their own colors along the way, and
+     * then has the renderer cull and upload them for the shape about to be drawn.
+     *
+     * @see FourLights.LightSource#submitLight
+     * @see FourLights.OrbitingLights#submit
+     * @param paramRenderer <code>TiledLightRenderer</code>
+     * @return void
+     */
+    private void applyTiledLighting(TiledLightRenderer paramRenderer) {
+
+      // Declarations (cache temp variables)
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+      final ArrayList<LightSource> tempLightSourceArrayList;
+      final double tempSceneTime;
+      final double[] arrayOfRotationValues;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempGlState = FourLights.this.getGlState();
+      tempLightSourceArrayList = this.getLightSourceArrayList();
+      tempSceneTime = FourLights.this.getSceneTime();
+      arrayOfRotationValues = this.updateLightRotations(tempSceneTime);
+
+      paramRenderer.beginFrame(FourLights.this.getProjection().getTop(),
+        FourLights.this.getModelView().getTop(), this.getViewportWidth(),
+        this.getViewportHeight());
+
+      // GL_LIGHT0 is a directional light shining from behind the viewer
+      if (FourLights.this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH)) {
+        paramRenderer.addEyeLight(0, 0, 1, -1, FourLights.DIM_LIGHTING, 0, FourLights.BLACK);
+      }
+
+      tempGlState.glDisable(GL2.GL_LIGHTING);
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        tempLightSourceArrayList.get(i).submitLight(paramRenderer, arrayOfRotationValues[i]);
+      }
+      this.getStressLights().submit(tempGl, paramRenderer, tempSceneTime);
+      tempGlState.glEnable(GL2.GL_LIGHTING);
+
+      paramRenderer.cull();
+      paramRenderer.upload(tempGl);
+    }
+
+    /**
+     * This method stands in for <code>FourLights.SceneGLEventListener#applyLighting</code> under
+     * <code>--lighting uniform</code>. It fills the light table with the viewpoint light and the
+     * three <code>LightSource</code> instances, switched on or off by their enabled bits, along
+     * with the global ambient color, uploads it, and binds the program, leaving no
+     * <code>glLightfv</code> or <code>glMaterialfv</code> calls to be made. The light markers are
+     * then drawn as by fixed-function lighting, glowing in their lights' colors by way of the
+     * emission uniform.
+     *
+     * @see FourLights.LightSource#submitLight
+     * @see FourLights.LightSource#drawMarker
+     * @param paramRenderer <code>UniformLightRenderer</code>
+     * @return void
+     */
+    private void applyUniformLighting(UniformLightRenderer paramRenderer) {
+
+      // Declarations (cache temp variables)
+      final GL2 tempGl;
+      final ArrayList<LightSource> tempLightSourceArrayList;
+      final double[] arrayOfRotationValues;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempLightSourceArrayList = this.getLightSourceArrayList();
+      arrayOfRotationValues = this.updateLightRotations(FourLights.this.getSceneTime());
+
+      paramRenderer.beginFrame(FourLights.this.getModelView().getTop(),
+        (FourLights.this.isLightSwitchOn(FourLights.AMBIENT_SWITCH))
+          ? FourLights.GLOBAL_AMBIENT
+          : FourLights.BLACK);
+
+      // GL_LIGHT0 is a directional light shining from behind the viewer
+      paramRenderer.addEyeLight(0, 0, 1, 0, FourLights.DIM_LIGHTING, FourLights.BLACK,
+        FourLights.this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH));
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        tempLightSourceArrayList.get(i).submitLight(paramRenderer, arrayOfRotationValues[i]);
+      }
+      paramRenderer.upload(tempGl);
+      paramRenderer.bind(tempGl);
+
+      // Adds a bit of pseudo-reflection to the lighting balls (helpful when they're switched off)
+      tempGl.glColor3d(0.5, 0.5, 0.5);
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        tempLightSourceArrayList.get(i).drawMarker(paramRenderer, arrayOfRotationValues[i]);
+      }
+    }
+
+    /**
+     * As with the above lighting method, this method is called from within the primary scene event
+     * listener's display method, namely <code>FourLights.SceneGLEventListener#display</code>, with
+     * every repaint of the scene. It is responsible for rendering the author's chosen scene object,
+     * a <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">truncated icosahedron</a>,
+     * the vertices, face indices, and normals of which were derived from a class provided in the
+     * Project 2 template files package, namely <code>Polyhedron</code>. A copy of the class may be
+     * found <a href="http://math.hws.edu/graphicsbook/source/jogl/Polyhedron.java">here</a>. They
+     * are included in this program in the below inner static class, aptly named
+     * <code>FourLights.TruncatedIcosahedron</code>.
+     * <br />
+     * <br />
+     * Previously, this method asked <code>FourLights.TruncatedIcosahedron</code> for its arrays on
+     * every repaint, each call of which built a fresh set of nested arrays for data that never
+     * changes. The geometry is now read from the panel's <code>FourLights.PolyhedronMesh</code>,
+     * which is assembled exactly once, so drawing the shape no longer allocates anything.
+     * <br />
+     * <br />
+     * Where the mesh has been uploaded by
+     * <code>FourLights.SceneGLEventListener#prepareShape</code>, the faces and outlines are instead
+     * drawn from buffer objects with two draw calls in total rather than two
+     * <code>glBegin</code>/<code>glEnd</code> pairs per face. The per-face loop is kept as the
+     * immediate-mode fallback so that the two paths may be compared.
+     * <br />
+     * <br />
+     * The scale is applied to the top of <code>FourLights.modelView</code> and loaded with a
+     * single <code>glLoadMatrixf</code>, in place of a push, scale, and pop on the context's own
+     * stack, and the fallback no longer pushes and pops around every face, as nothing in the loop
+     * moves.
+     *
+     * @see FourLights.PolyhedronMesh
+     * @see FourLights.SceneGLEventListener#drawMesh
+     * @see FourLights.SceneGLEventListener#display
+     * @return void
+     */
+    private void drawShape() {
+
+      // Declaration
+      final MatrixStack tempModelView;
+
+      // Definition (cache value)
+      tempModelView = FourLights.this.getModelView();
+
+      // Clone new matrix copy
+      tempModelView.push();
+
+      // Apply default scaling to this matrix, the shape sitting at the origin
+      tempModelView.scale(FourLights.OBJECT_SCALE);
+
+      // Load it once for the whole mesh
+      tempModelView.load(FourLights.this.getGl());
+
+      this.drawMesh(FourLights.PRIMARY_FACE_COLOR);
+
+      // Delete this master matrix copy/restore to original matrix copy
+      tempModelView.pop();
+    }
+
+    /**
+     * This method draws the panel's mesh once under the current matrix, its faces in the passed
+     * color and its outlines in black, from the uploaded buffers where
+     * <code>FourLights.SceneGLEventListener#prepareShape</code> managed to upload them and face
+     * by face otherwise. It is the body of <code>FourLights.SceneGLEventListener#drawShape</code>,
+     * split out so that <code>FourLights.SceneGLEventListener#drawVisible</code> may draw each
+     * visible copy of the shape the same way.
+     *
+     * @param paramFaceColor <code>float[]</code>
+     * @return void
+     */
+    private void drawMesh(float[] paramFaceColor) {
+      this.drawMesh(this.getMesh(), this.getShapeRenderer(), paramFaceColor, FourLights.BLACK);
+    }
+
+    /**
+     * This method is an overloaded method of that above it, drawing the passed mesh from the
+     * passed renderer, should the mesh have been uploaded to it, and face by face otherwise, so
+     * that the levels of a <code>FourLights.LevelOfDetail</code> may be drawn in the same way as
+     * the shape itself. Face by face, the outlines follow the faces as a single batch of every
+     * distinct edge, by way of <code>FourLights.SceneGLEventListener#drawEdges</code>. The
+     * outlines are left out should no edge color be passed.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramRenderer <code>RetainedShapeRenderer</code>
+     * @param paramFaceColor <code>float[]</code>
+     * @param paramEdgeColor <code>float[]</code>, or <code>null</code>
+     * @return void
+     */
+    private void drawMesh(PolyhedronMesh paramMesh, RetainedShapeRenderer paramRenderer,
+        float[] paramFaceColor, float[] paramEdgeColor) {
+
+      // Declarations
+      final GL2 tempGl;
+      final int tempFaceCount;
+
+      // Definitions (cache values)
+      tempGl = FourLights.this.getGl();
+      tempFaceCount = paramMesh.getFaceCount();
+
+      if (paramRenderer.isUploaded()) {
+
+        // Retained mode draws every face, then every outline, from the uploaded buffers
+        paramRenderer.draw(tempGl, paramFaceColor, paramEdgeColor);
+      } else {
+
+        // Iterate through the object's faces, all under the matrix already loaded
+        for (int i = 0; i < tempFaceCount; i++) {
+
+          // Draw the faces (GL2.GL_TRIANGLE_FAN colors triangle primative slices between vertices)
+          this.drawShape(tempGl, paramFaceColor, paramMesh, GL2.GL_TRIANGLE_FAN, i);
+        }
+
+        // Draw black borders between vertices, each shared edge just the once, w/ GL_LINES
+        if (paramEdgeColor != null) {
+          this.drawEdges(tempGl, paramEdgeColor, paramRenderer.edgesOf(paramMesh));
+        }
+      }
+    }
+
+    /**
+     * This method draws the nodes left visible by the last cull of the scene graph, by recording
+     * their draw commands into <code>SceneGLEventListener.sceneFrame</code> on the spot and
+     * replaying them at once. Nothing is sent for the nodes that were culled. The frame pipeline
+     * of <code>--pipeline</code> replays frames recorded ahead instead, by way of the same
+     * <code>FourLights.SceneGLEventListener#submitVisible</code>.
+     *
+     * @see FourLights.SceneGraph#cull
+     * @see FourLights.RecordedFrame#encode
+     * @return void
+     */
+    private void drawVisible() {
+
+      // Declaration
+      final RecordedFrame tempFrame;
+
+      // Definition
+      tempFrame = this.getSceneFrame();
+
+      tempFrame.stamp(FourLights.this.getSceneTime(), FourLights.this.getProjection().getTop(),
+        FourLights.this.getModelView().getTop(), this.getViewportHeight(),
+        FourLights.this.getLightSwitches());
+      tempFrame.encode(this.getSceneGraph(), this.getShapeInstances() != null,
+        this.getLevelInstances() != null, null);
+      this.submitVisible(tempFrame);
+    }
+
+    /**
+     * Records the passed frame of the scene graph for the scene time, camera, and viewport height
+     * it was stamped with: the light markers are moved to where the lights will be, the graph is
+     * culled against the frame's camera, and the draw commands of whatever is left visible are
+     * encoded, across the pool's workers if there is a pool. Only the CPU side is touched, so this
+     * may run on the thread of <code>FourLights.FramePipeline</code> while the GL thread draws,
+     * provided nothing else moves or culls the graph meanwhile.
+     *
+     * @param paramFrame <code>RecordedFrame</code>
+     * @param paramPool <code>ForkJoinPool</code>, or <code>null</code> to encode on this thread
+     * @return void
+     */
+    private void recordFrame(RecordedFrame paramFrame, ForkJoinPool paramPool) {
+
+      // Declarations
+      final ArrayList<LightSource> tempLightSourceArrayList;
+      final double[] arrayOfRotationValues;
+      final SceneGraph tempSceneGraph;
+
+      // Definitions
+      tempLightSourceArrayList = this.getLightSourceArrayList();
+      arrayOfRotationValues = this.lightRotationsAt(paramFrame.getSceneTime(),
+        paramFrame.getRotations());
+      tempSceneGraph = this.getSceneGraph();
+
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        tempLightSourceArrayList.get(i).placeMarker(arrayOfRotationValues[i]);
+      }
+      tempSceneGraph.cull(paramFrame.getProjection(), paramFrame.getView(),
+        paramFrame.getViewportHeight());
+      paramFrame.encode(tempSceneGraph, this.getShapeInstances() != null,
+        this.getLevelInstances() != null, paramPool);
+    }
+
+    /**
+     * This method replays the draw commands of a recorded frame. Under <code>--instanced</code>,
+     * the commands are copies of the instances, which are written, packed from the first instance
+     * on, to the two <code>FourLights.InstancedMeshRenderer</code> instances, or to that of their
+     * level, and drawn with one instanced call for the markers and two for the shapes, however
+     * many there are. Otherwise each node is drawn on its own, under the matrix recorded for it,
+     * in the manner of <code>FourLights.SceneGLEventListener#drawShape</code> and of the markers
+     * drawn by <code>FourLights.LightSource#adjustLightSource</code>. Nodes with levels are drawn
+     * at the level the cull picked, from a renderer per level, and with outlines only at level
+     * zero, as the finer levels would come out all but black under them.
+     *
+     * @param paramFrame <code>RecordedFrame</code>
+     * @return void
+     */
+    private void submitVisible(RecordedFrame paramFrame) {
+
+      // Declarations
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+      final MatrixStack tempModelView;
+      final GLUT tempGlut;
+      final InstancedMeshRenderer tempShapeInstances, tempMarkerInstances;
+      final InstancedMeshRenderer[] tempLevelInstances;
+      final int[] tempLevelCounts;
+      final int tempEnabledLights, tempVisibleCount;
+      final float[] tempColor;
+      int shapes, markers, argument, offset;
+      DrawCommands commands;
+      float[] values;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempGlState = FourLights.this.getGlState();
+      tempModelView = FourLights.this.getModelView();
+      tempGlut = FourLights.this.getGlut();
+      tempShapeInstances = this.getShapeInstances();
+      tempMarkerInstances = this.getMarkerInstances();
+      tempLevelInstances = this.getLevelInstances();
+      tempLevelCounts = this.getLevelInstanceCounts();
+      tempEnabledLights = this.enabledLightMask();
+      tempVisibleCount = paramFrame.getVisibleCount();
+      tempColor = paramFrame.getColor();
+      shapes = markers = 0;
+
+      if (tempShapeInstances != null) {
+        tempShapeInstances.setInstanceCount(tempVisibleCount);
+        tempMarkerInstances.setInstanceCount(tempVisibleCount);
+        if (tempLevelInstances != null) {
+          Arrays.fill(tempLevelCounts, 0);
+          for (InstancedMeshRenderer levelInstance : tempLevelInstances) {
+            if (levelInstance != null) {
+              levelInstance.setInstanceCount(tempVisibleCount);
+            }
+          }
+        }
+        for (int s = 0; s < paramFrame.getSegmentCount(); s++) {
+          commands = paramFrame.getSegment(s);
+          values = commands.getValues();
+          for (int i = 0; i < commands.getCommandCount(); i++) {
+            argument = commands.getArgument(i);
+            offset = commands.getOffset(i);
+            if (argument == DrawCommands.MARKER_INSTANCES) {
+              tempMarkerInstances.copyInstance(markers++, values, offset);
+            } else if (argument == DrawCommands.SHAPE_INSTANCES) {
+              tempShapeInstances.copyInstance(shapes++, values, offset);
+            } else {
+              this.instancesOfLevel(argument, tempVisibleCount).copyInstance(
+                tempLevelCounts[argument]++, values, offset);
+            }
+          }
+        }
+        tempShapeInstances.setInstanceCount(shapes);
+        tempMarkerInstances.setInstanceCount(markers);
+        tempModelView.load(tempGl);
+        tempMarkerInstances.draw(tempGl, tempEnabledLights, null);
+        tempShapeInstances.draw(tempGl, tempEnabledLights, FourLights.BLACK);
+        if (tempLevelInstances != null) {
+          for (int i = 0; i < tempLevelInstances.length; i++) {
+            if (tempLevelInstances[i] != null) {
+              tempLevelInstances[i].setInstanceCount(tempLevelCounts[i]);
+              tempLevelInstances[i].draw(tempGl, tempEnabledLights,
+                (i == 0) ? FourLights.BLACK : null);
+            }
+          }
+        }
+        return;
+      }
+
+      tempModelView.push();
+      for (int s = 0; s < paramFrame.getSegmentCount(); s++) {
+        commands = paramFrame.getSegment(s);
+        values = commands.getValues();
+        for (int i = 0; i < commands.getCommandCount(); i++) {
+          offset = commands.getOffset(i);
+          switch (commands.getOpcode(i)) {
+            case DrawCommands.LOAD_MATRIX:
+              System.arraycopy(values, offset, tempModelView.getTop(), 0, Matrices.SIZE);
+              tempModelView.load(tempGl);
+              break;
+            case DrawCommands.EMISSION:
+              tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, values, offset);
+              break;
+            case DrawCommands.DRAW_LEVEL:
+              argument = commands.getArgument(i);
+              System.arraycopy(values, offset, tempColor, 0, 4);
+              this.drawMesh(this.getLevelOfDetail().getMesh(argument),
+                this.shapeOfLevel(argument), tempColor,
+                (argument == 0) ? FourLights.BLACK : null);
+              break;
+            case DrawCommands.DRAW_MARKER:
+              tempGl.glColor3f(values[offset], values[offset + 1], values[offset + 2]);
+              tempGlut.glutSolidOctahedron();
+              break;
+            default:
+              System.arraycopy(values, offset, tempColor, 0, 4);
+              this.drawMesh(tempColor);
+              break;
+          }
+        }
+      }
+      tempModelView.pop();
+      tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, FourLights.BLACK, 0);
+    }
+
+    /**
+     * Returns the retained renderer of the given level, uploading the level to it on first use
+     * where <code>FourLights.SceneGLEventListener#prepareShape</code> would have uploaded the
+     * shape, and leaving it empty, to be drawn face by face, otherwise.
+     *
+     * @param paramLevel <code>int</code>
+     * @return <code>RetainedShapeRenderer</code>
+     */
+    private RetainedShapeRenderer shapeOfLevel(int paramLevel) {
+
+      // Declarations
+      final GL2 tempGl;
+      final RetainedShapeRenderer[] tempLevelShapes;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempLevelShapes = this.getLevelShapes();
+
+      if (tempLevelShapes[paramLevel] == null) {
+        tempLevelShapes[paramLevel] = new RetainedShapeRenderer();
+        if (!this.isImmediateMode() && tempGl.isFunctionAvailable("glGenBuffers")) {
+          tempLevelShapes[paramLevel].upload(tempGl,
+            this.getLevelOfDetail().getMesh(paramLevel));
+        }
+      }
+      return tempLevelShapes[paramLevel];
+    }
+
+    /**
+     * Returns the instanced renderer of the given level, creating and preparing it on first use,
+     * with room for every node visible in the frame being drawn.
+     *
+     * @param paramLevel <code>int</code>
+     * @param paramCapacity <code>int</code> instances to make room for
+     * @return <code>InstancedMeshRenderer</code>
+     */
+    private InstancedMeshRenderer instancesOfLevel(int paramLevel, int paramCapacity) {
+
+      // Declaration
+      final InstancedMeshRenderer[] tempLevelInstances;
+
+      // Definition
+      tempLevelInstances = this.getLevelInstances();
+
+      if (tempLevelInstances[paramLevel] == null) {
+        tempLevelInstances[paramLevel] = new InstancedMeshRenderer(
+          this.getLevelOfDetail().getMesh(paramLevel));
+        tempLevelInstances[paramLevel].prepare(FourLights.this.getGl());
+        tempLevelInstances[paramLevel].setInstanceCount(paramCapacity);
+      }
+      return tempLevelInstances[paramLevel];
+    }
+
+    /**
+     * Returns the lights currently switched on as a bit mask in which bit <code>n</code> stands for
+     * <code>GL_LIGHTn</code>, for the shaders of <code>FourLights.InstancedMeshRenderer</code>,
+     * which cannot ask the fixed-function state which lights are enabled.
+     *
+     * @return <code>int</code>
+     */
+    private int enabledLightMask() {
+
+      // Declaration
+      int mask;
+
+      // Definition
+      mask = (FourLights.this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH)) ? 1 : 0;
+
+      for (LightSource lightSource : this.getLightSourceArrayList()) {
+        if (FourLights.this.isLightSwitchOn(lightSource.getSwitchIndex())) {
+          mask |= 1 << (lightSource.getLightType() - GL2.GL_LIGHT0);
+        }
+      }
+      return mask;
+    }
+
+    /**
+     * This method is an overloaded method of that above it, used by that method as an extended
+     * helper method that paints the faces of the truncated icosohedron and renders each face's
+     * black borders. It basically assembles the vertices as specified in the mesh's face index
+     * list by the <code>int</code> indices associated with each vertex, setting the colors and
+     * normals accordingly. As this function was run twice per loop iteration in the above method,
+     * the author decided to simply pass the needed mesh and primatives as parameters rather than
+     * make a large number of accessor method invocations for every run of this method.
+     * <br />
+     * <br />
+     * Originally, it was within this method that the author called a separate helper function,
+     * namely <code>FourLights.SceneGLEventListener#calculateNormal</code>, to help calculate the
+     * normals for each face to ensure that lighting occurred as expected. However, upon realizing
+     * that the <code>Polyhedron.java</code> class already listed normals, the author commented out
+     * the method invocation in favor of using a faster, preassembled array. However, uncommenting
+     * the line and commenting out the usage of the hardcoded array will demonstrate that the method
+     * calculates the same normals and behaves the same way as expected.
+     *
+     * @param paramGl <code>GL2</code> cached copy
+     * @param paramColorArray <code>float[]</code>
+     * @param paramMesh <code>PolyhedronMesh</code> cached copy
+     * @param paramImmediateMode <code>int</code>
+     * @param paramCounter <code>int</code>
+     * @return void
+     */
+    private void drawShape(GL2 paramGl, float[] paramColorArray, PolyhedronMesh paramMesh,
+        int paramImmediateMode, int paramCounter) {
+
+      // Declarations
+      int vertexIndex;
+      final int faceEnd;
+
+      // Definition
+      faceEnd = paramMesh.getFaceEnd(paramCounter);
+
+      // Set OpenGL float color values for red, green, blue
+      paramGl.glColor3f(paramColorArray[0], paramColorArray[1], paramColorArray[2]);
+
+      // Provide mode (GL2.GL_TRIANGLE_FAN suggested for faces)
+      paramGl.glBegin(paramImmediateMode);
+
+      // Set face normal prior to vertices definitions
+      paramGl.glNormal3f(paramMesh.getFaceNormal(paramCounter, 0),
+        paramMesh.getFaceNormal(paramCounter, 1), paramMesh.getFaceNormal(paramCounter, 2));
+
+      // Originally, before realizing Polyhedron.java listed normals, these were calculated below
+      //this.calculateNormal(paramGl, paramMesh, paramCounter);
+
+      // Build vertices
+      for (int i = paramMesh.getFaceStart(paramCounter); i < faceEnd; i++) {
+        vertexIndex = paramMesh.getFaceIndex(i);
+        paramGl.glVertex3f(paramMesh.getPosition(vertexIndex, 0),
+          paramMesh.getPosition(vertexIndex, 1), paramMesh.getPosition(vertexIndex, 2));
+      }
+
+      // Complete primitive assembly
+      paramGl.glEnd();
+    }
+
+    /**
+     * This method draws the outlines of the mesh of the passed edges in the passed color, as one
+     * <code>GL_LINES</code> batch holding each distinct edge once, where a
+     * <code>GL_LINE_LOOP</code> per face drew each edge twice and took a
+     * <code>glBegin</code>/<code>glEnd</code> pair per face. Each edge is drawn under the normal
+     * of the face it was kept from, set once per face with any edges, as the loops had it.
+     *
+     * @param paramGl <code>GL2</code> cached copy
+     * @param paramColorArray <code>float[]</code>
+     * @param paramEdges <code>MeshEdges</code>
+     * @return void
+     */
+    private void drawEdges(GL2 paramGl, float[] paramColorArray, MeshEdges paramEdges) {
+
+      // Declarations
+      int faceStart, faceSize, vertexIndex;
+      boolean normalSet;
+      final PolyhedronMesh tempMesh;
+
+      // Definition
+      tempMesh = paramEdges.getMesh();
+
+      paramGl.glColor3f(paramColorArray[0], paramColorArray[1], paramColorArray[2]);
+      paramGl.glBegin(GL2.GL_LINES);
+
+      for (int i = 0; i < tempMesh.getFaceCount(); i++) {
+        faceStart = tempMesh.getFaceStart(i);
+        faceSize = tempMesh.getFaceEnd(i) - faceStart;
+        normalSet = false;
+        for (int j = 0; j < faceSize; j++) {
+          if (!paramEdges.drawsEdge(faceStart + j)) {
+            continue;
+          }
+          if (!normalSet) {
+            paramGl.glNormal3f(tempMesh.getFaceNormal(i, 0), tempMesh.getFaceNormal(i, 1),
+              tempMesh.getFaceNormal(i, 2));
+            normalSet = true;
+          }
+          vertexIndex = tempMesh.getFaceIndex(faceStart + j);
+          paramGl.glVertex3f(tempMesh.getPosition(vertexIndex, 0),
+            tempMesh.getPosition(vertexIndex, 1), tempMesh.getPosition(vertexIndex, 2));
+          vertexIndex = tempMesh.getFaceIndex(faceStart + (j + 1) % faceSize);
+          paramGl.glVertex3f(tempMesh.getPosition(vertexIndex, 0),
+            tempMesh.getPosition(vertexIndex, 1), tempMesh.getPosition(vertexIndex, 2));
+        }
+      }
+
+      paramGl.glEnd();
+    }
+
+    /**
+     * This unused helper method was created personally by the author using the OpenGL wiki's
+     * <a href="https://www.khronos.org/opengl/wiki/Calculating_a_Surface_Normal">pseudo-code</a>
+     * for calculating face normals. This was prior to his realization that the aforementioned
+     * template files class <code>Polyhedron.java</code> included the normal values as well as the
+     * vertices and faces list in its contents. Regardless, as this class may have some use for
+     * other students, the author has seen fit to leave it in just in case. It now walks the face's
+     * slice of the shared <code>FourLights.PolyhedronMesh</code> index list directly instead of
+     * first gathering the face's points into a new array. The same method, applied to a whole
+     * mesh at once and extended to vertex normals, lives on in <code>FourLights.MeshNormals</code>,
+     * which the tests of the Maven build check against this one.
+     *
+     * @see FourLights.MeshNormals
+     * @see <a href="https://www.khronos.org/opengl/wiki/Calculating_a_Surface_Normal">Calculating a
+     *      Surface Normal</a>
+     * @param paramGl <code>GL2</code> instance, cached from two methods above
+     * @param paramMesh <code>PolyhedronMesh</code> containing the face
+     * @param paramFace <code>int</code> index of the face whose normal is to be applied
+     * @return void
+     */
+    private void calculateNormal(GL2 paramGl, PolyhedronMesh paramMesh, int paramFace) {
+
+      // Declarations
+      int pointLength, faceStart, current, next;
+      double normalX, normalY, normalZ;
+
+      // Definitions
+      faceStart = paramMesh.getFaceStart(paramFace);
+      pointLength = paramMesh.getFaceEnd(paramFace) - faceStart;
+      normalX = normalY = normalZ = 0;
+
+      // Cross products based on pseudocode formulas
+      for (int i = 0; i < pointLength; i++) {
+        current = paramMesh.getFaceIndex(faceStart + i);
+        next = paramMesh.getFaceIndex(faceStart + (i + 1) % pointLength);
+        normalX += (paramMesh.getPosition(current, 1) - paramMesh.getPosition(next, 1))
+          * (paramMesh.getPosition(current, 2) + paramMesh.getPosition(next, 2));
+        normalY += (paramMesh.getPosition(current, 2) - paramMesh.getPosition(next, 2))
+          * (paramMesh.getPosition(current, 0) + paramMesh.getPosition(next, 0));
+        normalZ += (paramMesh.getPosition(current, 0) - paramMesh.getPosition(next, 0))
+          * (paramMesh.getPosition(current, 1) + paramMesh.getPosition(next, 1));
+      }
+
+      // Apply normal
+      paramGl.glNormal3d(normalX, normalY, normalZ);
+    }
+  }
+
+  /**
+   * This class serves as the primary encapsulating construct used to define and create new rotating
+   * light ball units that encircle the main object of the scene, in the case of this program, the
+   * truncated icosahedron. Originally, one of the author's previous implementations of this project
+   * had the light sources created within the <code>FourLights.SceneGLEventListener#init</code>
+   * method using some helper methods. However, the code used grew to the point of becoming
+   * difficult to read and stretched across several inner classes, leading the author to consolidate
+   * all code related to the light objects in a separate inner class, in accordance with the
+   * <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single responsibility
+   * principle</a>, a paradigm which undergird the author's rewrite at a base level.
+   *
+   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   */
+  private final class LightSource {
+
+    // Class fields
+    private int switchIndex;
+    private int lightType;
+    private float[] color, colorAmbient;
+    private double translateX, translateY, translateZ;
+    private SceneNode markerNode;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param switchIndex <code>int</code>
+     * @param lightType <code>int</code>
+     * @param color <code>float[][]</code>
+     * @param colorAmbient <code>float[][]</code>
+     * @param translateX <code>double</code>
+     * @param translateY <code>double</code>
+     * @param translateZ <code>double</code>
+     */
+    private LightSource(int switchIndex, int lightType, float[] color, float[] colorAmbient,
+        double translateX, double translateY, double translateZ) {
+
+      // Set fields
+      this.setSwitchIndex(switchIndex);
+      this.setLightType(lightType);
+      this.setColor(color);
+      this.setColorAmbient(colorAmbient);
+      this.setTranslateX(translateX);
+      this.setTranslateY(translateY);
+      this.setTranslateZ(translateZ);
+      this.setMarkerNode(null);
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>LightSource.switchIndex</code>
+     *
+     * @param switchIndex <code>int</code>
+     * @return void
+     */
+    private void setSwitchIndex(int switchIndex) {
+      this.switchIndex = switchIndex;
+    }
+
+    /**
+     * Setter for <code>LightSource.lightType</code>
+     *
+     * @param lightType <code>int</code>
+     * @return void
+     */
+    private void setLightType(int lightType) {
+      this.lightType = lightType;
+    }
+
+    /**
+     * Setter for <code>LightSource.color</code>
+     *
+     * @param color <code>float[]</code>
+     * @return void
+     */
+    private void setColor(float[] color) {
+      this.color = color;
+    }
+
+    /**
+     * Setter for <code>LightSource.colorAmbient</code>
+     *
+     * @param colorAmbient <code>float[]</code>
+     * @return void
+     */
+    private void setColorAmbient(float[] colorAmbient) {
+      this.colorAmbient = colorAmbient;
+    }
+
+    /**
+     * Setter for <code>LightSource.translateX</code>
+     *
+     * @param translateX <code>double</code>
+     * @return void
+     */
+    private void setTranslateX(double translateX) {
+      this.translateX = translateX;
+    }
+
+    /**
+     * Setter for <code>LightSource.translateY</code>
+     *
+     * @param translateY <code>double</code>
+     * @return void
+     */
+    private void setTranslateY(double translateY) {
+      this.translateY = translateY;
+    }
+
+    /**
+     * Setter for <code>LightSource.translateZ</code>
+     *
+     * @param translateZ <code>double</code>
+     * @return void
+     */
+    private void setTranslateZ(double translateZ) {
+      this.translateZ = translateZ;
+    }
+
+    /**
+     * Setter for <code>LightSource.markerNode</code>
+     *
+     * @param markerNode <code>SceneNode</code>, or <code>null</code>
+     * @return void
+     */
+    private void setMarkerNode(SceneNode markerNode) {
+      this.markerNode = markerNode;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>LightSource.switchIndex</code>
+     *
+     * @return switchIndex <code>int</code>
+     */
+    private int getSwitchIndex() {
+      return this.switchIndex;
+    }
+
+    /**
+     * Getter for <code>LightSource.lightType</code>
+     *
+     * @return lightType <code>int</code>
+     */
+    private int getLightType() {
+      return this.lightType;
+    }
+
+    /**
+     * Getter for <code>LightSource.color</code>
+     *
+     * @return color <code>float[]</code>
+     */
+    private float[] getColor() {
+      return this.color;
+    }
+
+    /**
+     * Getter for <code>LightSource.colorAmbient</code>
+     *
+     * @return colorAmbient <code>float[]</code>
+     */
+    private float[] getColorAmbient() {
+      return this.colorAmbient;
+    }
+
+    /**
+     * Getter for <code>LightSource.translateX</code>
+     *
+     * @return translateX <code>double</code>
+     */
+    private double getTranslateX() {
+      return this.translateX;
+    }
+
+    /**
+     * Getter for <code>LightSource.translateY</code>
+     *
+     * @return translateY <code>double</code>
+     */
+    private double getTranslateY() {
+      return this.translateY;
+    }
+
+    /**
+     * Getter for <code>LightSource.translateZ</code>
+     *
+     * @return translateZ <code>double</code>
+     */
+    private double getTranslateZ() {
+      return this.translateZ;
+    }
+
+    /**
+     * Getter for <code>LightSource.markerNode</code>
+     *
+     * @return markerNode <code>SceneNode</code>, or <code>null</code>
+     */
+    private SceneNode getMarkerNode() {
+      return this.markerNode;
+    }
+
+    // Utility methods
+
+    /**
+     * This method is called once per GL context by
+     * <code>FourLights.SceneGLEventListener#configureLightSources</code> to set the properties
+     * associated with this lighting object instance. It was formerly called at the end of the
+     * constructor, but as the instances are now created before any context exists, it is invoked
+     * separately. Originally, this code existed in one of the above classes
+     * and was being re-invoked with every scene refresh. The creation of a dedicated class for
+     * lighting objects helped resolve this issue. In the first version of file, if the author
+     * remembers correctly, the code was just copy-pasted for each of the light objects, an approach
+     * that inspired the author to rewrite the whole class in its entirety to have it be a bit more
+     * readable.
+     *
+     * @return void
+     */
+    private void configureLightSource() {
+
+      // Declarations of temp fields
+      final GLStateCache tempGlState;
+      final int tempLightType;
+      final float[] tempColor, tempColorAmbient;
+
+      // Definitions (cached)
+      tempGlState = FourLights.this.getGlState();
+      tempLightType = this.getLightType();
+      tempColor = this.getColor();
+      tempColorAmbient = this.getColorAmbient();
+
+      // Define light models
+      tempGlState.glLightfv(tempLightType, GL2.GL_AMBIENT, tempColorAmbient, 0);
+      tempGlState.glLightModeli(GL2.GL_LIGHT_MODEL_TWO_SIDE, 1);
+      tempGlState.glLightfv(tempLightType, GL2.GL_DIFFUSE, tempColor, 0);
+      tempGlState.glLightfv(tempLightType, GL2.GL_SPECULAR, tempColor, 0);
+    }
+
+    /**
+     * This method is called externally by
+     * <code>FourLights.SceneGLEventListener#applyLighting</code> in a <code>for</code> loop for
+     * each of the created <code>LightSource</code> elements. It takes a passed <code>rotateY</code>
+     * y-axis rotation <code>double</code> parameter and applies that new value to
+     * <code>GL2#glRotated</code> to simulate the movement of the lighting ball around the truncated
+     * icosahedron. The rotation and translation are now applied to the top of
+     * <code>FourLights.modelView</code> and loaded once for both the light's position and its
+     * marker.
+     *
+     * @see FourLights.SceneGLEventListener#applyLighting
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void adjustLightSource(double paramRotateY) {
+
+      // Declarations
+      final GLUT tempGlut;
+      final GL2 tempGl;
+      final GLStateCache tempGlState;
+      final MatrixStack tempModelView;
+      final int tempLightType;
+      final double tempTranslateX, tempTranslateY, tempTranslateZ;
+      final float[] tempColor;
+      final boolean tempSwitchedOn;
+
+      // Definitions
+      tempGlut = FourLights.this.getGlut();
+      tempGl = FourLights.this.getGl();
+      tempGlState = FourLights.this.getGlState();
+      tempModelView = FourLights.this.getModelView();
+      tempLightType = this.getLightType();
+      tempTranslateX = this.getTranslateX();
+      tempTranslateY = this.getTranslateY();
+      tempTranslateZ = this.getTranslateZ();
+      tempColor = this.getColor();
+      tempSwitchedOn = FourLights.this.isLightSwitchOn(this.getSwitchIndex());
+
+      if (tempSwitchedOn) {
+          tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, tempColor, 0);
+          tempGlState.glEnable(tempLightType);
+      } else {
+          tempGlState.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, FourLights.BLACK, 0);
+          tempGlState.glDisable(tempLightType);
+      }
+
+      tempModelView.push();
+      tempModelView.rotate(paramRotateY, 0, 1, 0);
+      tempModelView.translate(tempTranslateX, tempTranslateY, tempTranslateZ);
+      tempModelView.load(tempGl);
+      tempGlState.glLightfv(tempLightType, GL2.GL_POSITION, FourLights.BLACK, 0);
+      if (this.getMarkerNode() == null) {
+        tempGlut.glutSolidOctahedron(); // originally glutSolidSphere(1.0, 16, 8);
+      }
+      tempModelView.pop();
+    }
+
+    /**
+     * With the scene graph in use, the marker is not drawn by
+     * <code>FourLights.LightSource#adjustLightSource</code> but moved as the light's node of the
+     * graph, with the same rotation and translation, glowing in the light's color if on and plain
+     * grey if off, to be culled and drawn along with everything else.
+     *
+     * @see FourLights.SceneGLEventListener#applyLighting
+     * @see FourLights.SceneGLEventListener#drawVisible
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void placeMarker(double paramRotateY) {
+
+      // Declarations
+      final SceneNode tempMarkerNode;
+      final float[] tempLocal;
+
+      // Definitions
+      tempMarkerNode = this.getMarkerNode();
+      tempLocal = tempMarkerNode.getLocal();
+
+      Matrices.identity(tempLocal);
+      Matrices.rotate(tempLocal, paramRotateY, 0, 1, 0);
+      Matrices.translate(tempLocal, this.getTranslateX(), this.getTranslateY(),
+        this.getTranslateZ());
+      tempMarkerNode.setEmission((FourLights.this.isLightSwitchOn(this.getSwitchIndex()))
+        ? this.getColor()
+        : FourLights.BLACK);
+      tempMarkerNode.invalidate();
+    }
+
+    /**
+     * This method is the counterpart of <code>FourLights.LightSource#adjustLightSource</code>
+     * under <code>--lighting tiled</code>. It works out where the same rotation and translation
+     * place the light in the world, adds it to the passed renderer should it be switched on, and
+     * draws its marker unlit, in the light's color if on and in grey if off.
+     *
+     * @see FourLights.SceneGLEventListener#applyTiledLighting
+     * @param paramRenderer <code>TiledLightRenderer</code>
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void submitLight(TiledLightRenderer paramRenderer, double paramRotateY) {
+
+      // Declarations
+      final GLUT tempGlut;
+      final GL2 tempGl;
+      final MatrixStack tempModelView;
+      final double tempTranslateX, tempTranslateY, tempTranslateZ, cos, sin;
+      final float[] tempColor;
+      final boolean tempSwitchedOn;
+
+      // Definitions
+      tempGlut = FourLights.this.getGlut();
+      tempGl = FourLights.this.getGl();
+      tempModelView = FourLights.this.getModelView();
+      tempTranslateX = this.getTranslateX();
+      tempTranslateY = this.getTranslateY();
+      tempTranslateZ = this.getTranslateZ();
+      cos = Math.cos(Math.toRadians(paramRotateY));
+      sin = Math.sin(Math.toRadians(paramRotateY));
+      tempSwitchedOn = FourLights.this.isLightSwitchOn(this.getSwitchIndex());
+      tempColor = (tempSwitchedOn) ? this.getColor() : FourLights.LIGHT_MARKER_COLOR;
+
+      if (tempSwitchedOn) {
+        paramRenderer.addLight((float) (cos * tempTranslateX + sin * tempTranslateZ),
+          (float) tempTranslateY, (float) (cos * tempTranslateZ - sin * tempTranslateX), 0,
+          tempColor, 0, this.getColorAmbient());
+      }
+
+      tempGl.glColor3f(tempColor[0], tempColor[1], tempColor[2]);
+      tempModelView.push();
+      tempModelView.rotate(paramRotateY, 0, 1, 0);
+      tempModelView.translate(tempTranslateX, tempTranslateY, tempTranslateZ);
+      tempModelView.load(tempGl);
+      tempGlut.glutSolidOctahedron();
+      tempModelView.pop();
+    }
+
+    /**
+     * This method is the counterpart of the above under <code>--lighting uniform</code>, adding
+     * the light to the table of the passed renderer at the same world position, with its enabled
+     * bit following its switch. Its marker is drawn separately, by
+     * <code>FourLights.LightSource#drawMarker</code>, once the table has been uploaded.
+     *
+     * @see FourLights.SceneGLEventListener#applyUniformLighting
+     * @param paramRenderer <code>UniformLightRenderer</code>
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void submitLight(UniformLightRenderer paramRenderer, double paramRotateY) {
+
+      // Declarations
+      final double tempTranslateX, tempTranslateZ, cos, sin;
+
+      // Definitions
+      tempTranslateX = this.getTranslateX();
+      tempTranslateZ = this.getTranslateZ();
+      cos = Math.cos(Math.toRadians(paramRotateY));
+      sin = Math.sin(Math.toRadians(paramRotateY));
+
+      paramRenderer.addLight((float) (cos * tempTranslateX + sin * tempTranslateZ),
+        (float) this.getTranslateY(), (float) (cos * tempTranslateZ - sin * tempTranslateX),
+        this.getColor(), this.getColorAmbient(),
+        FourLights.this.isLightSwitchOn(this.getSwitchIndex()));
+    }
+
+    /**
+     * Draws the light's marker with the program of the passed renderer bound, glowing in the
+     * light's color if on and lit like the shape if off, as
+     * <code>FourLights.LightSource#adjustLightSource</code> draws it by fixed-function lighting.
+     *
+     * @see FourLights.SceneGLEventListener#applyUniformLighting
+     * @param paramRenderer <code>UniformLightRenderer</code>
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void drawMarker(UniformLightRenderer paramRenderer, double paramRotateY) {
+
+      // Declarations
+      final GL2 tempGl;
+      final MatrixStack tempModelView;
+
+      // Definitions
+      tempGl = FourLights.this.getGl();
+      tempModelView = FourLights.this.getModelView();
+
+      paramRenderer.setEmission(tempGl, (FourLights.this.isLightSwitchOn(this.getSwitchIndex()))
+        ? this.getColor()
+        : FourLights.BLACK);
+      tempModelView.push();
+      tempModelView.rotate(paramRotateY, 0, 1, 0);
+      tempModelView.translate(this.getTranslateX(), this.getTranslateY(), this.getTranslateZ());
+      tempModelView.load(tempGl);
+      FourLights.this.getGlut().glutSolidOctahedron();
+      tempModelView.pop();
+    }
+  }
+
+  /**
+   * This class is the inner class event listener used to handle the presses or clicks of
+   * <code>JCheckBox</code> items. Its sole required interface method, <code>actionPerformed</code>,
+   * itself calls the superclass method <code>FourLights.checkboxHandler</code>.
+   *
+   * @see java.awt.event.ActionListener
+   * @author Andrew Eissen
+   */
+  private final class CheckBoxListener implements ActionListener {
+
+    /**
+     * This method is the sole method required of the <code>ActionListener</code> interface, namely
+     * <code>java.awt.event.ActionListener#actionPerformed</code>. It simply calls the superclass
+     * method <code>FourLights.checkboxHandler</code> when <code>JCheckBox</code> changes are
+     * detected.
+     *
+     * @see FourLights#checkboxHandler
+     * @see java.awt.event.ActionListener#actionPerformed
+     * @param e <code>ActionEvent</code>
+     * @return void
+     */
+    @Override
+    public void actionPerformed(ActionEvent e) {
+      FourLights.this.checkboxHandler(e);
+    }
+  }
+
+  /**
+   * This class is the inner class event listener added to the scene panel next to the camera's
+   * own trackball. As <code>Camera#getViewParameters</code> allocates a fresh array with each
+   * call, the view is only read back from the camera by
+   * <code>FourLights.SceneGLEventListener#applyCamera</code> once this listener has seen the
+   * trackball dragged, rather than every frame. Each drag is also passed on to the render loop as
+   * damage to the camera, as the trackball's own repaint only reaches the loop through the
+   * <code>GLJPanel</code>, and would otherwise leave the last position of a drag undrawn under
+   * the other presenters while paused.
+   *
+   * @see java.awt.event.MouseAdapter
+   * @author Andrew Eissen
+   */
+  private final class CameraListener extends MouseAdapter {
+
+    /**
+     * Notes that the camera may have moved with the drag, and has the move drawn.
+     *
+     * @see java.awt.event.MouseAdapter#mouseDragged
+     * @param e <code>MouseEvent</code>
+     * @return void
+     */
+    @Override
+    public void mouseDragged(MouseEvent e) {
+      FourLights.this.setCameraMoved(true);
+      FourLights.this.invalidateCamera();
+    }
+
+    /**
+     * Notes that the camera may have moved with the end of the drag, so that its final position
+     * is read should the render loop be paused.
+     *
+     * @see java.awt.event.MouseAdapter#mouseReleased
+     * @param e <code>MouseEvent</code>
+     * @return void
+     */
+    @Override
+    public void mouseReleased(MouseEvent e) {
+      FourLights.this.setCameraMoved(true);
+      FourLights.this.invalidateCamera();
+    }
+  }
+
+  /**
+   * This class is the dedicated render thread that replaced the <code>javax.swing.Timer</code> once
+   * used to drive the animation. That timer fired on the event dispatch thread, where its ticks
+   * queued up behind input and painting, and advanced the animation by one frame per tick, so that
+   * a busy dispatch thread both slowed the lights down and bunched their frames together. This
+   * thread instead advances a fixed-step <code>FourLights.SimulationClock</code> by the real time
+   * elapsed, publishes the resulting scene time, and has the scene's presenter display it, then
+   * sleeps until the next frame is due at the target rate. <code>GLJPanel#display</code> still
+   * draws on the event dispatch thread, but waits for the frame to be drawn, so that each frame is
+   * timed to its end, as the canvas and NEWT window do drawing on this thread. With a target rate
+   * of zero, frames are rendered back to back, leaving any pacing to the swap interval requested by
+   * <code>--vsync</code>.
+   * <br />
+   * <br />
+   * Frames are due on a fixed grid of deadlines, one frame period apart. A frame finishing after
+   * its deadline is counted as late, and how late recorded in a
+   * <code>FourLights.LatencyHistogram</code>, while every further deadline passed before it
+   * finished is counted as a missed frame. The loop then resumes at the next deadline still
+   * ahead, rather than rushing out the frames it owes. These statistics are written by this
+   * thread alone and summarized by <code>FourLights.PacingReport</code> as the program exits.
+   * <br />
+   * <br />
+   * The loop also schedules the frames drawn on demand. Rather than the panel being repainted
+   * for every light toggled and every step of a camera drag, each such change is noted as a bit
+   * of damage by way of <code>RenderLoop#invalidate</code>. While animating, the damage is simply
+   * drawn with the next frame, the clock dirtying every frame anyway. While paused, the loop
+   * wakes for damage alone, draws one frame for all the damage gathered, and then lets no further
+   * frame follow within a display refresh, or within the frame period should that be longer,
+   * so that a burst of input ends up in as few frames as the screen can show. The damage taken
+   * says what to look at before drawing: should the lights toggled have been switched back, and
+   * the camera dragged back to where it was drawn, by the time the frame is due, the frame is
+   * skipped as unchanged. With nothing dirty, nothing is drawn. The damage of each frame drawn,
+   * with the clock's bit added while animating, is handed to the scene by way of
+   * <code>FourLights#setFrameDamage</code>, so that it only moves what has moved. The requests
+   * thus saved a redraw of their own, and the process CPU time used while paused, are summarized
+   * by <code>RenderLoop#describeDemand</code>.
+   *
+   * @see FourLights.SimulationClock
+   * @see FourLights.PacingReport
+   * @author Andrew Eissen
+   */
+  private final class RenderLoop extends Thread {
+
+    // Class fields
+    private final SimulationClock clock;
+    private final int frameRate;
+    private final long periodNanos, demandPeriodNanos;
+    private final LatencyHistogram lateness;
+    private volatile long frameCount, lateFrames, missedFrames, activeNanos, resumedNanos;
+    private boolean paused;
+    private int damage;
+    private long damageRequests, demandFrames, demandCpuNanos, idleNanos, idleCpuNanos;
+    private long lastDemandNanos, unchangedFrames;
+    private final boolean[] drawnSwitches;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param frameRate <code>int</code> target frames per second, or 0 to render back to back
+     * @param firstStep <code>int</code> simulation step at which the animation starts
+     */
+    private RenderLoop(int frameRate, int firstStep) {
+      super("FourLights render loop");
+      this.clock = new SimulationClock(firstStep);
+      this.frameRate = frameRate;
+      this.periodNanos = (frameRate == 0) ? 0 : 1000000000L / frameRate;
+      this.demandPeriodNanos = Math.max(this.periodNanos, 1000000000L / this.refreshRate());
+      this.lastDemandNanos = System.nanoTime() - this.demandPeriodNanos;
+      this.lateness = new LatencyHistogram();
+      this.drawnSwitches = FourLights.this.getLightSwitches().clone();
+      this.setDaemon(true);
+    }
+
+    // Utility methods
+
+    /**
+     * Notes the passed damage, one or more of the <code>DAMAGE_*</code> bits, to be drawn with
+     * the next frame, waking the loop should the animation be paused. Any thread may call this.
+     *
+     * @param paramDamage <code>int</code>
+     * @return void
+     */
+    private synchronized void invalidate(int paramDamage) {
+      this.damage |= paramDamage;
+      this.damageRequests++;
+      this.notifyAll();
+    }
+
+    /**
+     * Pauses or resumes the animation, as the "Animate" check box is cleared or selected. While
+     * paused, the thread waits and renders nothing, and the clock stands still.
+     *
+     * @param paramPaused <code>boolean</code>
+     * @return void
+     */
+    private synchronized void setPaused(boolean paramPaused) {
+      this.paused = paramPaused;
+      this.notifyAll();
+    }
+
+    /**
+     * The render loop itself, run until the program exits.
+     *
+     * @see java.lang.Thread#run
+     * @return void
+     */
+    @Override
+    public void run() {
+
+      // Declarations
+      long deadline, behind;
+      final SimulationClock tempClock;
+
+      // Definition
+      tempClock = this.clock;
+
+      try {
+        Thread.sleep(FourLights.INITIAL_DELAY);
+        deadline = this.restartClock();
+
+        while (!this.isInterrupted()) {
+          if (this.awaitUnpaused()) {
+            deadline = this.restartClock();
+          }
+
+          tempClock.advance(System.nanoTime());
+          FourLights.this.setSceneTime(tempClock.getTime());
+          this.present(this.takeDamage() | FourLights.DAMAGE_CLOCK);
+          this.frameCount++;
+
+          if (this.periodNanos > 0) {
+            behind = System.nanoTime() - deadline;
+            if (behind > 0) {
+              this.lateFrames++;
+              this.lateness.record(behind);
+              this.missedFrames += behind / this.periodNanos;
+              deadline += (behind / this.periodNanos + 1) * this.periodNanos;
+            } else {
+              this.sleepUntil(deadline);
+              deadline += this.periodNanos;
+            }
+          }
+        }
+      } catch (InterruptedException e) {
+        // Asked to stop, so simply let the thread end
+      }
+    }
+
+    /**
+     * Waits for the animation to be resumed, should it be paused, stopping the clock meanwhile.
+     * In the meantime, a frame is drawn for whatever damage is noted, no sooner than a demand
+     * period after the last such frame, with all damage noted until then drawn by that one frame,
+     * unless it turns out to leave the frame unchanged.
+     *
+     * @return <code>boolean</code> whether the loop had to wait
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private boolean awaitUnpaused() throws InterruptedException {
+
+      // Declarations
+      final long idleStart, idleCpuStart;
+      long frameCpuStart;
+      int taken;
+
+      synchronized (this) {
+        if (!this.paused) {
+          return false;
+        }
+        this.clock.pause(System.nanoTime());
+        this.activeNanos += System.nanoTime() - this.resumedNanos;
+      }
+
+      // Definitions
+      idleStart = System.nanoTime();
+      idleCpuStart = this.processCpuTime();
+
+      while (this.awaitDamage()) {
+        this.sleepUntil(this.lastDemandNanos + this.demandPeriodNanos);
+        taken = this.takeDamage();
+        if (!this.changesFrame(taken)) {
+          this.unchangedFrames++;
+          continue;
+        }
+        frameCpuStart = this.processCpuTime();
+        this.present(taken);
+        this.demandCpuNanos += this.processCpuTime() - frameCpuStart;
+        this.demandFrames++;
+        this.lastDemandNanos = System.nanoTime();
+      }
+
+      this.idleNanos += System.nanoTime() - idleStart;
+      this.idleCpuNanos += this.processCpuTime() - idleCpuStart;
+      return true;
+    }
+
+    /**
+     * Waits, while paused, for damage to be noted.
+     *
+     * @return <code>boolean</code> <code>true</code> if there is damage to draw while paused, or
+     *     <code>false</code> once the animation has been resumed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    private synchronized boolean awaitDamage() throws InterruptedException {
+      while (this.paused && this.damage == 0) {
+        this.wait();
+      }
+      return this.paused;
+    }
+
+    /**
+     * Has the scene's presenter draw a frame for the passed damage, handed to the scene for the
+     * length of the frame, noting beforehand the light switches it is drawn for.
+     *
+     * @param paramDamage <code>int</code> one or more of the <code>DAMAGE_*</code> bits
+     * @return void
+     */
+    private void present(int paramDamage) {
+      System.arraycopy(FourLights.this.getLightSwitches(), 0, this.drawnSwitches, 0,
+        this.drawnSwitches.length);
+      FourLights.this.setFrameDamage(paramDamage);
+      FourLights.this.getScenePresenter().present();
+    }
+
+    /**
+     * Returns whether the passed damage, taken while paused, leaves anything to draw: a light
+     * switch of the damaged kind that differs from the last frame drawn, or a camera whose view
+     * differs from that last read, the latter being looked at only for camera damage, as reading
+     * it allocates.
+     *
+     * @param paramDamage <code>int</code> one or more of the <code>DAMAGE_*</code> bits
+     * @return <code>boolean</code>
+     */
+    private boolean changesFrame(int paramDamage) {
+
+      // Declarations
+      final boolean[] tempSwitches;
+      final double[][] tempCameraView;
+      final double[] viewParameters;
+
+      // Definitions
+      tempSwitches = FourLights.this.getLightSwitches();
+      tempCameraView = FourLights.this.getCameraView();
+
+      if ((paramDamage & FourLights.DAMAGE_CLOCK) != 0) {
+        return true;
+      }
+      for (int i = 0; i < tempSwitches.length; i++) {
+        if (tempSwitches[i] != this.drawnSwitches[i] && (paramDamage
+            & ((i == FourLights.AMBIENT_SWITCH)
+              ? FourLights.DAMAGE_AMBIENT
+              : FourLights.DAMAGE_LIGHTS)) != 0) {
+          return true;
+        }
+      }
+      if ((paramDamage & FourLights.DAMAGE_CAMERA) != 0) {
+        viewParameters = FourLights.this.getSceneCamera().getViewParameters();
+        for (int i = 0; i < viewParameters.length; i++) {
+          if (viewParameters[i] != tempCameraView[i / 3][i % 3]) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Clears the damage noted so far, which the frame about to be drawn takes care of.
+     *
+     * @return <code>int</code> the damage bits cleared
+     */
+    private synchronized int takeDamage() {
+
+      // Declaration
+      final int taken;
+
+      // Definition
+      taken = this.damage;
+
+      this.damage = 0;
+      return taken;
+    }
+
+    /**
+     * Returns the refresh rate of the default screen, or <code>DEFAULT_REFRESH_RATE</code> should
+     * the screen not report one.
+     *
+     * @return <code>int</code> in hertz
+     */
+    private int refreshRate() {
+
+      // Declaration
+      final int rate;
+
+      // Definition
+      rate = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice()
+        .getDisplayMode().getRefreshRate();
+
+      return (rate == DisplayMode.REFRESH_RATE_UNKNOWN) ? FourLights.DEFAULT_REFRESH_RATE : rate;
+    }
+
+    /**
+     * Returns the CPU time used so far by the whole process, or zero where the virtual machine
+     * cannot tell.
+     *
+     * @return <code>long</code>
+     */
+    private long processCpuTime() {
+
+      // Declaration
+      final java.lang.management.OperatingSystemMXBean bean;
+
+      // Definition
+      bean = ManagementFactory.getOperatingSystemMXBean();
+
+      return (bean instanceof com.sun.management.OperatingSystemMXBean)
+        ? ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime()
+        : 0;
+    }
+
+    /**
+     * Restarts the clock from now, returning the deadline of the first frame to follow.
+     *
+     * @return <code>long</code>
+     */
+    private long restartClock() {
+
+      // Declaration
+      final long now;
+
+      // Definition
+      now = System.nanoTime();
+
+      this.resumedNanos = now;
+      this.clock.resume(now);
+      return now + this.periodNanos;
+    }
+
+    /**
+     * Parks the thread until the given <code>System#nanoTime</code> deadline, which
+     * <code>LockSupport#parkNanos</code> may need a few attempts to reach.
+     *
+     * @param paramDeadline <code>long</code>
+     * @return void
+     * @throws InterruptedException if interrupted while parked
+     */
+    private void sleepUntil(long paramDeadline) throws InterruptedException {
+
+      // Declaration
+      long remaining;
+
+      // Definition
+      remaining = paramDeadline - System.nanoTime();
+
+      while (remaining > 0) {
+        LockSupport.parkNanos(this, remaining);
+        if (Thread.interrupted()) {
+          throw new InterruptedException();
+        }
+        remaining = paramDeadline - System.nanoTime();
+      }
+    }
+
+    /**
+     * Summarizes the loop's pacing so far: the frames rendered and the rate achieved while
+     * running, how many were late and by how much, how many were missed outright, and how many
+     * simulation steps the clock dropped after stalls.
+     *
+     * @return <code>String</code>
+     */
+    private synchronized String describe() {
+
+      // Declarations
+      final long active;
+      final String target;
+
+      // Definitions
+      active = this.activeNanos + ((this.resumedNanos == 0 || this.paused) ? 0
+        : System.nanoTime() - this.resumedNanos);
+      target = (this.frameRate == 0) ? "unpaced" : "target " + this.frameRate;
+
+      return String.format("Rendered %d frame(s) at %.1f fps (%s): %d late (p50 %.2f ms, "
+        + "p99 %.2f ms, max %.2f ms), %d missed, %d simulation step(s) dropped", this.frameCount,
+        (active == 0) ? 0 : this.frameCount * 1e9 / active, target, this.lateFrames,
+        this.lateness.percentile(0.5) / 1e6, this.lateness.percentile(0.99) / 1e6,
+        this.lateness.percentile(1) / 1e6, this.missedFrames, this.clock.getDroppedSteps());
+    }
+
+    /**
+     * Summarizes the frames drawn on demand: how many damage requests were noted, such as light
+     * toggles and trackball repaints, each of which once redrew the panel by itself, how many
+     * frames were drawn for them while paused, how many of the frames due were skipped as
+     * unchanged, and so how many redraws were avoided, along with the time spent paused, the share
+     * of one processor the process used meanwhile, and the CPU time the avoided redraws would have
+     * cost at the average of those drawn.
+     *
+     * @return <code>String</code>
+     */
+    private synchronized String describeDemand() {
+
+      // Declarations
+      final long avoided;
+      final double frameCpu;
+
+      // Definitions
+      avoided = Math.max(0, this.damageRequests - this.demandFrames);
+      frameCpu = (this.demandFrames == 0) ? 0 : (double) this.demandCpuNanos / this.demandFrames;
+
+      return String.format("On demand: %d damage request(s), %d frame(s) drawn while paused, "
+        + "%d skipped as unchanged, %d redraw(s) avoided (~%.1f ms CPU saved); paused %.1f s at "
+        + "%.2f%% CPU", this.damageRequests, this.demandFrames, this.unchangedFrames, avoided,
+        avoided * frameCpu / 1e6,
+        this.idleNanos / 1e9, (this.idleNanos == 0) ? 0 : 100.0 * this.idleCpuNanos
+          / this.idleNanos);
+    }
+  }
+
+  /**
+   * This class is the shutdown hook registered alongside the window's
+   * <code>FourLights.RenderLoop</code>, printing a summary of its pacing and of the frames it drew
+   * on demand as the program exits, along with that of the present cost of the frames and of the
+   * GL state calls the scene issued and dropped.
+   *
+   * @see FourLights.RenderLoop#describe
+   * @see FourLights.RenderLoop#describeDemand
+   * @see FourLights.ScenePresenter#describe
+   * @see FourLights.GLStateCache#describe
+   * @author Andrew Eissen
+   */
+  private final class PacingReport extends Thread {
+
+    /**
+     * Prints the summary.
+     *
+     * @see java.lang.Thread#run
+     * @return void
+     */
+    @Override
+    public void run() {
+      System.out.println(FourLights.this.getRenderLoop().describe());
+      System.out.println(FourLights.this.getRenderLoop().describeDemand());
+      System.out.println(FourLights.this.getScenePresenter().describe());
+      System.out.println(FourLights.this.getGlState().describe());
+      if (FourLights.this.getSceneListener().getFramePipeline() != null) {
+        System.out.println("Frame pipeline: "
+          + FourLights.this.getSceneListener().getFramePipeline().describe());
+      }
+    }
+  }
+
+  /**
+   * This class is the thread behind <code>--pipeline</code>, recording the next frame of the
+   * scene graph while the GL thread draws the current one. Each
+   * <code>FourLights.SceneGLEventListener#display</code> first takes the frame recorded during
+   * the previous display by way of <code>FramePipeline#take</code>, and then at once requests the
+   * next by way of <code>FramePipeline#request</code>, for the scene time the frame after is
+   * expected at, extrapolated from the last two, and for the current camera and light switches.
+   * This thread then moves the light markers, culls the graph, and encodes the draw commands,
+   * the last across the workers of its pool, while the GL thread replays the frame it took.
+   * <br />
+   * <br />
+   * There are just the two <code>FourLights.RecordedFrame</code> instances, one being drawn and
+   * one being recorded, so that the recording can never run more than a frame ahead: should the
+   * GL thread come for the next frame before it is done, it waits for it, which is the
+   * backpressure, and should this thread finish early, it waits for the next request. A frame
+   * recorded ahead is only drawn if the camera, viewport, and light switches still match those it
+   * was recorded for, and its scene time lies within the pipeline's tolerance of the actual one.
+   * Otherwise, as for the very first frame, it is recorded afresh on the GL thread before being
+   * drawn, so the pipeline never shows a frame other than that the serial path would have, give or
+   * take the tolerance. Offscreen, where every frame is one simulation step after the last, the
+   * extrapolation is exact and the tolerance is a mere nanosecond; in the window, whose clock
+   * follows real time, it is <code>PIPELINE_TOLERANCE_NANOS</code>.
+   * <br />
+   * <br />
+   * While the pipeline runs, the scene graph belongs to this thread, and must only be replaced
+   * once <code>FramePipeline#drain</code> has returned.
+   *
+   * @see FourLights.RecordedFrame
+   * @see FourLights.SceneGLEventListener#recordFrame
+   * @author Andrew Eissen
+   */
+  private final class FramePipeline extends Thread {
+
+    // Class fields
+    private final RecordedFrame[] frames;
+    private final ForkJoinPool pool;
+    private final double tolerance;
+    private RecordedFrame pending, ready, submitted;
+    private RuntimeException failure;
+    private double lastTime;
+    private long aheadFrames, inlineFrames, waitNanos;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param paramThreadCount <code>int</code> workers encoding the draw commands
+     * @param paramTolerance <code>double</code> seconds by which the scene time of a frame
+     *     recorded ahead may differ from the actual one
+     */
+    private FramePipeline(int paramThreadCount, double paramTolerance) {
+      super("FourLights frame recorder");
+      this.frames = new RecordedFrame[2];
+      for (int i = 0; i < this.frames.length; i++) {
+        this.frames[i] = new RecordedFrame(
+          FourLights.this.getSceneListener().getLightRotationValues().length,
+          FourLights.this.getLightSwitches().length);
+      }
+      this.pool = new ForkJoinPool(paramThreadCount);
+      this.tolerance = paramTolerance;
+      this.lastTime = Double.NaN;
+      this.setDaemon(true);
+    }
+
+    // Utility methods
+
+    /**
+     * Returns the frame to draw for the passed scene time, camera, and viewport height, waiting
+     * for the frame being recorded ahead, should there be one, and recording it afresh on the
+     * calling thread should it not match.
+     *
+     * @param paramSceneTime <code>double</code>
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramViewportHeight <code>int</code>
+     * @return <code>RecordedFrame</code>
+     */
+    private RecordedFrame take(double paramSceneTime, float[] paramProjection, float[] paramView,
+        int paramViewportHeight) {
+
+      // Declarations
+      RecordedFrame frame;
+      final boolean[] tempSwitches;
+
+      // Definitions
+      frame = this.awaitReady();
+      tempSwitches = FourLights.this.getLightSwitches();
+
+      if (frame != null && frame.matches(paramSceneTime, this.tolerance, paramProjection,
+          paramView, paramViewportHeight, tempSwitches)) {
+        this.aheadFrames++;
+      } else {
+        if (frame == null) {
+          frame = this.frameAfter(this.submitted);
+        }
+        frame.stamp(paramSceneTime, paramProjection, paramView, paramViewportHeight,
+          tempSwitches);
+        FourLights.this.getSceneListener().recordFrame(frame, this.pool);
+        this.inlineFrames++;
+      }
+      this.submitted = frame;
+      return frame;
+    }
+
+    /**
+     * Requests that the frame following the one just taken be recorded on this thread, for the
+     * passed camera and viewport height and for the scene time extrapolated from the last two.
+     *
+     * @param paramSceneTime <code>double</code> scene time of the frame just taken
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramViewportHeight <code>int</code>
+     * @return void
+     */
+    private void request(double paramSceneTime, float[] paramProjection, float[] paramView,
+        int paramViewportHeight) {
+
+      // Declarations
+      final RecordedFrame next;
+      final double predicted;
+
+      // Definitions
+      next = this.frameAfter(this.submitted);
+      predicted = (Double.isNaN(this.lastTime))
+        ? paramSceneTime + FourLights.SimulationClock.timeOfStep(1)
+        : 2 * paramSceneTime - this.lastTime;
+
+      this.lastTime = paramSceneTime;
+      next.stamp(predicted, paramProjection, paramView, paramViewportHeight,
+        FourLights.this.getLightSwitches());
+      synchronized (this) {
+        this.pending = next;
+        this.notifyAll();
+      }
+    }
+
+    /**
+     * Waits for any frame being recorded ahead and throws it away, such that the scene graph
+     * may be replaced and the next frame is recorded afresh.
+     *
+     * @return void
+     */
+    private void drain() {
+      this.awaitReady();
+      this.lastTime = Double.NaN;
+    }
+
+    /**
+     * Stops the thread and its pool.
+     *
+     * @return void
+     */
+    private void shutdown() {
+      this.interrupt();
+      this.pool.shutdown();
+    }
+
+    /**
+     * Waits for the frame being recorded, should there be one, and hands over whichever frame
+     * is ready, rethrowing any failure met in recording it.
+     *
+     * @return <code>RecordedFrame</code>, or <code>null</code> if none is ready
+     */
+    private synchronized RecordedFrame awaitReady() {
+
+      // Declarations
+      final long start;
+      final RecordedFrame frame;
+
+      // Definition
+      start = System.nanoTime();
+
+      try {
+        while (this.pending != null) {
+          this.wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted waiting for the frame recorder", e);
+      }
+      this.waitNanos += System.nanoTime() - start;
+
+      if (this.failure != null) {
+        throw new IllegalStateException("Recording a frame ahead failed", this.failure);
+      }
+      frame = this.ready;
+      this.ready = null;
+      return frame;
+    }
+
+    /**
+     * Returns the frame other than that passed.
+     *
+     * @param paramFrame <code>RecordedFrame</code>, or <code>null</code>
+     * @return <code>RecordedFrame</code>
+     */
+    private RecordedFrame frameAfter(RecordedFrame paramFrame) {
+      return (paramFrame == this.frames[0]) ? this.frames[1] : this.frames[0];
+    }
+
+    /**
+     * Records each frame requested, until the thread is interrupted.
+     *
+     * @see java.lang.Thread#run
+     * @return void
+     */
+    @Override
+    public void run() {
+
+      // Declaration
+      RecordedFrame frame;
+
+      try {
+        while (!this.isInterrupted()) {
+          synchronized (this) {
+            while (this.pending == null) {
+              this.wait();
+            }
+            frame = this.pending;
+          }
+
+          try {
+            FourLights.this.getSceneListener().recordFrame(frame, this.pool);
+          } catch (RuntimeException e) {
+            this.failure = e;
+          }
+
+          synchronized (this) {
+            this.ready = frame;
+            this.pending = null;
+            this.notifyAll();
+          }
+        }
+      } catch (InterruptedException e) {
+        // Asked to stop, so simply let the thread end
+      }
+    }
+
+    /**
+     * Summarizes the frames drawn so far: how many had been recorded ahead, how many had to be
+     * recorded on the GL thread, and how long the GL thread waited for this one on average.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declaration
+      final long frameCount;
+
+      // Definition
+      frameCount = Math.max(1, this.aheadFrames + this.inlineFrames);
+
+      return String.format("%d frame(s) recorded ahead across %d worker(s), %d recorded on the "
+        + "GL thread, %.3f ms per frame spent waiting for the recorder", this.aheadFrames,
+        this.pool.getParallelism(), this.inlineFrames, this.waitNanos / 1e6 / frameCount);
+    }
+  }
+
+  /**
+   * This static class defines the vertices, face vertex indices, and face normals of a standard
+   * <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">truncated icosahedron</a> object,
+   * itself composed of 32 hexagonal and pentagonal faces and 60 vertices. The code for this object
+   * was borrowed from the Project 2 templates package file entitled <code>Polyhedron.java</code>,
+   * which contained the necessary arrays within its contents under the title "Soccer ball." In a
+   * deceptive twist, that file also had a static object entitled "truncatedicosahedron" which, upon
+   * further examination, was not actually a shape of this form but was rather an
+   * <a href="https://en.wikipedia.org/wiki/Icosidodecahedron">icosidodecahedron</a> due to its use
+   * of triangles and pentagons as the base shapes rather than hexagons and pentagons.
+   * <br />
+   * <br />
+   * As each of the below getters builds a brand new set of arrays, they are only invoked once, by
+   * <code>FourLights.PolyhedronMesh</code>, whose flattened copy of the data is what the scene
+   * actually draws from.
+   *
+   * @see FourLights.PolyhedronMesh
+   * @see <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">Truncated icosahedron</a>
+   * @see <a href="http://math.hws.edu/graphicsbook/source/jogl/Polyhedron.java">Polyhedron.java</a>
+   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   */
+  private final static class TruncatedIcosahedron {
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * vertex data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getVertices() {
+      return new double[][] {
+        {-0.666667,-0.745356,0.206011},
+        {-0.666667,-0.745356,-0.206011},
+        {-0.872678,-0.412023,-0.333333},
+        {-1.000000,-0.206011,0.000000},
+        {-0.872678,-0.412023,0.333333},
+        {0.333333,0.872678,0.412023},
+        {0.206011,0.666667,0.745356},
+        {-0.206011,0.666667,0.745356},
+        {-0.333333,0.872678,0.412023},
+        {0.000000,1.000000,0.206011},
+        {0.206011,0.666667,-0.745356},
+        {0.333333,0.872678,-0.412023},
+        {0.000000,1.000000,-0.206011},
+        {-0.333333,0.872678,-0.412023},
+        {-0.206011,0.666667,-0.745356},
+        {0.872678,0.412023,0.333333},
+        {0.666667,0.745356,0.206011},
+        {0.666667,0.745356,-0.206011},
+        {0.872678,0.412023,-0.333333},
+        {1.000000,0.206011,0.000000},
+        {0.872678,-0.412023,0.333333},
+        {1.000000,-0.206011,0.000000},
+        {0.872678,-0.412023,-0.333333},
+        {0.666667,-0.745356,-0.206011},
+        {0.666667,-0.745356,0.206011},
+        {0.333333,-0.872678,-0.412023},
+        {0.206011,-0.666667,-0.745356},
+        {-0.206011,-0.666667,-0.745356},
+        {-0.333333,-0.872678,-0.412023},
+        {0.000000,-1.000000,-0.206011},
+        {0.206011,-0.666667,0.745356},
+        {0.333333,-0.872678,0.412023},
+        {0.000000,-1.000000,0.206011},
+        {-0.333333,-0.872678,0.412023},
+        {-0.206011,-0.666667,0.745356},
+        {0.412023,0.333333,0.872678},
+        {0.745356,0.206011,0.666667},
+        {0.745356,-0.206011,0.666667},
+        {0.412023,-0.333333,0.872678},
+        {0.206011,0.000000,1.000000},
+        {-0.206011,0.000000,1.000000},
+        {-0.412023,-0.333333,0.872678},
+        {-0.745356,-0.206011,0.666667},
+        {-0.745356,0.206011,0.666667},
+        {-0.412023,0.333333,0.872678},
+        {0.745356,-0.206011,-0.666667},
+        {0.745356,0.206011,-0.666667},
+        {0.412023,0.333333,-0.872678},
+        {0.206011,0.000000,-1.000000},
+        {0.412023,-0.333333,-0.872678},
+        {-0.412023,0.333333,-0.872678},
+        {-0.745356,0.206011,-0.666667},
+        {-0.745356,-0.206011,-0.666667},
+        {-0.412023,-0.333333,-0.872678},
+        {-0.206011,0.000000,-1.000000},
+        {-0.666667,0.745356,-0.206011},
+        {-0.666667,0.745356,0.206011},
+        {-0.872678,0.412023,0.333333},
+        {-1.000000,0.206011,0.000000},
+        {-0.872678,0.412023,-0.333333}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>int</code> array containing polyhedron
+     * face vertex index data.
+     *
+     * @return <code>int[][]</code>
+     */
+    private static int[][] getFaces() {
+      return new int[][] {
+        {0,1,2,3,4},
+        {5,6,7,8,9},
+        {10,11,12,13,14},
+        {15,16,17,18,19},
+        {20,21,22,23,24},
+        {25,26,27,28,29},
+        {30,31,32,33,34},
+        {35,36,37,38,39},
+        {40,41,42,43,44},
+        {45,46,47,48,49},
+        {50,51,52,53,54},
+        {55,56,57,58,59},
+        {15,36,35,6,5,16},
+        {20,37,36,15,19,21},
+        {30,38,37,20,24,31},
+        {40,39,38,30,34,41},
+        {39,40,44,7,6,35},
+        {45,22,21,19,18,46},
+        {10,47,46,18,17,11},
+        {11,17,16,5,9,12},
+        {55,13,12,9,8,56},
+        {50,14,13,55,59,51},
+        {54,48,47,10,14,50},
+        {49,26,25,23,22,45},
+        {31,24,23,25,29,32},
+        {0,33,32,29,28,1},
+        {3,58,57,43,42,4},
+        {56,8,7,44,43,57},
+        {52,2,1,28,27,53},
+        {53,27,26,49,48,54},
+        {4,42,41,34,33,0},
+        {2,52,51,59,58,3}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * face normals data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getNormals() {
+      return new double[][] {
+        {0.850651,0.525731,-0.000000},
+          {-0.000000,-0.850651,-0.525731},
+          {-0.000000,-0.850651,0.525731},
+          {-0.850651,-0.525731,-0.000000},
+          {-0.850651,0.525731,0.000000},
+          {0.000000,0.850651,0.525731},
+          {-0.000000,0.850651,-0.525731},
+          {-0.525731,-0.000000,-0.850651},
+          {0.525731,0.000000,-0.850651},
+          {-0.525731,0.000000,0.850651},
+          {0.525731,0.000000,0.850651},
+          {0.850651,-0.525731,0.000000},
+          {-0.577350,-0.577350,-0.577350},
+          {-0.934172,0.000000,-0.356822},
+          {-0.577350,0.577350,-0.577350},
+          {0.000000,0.356822,-0.934172},
+          {0.000000,-0.356822,-0.934172},
+          {-0.934172,0.000000,0.356822},
+          {-0.577350,-0.577350,0.577350},
+          {-0.356822,-0.934172,0.000000},
+          {0.356822,-0.934172,0.000000},
+          {0.577350,-0.577350,0.577350},
+          {0.000000,-0.356822,0.934172},
+          {-0.577350,0.577350,0.577350},
+          {-0.356822,0.934172,0.000000},
+          {0.356822,0.934172,-0.000000},
+          {0.934172,0.000000,-0.356822},
+          {0.577350,-0.577350,-0.577350},
+          {0.577350,0.577350,0.577350},
+          {-0.000000,0.356822,0.934172},
+          {0.577350,0.577350,-0.577350},
+          {0.934172,-0.000000,0.356822}
+      };
+    }
+  }
+
+  /**
+   * This static class defines the vertices, face vertex indices, and face normals of the regular
+   * octahedron drawn by <code>GLUT#glutSolidOctahedron</code> to mark each of the encircling light
+   * sources. The arrays are copied from the GLUT source so that the markers may also be drawn
+   * without GLUT, as is done by <code>FourLights.SoftwareRasterizer</code>. As with GLUT, each face
+   * normal is the normalized cross product of <code>v0 - v1</code> and <code>v1 - v2</code>, which
+   * for this winding happens to point into the shape; with two-sided lighting enabled, this makes
+   * no difference to how the markers appear.
+   *
+   * @see FourLights.PolyhedronMesh
+   * @see FourLights.LightSource#adjustLightSource
+   * @author Andrew Eissen
+   */
+  private final static class Octahedron {
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * vertex data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getVertices() {
+      return new double[][] {
+        {1, 0, 0},
+        {-1, 0, 0},
+        {0, 1, 0},
+        {0, -1, 0},
+        {0, 0, 1},
+        {0, 0, -1}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>int</code> array containing polyhedron
+     * face vertex index data.
+     *
+     * @return <code>int[][]</code>
+     */
+    private static int[][] getFaces() {
+      return new int[][] {
+        {0, 4, 2},
+        {1, 2, 4},
+        {0, 3, 4},
+        {1, 4, 3},
+        {0, 2, 5},
+        {1, 5, 2},
+        {0, 5, 3},
+        {1, 3, 5}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * face normals data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getNormals() {
+      return new double[][] {
+        {-0.577350, -0.577350, -0.577350},
+        {0.577350, -0.577350, -0.577350},
+        {-0.577350, 0.577350, -0.577350},
+        {0.577350, 0.577350, -0.577350},
+        {-0.577350, -0.577350, 0.577350},
+        {0.577350, -0.577350, 0.577350},
+        {-0.577350, 0.577350, 0.577350},
+        {0.577350, 0.577350, 0.577350}
+      };
+    }
+  }
+
+  /**
+   * This static class defines the vertices, face vertex indices, and face normals of a regular
+   * <a href="https://en.wikipedia.org/wiki/Regular_icosahedron">icosahedron</a> inscribed in the
+   * unit sphere, the usual base from which <code>FourLights.GeodesicMesh</code> builds geodesic
+   * spheres. The faces are wound, and the normals derived, in the same way as those of
+   * <code>FourLights.Octahedron</code>, so that the two shapes and their subdivisions are lit
+   * alike under two-sided lighting.
+   *
+   * @see FourLights.PolyhedronMesh
+   * @see FourLights.GeodesicMesh
+   * @author Andrew Eissen
+   */
+  private final static class Icosahedron {
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * vertex data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getVertices() {
+      return new double[][] {
+        {0.000000, -0.525731, -0.850651},
+        {0.000000, -0.525731, 0.850651},
+        {0.000000, 0.525731, -0.850651},
+        {0.000000, 0.525731, 0.850651},
+        {-0.525731, -0.850651, 0.000000},
+        {-0.525731, 0.850651, 0.000000},
+        {0.525731, -0.850651, 0.000000},
+        {0.525731, 0.850651, 0.000000},
+        {-0.850651, 0.000000, -0.525731},
+        {0.850651, 0.000000, -0.525731},
+        {-0.850651, 0.000000, 0.525731},
+        {0.850651, 0.000000, 0.525731}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>int</code> array containing polyhedron
+     * face vertex index data.
+     *
+     * @return <code>int[][]</code>
+     */
+    private static int[][] getFaces() {
+      return new int[][] {
+        {0, 2, 8},
+        {0, 9, 2},
+        {0, 4, 6},
+        {0, 8, 4},
+        {0, 6, 9},
+        {1, 10, 3},
+        {1, 3, 11},
+        {1, 6, 4},
+        {1, 4, 10},
+        {1, 11, 6},
+        {2, 7, 5},
+        {2, 5, 8},
+        {2, 9, 7},
+        {3, 5, 7},
+        {3, 10, 5},
+        {3, 7, 11},
+        {4, 8, 10},
+        {5, 10, 8},
+        {6, 11, 9},
+        {7, 9, 11}
+      };
+    }
+
+    /**
+     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
+     * face normals data.
+     *
+     * @return <code>double[][]</code>
+     */
+    private static double[][] getNormals() {
+      return new double[][] {
+        {0.356822, 0.000000, 0.934172},
+        {-0.356822, 0.000000, 0.934172},
+        {0.000000, 0.934172, 0.356822},
+        {0.577350, 0.577350, 0.577350},
+        {-0.577350, 0.577350, 0.577350},
+        {0.356822, 0.000000, -0.934172},
+        {-0.356822, -0.000000, -0.934172},
+        {0.000000, 0.934172, -0.356822},
+        {0.577350, 0.577350, -0.577350},
+        {-0.577350, 0.577350, -0.577350},
+        {0.000000, -0.934172, 0.356822},
+        {0.577350, -0.577350, 0.577350},
+        {-0.577350, -0.577350, 0.577350},
+        {-0.000000, -0.934172, -0.356822},
+        {0.577350, -0.577350, -0.577350},
+        {-0.577350, -0.577350, -0.577350},
+        {0.934172, 0.356822, 0.000000},
+        {0.934172, -0.356822, 0.000000},
+        {-0.934172, 0.356822, 0.000000},
+        {-0.934172, -0.356822, -0.000000}
+      };
+    }
+  }
+
+  /**
+   * This class is an immutable, flattened store of polyhedron geometry, assembled exactly once and
+   * shared thereafter by every piece of code that needs to read the shape. Previously, the scene
+   * asked <code>FourLights.TruncatedIcosahedron</code> for its vertices, faces, and normals on
+   * every repaint, and as each of those getters builds brand new nested arrays, the program was
+   * producing a steady stream of small garbage arrays for data that never once changes.
+   * <br />
+   * <br />
+   * The data is held in native-order direct buffers using a single layout: three
+   * <code>float</code> coordinates per vertex, three <code>float</code> components per face normal,
+   * and the polygon faces in compressed form, namely a flat vertex index list alongside a face
+   * offset list of length <code>faceCount + 1</code> such that face <code>i</code> occupies the
+   * index range <code>[offset[i], offset[i + 1])</code>. As direct buffers, these may be handed to
+   * OpenGL as is, while the per-element getters below let CPU code walk the same storage without
+   * copying it. The fields are final and are assigned once in the constructor, so no setters are
+   * provided, and the buffer getters only hand out read-only views.
+   *
+   * @see FourLights.TruncatedIcosahedron
+   * @author Andrew Eissen
+   */
+  private final static class PolyhedronMesh {
+
+    /** Number of <code>float</code> components stored per vertex position or face normal */
+    private final static int COMPONENTS = 3;
+
+    /** The shared truncated icosahedron mesh, built once from the literal arrays */
+    private final static PolyhedronMesh TRUNCATED_ICOSAHEDRON = PolyhedronMesh.fromPolygons(
+      FourLights.TruncatedIcosahedron.getVertices(), FourLights.TruncatedIcosahedron.getFaces(),
+      FourLights.TruncatedIcosahedron.getNormals());
+
+    /** The shared octahedron mesh used for the light markers, built once from the GLUT arrays */
+    private final static PolyhedronMesh OCTAHEDRON = PolyhedronMesh.fromPolygons(
+      FourLights.Octahedron.getVertices(), FourLights.Octahedron.getFaces(),
+      FourLights.Octahedron.getNormals());
+
+    /** The icosahedron from which geodesic spheres may be built, built once from its arrays */
+    private final static PolyhedronMesh ICOSAHEDRON = PolyhedronMesh.fromPolygons(
+      FourLights.Icosahedron.getVertices(), FourLights.Icosahedron.getFaces(),
+      FourLights.Icosahedron.getNormals());
+
+    // Class fields
+    private final int vertexCount, faceCount, indexCount;
+    private final float boundingRadius;
+    private final FloatBuffer positions, faceNormals;
+    private final IntBuffer faceOffsets, faceIndices;
+
+    /**
+     * Parameterized constructor. The buffers are expected to be fully populated and are not copied,
+     * so callers must not retain and write to them afterwards.
+     *
+     * @param positions <code>FloatBuffer</code>
+     * @param faceNormals <code>FloatBuffer</code>
+     * @param faceOffsets <code>IntBuffer</code>
+     * @param faceIndices <code>IntBuffer</code>
+     */
+    private PolyhedronMesh(FloatBuffer positions, FloatBuffer faceNormals, IntBuffer faceOffsets,
+        IntBuffer faceIndices) {
+      this(positions, faceNormals, faceOffsets, faceIndices,
+        PolyhedronMesh.boundingRadiusOf(positions));
+    }
+
+    /**
+     * Parameterized constructor taking the bounding radius as already known, such that the
+     * positions, which <code>FourLights.MeshCache</code> maps straight from a file, need not all
+     * be read to build the mesh.
+     *
+     * @param positions <code>FloatBuffer</code>
+     * @param faceNormals <code>FloatBuffer</code>
+     * @param faceOffsets <code>IntBuffer</code>
+     * @param faceIndices <code>IntBuffer</code>
+     * @param boundingRadius <code>float</code>
+     */
+    private PolyhedronMesh(FloatBuffer positions, FloatBuffer faceNormals, IntBuffer faceOffsets,
+        IntBuffer faceIndices, float boundingRadius) {
+      this.vertexCount = positions.capacity() / PolyhedronMesh.COMPONENTS;
+      this.faceCount = faceOffsets.capacity() - 1;
+      this.indexCount = faceIndices.capacity();
+      this.positions = positions.asReadOnlyBuffer();
+      this.faceNormals = faceNormals.asReadOnlyBuffer();
+      this.faceOffsets = faceOffsets.asReadOnlyBuffer();
+      this.faceIndices = faceIndices.asReadOnlyBuffer();
+      this.boundingRadius = boundingRadius;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>PolyhedronMesh.vertexCount</code>
+     *
+     * @return vertexCount <code>int</code>
+     */
+    private int getVertexCount() {
+      return this.vertexCount;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.faceCount</code>
+     *
+     * @return faceCount <code>int</code>
+     */
+    private int getFaceCount() {
+      return this.faceCount;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.indexCount</code>
+     *
+     * @return indexCount <code>int</code>
+     */
+    private int getIndexCount() {
+      return this.indexCount;
+    }
+
+    /**
+     * Returns the number of triangles the faces come to once each is fanned out from its first
+     * vertex, as they are drawn.
+     *
+     * @return <code>int</code>
+     */
+    private int getTriangleCount() {
+      return this.indexCount - 2 * this.faceCount;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.boundingRadius</code>, the distance from the origin to the
+     * farthest vertex
+     *
+     * @return boundingRadius <code>float</code>
+     */
+    private float getBoundingRadius() {
+      return this.boundingRadius;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.positions</code>
+     *
+     * @return positions <code>FloatBuffer</code>, read-only view
+     */
+    private FloatBuffer getPositionBuffer() {
+      return this.positions;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.faceNormals</code>
+     *
+     * @return faceNormals <code>FloatBuffer</code>, read-only view
+     */
+    private FloatBuffer getFaceNormalBuffer() {
+      return this.faceNormals;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.faceOffsets</code>
+     *
+     * @return faceOffsets <code>IntBuffer</code>, read-only view
+     */
+    private IntBuffer getFaceOffsetBuffer() {
+      return this.faceOffsets;
+    }
+
+    /**
+     * Getter for <code>PolyhedronMesh.faceIndices</code>
+     *
+     * @return faceIndices <code>IntBuffer</code>, read-only view
+     */
+    private IntBuffer getFaceIndexBuffer() {
+      return this.faceIndices;
+    }
+
+    /**
+     * Returns a single coordinate of a single vertex position.
+     *
+     * @param paramVertex <code>int</code> vertex index
+     * @param paramAxis <code>int</code> 0, 1, or 2 for x, y, or z
+     * @return <code>float</code>
+     */
+    private float getPosition(int paramVertex, int paramAxis) {
+      return this.positions.get(paramVertex * PolyhedronMesh.COMPONENTS + paramAxis);
+    }
+
+    /**
+     * Returns a single component of a single face normal.
+     *
+     * @param paramFace <code>int</code> face index
+     * @param paramAxis <code>int</code> 0, 1, or 2 for x, y, or z
+     * @return <code>float</code>
+     */
+    private float getFaceNormal(int paramFace, int paramAxis) {
+      return this.faceNormals.get(paramFace * PolyhedronMesh.COMPONENTS + paramAxis);
+    }
+
+    /**
+     * Returns the position in the face index list of the first vertex of the given face.
+     *
+     * @param paramFace <code>int</code> face index
+     * @return <code>int</code>
+     */
+    private int getFaceStart(int paramFace) {
+      return this.faceOffsets.get(paramFace);
+    }
+
+    /**
+     * Returns the position in the face index list one past the last vertex of the given face.
+     *
+     * @param paramFace <code>int</code> face index
+     * @return <code>int</code>
+     */
+    private int getFaceEnd(int paramFace) {
+      return this.faceOffsets.get(paramFace + 1);
+    }
+
+    /**
+     * Returns the vertex index stored at the given position of the face index list.
+     *
+     * @param paramIndex <code>int</code> position within the face index list
+     * @return <code>int</code>
+     */
+    private int getFaceIndex(int paramIndex) {
+      return this.faceIndices.get(paramIndex);
+    }
+
+    // Utility methods
+
+    /**
+     * This method builds a new mesh holding the given number of copies of this one, one after the
+     * other in each buffer, with each copy's face indices shifted to refer to its own vertices.
+     * The copies coincide exactly, so drawing the result costs as many calls and as much vertex
+     * work as drawing that many shapes, without changing what the scene looks like. It exists so
+     * that <code>FourLights.ScenePaths</code> may vary the mesh size.
+     *
+     * @param paramCopies <code>int</code>
+     * @return <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh repeat(int paramCopies) {
+
+      // Declarations
+      final FloatBuffer newPositions, newNormals;
+      final IntBuffer newOffsets, newIndices;
+
+      // Definitions
+      newPositions = PolyhedronMesh.newFloatBuffer(this.getVertexCount()
+        * PolyhedronMesh.COMPONENTS * paramCopies);
+      newNormals = PolyhedronMesh.newFloatBuffer(this.getFaceCount() * PolyhedronMesh.COMPONENTS
+        * paramCopies);
+      newOffsets = PolyhedronMesh.newIntBuffer(this.getFaceCount() * paramCopies + 1);
+      newIndices = PolyhedronMesh.newIntBuffer(this.getIndexCount() * paramCopies);
+
+      newOffsets.put(0);
+      for (int copy = 0; copy < paramCopies; copy++) {
+        for (int i = 0; i < this.getVertexCount(); i++) {
+          for (int axis = 0; axis < PolyhedronMesh.COMPONENTS; axis++) {
+            newPositions.put(this.getPosition(i, axis));
+          }
+        }
+        for (int i = 0; i < this.getFaceCount(); i++) {
+          for (int axis = 0; axis < PolyhedronMesh.COMPONENTS; axis++) {
+            newNormals.put(this.getFaceNormal(i, axis));
+          }
+          newOffsets.put(copy * this.getIndexCount() + this.getFaceEnd(i));
+        }
+        for (int i = 0; i < this.getIndexCount(); i++) {
+          newIndices.put(copy * this.getVertexCount() + this.getFaceIndex(i));
+        }
+      }
+
+      return new PolyhedronMesh(PolyhedronMesh.rewind(newPositions),
+        PolyhedronMesh.rewind(newNormals), PolyhedronMesh.rewind(newOffsets),
+        PolyhedronMesh.rewind(newIndices));
+    }
+
+    /**
+     * This static factory method flattens the nested array representation used by
+     * <code>FourLights.TruncatedIcosahedron</code> (and by the original
+     * <code>Polyhedron.java</code> template file) into a new mesh. It is intended to be run once
+     * per shape, never per frame.
+     *
+     * @param paramVertices <code>double[][]</code> vertex coordinates
+     * @param paramFaces <code>int[][]</code> per-face vertex index lists
+     * @param paramNormals <code>double[][]</code> per-face normals
+     * @return <code>PolyhedronMesh</code>
+     */
+    private static PolyhedronMesh fromPolygons(double[][] paramVertices, int[][] paramFaces,
+        double[][] paramNormals) {
+
+      // Declarations
+      int indexTotal;
+      final FloatBuffer newPositions, newNormals;
+      final IntBuffer newOffsets, newIndices;
+
+      // Definitions
+      indexTotal = 0;
+      for (int[] face : paramFaces) {
+        indexTotal += face.length;
+      }
+      newPositions = PolyhedronMesh.newFloatBuffer(paramVertices.length
+        * PolyhedronMesh.COMPONENTS);
+      newNormals = PolyhedronMesh.newFloatBuffer(paramFaces.length * PolyhedronMesh.COMPONENTS);
+      newOffsets = PolyhedronMesh.newIntBuffer(paramFaces.length + 1);
+      newIndices = PolyhedronMesh.newIntBuffer(indexTotal);
+
+      // Flatten vertex coordinates
+      for (double[] vertex : paramVertices) {
+        newPositions.put((float) vertex[0]).put((float) vertex[1]).put((float) vertex[2]);
+      }
+
+      // Flatten faces and their normals
+      newOffsets.put(0);
+      for (int i = 0; i < paramFaces.length; i++) {
+        newIndices.put(paramFaces[i]);
+        newOffsets.put(newIndices.position());
+        newNormals.put((float) paramNormals[i][0]).put((float) paramNormals[i][1])
+          .put((float) paramNormals[i][2]);
+      }
+
+      return new PolyhedronMesh(PolyhedronMesh.rewind(newPositions),
+        PolyhedronMesh.rewind(newNormals), PolyhedronMesh.rewind(newOffsets),
+        PolyhedronMesh.rewind(newIndices));
+    }
+
+    /**
+     * This static factory method builds a new mesh of triangles from the raw arrays of
+     * <code>FourLights.GeodesicMesh</code>, deriving each face normal as GLUT does for its solids,
+     * from the cross product of <code>v0 - v1</code> and <code>v1 - v2</code>.
+     *
+     * @param paramPositions <code>float[]</code> three coordinates per vertex
+     * @param paramVertexCount <code>int</code> number of vertices in use
+     * @param paramTriangles <code>int[]</code> three vertex indices per triangle
+     * @param paramTriangleCount <code>int</code> number of triangles in use
+     * @return <code>PolyhedronMesh</code>
+     */
+    private static PolyhedronMesh fromTriangles(float[] paramPositions, int paramVertexCount,
+        int[] paramTriangles, int paramTriangleCount) {
+
+      // Declarations
+      final FloatBuffer newPositions, newNormals;
+      final IntBuffer newOffsets, newIndices;
+      final float[] first, second;
+      float x, y, z, length;
+      int a, b, c;
+
+      // Definitions
+      newPositions = PolyhedronMesh.newFloatBuffer(paramVertexCount * PolyhedronMesh.COMPONENTS);
+      newNormals = PolyhedronMesh.newFloatBuffer(paramTriangleCount * PolyhedronMesh.COMPONENTS);
+      newOffsets = PolyhedronMesh.newIntBuffer(paramTriangleCount + 1);
+      newIndices = PolyhedronMesh.newIntBuffer(paramTriangleCount * 3);
+      first = new float[PolyhedronMesh.COMPONENTS];
+      second = new float[PolyhedronMesh.COMPONENTS];
+
+      newPositions.put(paramPositions, 0, paramVertexCount * PolyhedronMesh.COMPONENTS);
+      newIndices.put(paramTriangles, 0, paramTriangleCount * 3);
+
+      newOffsets.put(0);
+      for (int i = 0; i < paramTriangleCount; i++) {
+        a = paramTriangles[i * 3] * PolyhedronMesh.COMPONENTS;
+        b = paramTriangles[i * 3 + 1] * PolyhedronMesh.COMPONENTS;
+        c = paramTriangles[i * 3 + 2] * PolyhedronMesh.COMPONENTS;
+        for (int axis = 0; axis < PolyhedronMesh.COMPONENTS; axis++) {
+          first[axis] = paramPositions[a + axis] - paramPositions[b + axis];
+          second[axis] = paramPositions[b + axis] - paramPositions[c + axis];
+        }
+        x = first[1] * second[2] - first[2] * second[1];
+        y = first[2] * second[0] - first[0] * second[2];
+        z = first[0] * second[1] - first[1] * second[0];
+        length = (float) Math.sqrt(x * x + y * y + z * z);
+        newNormals.put(x / length).put(y / length).put(z / length);
+        newOffsets.put((i + 1) * 3);
+      }
+
+      return new PolyhedronMesh(PolyhedronMesh.rewind(newPositions),
+        PolyhedronMesh.rewind(newNormals), PolyhedronMesh.rewind(newOffsets),
+        PolyhedronMesh.rewind(newIndices));
+    }
+
+    /**
+     * Allocates a native-order direct <code>FloatBuffer</code> suitable for handing to OpenGL.
+     *
+     * @param paramLength <code>int</code> number of <code>float</code> elements
+     * @return <code>FloatBuffer</code>
+     */
+    private static FloatBuffer newFloatBuffer(int paramLength) {
+      return ByteBuffer.allocateDirect(paramLength * Float.BYTES).order(ByteOrder.nativeOrder())
+        .asFloatBuffer();
+    }
+
+    /**
+     * Returns the distance from the origin to the farthest of the passed vertex coordinates, for
+     * the bounding spheres of <code>FourLights.SceneNode</code>.
+     *
+     * @param paramPositions <code>FloatBuffer</code> three coordinates per vertex
+     * @return <code>float</code>
+     */
+    private static float boundingRadiusOf(FloatBuffer paramPositions) {
+
+      // Declarations
+      float x, y, z, farthest;
+
+      // Definition
+      farthest = 0;
+
+      for (int i = 0; i + 2 < paramPositions.capacity(); i += PolyhedronMesh.COMPONENTS) {
+        x = paramPositions.get(i);
+        y = paramPositions.get(i + 1);
+        z = paramPositions.get(i + 2);
+        farthest = Math.max(farthest, x * x + y * y + z * z);
+      }
+      return (float) Math.sqrt(farthest);
+    }
+
+    /**
+     * Allocates a native-order direct <code>IntBuffer</code> suitable for handing to OpenGL.
+     *
+     * @param paramLength <code>int</code> number of <code>int</code> elements
+     * @return <code>IntBuffer</code>
+     */
+    private static IntBuffer newIntBuffer(int paramLength) {
+      return ByteBuffer.allocateDirect(paramLength * Integer.BYTES).order(ByteOrder.nativeOrder())
+        .asIntBuffer();
+    }
+
+    /**
+     * Small helper returning the passed buffer after rewinding it for reading from zero.
+     *
+     * @param paramBuffer <code>FloatBuffer</code>
+     * @return <code>FloatBuffer</code>
+     */
+    private static FloatBuffer rewind(FloatBuffer paramBuffer) {
+      paramBuffer.rewind();
+      return paramBuffer;
+    }
+
+    /**
+     * Small helper returning the passed buffer after rewinding it for reading from zero.
+     *
+     * @param paramBuffer <code>IntBuffer</code>
+     * @return <code>IntBuffer</code>
+     */
+    private static IntBuffer rewind(IntBuffer paramBuffer) {
+      paramBuffer.rewind();
+      return paramBuffer;
+    }
+  }
+
+  /**
+   * This static class generates the normals of a whole <code>FourLights.PolyhedronMesh</code> at
+   * once, both a unit normal per face and an area-weighted unit normal per vertex, rather than a
+   * face at a time as <code>FourLights.SceneGLEventListener#calculateNormal</code> does. The face
+   * normals follow the same Newell method, which for a polygon of any shape comes to the sum of
+   * the cross products of the triangles fanned out from its first vertex; each vertex normal is
+   * the sum of the unnormalized normals of the faces around it, whose lengths are twice their
+   * areas, such that larger faces weigh more.
+   * <br />
+   * <br />
+   * The mesh is copied on construction into a structure of arrays, with separate arrays for each
+   * coordinate and for each corner of the fanned triangles, along with a list of the faces
+   * around each vertex. <code>compute</code> then works in three passes, over the triangles, the
+   * faces, and the vertices, each split into ranges by a <code>RecursiveAction</code> across the
+   * passed <code>ForkJoinPool</code>, or run on the calling thread if none is passed. As every
+   * pass writes only the elements of its own range, gathering from the previous pass rather than
+   * scattering into the next, the ranges need no locking, and the results are the same to the
+   * bit however many threads there are. The triangle pass gathers its corners a block at a time
+   * into contiguous edge arrays, so that the cross products, like the normalizing loops of the
+   * other two passes, run over plain arrays with no indirection, which the JIT compiler turns
+   * into SIMD instructions of its own accord. The incubating Vector API would make that explicit,
+   * but would require every build and launch to add its module, which a single-file program run
+   * as is cannot ask for.
+   *
+   * @see FourLights.SceneGLEventListener#calculateNormal
+   * @see FourLights.ScenePaths
+   * @author Andrew Eissen
+   */
+  private final static class MeshNormals {
+
+    /** Triangles gathered into the edge arrays at a time, small enough to stay in cache */
+    private final static int BLOCK = 1024;
+
+    /** Largest range of triangles, faces, or vertices not split any further between threads */
+    private final static int GRAIN = 16384;
+
+    /** Pass over the triangles, working out their cross products */
+    private final static int TRIANGLE_PASS = 0;
+
+    /** Pass over the faces, summing and normalizing their triangles' cross products */
+    private final static int FACE_PASS = 1;
+
+    /** Pass over the vertices, summing and normalizing their faces' normals */
+    private final static int VERTEX_PASS = 2;
+
+    // Class fields
+    private final int vertexCount, faceCount, triangleCount;
+    private final float[] x, y, z;
+    private final int[] cornerA, cornerB, cornerC, faceTriangles, vertexFaceOffsets, vertexFaces;
+    private final float[] crossX, crossY, crossZ, areaX, areaY, areaZ;
+    private final float[] faceX, faceY, faceZ, vertexX, vertexY, vertexZ;
+
+    /**
+     * Parameterized constructor, copying the passed mesh into the arrays described above
+     *
+     * @param mesh <code>PolyhedronMesh</code>
+     */
+    private MeshNormals(PolyhedronMesh mesh) {
+
+      // Declarations
+      int triangle, faceStart, vertex;
+      final int[] cursor;
+
+      // Definitions
+      this.vertexCount = mesh.getVertexCount();
+      this.faceCount = mesh.getFaceCount();
+      this.triangleCount = mesh.getTriangleCount();
+      this.x = new float[this.vertexCount];
+      this.y = new float[this.vertexCount];
+      this.z = new float[this.vertexCount];
+      this.cornerA = new int[this.triangleCount];
+      this.cornerB = new int[this.triangleCount];
+      this.cornerC = new int[this.triangleCount];
+      this.faceTriangles = new int[this.faceCount + 1];
+      this.vertexFaceOffsets = new int[this.vertexCount + 1];
+      this.vertexFaces = new int[mesh.getIndexCount()];
+      this.crossX = new float[this.triangleCount];
+      this.crossY = new float[this.triangleCount];
+      this.crossZ = new float[this.triangleCount];
+      this.areaX = new float[this.faceCount];
+      this.areaY = new float[this.faceCount];
+      this.areaZ = new float[this.faceCount];
+      this.faceX = new float[this.faceCount];
+      this.faceY = new float[this.faceCount];
+      this.faceZ = new float[this.faceCount];
+      this.vertexX = new float[this.vertexCount];
+      this.vertexY = new float[this.vertexCount];
+      this.vertexZ = new float[this.vertexCount];
+      cursor = new int[this.vertexCount];
+
+      for (int i = 0; i < this.vertexCount; i++) {
+        this.x[i] = mesh.getPosition(i, 0);
+        this.y[i] = mesh.getPosition(i, 1);
+        this.z[i] = mesh.getPosition(i, 2);
+      }
+
+      // Each face fanned out from its first vertex, and counted against each of its vertices
+      triangle = 0;
+      for (int i = 0; i < this.faceCount; i++) {
+        faceStart = mesh.getFaceStart(i);
+        this.faceTriangles[i] = triangle;
+        for (int j = faceStart + 1; j + 1 < mesh.getFaceEnd(i); j++) {
+          this.cornerA[triangle] = mesh.getFaceIndex(faceStart);
+          this.cornerB[triangle] = mesh.getFaceIndex(j);
+          this.cornerC[triangle] = mesh.getFaceIndex(j + 1);
+          triangle++;
+        }
+        for (int j = faceStart; j < mesh.getFaceEnd(i); j++) {
+          this.vertexFaceOffsets[mesh.getFaceIndex(j) + 1]++;
+        }
+      }
+      this.faceTriangles[this.faceCount] = triangle;
+
+      // The faces around each vertex, listed one vertex after another
+      for (int i = 0; i < this.vertexCount; i++) {
+        this.vertexFaceOffsets[i + 1] += this.vertexFaceOffsets[i];
+        cursor[i] = this.vertexFaceOffsets[i];
+      }
+      for (int i = 0; i < this.faceCount; i++) {
+        for (int j = mesh.getFaceStart(i); j < mesh.getFaceEnd(i); j++) {
+          vertex = mesh.getFaceIndex(j);
+          this.vertexFaces[cursor[vertex]++] = i;
+        }
+      }
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>MeshNormals.vertexCount</code>
+     *
+     * @return vertexCount <code>int</code>
+     */
+    private int getVertexCount() {
+      return this.vertexCount;
+    }
+
+    /**
+     * Getter for <code>MeshNormals.faceCount</code>
+     *
+     * @return faceCount <code>int</code>
+     */
+    private int getFaceCount() {
+      return this.faceCount;
+    }
+
+    /**
+     * Returns a single component of a single unit face normal, as of the last
+     * <code>compute</code>.
+     *
+     * @param paramFace <code>int</code> face index
+     * @param paramAxis <code>int</code> 0, 1, or 2 for x, y, or z
+     * @return <code>float</code>
+     */
+    private float getFaceNormal(int paramFace, int paramAxis) {
+      switch (paramAxis) {
+        case 0:
+          return this.faceX[paramFace];
+        case 1:
+          return this.faceY[paramFace];
+        default:
+          return this.faceZ[paramFace];
+      }
+    }
+
+    /**
+     * Returns a single component of a single unit vertex normal, as of the last
+     * <code>compute</code>.
+     *
+     * @param paramVertex <code>int</code> vertex index
+     * @param paramAxis <code>int</code> 0, 1, or 2 for x, y, or z
+     * @return <code>float</code>
+     */
+    private float getVertexNormal(int paramVertex, int paramAxis) {
+      switch (paramAxis) {
+        case 0:
+          return this.vertexX[paramVertex];
+        case 1:
+          return this.vertexY[paramVertex];
+        default:
+          return this.vertexZ[paramVertex];
+      }
+    }
+
+    // Utility methods
+
+    /**
+     * Works out every face and vertex normal, splitting each pass across the passed pool.
+     *
+     * @param paramPool <code>ForkJoinPool</code>, or <code>null</code> to run on this thread
+     * @return void
+     */
+    private void compute(ForkJoinPool paramPool) {
+      this.run(paramPool, MeshNormals.TRIANGLE_PASS, this.triangleCount);
+      this.run(paramPool, MeshNormals.FACE_PASS, this.faceCount);
+      this.run(paramPool, MeshNormals.VERTEX_PASS, this.vertexCount);
+    }
+
+    /**
+     * Runs the given pass over the given number of elements, across the passed pool if any.
+     *
+     * @param paramPool <code>ForkJoinPool</code>, or <code>null</code>
+     * @param paramPass <code>int</code>
+     * @param paramCount <code>int</code>
+     * @return void
+     */
+    private void run(ForkJoinPool paramPool, int paramPass, int paramCount) {
+      if (paramPool == null) {
+        this.runRange(paramPass, 0, paramCount);
+      } else {
+        paramPool.invoke(new PassTask(this, paramPass, 0, paramCount));
+      }
+    }
+
+    /**
+     * Runs the given pass over the given range of elements on this thread.
+     *
+     * @param paramPass <code>int</code>
+     * @param paramFirst <code>int</code>
+     * @param paramLast <code>int</code> element following the last of the range
+     * @return void
+     */
+    private void runRange(int paramPass, int paramFirst, int paramLast) {
+      switch (paramPass) {
+        case MeshNormals.TRIANGLE_PASS:
+          this.crossTriangles(paramFirst, paramLast);
+          break;
+        case MeshNormals.FACE_PASS:
+          this.sumFaces(paramFirst, paramLast);
+          MeshNormals.normalize(this.areaX, this.areaY, this.areaZ, this.faceX, this.faceY,
+            this.faceZ, paramFirst, paramLast);
+          break;
+        default:
+          this.sumVertices(paramFirst, paramLast);
+          MeshNormals.normalize(this.vertexX, this.vertexY, this.vertexZ, this.vertexX,
+            this.vertexY, this.vertexZ, paramFirst, paramLast);
+          break;
+      }
+    }
+
+    /**
+     * Works out the cross product of the two edges leaving the first corner of each triangle of
+     * the range, a block at a time: the edges are first gathered through the corner indices into
+     * six contiguous arrays, and the cross products then taken in a loop over those alone.
+     *
+     * @param paramFirst <code>int</code>
+     * @param paramLast <code>int</code>
+     * @return void
+     */
+    private void crossTriangles(int paramFirst, int paramLast) {
+
+      // Declarations
+      final float[] ux, uy, uz, vx, vy, vz;
+      int a, b, c, length;
+
+      // Definitions
+      ux = new float[MeshNormals.BLOCK];
+      uy = new float[MeshNormals.BLOCK];
+      uz = new float[MeshNormals.BLOCK];
+      vx = new float[MeshNormals.BLOCK];
+      vy = new float[MeshNormals.BLOCK];
+      vz = new float[MeshNormals.BLOCK];
+
+      for (int start = paramFirst; start < paramLast; start += MeshNormals.BLOCK) {
+        length = Math.min(MeshNormals.BLOCK, paramLast - start);
+
+        // Gather
+        for (int i = 0; i < length; i++) {
+          a = this.cornerA[start + i];
+          b = this.cornerB[start + i];
+          c = this.cornerC[start + i];
+          ux[i] = this.x[b] - this.x[a];
+          uy[i] = this.y[b] - this.y[a];
+          uz[i] = this.z[b] - this.z[a];
+          vx[i] = this.x[c] - this.x[a];
+          vy[i] = this.y[c] - this.y[a];
+          vz[i] = this.z[c] - this.z[a];
+        }
+
+        // Cross, over contiguous arrays only
+        for (int i = 0; i < length; i++) {
+          this.crossX[start + i] = uy[i] * vz[i] - uz[i] * vy[i];
+          this.crossY[start + i] = uz[i] * vx[i] - ux[i] * vz[i];
+          this.crossZ[start + i] = ux[i] * vy[i] - uy[i] * vx[i];
+        }
+      }
+    }
+
+    /**
+     * Sums the cross products of each face's triangles into its unnormalized normal.
+     *
+     * @param paramFirst <code>int</code>
+     * @param paramLast <code>int</code>
+     * @return void
+     */
+    private void sumFaces(int paramFirst, int paramLast) {
+
+      // Declarations
+      float sumX, sumY, sumZ;
+
+      for (int i = paramFirst; i < paramLast; i++) {
+        sumX = sumY = sumZ = 0;
+        for (int j = this.faceTriangles[i]; j < this.faceTriangles[i + 1]; j++) {
+          sumX += this.crossX[j];
+          sumY += this.crossY[j];
+          sumZ += this.crossZ[j];
+        }
+        this.areaX[i] = sumX;
+        this.areaY[i] = sumY;
+        this.areaZ[i] = sumZ;
+      }
+    }
+
+    /**
+     * Sums the unnormalized normals of the faces around each vertex.
+     *
+     * @param paramFirst <code>int</code>
+     * @param paramLast <code>int</code>
+     * @return void
+     */
+    private void sumVertices(int paramFirst, int paramLast) {
+
+      // Declarations
+      float sumX, sumY, sumZ;
+      int face;
+
+      for (int i = paramFirst; i < paramLast; i++) {
+        sumX = sumY = sumZ = 0;
+        for (int j = this.vertexFaceOffsets[i]; j < this.vertexFaceOffsets[i + 1]; j++) {
+          face = this.vertexFaces[j];
+          sumX += this.areaX[face];
+          sumY += this.areaY[face];
+          sumZ += this.areaZ[face];
+        }
+        this.vertexX[i] = sumX;
+        this.vertexY[i] = sumY;
+        this.vertexZ[i] = sumZ;
+      }
+    }
+
+    /**
+     * Writes the given range of vectors, scaled to unit length, to the output arrays, which may
+     * be the input arrays themselves. A vector of no length at all stays at zero.
+     *
+     * @param paramX <code>float[]</code>
+     * @param paramY <code>float[]</code>
+     * @param paramZ <code>float[]</code>
+     * @param paramOutX <code>float[]</code>
+     * @param paramOutY <code>float[]</code>
+     * @param paramOutZ <code>float[]</code>
+     * @param paramFirst <code>int</code>
+     * @param paramLast <code>int</code>
+     * @return void
+     */
+    private static void normalize(float[] paramX, float[] paramY, float[] paramZ,
+        float[] paramOutX, float[] paramOutY, float[] paramOutZ, int paramFirst, int paramLast) {
+
+      // Declaration
+      float scale;
+
+      for (int i = paramFirst; i < paramLast; i++) {
+        scale = 1 / Math.max(Float.MIN_NORMAL, (float) Math.sqrt(paramX[i] * paramX[i]
+          + paramY[i] * paramY[i] + paramZ[i] * paramZ[i]));
+        paramOutX[i] = paramX[i] * scale;
+        paramOutY[i] = paramY[i] * scale;
+        paramOutZ[i] = paramZ[i] * scale;
+      }
+    }
+
+    /**
+     * This class splits a range of one pass in half until no more than <code>GRAIN</code>
+     * elements remain, running each on whichever pool thread picks it up.
+     */
+    private final static class PassTask extends RecursiveAction {
+
+      /** Version of the serialized form, set to 1 */
+      private final static long serialVersionUID = 1L;
+
+      // Class fields
+      private final MeshNormals normals;
+      private final int pass, first, last;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramNormals <code>MeshNormals</code>
+       * @param paramPass <code>int</code>
+       * @param paramFirst <code>int</code> first element of the range
+       * @param paramLast <code>int</code> element following the last of the range
+       */
+      private PassTask(MeshNormals paramNormals, int paramPass, int paramFirst, int paramLast) {
+        this.normals = paramNormals;
+        this.pass = paramPass;
+        this.first = paramFirst;
+        this.last = paramLast;
+      }
+
+      /**
+       * Runs the range directly if it is small enough, and otherwise forks both halves.
+       *
+       * @see java.util.concurrent.RecursiveAction#compute
+       * @return void
+       */
+      @Override
+      protected void compute() {
+
+        // Declaration
+        final int middle;
+
+        // Definition
+        middle = (this.first + this.last) >>> 1;
+
+        if (this.last - this.first <= MeshNormals.GRAIN) {
+          this.normals.runRange(this.pass, this.first, this.last);
+        } else {
+          ForkJoinTask.invokeAll(new PassTask(this.normals, this.pass, this.first, middle),
+            new PassTask(this.normals, this.pass, middle, this.last));
+        }
+      }
+    }
+  }
+
+  /**
+   * This static class loads a <code>FourLights.PolyhedronMesh</code> from a file in place of the
+   * literal arrays of <code>FourLights.TruncatedIcosahedron</code>, so that the scene may draw
+   * large scanned meshes through the same paths as the original shape. ASCII Wavefront OBJ files
+   * and binary, little- or big-endian, PLY files are read, by extension. The file is never read
+   * through a stream nor split into <code>String</code> lines; instead, each task of a
+   * <code>ForkJoinPool</code> maps its own stretch of the file with <code>FileChannel#map</code>,
+   * which also keeps every mapping below the two gigabyte limit of a single buffer however large
+   * the file, and parses the bytes in place, writing straight into the native-order direct
+   * buffers the mesh, and from it the retained renderer, then uses as they are.
+   * <br />
+   * <br />
+   * An OBJ file is cut into chunks of <code>CHUNK_BYTES</code>, each owning the lines that start
+   * within it. A first pass counts the vertices, faces, and face corners of each chunk, from
+   * which every chunk learns where in the buffers its own belong, and a second parses them there,
+   * resolving the relative indices OBJ allows against the vertices before the line. Texture
+   * coordinates, vertex normals, groups, and materials are skipped. A PLY file states its counts
+   * in its header, so its vertices, of fixed size, are split into blocks straightaway; its faces,
+   * each led by its own corner count, are first walked once on the calling thread for their
+   * offsets, which is all the faces' lengths need, and then parsed in blocks. Scalar face
+   * properties such as colors, of sizes known from the header, are stepped over, as are any
+   * elements declared after the faces. Either format is refused, before its buffers are allocated,
+   * once its counts would overflow the direct buffers.
+   * <br />
+   * <br />
+   * The face normals are then worked out by the Newell method of
+   * <code>FourLights.SceneGLEventListener#calculateNormal</code>, and the mesh moved to the center
+   * of its bounding box and scaled such that its farthest vertex lies on the unit sphere, as the
+   * truncated icosahedron all but does, so that the scale of the scene and the placement of its
+   * lights suit it. The throughput and the
+   * peak heap use of the load are printed on completion; the mesh itself lives outside the heap,
+   * in direct buffers, whose size is printed alongside.
+   *
+   * @see FourLights.PolyhedronMesh
+   * @author Andrew Eissen
+   */
+  private final static class MeshLoader {
+
+    /** Bytes of an OBJ file owned by a single chunk, set to 16 MB */
+    private final static int CHUNK_BYTES = 1 << 24;
+
+    /** Longest line of an OBJ file, or header of a PLY file, accepted, set to 64 KB */
+    private final static int MAX_LINE = 1 << 16;
+
+    /** Vertices or faces handled by a single task of the element passes */
+    private final static int BLOCK = 1 << 18;
+
+    /** Pass counting the vertices, faces, and corners of each OBJ chunk */
+    private final static int OBJ_COUNT = 0;
+
+    /** Pass parsing each OBJ chunk into the buffers */
+    private final static int OBJ_PARSE = 1;
+
+    /** Pass parsing each block of PLY vertices into the buffers */
+    private final static int PLY_VERTICES = 2;
+
+    /** Pass parsing each block of PLY faces into the buffers */
+    private final static int PLY_FACES = 3;
+
+    /** Pass working out the normal of each face of a block */
+    private final static int FACE_NORMALS = 4;
+
+    /** Pass finding the vertex of a block farthest from the center of the bounding box */
+    private final static int RADIUS = 5;
+
+    /** Pass moving and scaling each vertex of a block into the unit sphere */
+    private final static int FIT = 6;
+
+    /** Names of the PLY scalar types, the index modulo 8 giving the type's code */
+    private final static String[] PLY_TYPES = {"char", "uchar", "short", "ushort", "int", "uint",
+      "float", "double", "int8", "uint8", "int16", "uint16", "int32", "uint32", "float32",
+      "float64"};
+
+    /** Sizes in bytes of the PLY scalar types, by code */
+    private final static int[] PLY_SIZES = {1, 1, 2, 2, 4, 4, 4, 8};
+
+    /** Exact powers of ten, by exponent, for the parsing of decimal numbers */
+    private final static double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+      1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    // Class fields
+    private final String path;
+    private final FileChannel channel;
+    private final long size;
+    private int vertexCount, faceCount, indexCount;
+    private FloatBuffer positions, faceNormals;
+    private IntBuffer faceOffsets, faceIndices;
+    private int[] chunkVertices, chunkFaces, chunkIndices;
+    private float[] unitBounds, blockRadii;
+    private final float[] center;
+    private float scale;
+    private ByteOrder plyOrder;
+    private long plyVertexStart, plyFaceStart;
+    private int plyStride, plyCoordinateType, plyCountType, plyIndexType, plyFaceLead,
+      plyFaceScalars;
+    private final int[] plyCoordinateOffsets;
+
+    /**
+     * Parameterized constructor, opening the file for mapping
+     *
+     * @param path <code>String</code>
+     * @param channel <code>FileChannel</code>
+     * @throws IOException should the size not be read
+     */
+    private MeshLoader(String path, FileChannel channel) throws IOException {
+      this.path = path;
+      this.channel = channel;
+      this.size = channel.size();
+      this.center = new float[3];
+      this.plyCoordinateOffsets = new int[3];
+    }
+
+    // Utility methods
+
+    /**
+     * Loads the mesh held by the file at the given path, across a pool of the given number of
+     * threads, and prints how long it took and how much memory it used.
+     *
+     * @param paramPath <code>String</code>
+     * @param paramThreads <code>int</code>
+     * @return <code>PolyhedronMesh</code>
+     */
+    private static PolyhedronMesh load(String paramPath, int paramThreads) {
+
+      // Declarations
+      final ForkJoinPool pool;
+      final PolyhedronMesh mesh;
+      final long startNanos, nanos;
+      MeshLoader loader;
+
+      // Definitions
+      pool = new ForkJoinPool(paramThreads);
+      for (java.lang.management.MemoryPoolMXBean memoryPool
+          : ManagementFactory.getMemoryPoolMXBeans()) {
+        memoryPool.resetPeakUsage();
+      }
+      startNanos = System.nanoTime();
+
+      try (FileChannel channel = FileChannel.open(Paths.get(paramPath),
+          java.nio.file.StandardOpenOption.READ)) {
+        loader = new MeshLoader(paramPath, channel);
+        if (loader.size == 0) {
+          throw new IllegalArgumentException("Mesh file is empty: " + paramPath);
+        }
+        if (paramPath.toLowerCase().endsWith(".ply")) {
+          loader.loadPly(pool);
+        } else if (paramPath.toLowerCase().endsWith(".obj")) {
+          loader.loadObj(pool);
+        } else {
+          throw new IllegalArgumentException("Expected an .obj or .ply mesh file: " + paramPath);
+        }
+        loader.finish(pool);
+        mesh = new PolyhedronMesh(loader.positions, loader.faceNormals, loader.faceOffsets,
+          loader.faceIndices);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read mesh from " + paramPath, e);
+      } finally {
+        pool.shutdown();
+      }
+
+      nanos = System.nanoTime() - startNanos;
+      System.out.println(loader.describe(nanos));
+      return mesh;
+    }
+
+    /**
+     * Loads an OBJ file in the two passes described above.
+     *
+     * @param paramPool <code>ForkJoinPool</code>
+     * @return void
+     */
+    private void loadObj(ForkJoinPool paramPool) {
+
+      // Declarations
+      final int chunks;
+      long vertices, faces, indices;
+      int count;
+
+      // Definitions
+      chunks = (int) ((this.size + MeshLoader.CHUNK_BYTES - 1) / MeshLoader.CHUNK_BYTES);
+      this.chunkVertices = new int[chunks];
+      this.chunkFaces = new int[chunks];
+      this.chunkIndices = new int[chunks];
+      this.unitBounds = MeshLoader.emptyBounds(chunks);
+
+      paramPool.invoke(new LoadTask(this, MeshLoader.OBJ_COUNT, 0, chunks));
+
+      // Each chunk's counts become where its elements start
+      vertices = faces = indices = 0;
+      for (int i = 0; i < chunks; i++) {
+        count = this.chunkVertices[i];
+        this.chunkVertices[i] = (int) vertices;
+        vertices += count;
+        count = this.chunkFaces[i];
+        this.chunkFaces[i] = (int) faces;
+        faces += count;
+        count = this.chunkIndices[i];
+        this.chunkIndices[i] = (int) indices;
+        indices += count;
+      }
+      this.allocate(vertices, faces, indices);
+      this.faceOffsets.put(0, 0);
+
+      paramPool.invoke(new LoadTask(this, MeshLoader.OBJ_PARSE, 0, chunks));
+    }
+
+    /**
+     * Loads a binary PLY file, reading its header, walking its faces for their offsets, and
+     * parsing its vertices and faces in blocks.
+     *
+     * @param paramPool <code>ForkJoinPool</code>
+     * @return void
+     * @throws IOException should the file not be mapped
+     */
+    private void loadPly(ForkJoinPool paramPool) throws IOException {
+
+      // Declarations
+      final int countSize, indexSize;
+      long position, indices;
+      int count;
+      ByteBuffer window;
+      long windowStart;
+
+      // Definitions
+      this.readPlyHeader();
+      countSize = MeshLoader.PLY_SIZES[this.plyCountType];
+      indexSize = MeshLoader.PLY_SIZES[this.plyIndexType];
+      this.faceOffsets = PolyhedronMesh.newIntBuffer(this.faceCount + 1);
+
+      // Each face's corner count, in order, gives where the next face starts
+      position = this.plyFaceStart;
+      windowStart = position;
+      window = this.map(windowStart, windowStart + Integer.MAX_VALUE);
+      indices = 0;
+      this.faceOffsets.put(0, 0);
+      for (int i = 0; i < this.faceCount; i++) {
+        if (position + this.plyFaceLead + countSize > windowStart + window.limit()) {
+          windowStart = position;
+          window = this.map(windowStart, windowStart + Integer.MAX_VALUE);
+          if (window.limit() < this.plyFaceLead + countSize) {
+            throw new IllegalArgumentException("Faces run past the end of " + this.path);
+          }
+        }
+        count = (int) MeshLoader.readScalar(window,
+          (int) (position - windowStart) + this.plyFaceLead, this.plyCountType);
+        if (count < 3) {
+          throw new IllegalArgumentException("Face " + i + " has fewer than three vertices in "
+            + this.path);
+        }
+        indices += count;
+        this.checkSize(this.vertexCount, this.faceCount, indices);
+        this.faceOffsets.put(i + 1, (int) indices);
+        position += this.plyFaceScalars + countSize + (long) count * indexSize;
+      }
+      if (position > this.size) {
+        throw new IllegalArgumentException("Faces run past the end of " + this.path);
+      }
+
+      this.positions = PolyhedronMesh.newFloatBuffer(this.vertexCount * 3);
+      this.faceIndices = PolyhedronMesh.newIntBuffer((int) indices);
+      this.faceNormals = PolyhedronMesh.newFloatBuffer(this.faceCount * 3);
+      this.indexCount = (int) indices;
+      this.unitBounds = MeshLoader.emptyBounds(MeshLoader.blocks(this.vertexCount));
+
+      paramPool.invoke(new LoadTask(this, MeshLoader.PLY_VERTICES, 0,
+        MeshLoader.blocks(this.vertexCount)));
+      paramPool.invoke(new LoadTask(this, MeshLoader.PLY_FACES, 0,
+        MeshLoader.blocks(this.faceCount)));
+    }
+
+    /**
+     * Reads the header of a PLY file, which is plain text, finding where the vertices and faces
+     * start and how their properties are laid out.
+     *
+     * @return void
+     * @throws IOException should the file not be mapped
+     */
+    private void readPlyHeader() throws IOException {
+
+      // Declarations
+      final ByteBuffer header;
+      final byte[] bytes;
+      final String text;
+      final int headerEnd;
+      String element;
+      String[] words;
+      long elementStart, elementCount, elementStride;
+      int type;
+
+      // Definitions
+      header = this.map(0, MeshLoader.MAX_LINE);
+      bytes = new byte[header.limit()];
+      header.get(bytes);
+      text = new String(bytes, StandardCharsets.ISO_8859_1);
+      headerEnd = text.indexOf("end_header");
+      if (!text.startsWith("ply") || headerEnd < 0 || text.indexOf('\n', headerEnd) < 0) {
+        throw new IllegalArgumentException("Not a PLY file, or header too long: " + this.path);
+      }
+
+      element = null;
+      elementStart = text.indexOf('\n', headerEnd) + 1;
+      elementCount = elementStride = 0;
+      Arrays.fill(this.plyCoordinateOffsets, -1);
+      this.plyCoordinateType = this.plyCountType = -1;
+      this.plyFaceLead = this.plyFaceScalars = 0;
+
+      for (String line : text.substring(0, headerEnd).split("\r?\n")) {
+        words = line.trim().split("\\s+");
+        if ("format".equals(words[0])) {
+          if ("binary_little_endian".equals(words[1])) {
+            this.plyOrder = ByteOrder.LITTLE_ENDIAN;
+          } else if ("binary_big_endian".equals(words[1])) {
+            this.plyOrder = ByteOrder.BIG_ENDIAN;
+          } else {
+            throw new IllegalArgumentException("Only binary PLY files are supported: "
+              + this.path);
+          }
+        } else if ("element".equals(words[0]) && this.plyFaceStart != 0) {
+
+          // Elements after the faces are never reached, so need not be sized or read
+          element = words[1];
+        } else if ("element".equals(words[0])) {
+          elementStart += elementCount * elementStride;
+          element = words[1];
+          elementCount = MeshLoader.toCount(words[2], this.path);
+          elementStride = 0;
+          if ("vertex".equals(element)) {
+            this.checkSize(elementCount, 0, 0);
+            this.vertexCount = (int) elementCount;
+            this.plyVertexStart = elementStart;
+          } else if ("face".equals(element)) {
+            if (this.plyVertexStart == 0) {
+              throw new IllegalArgumentException("Faces before vertices are not supported: "
+                + this.path);
+            }
+            this.checkSize(this.vertexCount, elementCount, 0);
+            this.faceCount = (int) elementCount;
+            this.plyFaceStart = elementStart;
+          }
+        } else if ("property".equals(words[0]) && "face".equals(element)) {
+          if (!"list".equals(words[1])) {
+
+            // Scalars such as per-face colors are skipped, before or after the list
+            type = MeshLoader.typeOf(words[1], this.path);
+            this.plyFaceScalars += MeshLoader.PLY_SIZES[type];
+            if (this.plyCountType < 0) {
+              this.plyFaceLead += MeshLoader.PLY_SIZES[type];
+            }
+          } else if (this.plyCountType >= 0) {
+            throw new IllegalArgumentException("Faces must hold a single list of vertex "
+              + "indices: " + this.path);
+          } else {
+            this.plyCountType = MeshLoader.typeOf(words[2], this.path);
+            this.plyIndexType = MeshLoader.typeOf(words[3], this.path);
+          }
+        } else if ("property".equals(words[0]) && this.plyFaceStart != 0) {
+
+          // Properties of the elements after the faces are ignored, as above
+          continue;
+        } else if ("property".equals(words[0]) && element != null) {
+          if ("list".equals(words[1])) {
+            throw new IllegalArgumentException("Lists outside the faces are not supported: "
+              + this.path);
+          }
+          type = MeshLoader.typeOf(words[1], this.path);
+          if ("vertex".equals(element) && words[2].length() == 1
+              && words[2].charAt(0) >= 'x' && words[2].charAt(0) <= 'z') {
+            if (this.plyCoordinateType >= 0 && this.plyCoordinateType != type) {
+              throw new IllegalArgumentException("Coordinates of differing types: " + this.path);
+            }
+            this.plyCoordinateOffsets[words[2].charAt(0) - 'x'] = (int) elementStride;
+            this.plyCoordinateType = type;
+          }
+          elementStride += MeshLoader.PLY_SIZES[type];
+          if ("vertex".equals(element)) {
+            this.plyStride = (int) elementStride;
+          }
+        }
+      }
+
+      if (this.plyOrder == null || this.plyFaceStart == 0 || this.plyCountType < 0
+          || this.plyCoordinateOffsets[0] < 0 || this.plyCoordinateOffsets[1] < 0
+          || this.plyCoordinateOffsets[2] < 0
+          || PLY_TYPES[this.plyCoordinateType].charAt(0) != 'f'
+          && PLY_TYPES[this.plyCoordinateType].charAt(0) != 'd') {
+        throw new IllegalArgumentException("Expected binary vertices with x, y, and z of type "
+          + "float or double, and faces: " + this.path);
+      }
+    }
+
+    /**
+     * Refuses a mesh whose positions, face normals, or face indices would not fit a single direct
+     * buffer, whose size in bytes is an <code>int</code>, working in <code>long</code> so that
+     * counts of hundreds of millions do not overflow before they are checked.
+     *
+     * @param paramVertices <code>long</code>
+     * @param paramFaces <code>long</code>
+     * @param paramIndices <code>long</code>
+     * @return void
+     */
+    private void checkSize(long paramVertices, long paramFaces, long paramIndices) {
+      if (paramVertices * 3 > Integer.MAX_VALUE / Float.BYTES
+          || paramFaces * 3 > Integer.MAX_VALUE / Float.BYTES
+          || paramIndices > Integer.MAX_VALUE / Integer.BYTES) {
+        throw new IllegalArgumentException(String.format("Mesh too large for direct buffers, "
+          + "which hold at most %,d vertices, %,d faces, and %,d face vertices: %s",
+          Integer.MAX_VALUE / Float.BYTES / 3, Integer.MAX_VALUE / Float.BYTES / 3,
+          Integer.MAX_VALUE / Integer.BYTES, this.path));
+      }
+    }
+
+    /**
+     * Allocates the buffers of the mesh once the totals are known, refusing meshes too large for
+     * a single direct buffer.
+     *
+     * @param paramVertices <code>long</code>
+     * @param paramFaces <code>long</code>
+     * @param paramIndices <code>long</code>
+     * @return void
+     */
+    private void allocate(long paramVertices, long paramFaces, long paramIndices) {
+      this.checkSize(paramVertices, paramFaces, paramIndices);
+      this.vertexCount = (int) paramVertices;
+      this.faceCount = (int) paramFaces;
+      this.indexCount = (int) paramIndices;
+      this.positions = PolyhedronMesh.newFloatBuffer(this.vertexCount * 3);
+      this.faceNormals = PolyhedronMesh.newFloatBuffer(this.faceCount * 3);
+      this.faceOffsets = PolyhedronMesh.newIntBuffer(this.faceCount + 1);
+      this.faceIndices = PolyhedronMesh.newIntBuffer(this.indexCount);
+    }
+
+    /**
+     * Works out the face normals, checking every index on the way, then fits the parsed vertices
+     * into the unit sphere about the origin.
+     *
+     * @param paramPool <code>ForkJoinPool</code>
+     * @return void
+     */
+    private void finish(ForkJoinPool paramPool) {
+
+      // Declarations
+      final float[] bounds;
+      float radius;
+
+      // Definitions
+      if (this.vertexCount == 0 || this.faceCount == 0) {
+        throw new IllegalArgumentException("No faces found in " + this.path);
+      }
+      paramPool.invoke(new LoadTask(this, MeshLoader.FACE_NORMALS, 0,
+        MeshLoader.blocks(this.faceCount)));
+
+      bounds = MeshLoader.emptyBounds(1);
+      for (int i = 0; i < this.unitBounds.length; i += 6) {
+        for (int axis = 0; axis < 3; axis++) {
+          bounds[axis] = Math.min(bounds[axis], this.unitBounds[i + axis]);
+          bounds[axis + 3] = Math.max(bounds[axis + 3], this.unitBounds[i + axis + 3]);
+        }
+      }
+      for (int axis = 0; axis < 3; axis++) {
+        this.center[axis] = (bounds[axis] + bounds[axis + 3]) / 2;
+      }
+
+      this.blockRadii = new float[MeshLoader.blocks(this.vertexCount)];
+      paramPool.invoke(new LoadTask(this, MeshLoader.RADIUS, 0, this.blockRadii.length));
+      radius = 0;
+      for (float blockRadius : this.blockRadii) {
+        radius = Math.max(radius, blockRadius);
+      }
+      radius = (float) Math.sqrt(radius);
+      this.scale = (radius > 0) ? 1 / radius : 1;
+
+      paramPool.invoke(new LoadTask(this, MeshLoader.FIT, 0,
+        MeshLoader.blocks(this.vertexCount)));
+    }
+
+    /**
+     * Runs a single unit, a chunk of an OBJ file or a block of vertices or faces, of the given
+     * pass.
+     *
+     * @param paramPass <code>int</code>
+     * @param paramUnit <code>int</code>
+     * @return void
+     */
+    private void runUnit(int paramPass, int paramUnit) {
+      try {
+        switch (paramPass) {
+          case MeshLoader.OBJ_COUNT:
+          case MeshLoader.OBJ_PARSE:
+            this.readObjChunk(paramUnit, paramPass == MeshLoader.OBJ_PARSE);
+            break;
+          case MeshLoader.PLY_VERTICES:
+            this.readPlyVertices(paramUnit);
+            break;
+          case MeshLoader.PLY_FACES:
+            this.readPlyFaces(paramUnit);
+            break;
+          case MeshLoader.FACE_NORMALS:
+            this.calculateFaceNormals(paramUnit);
+            break;
+          case MeshLoader.RADIUS:
+            this.measureVertices(paramUnit);
+            break;
+          default:
+            this.fitVertices(paramUnit);
+            break;
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not map " + this.path, e);
+      }
+    }
+
+    /**
+     * Counts or parses the lines of an OBJ file starting within the given chunk. The chunk is
+     * mapped from the byte before it, to tell whether its first byte starts a line, to
+     * <code>MAX_LINE</code> bytes past it, to finish its last line.
+     *
+     * @param paramChunk <code>int</code>
+     * @param paramParse <code>boolean</code> <code>false</code> to only count the elements
+     * @return void
+     * @throws IOException should the chunk not be mapped
+     */
+    private void readObjChunk(int paramChunk, boolean paramParse) throws IOException {
+
+      // Declarations
+      final long start, end, mapStart;
+      final ObjCursor cursor;
+      final int owned, bounds;
+      int vertices, faces, indices, corners, index;
+      float value;
+      byte kind;
+
+      // Definitions
+      start = (long) paramChunk * MeshLoader.CHUNK_BYTES;
+      end = Math.min(this.size, start + MeshLoader.CHUNK_BYTES);
+      mapStart = (paramChunk == 0) ? 0 : start - 1;
+      cursor = new ObjCursor(this.map(mapStart, end + MeshLoader.MAX_LINE), mapStart,
+        end + MeshLoader.MAX_LINE >= this.size, this.path);
+      owned = (int) (end - mapStart);
+      bounds = paramChunk * 6;
+      vertices = faces = indices = 0;
+
+      // A line running on from the chunk before belongs to that chunk
+      if (paramChunk > 0 && cursor.getByte(0) != '\n') {
+        cursor.nextLine();
+      } else if (paramChunk > 0) {
+        cursor.setPosition(1);
+      }
+
+      while (cursor.getPosition() < owned) {
+        cursor.skipSpaces();
+        kind = cursor.isBlank(1) ? cursor.getByte(0) : 0;
+        if (kind == 'v' || kind == 'f') {
+          cursor.setPosition(cursor.getPosition() + 1);
+        }
+
+        if (kind == 'v' && paramParse) {
+          index = (this.chunkVertices[paramChunk] + vertices) * 3;
+          for (int axis = 0; axis < 3; axis++) {
+            cursor.skipSpaces();
+            value = (float) cursor.parseNumber();
+            this.positions.put(index + axis, value);
+            this.unitBounds[bounds + axis] = Math.min(this.unitBounds[bounds + axis], value);
+            this.unitBounds[bounds + axis + 3] = Math.max(this.unitBounds[bounds + axis + 3],
+              value);
+          }
+          vertices++;
+        } else if (kind == 'v') {
+          vertices++;
+        } else if (kind == 'f') {
+          corners = 0;
+          index = this.chunkIndices[paramChunk] + indices;
+          for (cursor.skipSpaces(); !cursor.isLineEnd(); cursor.skipSpaces()) {
+            if (paramParse) {
+              this.faceIndices.put(index + corners, cursor.parseIndex(
+                this.chunkVertices[paramChunk] + vertices));
+            }
+            cursor.skipToken();
+            corners++;
+          }
+          if (corners < 3) {
+            throw cursor.error("Face has fewer than three vertices");
+          }
+          indices += corners;
+          faces++;
+          if (paramParse) {
+            this.faceOffsets.put(this.chunkFaces[paramChunk] + faces, index + corners);
+          }
+        }
+        cursor.nextLine();
+      }
+
+      if (!paramParse) {
+        this.chunkVertices[paramChunk] = vertices;
+        this.chunkFaces[paramChunk] = faces;
+        this.chunkIndices[paramChunk] = indices;
+      }
+    }
+
+    /**
+     * Parses a block of the fixed-size vertices of a PLY file.
+     *
+     * @param paramBlock <code>int</code>
+     * @return void
+     * @throws IOException should the block not be mapped
+     */
+    private void readPlyVertices(int paramBlock) throws IOException {
+
+      // Declarations
+      final int first, last, bounds;
+      final ByteBuffer buffer;
+      float value;
+
+      // Definitions
+      first = paramBlock * MeshLoader.BLOCK;
+      last = Math.min(this.vertexCount, first + MeshLoader.BLOCK);
+      buffer = this.map(this.plyVertexStart + (long) first * this.plyStride,
+        this.plyVertexStart + (long) last * this.plyStride);
+      bounds = paramBlock * 6;
+      if (buffer.limit() < (last - first) * this.plyStride) {
+        throw new IllegalArgumentException("Elements run past the end of " + this.path);
+      }
+
+      for (int v = first; v < last; v++) {
+        for (int axis = 0; axis < 3; axis++) {
+          value = (float) MeshLoader.readScalar(buffer, (v - first) * this.plyStride
+            + this.plyCoordinateOffsets[axis], this.plyCoordinateType);
+          this.positions.put(v * 3 + axis, value);
+          this.unitBounds[bounds + axis] = Math.min(this.unitBounds[bounds + axis], value);
+          this.unitBounds[bounds + axis + 3] = Math.max(this.unitBounds[bounds + axis + 3], value);
+        }
+      }
+    }
+
+    /**
+     * Parses a block of the faces of a PLY file, whose positions in the file follow from the
+     * offsets walked beforehand.
+     *
+     * @param paramBlock <code>int</code>
+     * @return void
+     * @throws IOException should the block not be mapped
+     */
+    private void readPlyFaces(int paramBlock) throws IOException {
+
+      // Declarations
+      final int first, last, countSize, indexSize;
+      final long start;
+      final ByteBuffer buffer;
+      int position;
+
+      // Definitions
+      first = paramBlock * MeshLoader.BLOCK;
+      last = Math.min(this.faceCount, first + MeshLoader.BLOCK);
+      countSize = MeshLoader.PLY_SIZES[this.plyCountType];
+      indexSize = MeshLoader.PLY_SIZES[this.plyIndexType];
+      start = this.plyFaceStart + (long) first * (this.plyFaceScalars + countSize)
+        + (long) this.faceOffsets.get(first) * indexSize;
+      buffer = this.map(start, this.plyFaceStart + (long) last * (this.plyFaceScalars + countSize)
+        + (long) this.faceOffsets.get(last) * indexSize);
+
+      position = 0;
+      for (int f = first; f < last; f++) {
+        position += this.plyFaceLead + countSize;
+        for (int i = this.faceOffsets.get(f); i < this.faceOffsets.get(f + 1); i++) {
+          this.faceIndices.put(i, (int) MeshLoader.readScalar(buffer, position,
+            this.plyIndexType));
+          position += indexSize;
+        }
+        position += this.plyFaceScalars - this.plyFaceLead;
+      }
+    }
+
+    /**
+     * Works out the normal of each face of a block by the Newell method, as
+     * <code>FourLights.SceneGLEventListener#calculateNormal</code> does, normalized, after
+     * checking that each of its indices names a vertex of the mesh.
+     *
+     * @param paramBlock <code>int</code>
+     * @return void
+     */
+    private void calculateFaceNormals(int paramBlock) {
+
+      // Declarations
+      final int first, last;
+      int start, length, current, next;
+      float normalX, normalY, normalZ, magnitude;
+
+      // Definitions
+      first = paramBlock * MeshLoader.BLOCK;
+      last = Math.min(this.faceCount, first + MeshLoader.BLOCK);
+
+      for (int f = first; f < last; f++) {
+        start = this.faceOffsets.get(f);
+        length = this.faceOffsets.get(f + 1) - start;
+        normalX = normalY = normalZ = 0;
+
+        for (int i = start; i < start + length; i++) {
+          if (this.faceIndices.get(i) < 0 || this.faceIndices.get(i) >= this.vertexCount) {
+            throw new IllegalArgumentException("Face " + f + " names missing vertex "
+              + (this.faceIndices.get(i) + 1) + " in " + this.path);
+          }
+        }
+
+        // Cross products as in calculateNormal, in float
+        for (int i = 0; i < length; i++) {
+          current = this.faceIndices.get(start + i) * 3;
+          next = this.faceIndices.get(start + (i + 1) % length) * 3;
+          normalX += (this.positions.get(current + 1) - this.positions.get(next + 1))
+            * (this.positions.get(current + 2) + this.positions.get(next + 2));
+          normalY += (this.positions.get(current + 2) - this.positions.get(next + 2))
+            * (this.positions.get(current) + this.positions.get(next));
+          normalZ += (this.positions.get(current) - this.positions.get(next))
+            * (this.positions.get(current + 1) + this.positions.get(next + 1));
+        }
+
+        magnitude = (float) Math.sqrt(normalX * normalX + normalY * normalY + normalZ * normalZ);
+        magnitude = (magnitude > 0) ? magnitude : 1;
+        this.faceNormals.put(f * 3, normalX / magnitude);
+        this.faceNormals.put(f * 3 + 1, normalY / magnitude);
+        this.faceNormals.put(f * 3 + 2, normalZ / magnitude);
+      }
+    }
+
+    /**
+     * Finds the squared distance from the center of the bounding box to the farthest vertex of a
+     * block.
+     *
+     * @param paramBlock <code>int</code>
+     * @return void
+     */
+    private void measureVertices(int paramBlock) {
+
+      // Declarations
+      final int first, last;
+      float x, y, z, farthest;
+
+      // Definitions
+      first = paramBlock * MeshLoader.BLOCK * 3;
+      last = Math.min(this.vertexCount, (paramBlock + 1) * MeshLoader.BLOCK) * 3;
+      farthest = 0;
+
+      for (int i = first; i < last; i += 3) {
+        x = this.positions.get(i) - this.center[0];
+        y = this.positions.get(i + 1) - this.center[1];
+        z = this.positions.get(i + 2) - this.center[2];
+        farthest = Math.max(farthest, x * x + y * y + z * z);
+      }
+      this.blockRadii[paramBlock] = farthest;
+    }
+
+    /**
+     * Moves and scales a block of vertices such that the mesh's bounding box is centered on the
+     * origin and its farthest vertex lies on the unit sphere.
+     *
+     * @param paramBlock <code>int</code>
+     * @return void
+     */
+    private void fitVertices(int paramBlock) {
+
+      // Declarations
+      final int first, last;
+
+      // Definitions
+      first = paramBlock * MeshLoader.BLOCK * 3;
+      last = Math.min(this.vertexCount, (paramBlock + 1) * MeshLoader.BLOCK) * 3;
+
+      for (int i = first; i < last; i++) {
+        this.positions.put(i, (this.positions.get(i) - this.center[i % 3]) * this.scale);
+      }
+    }
+
+    /**
+     * Maps the given byte range of the file, clamped to its end and to the largest buffer
+     * possible, in the byte order of the PLY file if there is one.
+     *
+     * @param paramStart <code>long</code>
+     * @param paramEnd <code>long</code>
+     * @return <code>ByteBuffer</code>
+     * @throws IOException should the range not be mapped
+     */
+    private ByteBuffer map(long paramStart, long paramEnd) throws IOException {
+
+      // Declaration
+      final long end;
+
+      // Definition
+      end = Math.min(Math.min(this.size, paramEnd), paramStart + Integer.MAX_VALUE);
+
+      if (paramStart > this.size) {
+        throw new IllegalArgumentException("Elements run past the end of " + this.path);
+      }
+      return this.channel.map(FileChannel.MapMode.READ_ONLY, paramStart,
+        Math.max(0, end - paramStart)).order((this.plyOrder != null) ? this.plyOrder
+        : ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns a line reporting the size of the mesh, the throughput of its load, and the memory
+     * the load took, on and off the heap.
+     *
+     * @param paramNanos <code>long</code> duration of the load
+     * @return <code>String</code>
+     */
+    private String describe(long paramNanos) {
+
+      // Declarations
+      final double megabytes, milliseconds;
+      long peakHeap, direct;
+
+      // Definitions
+      megabytes = this.size / (1024.0 * 1024.0);
+      milliseconds = paramNanos / 1e6;
+      peakHeap = direct = 0;
+
+      for (java.lang.management.MemoryPoolMXBean memoryPool
+          : ManagementFactory.getMemoryPoolMXBeans()) {
+        if (memoryPool.getType() == java.lang.management.MemoryType.HEAP) {
+          peakHeap += memoryPool.getPeakUsage().getUsed();
+        }
+      }
+      for (java.lang.management.BufferPoolMXBean bufferPool
+          : ManagementFactory.getPlatformMXBeans(java.lang.management.BufferPoolMXBean.class)) {
+        if ("direct".equals(bufferPool.getName())) {
+          direct = bufferPool.getMemoryUsed();
+        }
+      }
+
+      return String.format("Loaded %s: %d vertices, %d faces, %.1f MB in %.1f ms (%.1f MB/s); "
+        + "peak heap %.1f MB, direct buffers %.1f MB", Paths.get(this.path).getFileName(),
+        this.vertexCount, this.faceCount, megabytes, milliseconds,
+        megabytes / (milliseconds / 1000), peakHeap / (1024.0 * 1024.0),
+        direct / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Returns the number of <code>BLOCK</code>-sized blocks covering the given count.
+     *
+     * @param paramCount <code>int</code>
+     * @return <code>int</code>
+     */
+    private static int blocks(int paramCount) {
+      return (paramCount + MeshLoader.BLOCK - 1) / MeshLoader.BLOCK;
+    }
+
+    /**
+     * Returns minimum and maximum corners for the given number of units, each six values long and
+     * starting out inside out such that any vertex replaces them.
+     *
+     * @param paramUnits <code>int</code>
+     * @return <code>float[]</code>
+     */
+    private static float[] emptyBounds(int paramUnits) {
+
+      // Declaration
+      final float[] bounds;
+
+      // Definition
+      bounds = new float[paramUnits * 6];
+
+      for (int i = 0; i < bounds.length; i += 6) {
+        Arrays.fill(bounds, i, i + 3, Float.POSITIVE_INFINITY);
+        Arrays.fill(bounds, i + 3, i + 6, Float.NEGATIVE_INFINITY);
+      }
+      return bounds;
+    }
+
+    /**
+     * Returns the code of the named PLY scalar type.
+     *
+     * @param paramName <code>String</code>
+     * @param paramPath <code>String</code> for the error message
+     * @return <code>int</code>
+     */
+    private static int typeOf(String paramName, String paramPath) {
+      for (int i = 0; i < MeshLoader.PLY_TYPES.length; i++) {
+        if (MeshLoader.PLY_TYPES[i].equals(paramName)) {
+          return i % MeshLoader.PLY_SIZES.length;
+        }
+      }
+      throw new IllegalArgumentException("Unknown PLY type " + paramName + " in " + paramPath);
+    }
+
+    /**
+     * Parses an element count of a PLY header, as a <code>long</code> such that counts too large
+     * for the buffers are reported as such rather than as unreadable.
+     *
+     * @param paramCount <code>String</code>
+     * @param paramPath <code>String</code> for the error message
+     * @return <code>long</code>
+     */
+    private static long toCount(String paramCount, String paramPath) {
+
+      // Declaration
+      final long count;
+
+      try {
+        count = Long.parseLong(paramCount);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid element count " + paramCount + " in "
+          + paramPath, e);
+      }
+      if (count < 0) {
+        throw new IllegalArgumentException("Invalid element count " + paramCount + " in "
+          + paramPath);
+      }
+      return count;
+    }
+
+    /**
+     * Reads a PLY scalar of the given type at the given position of the buffer.
+     *
+     * @param paramBuffer <code>ByteBuffer</code>
+     * @param paramPosition <code>int</code>
+     * @param paramType <code>int</code> type code
+     * @return <code>double</code>
+     */
+    private static double readScalar(ByteBuffer paramBuffer, int paramPosition, int paramType) {
+      switch (paramType) {
+        case 0:
+          return paramBuffer.get(paramPosition);
+        case 1:
+          return paramBuffer.get(paramPosition) & 0xff;
+        case 2:
+          return paramBuffer.getShort(paramPosition);
+        case 3:
+          return paramBuffer.getShort(paramPosition) & 0xffff;
+        case 4:
+          return paramBuffer.getInt(paramPosition);
+        case 5:
+          return paramBuffer.getInt(paramPosition) & 0xffffffffL;
+        case 6:
+          return paramBuffer.getFloat(paramPosition);
+        default:
+          return paramBuffer.getDouble(paramPosition);
+      }
+    }
+
+    /**
+     * This class walks the mapped bytes of an OBJ chunk, parsing numbers and indices in place
+     * where <code>Float#parseFloat</code> would first need a <code>String</code> of each.
+     *
+     * @author Andrew Eissen
+     */
+    private final static class ObjCursor {
+
+      // Class fields
+      private final ByteBuffer buffer;
+      private final long offset;
+      private final boolean last;
+      private final String path;
+      private int position;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramBuffer <code>ByteBuffer</code> mapped bytes
+       * @param paramOffset <code>long</code> position of the mapped bytes in the file
+       * @param paramLast <code>boolean</code> whether the mapped bytes run to the end of the file
+       * @param paramPath <code>String</code> for error messages
+       */
+      private ObjCursor(ByteBuffer paramBuffer, long paramOffset, boolean paramLast,
+          String paramPath) {
+        this.buffer = paramBuffer;
+        this.offset = paramOffset;
+        this.last = paramLast;
+        this.path = paramPath;
+        this.position = 0;
+      }
+
+      /**
+       * Setter for <code>ObjCursor.position</code>
+       *
+       * @param position <code>int</code>
+       * @return void
+       */
+      private void setPosition(int position) {
+        this.position = position;
+      }
+
+      /**
+       * Getter for <code>ObjCursor.position</code>
+       *
+       * @return position <code>int</code>
+       */
+      private int getPosition() {
+        return this.position;
+      }
+
+      /**
+       * Returns the byte the given distance past the position, or a line feed past the mapping.
+       *
+       * @param paramDistance <code>int</code>
+       * @return <code>byte</code>
+       */
+      private byte getByte(int paramDistance) {
+        return (this.position + paramDistance < this.buffer.limit())
+          ? this.buffer.get(this.position + paramDistance)
+          : (byte) '\n';
+      }
+
+      /**
+       * Returns whether the byte the given distance past the position is a space or a tab.
+       *
+       * @param paramDistance <code>int</code>
+       * @return <code>boolean</code>
+       */
+      private boolean isBlank(int paramDistance) {
+        return this.getByte(paramDistance) == ' ' || this.getByte(paramDistance) == '\t';
+      }
+
+      /**
+       * Returns whether the position has reached the end of its line, or a comment ending it.
+       *
+       * @return <code>boolean</code>
+       */
+      private boolean isLineEnd() {
+        return this.getByte(0) == '\n' || this.getByte(0) == '\r' || this.getByte(0) == '#';
+      }
+
+      /**
+       * Moves the position past spaces and tabs.
+       *
+       * @return void
+       */
+      private void skipSpaces() {
+        while (this.isBlank(0)) {
+          this.position++;
+        }
+      }
+
+      /**
+       * Moves the position to the next space, tab, or line end, past the remainder of a token.
+       *
+       * @return void
+       */
+      private void skipToken() {
+        while (!this.isBlank(0) && !this.isLineEnd()) {
+          this.position++;
+        }
+      }
+
+      /**
+       * Moves the position to the start of the next line, refusing lines running past the
+       * mapping short of the end of the file.
+       *
+       * @return void
+       */
+      private void nextLine() {
+        while (this.position < this.buffer.limit() && this.buffer.get(this.position) != '\n') {
+          this.position++;
+        }
+        if (this.position == this.buffer.limit() && !this.last) {
+          throw this.error("Line longer than " + MeshLoader.MAX_LINE + " bytes");
+        }
+        this.position++;
+      }
+
+      /**
+       * Parses a decimal number, with optional sign, fraction, and exponent, at the position.
+       * Up to seventeen significant digits are gathered into a <code>long</code> and scaled by an
+       * exact power of ten where one exists, which is more than a <code>float</code> needs.
+       *
+       * @return <code>double</code>
+       */
+      private double parseNumber() {
+
+        // Declarations
+        final boolean negative;
+        boolean fraction, negativeExponent;
+        long mantissa;
+        int exponent, explicit, digits;
+        byte current;
+
+        // Definitions
+        negative = this.getByte(0) == '-';
+        if (negative || this.getByte(0) == '+') {
+          this.position++;
+        }
+        fraction = false;
+        mantissa = 0;
+        exponent = explicit = digits = 0;
+
+        for (current = this.getByte(0); current >= '0' && current <= '9'
+            || current == '.' && !fraction; current = this.getByte(0)) {
+          if (current == '.') {
+            fraction = true;
+          } else if (mantissa < 10_000_000_000_000_000L) {
+            mantissa = mantissa * 10 + (current - '0');
+            exponent -= fraction ? 1 : 0;
+            digits++;
+          } else {
+            exponent += fraction ? 0 : 1;
+            digits++;
+          }
+          this.position++;
+        }
+        if (digits == 0) {
+          throw this.error("Expected a number");
+        }
+
+        if (current == 'e' || current == 'E') {
+          this.position++;
+          negativeExponent = this.getByte(0) == '-';
+          if (negativeExponent || this.getByte(0) == '+') {
+            this.position++;
+          }
+          if (this.getByte(0) < '0' || this.getByte(0) > '9') {
+            throw this.error("Expected an exponent");
+          }
+          for (current = this.getByte(0); current >= '0' && current <= '9';
+              current = this.getByte(0)) {
+            explicit = Math.min(explicit * 10 + (current - '0'), 1000);
+            this.position++;
+          }
+          exponent += negativeExponent ? -explicit : explicit;
+        }
+
+        if (exponent >= 0 && exponent < MeshLoader.POWERS_OF_TEN.length) {
+          return (negative ? -mantissa : mantissa) * MeshLoader.POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && -exponent < MeshLoader.POWERS_OF_TEN.length) {
+          return (negative ? -mantissa : mantissa) / MeshLoader.POWERS_OF_TEN[-exponent];
+        } else {
+          return (negative ? -mantissa : mantissa) * Math.pow(10, exponent);
+        }
+      }
+
+      /**
+       * Parses the vertex index leading a face corner, which may be followed by texture and
+       * normal indices the caller skips, and returns it counted from zero. Negative indices count
+       * back from the vertex before the line, of which there are the given number.
+       *
+       * @param paramVertices <code>int</code> vertices preceding the face in the file
+       * @return <code>int</code>
+       */
+      private int parseIndex(int paramVertices) {
+
+        // Declarations
+        final boolean negative;
+        long index;
+
+        // Definitions
+        negative = this.getByte(0) == '-';
+        if (negative) {
+          this.position++;
+        }
+        index = 0;
+
+        while (this.getByte(0) >= '0' && this.getByte(0) <= '9' && index <= Integer.MAX_VALUE) {
+          index = index * 10 + (this.getByte(0) - '0');
+          this.position++;
+        }
+        if (index == 0 || index > Integer.MAX_VALUE) {
+          throw this.error("Expected a vertex index");
+        }
+        return (int) (negative ? paramVertices - index : index - 1);
+      }
+
+      /**
+       * Returns an exception naming the file and the byte at which parsing failed.
+       *
+       * @param paramMessage <code>String</code>
+       * @return <code>IllegalArgumentException</code>
+       */
+      private IllegalArgumentException error(String paramMessage) {
+        return new IllegalArgumentException(paramMessage + " at byte "
+          + (this.offset + this.position) + " of " + this.path);
+      }
+    }
+
+    /**
+     * This class splits the units of a pass of <code>FourLights.MeshLoader</code> across the pool,
+     * in the manner of the tasks of <code>FourLights.MeshNormals</code>, down to single units, each
+     * of which is already large.
+     *
+     * @author Andrew Eissen
+     */
+    private final static class LoadTask extends RecursiveAction {
+
+      /** Version of the serialized form, set to 1 */
+      private final static long serialVersionUID = 1L;
+
+      // Class fields
+      private final MeshLoader loader;
+      private final int pass, first, last;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramLoader <code>MeshLoader</code>
+       * @param paramPass <code>int</code>
+       * @param paramFirst <code>int</code> first unit of the range
+       * @param paramLast <code>int</code> unit following the last of the range
+       */
+      private LoadTask(MeshLoader paramLoader, int paramPass, int paramFirst, int paramLast) {
+        this.loader = paramLoader;
+        this.pass = paramPass;
+        this.first = paramFirst;
+        this.last = paramLast;
+      }
+
+      /**
+       * Runs a single unit directly, and otherwise forks both halves of the range.
+       *
+       * @see java.util.concurrent.RecursiveAction#compute
+       * @return void
+       */
+      @Override
+      protected void compute() {
+
+        // Declaration
+        final int middle;
+
+        // Definition
+        middle = (this.first + this.last) >>> 1;
+
+        if (this.last - this.first == 1) {
+          this.loader.runUnit(this.pass, this.first);
+        } else if (this.last > this.first) {
+          ForkJoinTask.invokeAll(new LoadTask(this.loader, this.pass, this.first, middle),
+            new LoadTask(this.loader, this.pass, middle, this.last));
+        }
+      }
+    }
+  }
+
+  /**
+   * This static class keeps compiled copies of the meshes the program would otherwise rebuild on
+   * every start, in a directory given by <code>--mesh-cache</code>: the meshes loaded by
+   * <code>FourLights.MeshLoader</code> and the levels of <code>FourLights.GeodesicMesh</code>
+   * spheres, the finest of which take far longer to subdivide than to read. The truncated
+   * icosahedron itself is built from literal arrays as the class loads and so is not worth
+   * caching, but its contents key the cached levels built from it.
+   * <br />
+   * <br />
+   * Each entry is a single file laid out exactly as a <code>FourLights.PolyhedronMesh</code> holds
+   * its data, a header of <code>HEADER_BYTES</code> followed by the positions, face normals, face
+   * offsets, and face indices, in native byte order. A hit therefore maps each of the four
+   * regions with <code>FileChannel#map</code> and hands the mappings to the mesh as its buffers,
+   * with no parsing and no copying; the operating system pages them in as they are first read.
+   * With <code>--mesh-quantize</code>, positions are instead stored as three unsigned 16-bit
+   * steps across the mesh's bounding box, halving the largest region at the cost of the one pass
+   * that expands them again on load.
+   * <br />
+   * <br />
+   * The header records a SHA-256 hash of whatever the entry was compiled from, the bytes of the
+   * source file or the mesh a sphere was subdivided from, and an entry whose hash, format
+   * version, byte order, or quantization does not match is rebuilt and replaced. Entries are
+   * written to a temporary file first and moved into place, so that a run interrupted, or
+   * another run reading alongside, never sees half an entry.
+   *
+   * @see FourLights.MeshLoader
+   * @see FourLights.LevelOfDetail
+   * @author Andrew Eissen
+   */
+  private final static class MeshCache {
+
+    /** Leading bytes of every entry, "FLMC", read back reversed from an entry of the other order */
+    private final static int MAGIC = 0x464C4D43;
+
+    /** Version of the entry layout, raised whenever it changes */
+    private final static int VERSION = 1;
+
+    /** Size of the header preceding the regions, a multiple of four */
+    private final static int HEADER_BYTES = 84;
+
+    /** Flag marking an entry whose positions are quantized */
+    private final static int QUANTIZED = 1;
+
+    /** Largest value of a quantized coordinate */
+    private final static int QUANTIZED_STEPS = 0xffff;
+
+    /** Extension of the entries */
+    private final static String EXTENSION = ".mesh";
+
+    // Class fields
+    private final java.nio.file.Path directory;
+    private final boolean quantized;
+
+    /**
+     * Parameterized constructor, creating the directory if it does not yet exist
+     *
+     * @param directory <code>String</code>
+     * @param quantized <code>boolean</code> whether to quantize the positions of new entries
+     */
+    private MeshCache(String directory, boolean quantized) {
+      this.directory = Paths.get(directory);
+      this.quantized = quantized;
+
+      try {
+        Files.createDirectories(this.directory);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not create mesh cache " + directory, e);
+      }
+    }
+
+    // Utility methods
+
+    /**
+     * Returns the mesh of the given OBJ or PLY file from the cache, loading and compiling it
+     * first if its entry is missing or stale.
+     *
+     * @param paramPath <code>String</code>
+     * @param paramThreads <code>int</code> threads to load the file across on a miss
+     * @return <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh loadFile(String paramPath, int paramThreads) {
+
+      // Declarations
+      final String name;
+      final byte[] hash;
+      PolyhedronMesh mesh;
+
+      // Definitions
+      name = Paths.get(paramPath).getFileName() + "-" + MeshCache.toHex(MeshCache.digest(
+        Paths.get(paramPath).toAbsolutePath().toString().getBytes(StandardCharsets.UTF_8)), 8);
+      hash = MeshCache.hashOf(paramPath);
+      mesh = this.load(name, hash);
+
+      if (mesh == null) {
+        mesh = MeshLoader.load(paramPath, paramThreads);
+        this.store(name, hash, mesh);
+      }
+      return mesh;
+    }
+
+    /**
+     * Returns the entry of the given name if it exists and was compiled from the source of the
+     * given hash, mapping its regions as the buffers of the mesh, or <code>null</code> if not.
+     *
+     * @param paramName <code>String</code>
+     * @param paramHash <code>byte[]</code>
+     * @return <code>PolyhedronMesh</code>, or <code>null</code> on a miss
+     */
+    private PolyhedronMesh load(String paramName, byte[] paramHash) {
+
+      // Declarations
+      final java.nio.file.Path path;
+      final long startNanos;
+      final ByteBuffer header;
+      final byte[] hash;
+      final float[] bounds;
+      final int flags, vertexCount, faceCount, indexCount;
+      final FileChannel.MapMode mode;
+      final long positionBytes, normalStart, offsetStart, indexStart, end;
+      final FloatBuffer positions;
+      final PolyhedronMesh mesh;
+
+      // Definitions
+      path = this.directory.resolve(paramName + MeshCache.EXTENSION);
+      mode = FileChannel.MapMode.READ_ONLY;
+      startNanos = System.nanoTime();
+      if (!Files.isRegularFile(path)) {
+        return null;
+      }
+
+      try (FileChannel channel = FileChannel.open(path, java.nio.file.StandardOpenOption.READ)) {
+        if (channel.size() < MeshCache.HEADER_BYTES) {
+          return MeshCache.stale(paramName, "truncated");
+        }
+        header = channel.map(FileChannel.MapMode.READ_ONLY, 0, MeshCache.HEADER_BYTES)
+          .order(ByteOrder.nativeOrder());
+        hash = new byte[paramHash.length];
+        header.position(52);
+        header.get(hash);
+        flags = header.getInt(8);
+
+        if (header.getInt(0) != MeshCache.MAGIC || header.getInt(4) != MeshCache.VERSION) {
+          return MeshCache.stale(paramName, "other format or byte order");
+        } else if (!Arrays.equals(hash, paramHash)) {
+          return MeshCache.stale(paramName, "source changed");
+        } else if (((flags & MeshCache.QUANTIZED) != 0) != this.quantized) {
+          return MeshCache.stale(paramName, "other quantization");
+        }
+
+        vertexCount = header.getInt(12);
+        faceCount = header.getInt(16);
+        indexCount = header.getInt(20);
+        bounds = new float[6];
+        for (int i = 0; i < bounds.length; i++) {
+          bounds[i] = header.getFloat(24 + i * Float.BYTES);
+        }
+        positionBytes = MeshCache.positionBytes(vertexCount, this.quantized);
+        normalStart = MeshCache.HEADER_BYTES + positionBytes;
+        offsetStart = normalStart + 3L * faceCount * Float.BYTES;
+        indexStart = offsetStart + (faceCount + 1L) * Integer.BYTES;
+        end = indexStart + (long) indexCount * Integer.BYTES;
+        if (channel.size() != end) {
+          return MeshCache.stale(paramName, "truncated");
+        }
+
+        positions = (this.quantized)
+          ? MeshCache.expand(MeshCache.region(channel, mode, MeshCache.HEADER_BYTES,
+              positionBytes), vertexCount, bounds)
+          : MeshCache.region(channel, mode, MeshCache.HEADER_BYTES, positionBytes)
+              .asFloatBuffer();
+        mesh = new PolyhedronMesh(positions,
+          MeshCache.region(channel, mode, normalStart, offsetStart - normalStart)
+            .asFloatBuffer(),
+          MeshCache.region(channel, mode, offsetStart, indexStart - offsetStart).asIntBuffer(),
+          MeshCache.region(channel, mode, indexStart, end - indexStart).asIntBuffer(),
+          header.getFloat(48));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read mesh cache entry " + path, e);
+      }
+
+      System.out.println(String.format("Mesh cache hit: %s, %d faces mapped in %.1f ms",
+        paramName, mesh.getFaceCount(), (System.nanoTime() - startNanos) / 1e6));
+      return mesh;
+    }
+
+    /**
+     * Writes the passed mesh as the entry of the given name, compiled from the source of the
+     * given hash. A cache that cannot be written to only costs the next run the rebuild, so the
+     * failure is reported rather than thrown.
+     *
+     * @param paramName <code>String</code>
+     * @param paramHash <code>byte[]</code>
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return void
+     */
+    private void store(String paramName, byte[] paramHash, PolyhedronMesh paramMesh) {
+
+      // Declarations
+      final java.nio.file.Path path;
+      final float[] bounds;
+      final FileChannel.MapMode mode;
+      final long positionBytes, normalStart, offsetStart, indexStart, end;
+      final ByteBuffer header;
+      java.nio.file.Path temporary;
+
+      // Definitions
+      path = this.directory.resolve(paramName + MeshCache.EXTENSION);
+      bounds = MeshCache.boundsOf(paramMesh);
+      mode = FileChannel.MapMode.READ_WRITE;
+      positionBytes = MeshCache.positionBytes(paramMesh.getVertexCount(), this.quantized);
+      normalStart = MeshCache.HEADER_BYTES + positionBytes;
+      offsetStart = normalStart + 3L * paramMesh.getFaceCount() * Float.BYTES;
+      indexStart = offsetStart + (paramMesh.getFaceCount() + 1L) * Integer.BYTES;
+      end = indexStart + (long) paramMesh.getIndexCount() * Integer.BYTES;
+      temporary = null;
+
+      try {
+        temporary = Files.createTempFile(this.directory, paramName, ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+            java.nio.file.StandardOpenOption.READ, java.nio.file.StandardOpenOption.WRITE)) {
+          header = MeshCache.region(channel, mode, 0, MeshCache.HEADER_BYTES);
+          header.putInt(MeshCache.MAGIC).putInt(MeshCache.VERSION);
+          header.putInt((this.quantized) ? MeshCache.QUANTIZED : 0);
+          header.putInt(paramMesh.getVertexCount()).putInt(paramMesh.getFaceCount());
+          header.putInt(paramMesh.getIndexCount());
+          for (float bound : bounds) {
+            header.putFloat(bound);
+          }
+          header.putFloat(paramMesh.getBoundingRadius()).put(paramHash);
+
+          if (this.quantized) {
+            MeshCache.quantize(paramMesh, bounds,
+              MeshCache.region(channel, mode, MeshCache.HEADER_BYTES, positionBytes));
+          } else {
+            MeshCache.region(channel, mode, MeshCache.HEADER_BYTES, positionBytes)
+              .asFloatBuffer().put(MeshCache.rewound(paramMesh.getPositionBuffer()));
+          }
+          MeshCache.region(channel, mode, normalStart, offsetStart - normalStart)
+            .asFloatBuffer().put(MeshCache.rewound(paramMesh.getFaceNormalBuffer()));
+          MeshCache.region(channel, mode, offsetStart, indexStart - offsetStart)
+            .asIntBuffer().put(MeshCache.rewound(paramMesh.getFaceOffsetBuffer()));
+          MeshCache.region(channel, mode, indexStart, end - indexStart)
+            .asIntBuffer().put(MeshCache.rewound(paramMesh.getFaceIndexBuffer()));
+        }
+        Files.move(temporary, path, java.nio.file.StandardCopyOption.REPLACE_EXISTING,
+          java.nio.file.StandardCopyOption.ATOMIC_MOVE);
+        System.out.println("Mesh cache stored: " + paramName + ", " + paramMesh.getFaceCount()
+          + " faces");
+      } catch (IOException e) {
+        System.err.println("Could not write mesh cache entry " + path + ": " + e);
+        try {
+          if (temporary != null) {
+            Files.deleteIfExists(temporary);
+          }
+        } catch (IOException ignored) {
+          // The temporary file is left behind, which no later run reads
+        }
+      }
+    }
+
+    /**
+     * Maps a region of the entry open in the given channel in native byte order, read-only for a
+     * hit, or read-write, growing the file as need be, for a new entry.
+     *
+     * @param paramChannel <code>FileChannel</code>
+     * @param paramMode <code>FileChannel.MapMode</code>
+     * @param paramStart <code>long</code>
+     * @param paramLength <code>long</code>
+     * @return <code>ByteBuffer</code>
+     * @throws IOException should the region not be mapped
+     */
+    private static ByteBuffer region(FileChannel paramChannel, FileChannel.MapMode paramMode,
+        long paramStart, long paramLength) throws IOException {
+      return paramChannel.map(paramMode, paramStart, paramLength).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Returns the name of the entry of a level of the geodesic sphere subdivided from the base
+     * of the given hash.
+     *
+     * @param paramBaseHash <code>byte[]</code>
+     * @param paramLevel <code>int</code>
+     * @return <code>String</code>
+     */
+    private static String levelName(byte[] paramBaseHash, int paramLevel) {
+      return "geodesic-" + MeshCache.toHex(paramBaseHash, 8) + "-" + paramLevel;
+    }
+
+    /**
+     * Returns the hash of a level of the geodesic sphere subdivided from the base of the given
+     * hash.
+     *
+     * @param paramBaseHash <code>byte[]</code>
+     * @param paramLevel <code>int</code>
+     * @return <code>byte[]</code>
+     */
+    private static byte[] levelHash(byte[] paramBaseHash, int paramLevel) {
+      return MeshCache.digest((MeshCache.toHex(paramBaseHash, paramBaseHash.length)
+        + "/geodesic/" + paramLevel).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the hash of the contents of the passed mesh.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return <code>byte[]</code>
+     */
+    private static byte[] hashOf(PolyhedronMesh paramMesh) {
+
+      // Declarations
+      final java.security.MessageDigest digest;
+      final ByteBuffer bytes;
+
+      // Definitions
+      digest = MeshCache.newDigest();
+      bytes = ByteBuffer.allocate(Math.max(paramMesh.getVertexCount() * 3,
+        Math.max(paramMesh.getFaceCount() * 3 + 1, paramMesh.getIndexCount())) * Integer.BYTES);
+
+      for (int i = 0; i < 4; i++) {
+        bytes.clear();
+        if (i == 0) {
+          bytes.asFloatBuffer().put(MeshCache.rewound(paramMesh.getPositionBuffer()));
+          bytes.limit(paramMesh.getVertexCount() * 3 * Float.BYTES);
+        } else if (i == 1) {
+          bytes.asFloatBuffer().put(MeshCache.rewound(paramMesh.getFaceNormalBuffer()));
+          bytes.limit(paramMesh.getFaceCount() * 3 * Float.BYTES);
+        } else if (i == 2) {
+          bytes.asIntBuffer().put(MeshCache.rewound(paramMesh.getFaceOffsetBuffer()));
+          bytes.limit((paramMesh.getFaceCount() + 1) * Integer.BYTES);
+        } else {
+          bytes.asIntBuffer().put(MeshCache.rewound(paramMesh.getFaceIndexBuffer()));
+          bytes.limit(paramMesh.getIndexCount() * Integer.BYTES);
+        }
+        digest.update(bytes);
+      }
+      return digest.digest();
+    }
+
+    /**
+     * Returns the hash of the contents of the file at the given path, read through mappings of
+     * at most a gigabyte each.
+     *
+     * @param paramPath <code>String</code>
+     * @return <code>byte[]</code>
+     */
+    private static byte[] hashOf(String paramPath) {
+
+      // Declarations
+      final java.security.MessageDigest digest;
+      long size;
+
+      // Definition
+      digest = MeshCache.newDigest();
+
+      try (FileChannel channel = FileChannel.open(Paths.get(paramPath),
+          java.nio.file.StandardOpenOption.READ)) {
+        size = channel.size();
+        for (long start = 0; start < size; start += 1 << 30) {
+          digest.update(channel.map(FileChannel.MapMode.READ_ONLY, start,
+            Math.min(size - start, 1 << 30)));
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read mesh from " + paramPath, e);
+      }
+      return digest.digest();
+    }
+
+    /**
+     * Returns the SHA-256 hash of the passed bytes.
+     *
+     * @param paramBytes <code>byte[]</code>
+     * @return <code>byte[]</code>
+     */
+    private static byte[] digest(byte[] paramBytes) {
+      return MeshCache.newDigest().digest(paramBytes);
+    }
+
+    /**
+     * Returns a new SHA-256 digest, which every Java platform is required to offer.
+     *
+     * @return <code>MessageDigest</code>
+     */
+    private static java.security.MessageDigest newDigest() {
+      try {
+        return java.security.MessageDigest.getInstance("SHA-256");
+      } catch (java.security.NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is unavailable", e);
+      }
+    }
+
+    /**
+     * Returns the first bytes of the passed hash as hexadecimal digits.
+     *
+     * @param paramHash <code>byte[]</code>
+     * @param paramBytes <code>int</code> number of bytes to write out
+     * @return <code>String</code>
+     */
+    private static String toHex(byte[] paramHash, int paramBytes) {
+
+      // Declaration
+      final StringBuilder hex;
+
+      // Definition
+      hex = new StringBuilder();
+
+      for (int i = 0; i < paramBytes; i++) {
+        hex.append(String.format("%02x", paramHash[i]));
+      }
+      return hex.toString();
+    }
+
+    /**
+     * Reports a stale entry, which the caller then rebuilds, and returns <code>null</code> for
+     * the caller to return in turn.
+     *
+     * @param paramName <code>String</code>
+     * @param paramReason <code>String</code>
+     * @return <code>PolyhedronMesh</code>, always <code>null</code>
+     */
+    private static PolyhedronMesh stale(String paramName, String paramReason) {
+      System.out.println("Mesh cache stale: " + paramName + " (" + paramReason + ")");
+      return null;
+    }
+
+    /**
+     * Returns the size of the position region of an entry, padded to a multiple of four bytes
+     * such that the regions after it stay aligned.
+     *
+     * @param paramVertices <code>int</code>
+     * @param paramQuantized <code>boolean</code>
+     * @return <code>long</code>
+     */
+    private static long positionBytes(int paramVertices, boolean paramQuantized) {
+      return (paramQuantized)
+        ? (3L * paramVertices * Short.BYTES + 3) / 4 * 4
+        : 3L * paramVertices * Float.BYTES;
+    }
+
+    /**
+     * Returns the minimum and maximum corners of the bounding box of the passed mesh.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return <code>float[]</code>
+     */
+    private static float[] boundsOf(PolyhedronMesh paramMesh) {
+
+      // Declaration
+      final float[] bounds;
+
+      // Definition
+      bounds = new float[] {Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY,
+        Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY,
+        Float.NEGATIVE_INFINITY};
+
+      for (int v = 0; v < paramMesh.getVertexCount(); v++) {
+        for (int axis = 0; axis < 3; axis++) {
+          bounds[axis] = Math.min(bounds[axis], paramMesh.getPosition(v, axis));
+          bounds[axis + 3] = Math.max(bounds[axis + 3], paramMesh.getPosition(v, axis));
+        }
+      }
+      return bounds;
+    }
+
+    /**
+     * Writes the positions of the passed mesh into the given region as 16-bit steps across the
+     * bounding box.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramBounds <code>float[]</code>
+     * @param paramRegion <code>ByteBuffer</code>
+     * @return void
+     */
+    private static void quantize(PolyhedronMesh paramMesh, float[] paramBounds,
+        ByteBuffer paramRegion) {
+
+      // Declarations
+      final java.nio.ShortBuffer steps;
+      float extent;
+
+      // Definition
+      steps = paramRegion.asShortBuffer();
+
+      for (int v = 0; v < paramMesh.getVertexCount(); v++) {
+        for (int axis = 0; axis < 3; axis++) {
+          extent = paramBounds[axis + 3] - paramBounds[axis];
+          steps.put((short) Math.round((extent > 0)
+            ? (paramMesh.getPosition(v, axis) - paramBounds[axis]) / extent
+              * MeshCache.QUANTIZED_STEPS
+            : 0));
+        }
+      }
+    }
+
+    /**
+     * Expands the 16-bit steps of a quantized region back into positions within the bounding
+     * box, into a new direct buffer.
+     *
+     * @param paramRegion <code>ByteBuffer</code>
+     * @param paramVertices <code>int</code>
+     * @param paramBounds <code>float[]</code>
+     * @return <code>FloatBuffer</code>
+     */
+    private static FloatBuffer expand(ByteBuffer paramRegion, int paramVertices,
+        float[] paramBounds) {
+
+      // Declarations
+      final java.nio.ShortBuffer steps;
+      final FloatBuffer positions;
+
+      // Definitions
+      steps = paramRegion.asShortBuffer();
+      positions = PolyhedronMesh.newFloatBuffer(paramVertices * 3);
+
+      for (int i = 0; i < paramVertices * 3; i++) {
+        positions.put(i, paramBounds[i % 3] + (steps.get(i) & MeshCache.QUANTIZED_STEPS)
+          * (paramBounds[i % 3 + 3] - paramBounds[i % 3]) / MeshCache.QUANTIZED_STEPS);
+      }
+      return positions;
+    }
+
+    /**
+     * Returns a duplicate of the passed shared view, rewound, such that reading it through does
+     * not disturb other readers of the view.
+     *
+     * @param paramBuffer <code>FloatBuffer</code>
+     * @return <code>FloatBuffer</code>
+     */
+    private static FloatBuffer rewound(FloatBuffer paramBuffer) {
+      return paramBuffer.duplicate().rewind();
+    }
+
+    /**
+     * Returns a duplicate of the passed shared view, rewound, such that reading it through does
+     * not disturb other readers of the view.
+     *
+     * @param paramBuffer <code>IntBuffer</code>
+     * @return <code>IntBuffer</code>
+     */
+    private static IntBuffer rewound(IntBuffer paramBuffer) {
+      return paramBuffer.duplicate().rewind();
+    }
+  }
+
+  /**
+   * This static class finds the distinct edges of a <code>FourLights.PolyhedronMesh</code>. Drawn
+   * face by face, as a <code>GL_LINE_LOOP</code> per face, the outlines trace every edge between
+   * two faces twice, once for each, such that the truncated icosahedron's ninety edges took one
+   * hundred and eighty segments and a <code>glBegin</code>/<code>glEnd</code> pair per face.
+   * Instead, the segment from each face corner to the next is kept only where it is the first to
+   * join its two vertices, in the order of the face index list, and the corner it starts from is
+   * marked as the one drawing the edge. As each kept segment is still walked from a corner of a
+   * face, the renderers may draw it with that face's data, be it the welded vertex of
+   * <code>FourLights.MeshOptimizer</code> or the clip coordinates of
+   * <code>FourLights.SoftwareRasterizer</code>.
+   * <br />
+   * <br />
+   * The edges met so far are chained by their lower vertex, each link holding the higher vertex,
+   * such that each segment is looked up among the few edges around its lower vertex alone, and
+   * the whole is found in a single pass over the faces.
+   *
+   * @see FourLights.MeshOptimizer
+   * @see FourLights.SceneGLEventListener#drawEdges
+   * @author Andrew Eissen
+   */
+  private final static class MeshEdges {
+
+    // Class fields
+    private final PolyhedronMesh mesh;
+    private final int edgeCount;
+    private final boolean[] drawingCorners;
+
+    /**
+     * Parameterized constructor, finding the edges of the passed mesh
+     *
+     * @param mesh <code>PolyhedronMesh</code>
+     */
+    private MeshEdges(PolyhedronMesh mesh) {
+
+      // Declarations
+      int count, faceStart, faceSize, from, to, low, high, edge;
+      final int[] firstEdges, nextEdges, highEnds;
+
+      // Definitions
+      this.mesh = mesh;
+      this.drawingCorners = new boolean[mesh.getIndexCount()];
+      firstEdges = new int[mesh.getVertexCount()];
+      nextEdges = new int[mesh.getIndexCount()];
+      highEnds = new int[mesh.getIndexCount()];
+      count = 0;
+      Arrays.fill(firstEdges, -1);
+
+      for (int i = 0; i < mesh.getFaceCount(); i++) {
+        faceStart = mesh.getFaceStart(i);
+        faceSize = mesh.getFaceEnd(i) - faceStart;
+        for (int j = 0; j < faceSize; j++) {
+          from = mesh.getFaceIndex(faceStart + j);
+          to = mesh.getFaceIndex(faceStart + (j + 1) % faceSize);
+          low = Math.min(from, to);
+          high = Math.max(from, to);
+          for (edge = firstEdges[low]; edge != -1; edge = nextEdges[edge]) {
+            if (highEnds[edge] == high) {
+              break;
+            }
+          }
+          if (edge == -1) {
+            this.drawingCorners[faceStart + j] = true;
+            highEnds[count] = high;
+            nextEdges[count] = firstEdges[low];
+            firstEdges[low] = count++;
+          }
+        }
+      }
+      this.edgeCount = count;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>MeshEdges.mesh</code>
+     *
+     * @return mesh <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh getMesh() {
+      return this.mesh;
+    }
+
+    /**
+     * Getter for <code>MeshEdges.edgeCount</code>
+     *
+     * @return edgeCount <code>int</code>
+     */
+    private int getEdgeCount() {
+      return this.edgeCount;
+    }
+
+    // Utility methods
+
+    /**
+     * Returns whether the segment from the given corner, an index into the mesh's face index
+     * list, to the next corner of its face is the one drawn for its edge.
+     *
+     * @param paramCorner <code>int</code>
+     * @return <code>boolean</code>
+     */
+    private boolean drawsEdge(int paramCorner) {
+      return this.drawingCorners[paramCorner];
+    }
+  }
+
+  /**
+   * This static class turns a <code>FourLights.PolyhedronMesh</code> into the vertex and index
+   * data drawn by <code>FourLights.RetainedShapeRenderer</code> and
+   * <code>FourLights.InstancedMeshRenderer</code>, ordered such that as little of the work of
+   * transforming and lighting vertices as possible is done twice. Every face is fanned out from
+   * its first corner into one indexed triangle list, drawing what the immediate-mode loop's
+   * <code>GL_TRIANGLE_FAN</code> per face draws, and the face outlines follow as a line segment
+   * for each distinct edge, as found by <code>FourLights.MeshEdges</code>.
+   * <br />
+   * <br />
+   * As each face is flat shaded, a vertex is first made for every face corner, after which the
+   * corners of one mesh vertex whose faces have the very same normal, such as those of the two
+   * triangles of a quad that a file has split, are welded into one vertex. The triangles are then
+   * reordered for the post-transform vertex cache after Tom Forsyth's linear-speed algorithm,
+   * which greedily emits the triangle whose vertices score highest, a vertex scoring higher the
+   * more recently it entered a modelled least-recently-used cache and the fewer of its triangles
+   * remain, and the vertices are renumbered in the order the triangles first use them, such that
+   * fetching them walks the vertex buffer from front to back.
+   * <br />
+   * <br />
+   * The result is measured against a first-in, first-out cache of <code>FIFO_SIZE</code>
+   * entries, the likelier model of actual hardware, both before and after, as the average cache
+   * miss ratio (ACMR), the vertices transformed per triangle, and the average transformed vertex
+   * ratio (ATVR), the vertices transformed per vertex, at best 1. A triangle that shares no
+   * vertex with another costs three vertices whatever the order, so a mesh of triangles none of
+   * which are coplanar, such as a geodesic sphere, keeps its ACMR of 3 under flat shading, and
+   * the reordering pays off with the polygon faces and coplanar neighbours that can share. Where
+   * nothing is welded at all, the fans are left in their order, which is already the best.
+   *
+   * @see FourLights.MeshEdges
+   * @see FourLights.RetainedShapeRenderer
+   * @see FourLights.InstancedMeshRenderer
+   * @author Andrew Eissen
+   */
+  private final static class MeshOptimizer {
+
+    /** Number of interleaved <code>float</code> values per vertex (position and normal) */
+    private final static int FLOATS_PER_VERTEX = 6;
+
+    /** Entries of the least-recently-used cache against which the triangle order is scored */
+    private final static int CACHE_SIZE = 32;
+
+    /** Entries of the first-in, first-out cache against which the orders are measured */
+    private final static int FIFO_SIZE = 16;
+
+    /** Score of the vertices of the last triangle emitted, held down such that fans are kept */
+    private final static float LAST_TRIANGLE_SCORE = 0.75f;
+
+    /** Power with which the score of a vertex falls off along the cache */
+    private final static double CACHE_DECAY_POWER = 1.5;
+
+    /** Scale of the boost given to a vertex with few triangles left */
+    private final static float VALENCE_BOOST_SCALE = 2.0f;
+
+    /** Power of the number of triangles left in the boost given to a vertex */
+    private final static double VALENCE_BOOST_POWER = -0.5;
+
+    /** Score of a vertex at each position of the cache, without the valence boost */
+    private final static float[] POSITION_SCORES = MeshOptimizer.positionScores();
+
+    /** Valence boost of a vertex by the number of triangles left, up to the cache's size */
+    private final static float[] VALENCE_SCORES = MeshOptimizer.valenceScores();
+
+    // Class fields
+    private final FloatBuffer vertexData;
+    private final IntBuffer indexData;
+    private final int cornerCount, vertexCount, triangleCount, edgeCount, missesBefore,
+      missesAfter;
+
+    /**
+     * Parameterized constructor, building and ordering the data of the passed mesh
+     *
+     * @param mesh <code>PolyhedronMesh</code>
+     */
+    private MeshOptimizer(PolyhedronMesh mesh) {
+
+      // Declarations
+      int triangle, line, faceStart, faceSize, weldedCount, newVertexCount, vertex;
+      final MeshEdges edges;
+      final int[] cornerFaces, welded, triangles, lines, ordered, renumbered;
+
+      // Definitions
+      edges = new MeshEdges(mesh);
+      this.cornerCount = mesh.getIndexCount();
+      this.triangleCount = mesh.getTriangleCount();
+      this.edgeCount = edges.getEdgeCount();
+      cornerFaces = new int[this.cornerCount];
+      welded = new int[this.cornerCount];
+      triangles = new int[3 * this.triangleCount];
+      lines = new int[2 * this.edgeCount];
+      triangle = 0;
+      line = 0;
+
+      // Each face fanned out from its first corner and its edges outlined, a vertex per corner
+      for (int i = 0; i < mesh.getFaceCount(); i++) {
+        faceStart = mesh.getFaceStart(i);
+        faceSize = mesh.getFaceEnd(i) - faceStart;
+        for (int j = 0; j < faceSize; j++) {
+          cornerFaces[faceStart + j] = i;
+          if (edges.drawsEdge(faceStart + j)) {
+            lines[line++] = faceStart + j;
+            lines[line++] = faceStart + (j + 1) % faceSize;
+          }
+        }
+        for (int j = 1; j < faceSize - 1; j++) {
+          triangles[triangle++] = faceStart;
+          triangles[triangle++] = faceStart + j;
+          triangles[triangle++] = faceStart + j + 1;
+        }
+      }
+      this.missesBefore = MeshOptimizer.countMisses(triangles, this.cornerCount);
+
+      // Corners welded, triangles reordered, and vertices renumbered in order of first use
+      weldedCount = MeshOptimizer.weld(mesh, cornerFaces, welded);
+      for (int i = 0; i < triangles.length; i++) {
+        triangles[i] = welded[triangles[i]];
+      }
+
+      // With no vertex shared between faces, the fans already transform each corner just once
+      ordered = (weldedCount < this.cornerCount)
+        ? MeshOptimizer.reorder(triangles, weldedCount)
+        : triangles;
+      renumbered = new int[weldedCount];
+      Arrays.fill(renumbered, -1);
+      newVertexCount = 0;
+      for (int i = 0; i < ordered.length; i++) {
+        if (renumbered[ordered[i]] == -1) {
+          renumbered[ordered[i]] = newVertexCount++;
+        }
+        ordered[i] = renumbered[ordered[i]];
+      }
+      for (int i = 0; i < weldedCount; i++) {
+        if (renumbered[i] == -1) {
+          renumbered[i] = newVertexCount++;
+        }
+      }
+      this.vertexCount = newVertexCount;
+      this.missesAfter = MeshOptimizer.countMisses(ordered, this.vertexCount);
+
+      // Welded corners share their position and normal, so each may write its vertex again
+      this.vertexData = PolyhedronMesh.newFloatBuffer(this.vertexCount
+        * MeshOptimizer.FLOATS_PER_VERTEX);
+      for (int i = 0; i < this.cornerCount; i++) {
+        vertex = MeshOptimizer.FLOATS_PER_VERTEX * renumbered[welded[i]];
+        for (int axis = 0; axis < 3; axis++) {
+          this.vertexData.put(vertex + axis, mesh.getPosition(mesh.getFaceIndex(i), axis));
+          this.vertexData.put(vertex + 3 + axis, mesh.getFaceNormal(cornerFaces[i], axis));
+        }
+      }
+
+      this.indexData = PolyhedronMesh.newIntBuffer(ordered.length + lines.length);
+      this.indexData.put(ordered);
+      for (int i = 0; i < lines.length; i++) {
+        this.indexData.put(renumbered[welded[lines[i]]]);
+      }
+      PolyhedronMesh.rewind(this.indexData);
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>MeshOptimizer.vertexData</code>, the interleaved position and normal of
+     * every vertex
+     *
+     * @return vertexData <code>FloatBuffer</code>
+     */
+    private FloatBuffer getVertexData() {
+      return this.vertexData;
+    }
+
+    /**
+     * Getter for <code>MeshOptimizer.indexData</code>, the triangle list followed by a line
+     * segment per edge
+     *
+     * @return indexData <code>IntBuffer</code>
+     */
+    private IntBuffer getIndexData() {
+      return this.indexData;
+    }
+
+    /**
+     * Returns the number of triangle indices at the head of the index data, the line segments
+     * starting after them.
+     *
+     * @return <code>int</code>
+     */
+    private int getTriangleIndexCount() {
+      return 3 * this.triangleCount;
+    }
+
+    /**
+     * Getter for <code>MeshOptimizer.vertexCount</code>, the vertices left after welding
+     *
+     * @return vertexCount <code>int</code>
+     */
+    private int getVertexCount() {
+      return this.vertexCount;
+    }
+
+    // Utility methods
+
+    /**
+     * Returns a one-line account of the optimization, the ACMR and ATVR before and after, and the
+     * number of edges drawn out of the segments the face outlines would have taken.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+      return String.format("%d triangles, %d corners welded into %d vertices; ACMR %.3f -> %.3f,"
+        + " ATVR %.3f -> %.3f (FIFO %d); %d edges from %d outline segments", this.triangleCount,
+        this.cornerCount, this.getVertexCount(),
+        (double) this.missesBefore / Math.max(1, this.triangleCount),
+        (double) this.missesAfter / Math.max(1, this.triangleCount),
+        (double) this.missesBefore / Math.max(1, this.cornerCount),
+        (double) this.missesAfter / Math.max(1, this.getVertexCount()), MeshOptimizer.FIFO_SIZE,
+        this.edgeCount, this.cornerCount);
+    }
+
+    /**
+     * Welds the corners of the passed mesh that belong to the same mesh vertex and to faces of
+     * the very same normal, writing the vertex of each corner into the passed array and returning
+     * how many vertices there are. The corners of one mesh vertex are chained together, one per
+     * distinct normal, such that each corner is compared only with the few around its vertex.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramCornerFaces <code>int[]</code>, the face of each corner
+     * @param paramWelded <code>int[]</code>, written with the vertex of each corner
+     * @return <code>int</code>
+     */
+    private static int weld(PolyhedronMesh paramMesh, int[] paramCornerFaces, int[] paramWelded) {
+
+      // Declarations
+      int count, vertex, other;
+      final int[] firstCorners, nextCorners;
+
+      // Definitions
+      firstCorners = new int[paramMesh.getVertexCount()];
+      nextCorners = new int[paramWelded.length];
+      count = 0;
+      Arrays.fill(firstCorners, -1);
+
+      for (int i = 0; i < paramWelded.length; i++) {
+        vertex = paramMesh.getFaceIndex(i);
+        paramWelded[i] = -1;
+        for (other = firstCorners[vertex]; other != -1; other = nextCorners[other]) {
+          if (paramMesh.getFaceNormal(paramCornerFaces[i], 0)
+                == paramMesh.getFaceNormal(paramCornerFaces[other], 0)
+              && paramMesh.getFaceNormal(paramCornerFaces[i], 1)
+                == paramMesh.getFaceNormal(paramCornerFaces[other], 1)
+              && paramMesh.getFaceNormal(paramCornerFaces[i], 2)
+                == paramMesh.getFaceNormal(paramCornerFaces[other], 2)) {
+            paramWelded[i] = paramWelded[other];
+            break;
+          }
+        }
+        if (paramWelded[i] == -1) {
+          paramWelded[i] = count++;
+          nextCorners[i] = firstCorners[vertex];
+          firstCorners[vertex] = i;
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Returns the passed triangle list reordered for the post-transform vertex cache. Each
+     * vertex keeps a list of its triangles not yet emitted and a score from its position in the
+     * modelled cache and the length of that list, and each triangle the sum of its vertices'
+     * scores. After a triangle is emitted, its vertices move to the front of the cache, and only
+     * the vertices of the cache and the triangles around them are scored again, the best of which
+     * is emitted next; should none be left around the cache, the next triangle not yet emitted in
+     * the original order is taken instead, keeping the whole linear in the number of triangles.
+     *
+     * @param paramTriangles <code>int[]</code>, three vertices per triangle
+     * @param paramVertexCount <code>int</code>
+     * @return <code>int[]</code>
+     */
+    private static int[] reorder(int[] paramTriangles, int paramVertexCount) {
+
+      // Declarations
+      int best, cursor, vertex, triangle, size, newSize, last;
+      float bestScore;
+      final int[] offsets, adjacent, remaining, positions, cache, newCache, ordered;
+      final float[] vertexScores, triangleScores;
+      final boolean[] emitted;
+
+      // Definitions
+      offsets = new int[paramVertexCount + 1];
+      adjacent = new int[paramTriangles.length];
+      remaining = new int[paramVertexCount];
+      positions = new int[paramVertexCount];
+      cache = new int[MeshOptimizer.CACHE_SIZE + 3];
+      newCache = new int[MeshOptimizer.CACHE_SIZE + 3];
+      ordered = new int[paramTriangles.length];
+      vertexScores = new float[paramVertexCount];
+      triangleScores = new float[paramTriangles.length / 3];
+      emitted = new boolean[paramTriangles.length / 3];
+      best = -1;
+      bestScore = -1;
+      cursor = 0;
+      size = 0;
+
+      // The triangles around each vertex, listed one vertex after another
+      for (int i = 0; i < paramTriangles.length; i++) {
+        offsets[paramTriangles[i] + 1]++;
+      }
+      for (int i = 0; i < paramVertexCount; i++) {
+        offsets[i + 1] += offsets[i];
+      }
+      for (int i = 0; i < paramTriangles.length; i++) {
+        vertex = paramTriangles[i];
+        adjacent[offsets[vertex] + remaining[vertex]++] = i / 3;
+      }
+      Arrays.fill(positions, -1);
+      for (int i = 0; i < paramVertexCount; i++) {
+        vertexScores[i] = MeshOptimizer.scoreOf(-1, remaining[i]);
+      }
+      for (int i = 0; i < triangleScores.length; i++) {
+        triangleScores[i] = vertexScores[paramTriangles[3 * i]]
+          + vertexScores[paramTriangles[3 * i + 1]] + vertexScores[paramTriangles[3 * i + 2]];
+        if (triangleScores[i] > bestScore) {
+          best = i;
+          bestScore = triangleScores[i];
+        }
+      }
+
+      for (int i = 0; i < triangleScores.length; i++) {
+        if (best == -1) {
+          while (emitted[cursor]) {
+            cursor++;
+          }
+          best = cursor;
+        }
+        emitted[best] = true;
+
+        // Emit the triangle, taking it off the lists of its vertices and putting them in front,
+        // marked as such for the moment
+        newSize = 0;
+        for (int j = 0; j < 3; j++) {
+          vertex = paramTriangles[3 * best + j];
+          ordered[3 * i + j] = vertex;
+          last = offsets[vertex] + remaining[vertex] - 1;
+          for (int k = offsets[vertex]; k <= last; k++) {
+            if (adjacent[k] == best) {
+              adjacent[k] = adjacent[last];
+              remaining[vertex]--;
+              break;
+            }
+          }
+          if (positions[vertex] != -2) {
+            positions[vertex] = -2;
+            newCache[newSize++] = vertex;
+          }
+        }
+
+        // The rest of the cache behind them, its oldest falling out
+        for (int j = 0; j < size; j++) {
+          vertex = cache[j];
+          if (positions[vertex] != -2) {
+            newCache[newSize++] = vertex;
+          }
+        }
+
+        // Rescore the vertices that moved and the triangles around them
+        best = -1;
+        bestScore = -1;
+        for (int j = 0; j < newSize; j++) {
+          vertex = newCache[j];
+          positions[vertex] = (j < MeshOptimizer.CACHE_SIZE) ? j : -1;
+          vertexScores[vertex] = MeshOptimizer.scoreOf(positions[vertex], remaining[vertex]);
+        }
+        for (int j = 0; j < newSize; j++) {
+          vertex = newCache[j];
+          for (int k = offsets[vertex]; k < offsets[vertex] + remaining[vertex]; k++) {
+            triangle = adjacent[k];
+            triangleScores[triangle] = vertexScores[paramTriangles[3 * triangle]]
+              + vertexScores[paramTriangles[3 * triangle + 1]]
+              + vertexScores[paramTriangles[3 * triangle + 2]];
+            if (triangleScores[triangle] > bestScore) {
+              best = triangle;
+              bestScore = triangleScores[triangle];
+            }
+          }
+        }
+
+        size = Math.min(newSize, MeshOptimizer.CACHE_SIZE);
+        System.arraycopy(newCache, 0, cache, 0, size);
+      }
+      return ordered;
+    }
+
+    /**
+     * Returns the score of a vertex at the passed position of the cache, -1 if outside it, with
+     * the passed number of triangles left, or -1 if it has none left to be emitted.
+     *
+     * @param paramPosition <code>int</code>
+     * @param paramRemaining <code>int</code>
+     * @return <code>float</code>
+     */
+    private static float scoreOf(int paramPosition, int paramRemaining) {
+      if (paramRemaining == 0) {
+        return -1;
+      }
+      return ((paramPosition < 0) ? 0 : MeshOptimizer.POSITION_SCORES[paramPosition])
+        + ((paramRemaining < MeshOptimizer.VALENCE_SCORES.length)
+          ? MeshOptimizer.VALENCE_SCORES[paramRemaining]
+          : MeshOptimizer.VALENCE_BOOST_SCALE
+            * (float) Math.pow(paramRemaining, MeshOptimizer.VALENCE_BOOST_POWER));
+    }
+
+    /**
+     * Returns the number of vertices that the passed triangle list has transformed, drawn through
+     * a first-in, first-out cache of <code>FIFO_SIZE</code> entries. Rather than keeping the
+     * cache itself, each vertex records the miss count at which it last entered it, and is still
+     * in it for as long as no more than <code>FIFO_SIZE</code> misses have followed.
+     *
+     * @param paramTriangles <code>int[]</code>
+     * @param paramVertexCount <code>int</code>
+     * @return <code>int</code>
+     */
+    private static int countMisses(int[] paramTriangles, int paramVertexCount) {
+
+      // Declarations
+      int misses;
+      final int[] entered;
+
+      // Definitions
+      entered = new int[paramVertexCount];
+      misses = 0;
+      Arrays.fill(entered, -MeshOptimizer.FIFO_SIZE - 1);
+
+      for (int i = 0; i < paramTriangles.length; i++) {
+        if (misses - entered[paramTriangles[i]] > MeshOptimizer.FIFO_SIZE) {
+          entered[paramTriangles[i]] = misses++;
+        }
+      }
+      return misses;
+    }
+
+    /**
+     * Builds <code>POSITION_SCORES</code>, the last triangle's three vertices held at a fixed
+     * score and the rest falling off towards the end of the cache.
+     *
+     * @return <code>float[]</code>
+     */
+    private static float[] positionScores() {
+
+      // Declaration
+      final float[] scores;
+
+      // Definition
+      scores = new float[MeshOptimizer.CACHE_SIZE];
+
+      for (int i = 0; i < scores.length; i++) {
+        scores[i] = (i < 3)
+          ? MeshOptimizer.LAST_TRIANGLE_SCORE
+          : (float) Math.pow(1 - (i - 3) / (double) (MeshOptimizer.CACHE_SIZE - 3),
+            MeshOptimizer.CACHE_DECAY_POWER);
+      }
+      return scores;
+    }
+
+    /**
+     * Builds <code>VALENCE_SCORES</code>, the boost of a vertex with each number of triangles
+     * left, the first entry of which is unused.
+     *
+     * @return <code>float[]</code>
+     */
+    private static float[] valenceScores() {
+
+      // Declaration
+      final float[] scores;
+
+      // Definition
+      scores = new float[MeshOptimizer.CACHE_SIZE];
+
+      for (int i = 1; i < scores.length; i++) {
+        scores[i] = MeshOptimizer.VALENCE_BOOST_SCALE
+          * (float) Math.pow(i, MeshOptimizer.VALENCE_BOOST_POWER);
+      }
+      return scores;
+    }
+  }
+
+  /**
+   * This class implements the retained-mode render path for a
+   * <code>FourLights.PolyhedronMesh</code>. The original
+   * <code>FourLights.SceneGLEventListener#drawShape</code> loop sends every vertex of every face
+   * through <code>glVertex</code> calls twice per repaint, once as a <code>GL_TRIANGLE_FAN</code>
+   * and once as a <code>GL_LINE_LOOP</code>, which for the truncated icosahedron amounts to
+   * sixty-four <code>glBegin</code>/<code>glEnd</code> pairs per frame. This class instead uploads
+   * the mesh once into a vertex buffer and an index buffer and draws the filled faces and black
+   * outlines with exactly two <code>glDrawElements</code> calls.
+   * <br />
+   * <br />
+   * The vertex buffer holds one interleaved position and normal per face corner, welded between
+   * coplanar neighbours, and the index buffer the triangle fans of every face converted to one
+   * triangle list, followed by every distinct edge of the face loops as a line segment, both built
+   * and ordered for the vertex cache by <code>FourLights.MeshOptimizer</code>. Drawing goes through
+   * the fixed-function client arrays so that the existing lighting and
+   * <code>GL_COLOR_MATERIAL</code> setup applies unchanged, and the array setup is recorded in a
+   * vertex array object where the context offers one. Nothing beyond OpenGL 1.5 buffer objects is
+   * strictly required, which keeps the path usable on Mesa's llvmpipe software rasterizer.
+   *
+   * @see FourLights.SceneGLEventListener#drawShape
+   * @see FourLights.MeshOptimizer
+   * @author Andrew Eissen
+   */
+  private final static class RetainedShapeRenderer {
+
+    /** Byte stride between consecutive interleaved vertices */
+    private final static int VERTEX_STRIDE = MeshOptimizer.FLOATS_PER_VERTEX * Float.BYTES;
+
+    /** Byte offset of the normal within an interleaved vertex */
+    private final static int NORMAL_OFFSET = 3 * Float.BYTES;
+
+    // Class fields
+    private int vertexArray, vertexBuffer, indexBuffer, triangleIndexCount, lineIndexCount;
+    private boolean uploaded;
+    private PolyhedronMesh preparedMesh;
+    private MeshOptimizer preparedData;
+    private MeshEdges edges;
+
+    /** Default constructor */
+    private RetainedShapeRenderer() {
+      this.forget();
+      this.setPreparedMesh(null);
+      this.setEdges(null);
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.vertexArray</code>
+     *
+     * @param vertexArray <code>int</code>
+     * @return void
+     */
+    private void setVertexArray(int vertexArray) {
+      this.vertexArray = vertexArray;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.preparedMesh</code>, discarding any data built for
+     * the previous one
+     *
+     * @param preparedMesh <code>PolyhedronMesh</code>, or <code>null</code>
+     * @return void
+     */
+    private void setPreparedMesh(PolyhedronMesh preparedMesh) {
+      this.preparedMesh = preparedMesh;
+      this.preparedData = null;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.edges</code>
+     *
+     * @param edges <code>MeshEdges</code>, or <code>null</code>
+     * @return void
+     */
+    private void setEdges(MeshEdges edges) {
+      this.edges = edges;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.vertexBuffer</code>
+     *
+     * @param vertexBuffer <code>int</code>
+     * @return void
+     */
+    private void setVertexBuffer(int vertexBuffer) {
+      this.vertexBuffer = vertexBuffer;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.indexBuffer</code>
+     *
+     * @param indexBuffer <code>int</code>
+     * @return void
+     */
+    private void setIndexBuffer(int indexBuffer) {
+      this.indexBuffer = indexBuffer;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.triangleIndexCount</code>
+     *
+     * @param triangleIndexCount <code>int</code>
+     * @return void
+     */
+    private void setTriangleIndexCount(int triangleIndexCount) {
+      this.triangleIndexCount = triangleIndexCount;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.lineIndexCount</code>
+     *
+     * @param lineIndexCount <code>int</code>
+     * @return void
+     */
+    private void setLineIndexCount(int lineIndexCount) {
+      this.lineIndexCount = lineIndexCount;
+    }
+
+    /**
+     * Setter for <code>RetainedShapeRenderer.uploaded</code>
+     *
+     * @param uploaded <code>boolean</code>
+     * @return void
+     */
+    private void setUploaded(boolean uploaded) {
+      this.uploaded = uploaded;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.vertexArray</code>
+     *
+     * @return vertexArray <code>int</code>, 0 if no vertex array object is in use
+     */
+    private int getVertexArray() {
+      return this.vertexArray;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.vertexBuffer</code>
+     *
+     * @return vertexBuffer <code>int</code>
+     */
+    private int getVertexBuffer() {
+      return this.vertexBuffer;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.indexBuffer</code>
+     *
+     * @return indexBuffer <code>int</code>
+     */
+    private int getIndexBuffer() {
+      return this.indexBuffer;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.triangleIndexCount</code>
+     *
+     * @return triangleIndexCount <code>int</code>
+     */
+    private int getTriangleIndexCount() {
+      return this.triangleIndexCount;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.lineIndexCount</code>
+     *
+     * @return lineIndexCount <code>int</code>
+     */
+    private int getLineIndexCount() {
+      return this.lineIndexCount;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.uploaded</code>
+     *
+     * @return uploaded <code>boolean</code>
+     */
+    private boolean isUploaded() {
+      return this.uploaded;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.preparedMesh</code>
+     *
+     * @return preparedMesh <code>PolyhedronMesh</code>, or <code>null</code>
+     */
+    private PolyhedronMesh getPreparedMesh() {
+      return this.preparedMesh;
+    }
+
+    /**
+     * Getter for <code>RetainedShapeRenderer.edges</code>
+     *
+     * @return edges <code>MeshEdges</code>, or <code>null</code> if none were needed yet
+     */
+    private MeshEdges getEdges() {
+      return this.edges;
+    }
+
+    // Utility methods
+
+    /**
+     * This method builds and orders, ahead of the upload and on any thread, the interleaved vertex
+     * data and the combined index list of the mesh set by <code>setPreparedMesh</code>, which
+     * needs no GL
+     * context, such that <code>FourLights.StartupProfile</code> may have it done while the
+     * context is being created. The thread calling <code>upload</code> must have waited for this
+     * method to return.
+     *
+     * @return void
+     */
+    private void prepare() {
+      this.preparedData = new MeshOptimizer(this.getPreparedMesh());
+    }
+
+    /**
+     * Returns the distinct edges of the passed mesh, found on the first call for it and kept for
+     * the later ones, for use when the mesh is drawn face by face rather than uploaded.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return <code>MeshEdges</code>
+     */
+    private MeshEdges edgesOf(PolyhedronMesh paramMesh) {
+      if (this.getEdges() == null || this.getEdges().getMesh() != paramMesh) {
+        this.setEdges(new MeshEdges(paramMesh));
+      }
+      return this.getEdges();
+    }
+
+    /**
+     * This method builds the interleaved vertex data and the combined triangle and line index list
+     * from the passed mesh, unless <code>prepare</code> already has, and uploads both into new
+     * buffer objects, printing how well the order uses the vertex cache. The temporary direct
+     * buffers are only needed for the duration of the upload. If the context provides vertex array
+     * objects, the client array configuration is recorded into one here so that drawing only needs
+     * to bind it.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return void
+     */
+    private void upload(GL2 paramGl, PolyhedronMesh paramMesh) {
+
+      // Declarations
+      final int newTriangleIndexCount, newLineIndexCount;
+      final MeshOptimizer tempData;
+      final FloatBuffer vertexData;
+      final IntBuffer indexData;
+      final int[] names;
+
+      // Definitions
+      tempData = (paramMesh == this.getPreparedMesh() && this.preparedData != null)
+        ? this.preparedData
+        : new MeshOptimizer(paramMesh);
+      this.setPreparedMesh(null);
+      vertexData = tempData.getVertexData();
+      indexData = tempData.getIndexData();
+      newTriangleIndexCount = tempData.getTriangleIndexCount();
+      newLineIndexCount = indexData.capacity() - newTriangleIndexCount;
+      names = new int[2];
+
+      // Create buffer objects and, if possible, a vertex array object to capture their layout
+      paramGl.glGenBuffers(2, names, 0);
+      this.setVertexBuffer(names[0]);
+      this.setIndexBuffer(names[1]);
+      if (paramGl.isFunctionAvailable("glGenVertexArrays")) {
+        paramGl.glGenVertexArrays(1, names, 0);
+        this.setVertexArray(names[0]);
+        paramGl.glBindVertexArray(this.getVertexArray());
+      }
+
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.getVertexBuffer());
+      paramGl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) vertexData.capacity() * Float.BYTES,
+        vertexData, GL2.GL_STATIC_DRAW);
+      paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, this.getIndexBuffer());
+      paramGl.glBufferData(GL2.GL_ELEMENT_ARRAY_BUFFER, (long) indexData.capacity() * Integer.BYTES,
+        indexData, GL2.GL_STATIC_DRAW);
+
+      if (this.getVertexArray() != 0) {
+        this.enableArrays(paramGl);
+        paramGl.glBindVertexArray(0);
+      }
+
+      paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, 0);
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+
+      this.setTriangleIndexCount(newTriangleIndexCount);
+      this.setLineIndexCount(newLineIndexCount);
+      this.setUploaded(true);
+      System.out.println("Uploaded " + tempData.describe());
+    }
+
+    /**
+     * This method draws the uploaded mesh, the filled faces in the first passed color followed by
+     * the outlines in the second, replicating the two passes of the immediate-mode loop. Only the
+     * current color changes between the two draw calls, as the rest of the state is shared.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramFaceColor <code>float[]</code>
+     * @param paramEdgeColor <code>float[]</code>, or <code>null</code> to leave out the outlines
+     * @return void
+     */
+    private void draw(GL2 paramGl, float[] paramFaceColor, float[] paramEdgeColor) {
+
+      // Bind the recorded layout, or set it up by hand if no vertex array object is available
+      if (this.getVertexArray() != 0) {
+        paramGl.glBindVertexArray(this.getVertexArray());
+      } else {
+        paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.getVertexBuffer());
+        paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, this.getIndexBuffer());
+        this.enableArrays(paramGl);
+      }
+
+      // Filled faces
+      paramGl.glColor3f(paramFaceColor[0], paramFaceColor[1], paramFaceColor[2]);
+      paramGl.glDrawElements(GL2.GL_TRIANGLES, this.getTriangleIndexCount(), GL2.GL_UNSIGNED_INT,
+        0L);
+
+      // Black borders, stored directly after the triangles
+      if (paramEdgeColor != null) {
+        paramGl.glColor3f(paramEdgeColor[0], paramEdgeColor[1], paramEdgeColor[2]);
+        paramGl.glDrawElements(GL2.GL_LINES, this.getLineIndexCount(), GL2.GL_UNSIGNED_INT,
+          (long) this.getTriangleIndexCount() * Integer.BYTES);
+      }
+
+      // Restore default bindings
+      if (this.getVertexArray() != 0) {
+        paramGl.glBindVertexArray(0);
+      } else {
+        paramGl.glDisableClientState(GL2.GL_NORMAL_ARRAY);
+        paramGl.glDisableClientState(GL2.GL_VERTEX_ARRAY);
+        paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, 0);
+        paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+      }
+    }
+
+    /**
+     * This method deletes any buffer objects created by <code>upload</code>. It must be called
+     * while the context that created them is current.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void release(GL2 paramGl) {
+
+      // Declaration
+      final int[] names;
+
+      if (this.isUploaded()) {
+        names = new int[] {this.getVertexBuffer(), this.getIndexBuffer(), this.getVertexArray()};
+        paramGl.glDeleteBuffers(2, names, 0);
+        if (names[2] != 0) {
+          paramGl.glDeleteVertexArrays(1, names, 2);
+        }
+        this.forget();
+      }
+    }
+
+    /**
+     * Resets the renderer to its not-uploaded state without issuing any GL calls, for use when the
+     * context owning the buffers has already been destroyed.
+     *
+     * @return void
+     */
+    private void forget() {
+      this.setVertexArray(0);
+      this.setVertexBuffer(0);
+      this.setIndexBuffer(0);
+      this.setTriangleIndexCount(0);
+      this.setLineIndexCount(0);
+      this.setUploaded(false);
+    }
+
+    /**
+     * Enables the vertex and normal client arrays and points them at the currently bound
+     * interleaved vertex buffer.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void enableArrays(GL2 paramGl) {
+      paramGl.glEnableClientState(GL2.GL_VERTEX_ARRAY);
+      paramGl.glEnableClientState(GL2.GL_NORMAL_ARRAY);
+      paramGl.glVertexPointer(3, GL2.GL_FLOAT, RetainedShapeRenderer.VERTEX_STRIDE, 0L);
+      paramGl.glNormalPointer(GL2.GL_FLOAT, RetainedShapeRenderer.VERTEX_STRIDE,
+        RetainedShapeRenderer.NORMAL_OFFSET);
+    }
+  }
+
+  /**
+   * This static class is the shader-based lighting of <code>--lighting tiled</code>, lifting the
+   * limit of eight lights that the fixed-function <code>GL_LIGHTn</code> slots impose. Each frame,
+   * the lights are gathered into a floating point texture in eye space, three texels apiece
+   * holding the position and range, the diffuse color, and the ambient color. The screen is then
+   * split into tiles of <code>TILE_SIZE</code> pixels, and on the CPU each light with a finite
+   * range has the bounding rectangle of its sphere of influence projected onto the screen and is
+   * listed against every tile that rectangle covers, after the manner of tiled forward
+   * rendering. These per-tile lists are uploaded as two more textures, one holding each tile's
+   * offset and count and the other the light indices, so that the GLSL 1.30 fragment shader
+   * evaluates only the lights listed for its own tile.
+   * <br />
+   * <br />
+   * The shader reproduces the terms of the fixed-function lighting the scene actually uses: the
+   * global ambient and each light's ambient and diffuse contributions, with the normal flipped on
+   * back faces as two-sided lighting does, the material's specular color being black. It does
+   * so per pixel rather than per vertex. A range of zero marks a point light without falloff,
+   * like the three <code>LightSource</code> lights, and a negative range a directional light like
+   * the viewpoint light. Lights of finite range fade out quadratically to nothing at their
+   * range, and those whose spheres cross the near plane are conservatively listed for every
+   * tile. Tiles are culled in two dimensions only, without per-tile depth bounds, as the scene
+   * is a single object rather than a deep one.
+   * <br />
+   * <br />
+   * All arrays are kept from frame to frame and only grown, and are wrapped once as buffers for
+   * the texture uploads, so a frame of a steady light count allocates nothing. The view and
+   * projection matrices and the viewport size are handed over at the start of each frame from
+   * the two <code>FourLights.MatrixStack</code> instances, rather than read back from the context.
+   *
+   * @see FourLights.SceneGLEventListener#applyTiledLighting
+   * @see FourLights.OrbitingLights
+   * @author Andrew Eissen
+   */
+  private final static class TiledLightRenderer {
+
+    /** Width and height of a screen tile in pixels, set to 16 */
+    private final static int TILE_SIZE = 16;
+
+    /** Texels per light in the light texture: position and range, diffuse, and ambient */
+    private final static int LIGHT_TEXELS = 3;
+
+    /** Width in texels of the light and light index textures, filled row by row, set to 1024 */
+    private final static int TEXTURE_WIDTH = 1024;
+
+    /** Texture unit of the light texture, followed by those of the tile and index textures */
+    private final static int FIRST_UNIT = 1;
+
+    /** Vertex shader, passing the eye-space position, normal, and color on per fragment */
+    private final static String VERTEX_SHADER = String.join("\n",
+      "#version 130",
+      "out vec3 eyePosition;",
+      "out vec3 eyeNormal;",
+      "out vec4 materialColor;",
+      "void main() {",
+      "  eyePosition = vec3(gl_ModelViewMatrix * gl_Vertex);",
+      "  eyeNormal = gl_NormalMatrix * gl_Normal;",
+      "  materialColor = gl_Color;",
+      "  gl_Position = ftransform();",
+      "}");
+
+    /** Fragment shader, lighting each fragment by the lights listed for its tile */
+    private final static String FRAGMENT_SHADER = String.join("\n",
+      "#version 130",
+      "uniform sampler2D lightData;",
+      "uniform sampler2D tileData;",
+      "uniform sampler2D lightIndices;",
+      "uniform int tileSize;",
+      "uniform int textureWidth;",
+      "uniform vec3 sceneAmbient;",
+      "in vec3 eyePosition;",
+      "in vec3 eyeNormal;",
+      "in vec4 materialColor;",
+      "ivec2 texelOf(int index) {",
+      "  return ivec2(index % textureWidth, index / textureWidth);",
+      "}",
+      "void main() {",
+      "  vec3 normal = normalize(gl_FrontFacing ? eyeNormal : -eyeNormal);",
+      "  vec2 tile = texelFetch(tileData, ivec2(gl_FragCoord.xy) / tileSize, 0).rg;",
+      "  vec3 lit = sceneAmbient;",
+      "  for (int i = 0; i < int(tile.y); i++) {",
+      "    int light = 3 * int(texelFetch(lightIndices, texelOf(int(tile.x) + i), 0).r);",
+      "    vec4 place = texelFetch(lightData, texelOf(light), 0);",
+      "    vec3 diffuse = texelFetch(lightData, texelOf(light + 1), 0).rgb;",
+      "    vec3 ambient = texelFetch(lightData, texelOf(light + 2), 0).rgb;",
+      "    vec3 toLight = (place.w < 0.0) ? place.xyz : place.xyz - eyePosition;",
+      "    float distance = length(toLight);",
+      "    float falloff = (place.w > 0.0) ? pow(max(1.0 - distance / place.w, 0.0), 2.0) : 1.0;",
+      "    lit += falloff * (ambient + diffuse * max(dot(normal, toLight / distance), 0.0));",
+      "  }",
+      "  gl_FragColor = vec4(lit * materialColor.rgb, materialColor.a);",
+      "}");
+
+    // Class fields
+    private int program, tileSizeLocation, textureWidthLocation, sceneAmbientLocation;
+    private final int[] textures;
+    private final float[] view, projection;
+    private int width, height, tilesX, tilesY, lightCount, lightCapacity, listedCount;
+    private int lightRows, indexRows, allocatedLightRows, allocatedIndexRows, allocatedTilesX,
+      allocatedTilesY;
+    private float[] lightData, tileData, indexData;
+    private int[] lightBounds, tileCounts, tileCursors;
+    private FloatBuffer lightBuffer, tileBuffer, indexBuffer;
+    private long listedLights, cullNanos, frameCount;
+
+    /** Default constructor */
+    private TiledLightRenderer() {
+      this.textures = new int[3];
+      this.view = new float[16];
+      this.projection = new float[16];
+      this.ensureLightCapacity(TiledLightRenderer.TEXTURE_WIDTH / TiledLightRenderer.LIGHT_TEXELS);
+      this.ensureIndexCapacity(TiledLightRenderer.TEXTURE_WIDTH);
+      this.ensureTileCapacity(1, 1);
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>TiledLightRenderer.program</code>
+     *
+     * @return program <code>int</code>, or 0 before <code>prepare</code>
+     */
+    private int getProgram() {
+      return this.program;
+    }
+
+    // Utility methods
+
+    /**
+     * Compiles and links the shaders and creates the three textures in the given context. Should
+     * the context not support GLSL 1.30, a <code>GLException</code> carrying the compiler's log
+     * is thrown and nothing is left behind.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void prepare(GL2 paramGl) {
+
+      // Declaration
+      final int linkedProgram;
+
+      // Definition
+      linkedProgram = ShaderPrograms.link(paramGl, "tiled lighting",
+        TiledLightRenderer.VERTEX_SHADER, TiledLightRenderer.FRAGMENT_SHADER, new String[0]);
+
+      this.program = linkedProgram;
+      this.tileSizeLocation = paramGl.glGetUniformLocation(linkedProgram, "tileSize");
+      this.textureWidthLocation = paramGl.glGetUniformLocation(linkedProgram, "textureWidth");
+      this.sceneAmbientLocation = paramGl.glGetUniformLocation(linkedProgram, "sceneAmbient");
+      paramGl.glUseProgram(linkedProgram);
+      paramGl.glUniform1i(paramGl.glGetUniformLocation(linkedProgram, "lightData"),
+        TiledLightRenderer.FIRST_UNIT);
+      paramGl.glUniform1i(paramGl.glGetUniformLocation(linkedProgram, "tileData"),
+        TiledLightRenderer.FIRST_UNIT + 1);
+      paramGl.glUniform1i(paramGl.glGetUniformLocation(linkedProgram, "lightIndices"),
+        TiledLightRenderer.FIRST_UNIT + 2);
+      paramGl.glUseProgram(0);
+
+      paramGl.glGenTextures(this.textures.length, this.textures, 0);
+      for (int texture : this.textures) {
+        paramGl.glBindTexture(GL2.GL_TEXTURE_2D, texture);
+        paramGl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MIN_FILTER, GL2.GL_NEAREST);
+        paramGl.glTexParameteri(GL2.GL_TEXTURE_2D, GL2.GL_TEXTURE_MAG_FILTER, GL2.GL_NEAREST);
+      }
+      paramGl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+      this.allocatedLightRows = 0;
+      this.allocatedIndexRows = 0;
+      this.allocatedTilesX = 0;
+      this.allocatedTilesY = 0;
+    }
+
+    /**
+     * Deletes the program and textures, while the context that owns them is still current.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void release(GL2 paramGl) {
+      if (this.program != 0) {
+        paramGl.glDeleteProgram(this.program);
+        paramGl.glDeleteTextures(this.textures.length, this.textures, 0);
+        this.program = 0;
+      }
+    }
+
+    /**
+     * Starts a frame, copying the passed projection and view matrices, the latter of which must
+     * be the bare camera transformation, for a viewport of the given size, and clearing the light
+     * list.
+     *
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramWidth <code>int</code> in pixels
+     * @param paramHeight <code>int</code> in pixels
+     * @return void
+     */
+    private void beginFrame(float[] paramProjection, float[] paramView, int paramWidth,
+        int paramHeight) {
+      System.arraycopy(paramProjection, 0, this.projection, 0, Matrices.SIZE);
+      System.arraycopy(paramView, 0, this.view, 0, Matrices.SIZE);
+      this.width = Math.max(1, paramWidth);
+      this.height = Math.max(1, paramHeight);
+      this.tilesX = (this.width + TiledLightRenderer.TILE_SIZE - 1) / TiledLightRenderer.TILE_SIZE;
+      this.tilesY = (this.height + TiledLightRenderer.TILE_SIZE - 1)
+        / TiledLightRenderer.TILE_SIZE;
+      this.ensureTileCapacity(this.tilesX, this.tilesY);
+      this.lightCount = 0;
+    }
+
+    /**
+     * Adds a light at the given world position, which is carried into eye space by the view
+     * matrix read at the start of the frame.
+     *
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @param paramRange <code>float</code> distance at which the light fades out, or 0 for none
+     * @param paramDiffuse <code>float[]</code> holding the RGB diffuse color
+     * @param paramDiffuseOffset <code>int</code> index of its red component
+     * @param paramAmbient <code>float[]</code> RGB ambient color
+     * @return void
+     */
+    private void addLight(float paramX, float paramY, float paramZ, float paramRange,
+        float[] paramDiffuse, int paramDiffuseOffset, float[] paramAmbient) {
+
+      // Declarations
+      final float[] tempView;
+
+      // Definitions
+      tempView = this.view;
+
+      this.addEyeLight(
+        tempView[0] * paramX + tempView[4] * paramY + tempView[8] * paramZ + tempView[12],
+        tempView[1] * paramX + tempView[5] * paramY + tempView[9] * paramZ + tempView[13],
+        tempView[2] * paramX + tempView[6] * paramY + tempView[10] * paramZ + tempView[14],
+        paramRange, paramDiffuse, paramDiffuseOffset, paramAmbient);
+    }
+
+    /**
+     * Adds a light given directly in eye space. A negative range makes it a directional light
+     * shining from the given direction, which must be of unit length.
+     *
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @param paramRange <code>float</code> distance at which the light fades out, 0 for none, or
+     *     negative for a directional light
+     * @param paramDiffuse <code>float[]</code> holding the RGB diffuse color
+     * @param paramDiffuseOffset <code>int</code> index of its red component
+     * @param paramAmbient <code>float[]</code> RGB ambient color
+     * @return void
+     */
+    private void addEyeLight(float paramX, float paramY, float paramZ, float paramRange,
+        float[] paramDiffuse, int paramDiffuseOffset, float[] paramAmbient) {
+
+      // Declarations
+      final int offset;
+      final float[] tempLightData;
+
+      this.ensureLightCapacity(this.lightCount + 1);
+
+      // Definitions
+      offset = this.lightCount * TiledLightRenderer.LIGHT_TEXELS * 4;
+      tempLightData = this.lightData;
+
+      tempLightData[offset] = paramX;
+      tempLightData[offset + 1] = paramY;
+      tempLightData[offset + 2] = paramZ;
+      tempLightData[offset + 3] = paramRange;
+      System.arraycopy(paramDiffuse, paramDiffuseOffset, tempLightData, offset + 4, 3);
+      System.arraycopy(paramAmbient, 0, tempLightData, offset + 8, 3);
+      this.lightCount++;
+    }
+
+    /**
+     * Lists every light against the tiles its sphere of influence may touch, by a counting sort:
+     * one pass bounds each light and counts the lights per tile, the counts are summed into
+     * offsets, and a second pass writes the light indices at those offsets.
+     *
+     * @return void
+     */
+    private void cull() {
+
+      // Declarations
+      int total, bound;
+      final long startTime;
+      final int tileCount;
+      final int[] tempBounds, tempCounts, tempCursors;
+      final float[] tempTileData;
+
+      // Definitions
+      startTime = System.nanoTime();
+      tileCount = this.tilesX * this.tilesY;
+      tempBounds = this.lightBounds;
+      tempCounts = this.tileCounts;
+      tempCursors = this.tileCursors;
+      tempTileData = this.tileData;
+
+      Arrays.fill(tempCounts, 0, tileCount, 0);
+      for (int light = 0; light < this.lightCount; light++) {
+        bound = light * 4;
+        if (this.bound(light, tempBounds, bound)) {
+          for (int y = tempBounds[bound + 1]; y <= tempBounds[bound + 3]; y++) {
+            for (int x = tempBounds[bound]; x <= tempBounds[bound + 2]; x++) {
+              tempCounts[y * this.tilesX + x]++;
+            }
+          }
+        } else {
+          tempBounds[bound] = 1;
+          tempBounds[bound + 1] = 1;
+          tempBounds[bound + 2] = 0;
+          tempBounds[bound + 3] = 0;
+        }
+      }
+
+      total = 0;
+      for (int tile = 0; tile < tileCount; tile++) {
+        tempCursors[tile] = total;
+        tempTileData[tile * 2] = total;
+        tempTileData[tile * 2 + 1] = tempCounts[tile];
+        total += tempCounts[tile];
+      }
+
+      this.ensureIndexCapacity(total);
+      for (int light = 0; light < this.lightCount; light++) {
+        bound = light * 4;
+        for (int y = tempBounds[bound + 1]; y <= tempBounds[bound + 3]; y++) {
+          for (int x = tempBounds[bound]; x <= tempBounds[bound + 2]; x++) {
+            this.indexData[tempCursors[y * this.tilesX + x]++] = light;
+          }
+        }
+      }
+
+      this.listedCount = total;
+      this.listedLights += total;
+      this.cullNanos += System.nanoTime() - startTime;
+      this.frameCount++;
+    }
+
+    /**
+     * Works out the inclusive range of tiles touched by the given light, writing it as the
+     * first and last tile column and row into the passed array, and returning whether the light
+     * can be seen at all. The screen rectangle bounds the sphere's extent in x and y divided by
+     * its nearest depth where that extent is negative and by its farthest where positive, which
+     * contains the sphere's projection without solving for its tangent planes. Under an
+     * orthographic projection, the extent is simply scaled.
+     *
+     * @param paramLight <code>int</code>
+     * @param paramBounds <code>int[]</code>
+     * @param paramOffset <code>int</code>
+     * @return <code>boolean</code>
+     */
+    private boolean bound(int paramLight, int[] paramBounds, int paramOffset) {
+
+      // Declarations
+      final int offset;
+      final float x, y, z, range, near, nearest, farthest;
+      final float[] tempProjection;
+      final boolean orthographic;
+      final double left, right, bottom, top;
+
+      // Definitions
+      offset = paramLight * TiledLightRenderer.LIGHT_TEXELS * 4;
+      x = this.lightData[offset];
+      y = this.lightData[offset + 1];
+      z = this.lightData[offset + 2];
+      range = this.lightData[offset + 3];
+      tempProjection = this.projection;
+      orthographic = tempProjection[11] == 0;
+      near = (orthographic)
+        ? (tempProjection[14] + 1) / tempProjection[10]
+        : tempProjection[14] / (tempProjection[10] - 1);
+      nearest = -z - range;
+      farthest = -z + range;
+
+      if (range > 0 && farthest < near) {
+        return false;
+      }
+      if (range <= 0 || nearest < near) {
+        paramBounds[paramOffset] = 0;
+        paramBounds[paramOffset + 1] = 0;
+        paramBounds[paramOffset + 2] = this.tilesX - 1;
+        paramBounds[paramOffset + 3] = this.tilesY - 1;
+        return true;
+      }
+
+      if (orthographic) {
+        left = tempProjection[0] * (x - range) + tempProjection[12];
+        right = tempProjection[0] * (x + range) + tempProjection[12];
+        bottom = tempProjection[5] * (y - range) + tempProjection[13];
+        top = tempProjection[5] * (y + range) + tempProjection[13];
+      } else {
+        left = tempProjection[0] * (x - range) / ((x - range < 0) ? nearest : farthest)
+          - tempProjection[8];
+        right = tempProjection[0] * (x + range) / ((x + range > 0) ? nearest : farthest)
+          - tempProjection[8];
+        bottom = tempProjection[5] * (y - range) / ((y - range < 0) ? nearest : farthest)
+          - tempProjection[9];
+        top = tempProjection[5] * (y + range) / ((y + range > 0) ? nearest : farthest)
+          - tempProjection[9];
+      }
+      if (right < -1 || left > 1 || top < -1 || bottom > 1) {
+        return false;
+      }
+
+      paramBounds[paramOffset] = this.tileOf(left, this.width, this.tilesX);
+      paramBounds[paramOffset + 1] = this.tileOf(bottom, this.height, this.tilesY);
+      paramBounds[paramOffset + 2] = this.tileOf(right, this.width, this.tilesX);
+      paramBounds[paramOffset + 3] = this.tileOf(top, this.height, this.tilesY);
+      return true;
+    }
+
+    /**
+     * Returns the tile column or row holding the given normalized device coordinate, clamped to
+     * the screen.
+     *
+     * @param paramCoordinate <code>double</code>
+     * @param paramPixels <code>int</code>
+     * @param paramTiles <code>int</code>
+     * @return <code>int</code>
+     */
+    private int tileOf(double paramCoordinate, int paramPixels, int paramTiles) {
+      return Math.max(0, Math.min(paramTiles - 1,
+        (int) ((paramCoordinate + 1) * 0.5 * paramPixels) / TiledLightRenderer.TILE_SIZE));
+    }
+
+    /**
+     * Uploads the frame's lights and tile lists into their textures, reallocating any texture
+     * that has grown.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void upload(GL2 paramGl) {
+      this.uploadRows(paramGl, this.textures[0], GL2.GL_RGBA32F, GL2.GL_RGBA, this.lightRows,
+        this.allocatedLightRows, TiledLightRenderer.rowsOf(this.lightCount
+        * TiledLightRenderer.LIGHT_TEXELS), this.lightBuffer);
+      this.allocatedLightRows = this.lightRows;
+      this.uploadRows(paramGl, this.textures[2], GL2.GL_R32F, GL2.GL_RED, this.indexRows,
+        this.allocatedIndexRows, TiledLightRenderer.rowsOf(this.listedCount), this.indexBuffer);
+      this.allocatedIndexRows = this.indexRows;
+
+      paramGl.glBindTexture(GL2.GL_TEXTURE_2D, this.textures[1]);
+      this.tileBuffer.rewind();
+      if (this.allocatedTilesX != this.tilesX || this.allocatedTilesY != this.tilesY) {
+        this.allocatedTilesX = this.tilesX;
+        this.allocatedTilesY = this.tilesY;
+        paramGl.glTexImage2D(GL2.GL_TEXTURE_2D, 0, GL2.GL_RG32F, this.tilesX, this.tilesY, 0,
+          GL2.GL_RG, GL2.GL_FLOAT, this.tileBuffer);
+      } else {
+        paramGl.glTexSubImage2D(GL2.GL_TEXTURE_2D, 0, 0, 0, this.tilesX, this.tilesY, GL2.GL_RG,
+          GL2.GL_FLOAT, this.tileBuffer);
+      }
+      paramGl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+    }
+
+    /**
+     * Uploads the leading rows of one of the two row-filled textures, first reallocating it
+     * should its array have grown since it was last allocated.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramTexture <code>int</code>
+     * @param paramInternalFormat <code>int</code>
+     * @param paramFormat <code>int</code>
+     * @param paramRows <code>int</code> rows held by the array
+     * @param paramAllocatedRows <code>int</code> rows held by the texture
+     * @param paramUsedRows <code>int</code> rows holding this frame's data
+     * @param paramBuffer <code>FloatBuffer</code> wrapping the array
+     * @return void
+     */
+    private void uploadRows(GL2 paramGl, int paramTexture, int paramInternalFormat,
+        int paramFormat, int paramRows, int paramAllocatedRows, int paramUsedRows,
+        FloatBuffer paramBuffer) {
+      paramGl.glBindTexture(GL2.GL_TEXTURE_2D, paramTexture);
+      if (paramAllocatedRows != paramRows) {
+        paramGl.glTexImage2D(GL2.GL_TEXTURE_2D, 0, paramInternalFormat,
+          TiledLightRenderer.TEXTURE_WIDTH, paramRows, 0, paramFormat, GL2.GL_FLOAT, null);
+      }
+      paramBuffer.rewind();
+      paramGl.glTexSubImage2D(GL2.GL_TEXTURE_2D, 0, 0, 0, TiledLightRenderer.TEXTURE_WIDTH,
+        paramUsedRows, paramFormat, GL2.GL_FLOAT, paramBuffer);
+    }
+
+    /**
+     * Binds the program and the textures for the shape about to be drawn.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramSceneAmbient <code>float[]</code> RGB global ambient color
+     * @return void
+     */
+    private void bind(GL2 paramGl, float[] paramSceneAmbient) {
+      paramGl.glUseProgram(this.program);
+      paramGl.glUniform1i(this.tileSizeLocation, TiledLightRenderer.TILE_SIZE);
+      paramGl.glUniform1i(this.textureWidthLocation, TiledLightRenderer.TEXTURE_WIDTH);
+      paramGl.glUniform3f(this.sceneAmbientLocation, paramSceneAmbient[0], paramSceneAmbient[1],
+        paramSceneAmbient[2]);
+      for (int i = 0; i < this.textures.length; i++) {
+        paramGl.glActiveTexture(GL2.GL_TEXTURE0 + TiledLightRenderer.FIRST_UNIT + i);
+        paramGl.glBindTexture(GL2.GL_TEXTURE_2D, this.textures[i]);
+      }
+      paramGl.glActiveTexture(GL2.GL_TEXTURE0);
+    }
+
+    /**
+     * Counterpart of the above, returning to the fixed-function pipeline.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void unbind(GL2 paramGl) {
+      for (int i = 0; i < this.textures.length; i++) {
+        paramGl.glActiveTexture(GL2.GL_TEXTURE0 + TiledLightRenderer.FIRST_UNIT + i);
+        paramGl.glBindTexture(GL2.GL_TEXTURE_2D, 0);
+      }
+      paramGl.glActiveTexture(GL2.GL_TEXTURE0);
+      paramGl.glUseProgram(0);
+    }
+
+    /**
+     * Summarizes the frames culled since the last call, namely the lights of the last frame,
+     * the mean number of lights listed per tile, and the mean CPU time spent culling, then
+     * starts counting afresh.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declarations
+      final long frames;
+      final String summary;
+
+      // Definitions
+      frames = Math.max(1, this.frameCount);
+      summary = String.format("%d light(s), %.2f listed per tile, culled in %.3f ms/frame",
+        this.lightCount, (double) this.listedLights / frames / Math.max(1, this.tilesX
+        * this.tilesY),
+        this.cullNanos / 1e6 / frames);
+
+      this.listedLights = 0;
+      this.cullNanos = 0;
+      this.frameCount = 0;
+      return summary;
+    }
+
+    /**
+     * Grows the light arrays to hold at least the given number of lights, in whole texture rows.
+     *
+     * @param paramLights <code>int</code>
+     * @return void
+     */
+    private void ensureLightCapacity(int paramLights) {
+
+      if (paramLights <= this.lightCapacity) {
+        return;
+      }
+
+      this.lightRows = TiledLightRenderer.rowsOf(Math.max(paramLights, this.lightCapacity * 2)
+        * TiledLightRenderer.LIGHT_TEXELS);
+      this.lightCapacity = this.lightRows * TiledLightRenderer.TEXTURE_WIDTH
+        / TiledLightRenderer.LIGHT_TEXELS;
+      this.lightData = (this.lightData == null)
+        ? new float[this.lightRows * TiledLightRenderer.TEXTURE_WIDTH * 4]
+        : Arrays.copyOf(this.lightData, this.lightRows * TiledLightRenderer.TEXTURE_WIDTH * 4);
+      this.lightBounds = new int[this.lightCapacity * 4];
+      this.lightBuffer = FloatBuffer.wrap(this.lightData);
+    }
+
+    /**
+     * Grows the light index array to hold at least the given number of entries, in whole
+     * texture rows.
+     *
+     * @param paramEntries <code>int</code>
+     * @return void
+     */
+    private void ensureIndexCapacity(int paramEntries) {
+      if (this.indexData == null || paramEntries > this.indexData.length) {
+        this.indexRows = TiledLightRenderer.rowsOf(Math.max(paramEntries,
+          (this.indexData == null) ? 0 : this.indexData.length * 2));
+        this.indexData = new float[this.indexRows * TiledLightRenderer.TEXTURE_WIDTH];
+        this.indexBuffer = FloatBuffer.wrap(this.indexData);
+      }
+    }
+
+    /**
+     * Grows the tile arrays to hold at least the given grid of tiles.
+     *
+     * @param paramTilesX <code>int</code>
+     * @param paramTilesY <code>int</code>
+     * @return void
+     */
+    private void ensureTileCapacity(int paramTilesX, int paramTilesY) {
+      if (this.tileCounts == null || this.tileCounts.length < paramTilesX * paramTilesY) {
+        this.tileCounts = new int[paramTilesX * paramTilesY];
+        this.tileCursors = new int[paramTilesX * paramTilesY];
+        this.tileData = new float[paramTilesX * paramTilesY * 2];
+        this.tileBuffer = FloatBuffer.wrap(this.tileData);
+      }
+    }
+
+    /**
+     * Returns the number of texture rows needed for the given number of texels, at least one.
+     *
+     * @param paramTexels <code>int</code>
+     * @return <code>int</code>
+     */
+    private static int rowsOf(int paramTexels) {
+      return Math.max(1, (paramTexels + TiledLightRenderer.TEXTURE_WIDTH - 1)
+        / TiledLightRenderer.TEXTURE_WIDTH);
+    }
+  }
+
+  /**
+   * This static class is the shader-based lighting of <code>--lighting uniform</code>, in which
+   * the fixed-function <code>GL_LIGHTn</code> slots and the <code>glLightfv</code> and
+   * <code>glMaterialfv</code> calls that set them up each frame give way to a single table of
+   * lights held in a uniform buffer object. Each frame, the lights are written into an array laid
+   * out as the <code>std140</code> block <code>LightTable</code> of the fragment shader, namely
+   * the global ambient color and the light count followed by <code>LIGHT_FLOATS</code> floats per
+   * light holding its eye-space position, its diffuse color with the enabled bit in the alpha,
+   * and its ambient color, and the used part of that array is uploaded by one
+   * <code>glBufferSubData</code>. A <code>w</code> of zero in the position marks a directional
+   * light like the viewpoint light, and one of one a point light like the three
+   * <code>LightSource</code> lights.
+   * <br />
+   * <br />
+   * The fragment shader reproduces the terms of the fixed-function lighting the scene uses, as
+   * that of <code>FourLights.TiledLightRenderer</code> does, but per pixel and over every enabled
+   * light of the table without any culling, adding the material's emission, which is passed as
+   * the <code>materialEmission</code> uniform. The ambient and diffuse colors of the material
+   * still come from <code>glColor</code>, as with <code>GL_COLOR_MATERIAL</code>, since the shape
+   * and its outlines are colored that way between draws. As the shaders are GLSL 1.30, with the
+   * block layout taken from the <code>GL_ARB_uniform_buffer_object</code> extension, they also
+   * run on Mesa's llvmpipe.
+   *
+   * @see FourLights.SceneGLEventListener#applyUniformLighting
+   * @see FourLights.TiledLightRenderer
+   * @author Andrew Eissen
+   */
+  private final static class UniformLightRenderer {
+
+    /** Lights the table holds at most, set to 256 so that it fits the smallest allowed block */
+    private final static int MAX_LIGHTS = 256;
+
+    /** Floats ahead of the lights: the global ambient color, then the light count and padding */
+    private final static int HEADER_FLOATS = 8;
+
+    /** Floats per light: position, diffuse color and enabled bit, and ambient color */
+    private final static int LIGHT_FLOATS = 12;
+
+    /** Binding point of the uniform buffer, set to 1 */
+    private final static int BLOCK_BINDING = 1;
+
+    /** Fragment shader, lighting each fragment by every enabled light of the table */
+    private final static String FRAGMENT_SHADER = String.join("\n",
+      "#version 130",
+      "#extension GL_ARB_uniform_buffer_object : require",
+      "struct Light {",
+      "  vec4 position;",
+      "  vec4 diffuse;",
+      "  vec4 ambient;",
+      "};",
+      "layout(std140) uniform LightTable {",
+      "  vec4 sceneAmbient;",
+      "  int lightCount;",
+      "  Light lights[" + UniformLightRenderer.MAX_LIGHTS + "];",
+      "};",
+      "uniform vec3 materialEmission;",
+      "in vec3 eyePosition;",
+      "in vec3 eyeNormal;",
+      "in vec4 materialColor;",
+      "void main() {",
+      "  vec3 normal = normalize(gl_FrontFacing ? eyeNormal : -eyeNormal);",
+      "  vec3 lit = sceneAmbient.rgb;",
+      "  for (int i = 0; i < lightCount; i++) {",
+      "    if (lights[i].diffuse.a > 0.0) {",
+      "      vec4 place = lights[i].position;",
+      "      vec3 toLight = normalize(place.xyz - place.w * eyePosition);",
+      "      lit += lights[i].ambient.rgb",
+      "        + lights[i].diffuse.rgb * max(dot(normal, toLight), 0.0);",
+      "    }",
+      "  }",
+      "  gl_FragColor = vec4(materialEmission + lit * materialColor.rgb, materialColor.a);",
+      "}");
+
+    // Class fields
+    private int program, buffer, emissionLocation, lightCount, enabledCount;
+    private final float[] view, table, emission;
+    private final FloatBuffer tableBuffer;
+    private long uploadedBytes, frameCount;
+
+    /** Default constructor */
+    private UniformLightRenderer() {
+      this.view = new float[16];
+      this.table = new float[UniformLightRenderer.HEADER_FLOATS
+        + UniformLightRenderer.MAX_LIGHTS * UniformLightRenderer.LIGHT_FLOATS];
+      this.tableBuffer = FloatBuffer.wrap(this.table);
+      this.emission = new float[3];
+    }
+
+    // Utility methods
+
+    /**
+     * Compiles and links the shaders, the vertex shader being that of
+     * <code>FourLights.TiledLightRenderer</code>, and creates the uniform buffer in the given
+     * context, binding it to the program's light table. Should the context support neither GLSL
+     * 1.30 nor uniform buffers, a <code>GLException</code> is thrown and nothing is left behind.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void prepare(GL2 paramGl) {
+
+      // Declarations
+      final int linkedProgram, blockIndex;
+      final int[] names;
+
+      // Definitions
+      linkedProgram = ShaderPrograms.link(paramGl, "uniform lighting",
+        TiledLightRenderer.VERTEX_SHADER, UniformLightRenderer.FRAGMENT_SHADER, new String[0]);
+      blockIndex = paramGl.glGetUniformBlockIndex(linkedProgram, "LightTable");
+      names = new int[1];
+
+      if (blockIndex == GL2.GL_INVALID_INDEX) {
+        paramGl.glDeleteProgram(linkedProgram);
+        throw new GLException("The uniform lighting shaders have no light table");
+      }
+
+      this.program = linkedProgram;
+      this.emissionLocation = paramGl.glGetUniformLocation(linkedProgram, "materialEmission");
+      paramGl.glUniformBlockBinding(linkedProgram, blockIndex,
+        UniformLightRenderer.BLOCK_BINDING);
+
+      // Nothing else binds the target, so the buffer is left bound for the uploads to come
+      paramGl.glGenBuffers(1, names, 0);
+      this.buffer = names[0];
+      paramGl.glBindBufferBase(GL2.GL_UNIFORM_BUFFER, UniformLightRenderer.BLOCK_BINDING,
+        this.buffer);
+      paramGl.glBufferData(GL2.GL_UNIFORM_BUFFER, this.table.length * Float.BYTES, null,
+        GL2.GL_DYNAMIC_DRAW);
+      Arrays.fill(this.emission, 0);
+    }
+
+    /**
+     * Deletes the program and the uniform buffer, while the context that owns them is still
+     * current.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void release(GL2 paramGl) {
+      if (this.program != 0) {
+        paramGl.glDeleteProgram(this.program);
+        paramGl.glDeleteBuffers(1, new int[] {this.buffer}, 0);
+        this.program = 0;
+        this.buffer = 0;
+      }
+    }
+
+    /**
+     * Starts a frame, copying the passed view matrix, which must be the bare camera
+     * transformation, writing the global ambient color into the table, and clearing the lights.
+     *
+     * @param paramView <code>float[]</code>
+     * @param paramSceneAmbient <code>float[]</code> RGB global ambient color
+     * @return void
+     */
+    private void beginFrame(float[] paramView, float[] paramSceneAmbient) {
+      System.arraycopy(paramView, 0, this.view, 0, Matrices.SIZE);
+      System.arraycopy(paramSceneAmbient, 0, this.table, 0, 3);
+      this.lightCount = 0;
+      this.enabledCount = 0;
+    }
+
+    /**
+     * Adds a point light at the given world position, which is carried into eye space by the
+     * view matrix read at the start of the frame.
+     *
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @param paramDiffuse <code>float[]</code> RGB diffuse color
+     * @param paramAmbient <code>float[]</code> RGB ambient color
+     * @param paramEnabled <code>boolean</code> whether the light is switched on
+     * @return void
+     */
+    private void addLight(float paramX, float paramY, float paramZ, float[] paramDiffuse,
+        float[] paramAmbient, boolean paramEnabled) {
+
+      // Declarations
+      final float[] tempView;
+
+      // Definitions
+      tempView = this.view;
+
+      this.addEyeLight(
+        tempView[0] * paramX + tempView[4] * paramY + tempView[8] * paramZ + tempView[12],
+        tempView[1] * paramX + tempView[5] * paramY + tempView[9] * paramZ + tempView[13],
+        tempView[2] * paramX + tempView[6] * paramY + tempView[10] * paramZ + tempView[14], 1,
+        paramDiffuse, paramAmbient, paramEnabled);
+    }
+
+    /**
+     * Adds a light given directly in eye space, as by <code>GL_POSITION</code>: a
+     * <code>w</code> of one makes it a point light at the given position, and one of zero a
+     * directional light shining from the given direction, which must be of unit length.
+     *
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @param paramW <code>float</code> 1 for a point light or 0 for a directional light
+     * @param paramDiffuse <code>float[]</code> RGB diffuse color
+     * @param paramAmbient <code>float[]</code> RGB ambient color
+     * @param paramEnabled <code>boolean</code> whether the light is switched on
+     * @return void
+     */
+    private void addEyeLight(float paramX, float paramY, float paramZ, float paramW,
+        float[] paramDiffuse, float[] paramAmbient, boolean paramEnabled) {
+
+      // Declarations
+      final int offset;
+      final float[] tempTable;
+
+      if (this.lightCount == UniformLightRenderer.MAX_LIGHTS) {
+        throw new IllegalStateException("The uniform light table holds at most "
+          + UniformLightRenderer.MAX_LIGHTS + " lights");
+      }
+
+      // Definitions
+      offset = UniformLightRenderer.HEADER_FLOATS
+        + this.lightCount * UniformLightRenderer.LIGHT_FLOATS;
+      tempTable = this.table;
+
+      tempTable[offset] = paramX;
+      tempTable[offset + 1] = paramY;
+      tempTable[offset + 2] = paramZ;
+      tempTable[offset + 3] = paramW;
+      System.arraycopy(paramDiffuse, 0, tempTable, offset + 4, 3);
+      tempTable[offset + 7] = (paramEnabled) ? 1 : 0;
+      System.arraycopy(paramAmbient, 0, tempTable, offset + 8, 3);
+      this.lightCount++;
+      if (paramEnabled) {
+        this.enabledCount++;
+      }
+    }
+
+    /**
+     * Writes the light count into the table and uploads the part of it in use to the uniform
+     * buffer, still bound from <code>UniformLightRenderer#prepare</code>, in one call, the only
+     * one the lights cost per frame however many there are.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void upload(GL2 paramGl) {
+
+      // Declaration
+      final int floats;
+
+      // Definition
+      floats = UniformLightRenderer.HEADER_FLOATS
+        + this.lightCount * UniformLightRenderer.LIGHT_FLOATS;
+
+      // The count is a GLSL int, so its bits rather than its value go into the float array
+      this.table[4] = Float.intBitsToFloat(this.lightCount);
+      this.tableBuffer.rewind();
+      paramGl.glBufferSubData(GL2.GL_UNIFORM_BUFFER, 0, floats * Float.BYTES, this.tableBuffer);
+      this.uploadedBytes += floats * Float.BYTES;
+      this.frameCount++;
+    }
+
+    /**
+     * Binds the program for the light markers and the shape about to be drawn.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void bind(GL2 paramGl) {
+      paramGl.glUseProgram(this.program);
+    }
+
+    /**
+     * Sets the emission of the material about to be drawn, black for none, skipping the call
+     * should it be that already set, much as <code>FourLights.GLStateCache</code> does for
+     * <code>glMaterialfv</code>.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramEmission <code>float[]</code> RGB emission color
+     * @return void
+     */
+    private void setEmission(GL2 paramGl, float[] paramEmission) {
+      if (this.emission[0] != paramEmission[0] || this.emission[1] != paramEmission[1]
+          || this.emission[2] != paramEmission[2]) {
+        System.arraycopy(paramEmission, 0, this.emission, 0, 3);
+        paramGl.glUniform3f(this.emissionLocation, paramEmission[0], paramEmission[1],
+          paramEmission[2]);
+      }
+    }
+
+    /**
+     * Counterpart of <code>UniformLightRenderer#bind</code>, returning to the fixed-function
+     * pipeline.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void unbind(GL2 paramGl) {
+      paramGl.glUseProgram(0);
+    }
+
+    /**
+     * Summarizes the frames uploaded since the last call, namely the lights of the last frame,
+     * how many of them were switched on, and the mean bytes uploaded per frame, then starts
+     * counting afresh.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declaration
+      final String summary;
+
+      // Definition
+      summary = String.format("%d light(s) in the table, %d switched on, %.0f bytes uploaded "
+        + "per frame", this.lightCount, this.enabledCount,
+        (double) this.uploadedBytes / Math.max(1, this.frameCount));
+
+      this.uploadedBytes = 0;
+      this.frameCount = 0;
+      return summary;
+    }
+  }
+
+  /**
+   * This static class is the stress scene of <code>--stress-lights</code>: a given number of small
+   * point lights of random color, each circling the truncated icosahedron on its own tilted orbit
+   * at its own speed, so that the tiled lighting of <code>FourLights.TiledLightRenderer</code> can
+   * be timed as the number of lights grows. The orbits are drawn from a fixed seed, so that every
+   * run with the same count is the same scene, and the lights are placed by the scene time alone.
+   * Each light is marked by a point of its own color.
+   *
+   * @see FourLights.TiledLightRenderer
+   * @author Andrew Eissen
+   */
+  private final static class OrbitingLights {
+
+    /** Seed of the orbits and colors, so that runs may be compared */
+    private final static long SEED = 20180415L;
+
+    /** Distance at which each light fades out, in world units, set to 9 */
+    private final static float RANGE = 9;
+
+    /** Size of the points marking the lights, in pixels, set to 3 */
+    private final static float MARKER_SIZE = 3;
+
+    // Class fields
+    private final int count;
+    private final float[] radii, heights, tilts, speeds, phases, colors, ambient;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param count <code>int</code> number of lights
+     */
+    private OrbitingLights(int count) {
+
+      // Declarations
+      final java.util.Random random;
+      final float[] rgb;
+
+      // Definitions
+      random = new java.util.Random(OrbitingLights.SEED);
+      rgb = new float[3];
+
+      this.count = count;
+      this.radii = new float[count];
+      this.heights = new float[count];
+      this.tilts = new float[count];
+      this.speeds = new float[count];
+      this.phases = new float[count];
+      this.colors = new float[count * 3];
+      this.ambient = new float[3];
+
+      for (int i = 0; i < count; i++) {
+        this.radii[i] = 12 + 10 * random.nextFloat();
+        this.heights[i] = 16 * random.nextFloat() - 8;
+        this.tilts[i] = (float) (random.nextFloat() - 0.5);
+        this.speeds[i] = (0.2F + 0.8F * random.nextFloat()) * (random.nextBoolean() ? 1 : -1);
+        this.phases[i] = (float) (2 * Math.PI * random.nextFloat());
+        Color.getHSBColor(random.nextFloat(), 0.8F, 0.6F).getRGBColorComponents(rgb);
+        System.arraycopy(rgb, 0, this.colors, i * 3, 3);
+      }
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>OrbitingLights.count</code>
+     *
+     * @return count <code>int</code>
+     */
+    private int getCount() {
+      return this.count;
+    }
+
+    // Utility methods
+
+    /**
+     * Places every light at its position for the given scene time, adding it to the renderer
+     * and marking it with a point. Lighting must be off, so that the points show their color.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramRenderer <code>TiledLightRenderer</code>
+     * @param paramSceneTime <code>double</code> seconds of animation
+     * @return void
+     */
+    private void submit(GL2 paramGl, TiledLightRenderer paramRenderer, double paramSceneTime) {
+
+      // Declarations
+      double angle;
+      float x, y, z;
+
+      if (this.count == 0) {
+        return;
+      }
+
+      paramGl.glPointSize(OrbitingLights.MARKER_SIZE);
+      paramGl.glBegin(GL2.GL_POINTS);
+      for (int i = 0; i < this.count; i++) {
+        angle = this.phases[i] + this.speeds[i] * paramSceneTime;
+        x = (float) (this.radii[i] * Math.cos(angle));
+        y = (float) (this.heights[i] + this.radii[i] * Math.sin(angle) * this.tilts[i]);
+        z = (float) (this.radii[i] * Math.sin(angle));
+        paramRenderer.addLight(x, y, z, OrbitingLights.RANGE, this.colors, i * 3, this.ambient);
+        paramGl.glColor3f(this.colors[i * 3], this.colors[i * 3 + 1], this.colors[i * 3 + 2]);
+        paramGl.glVertex3f(x, y, z);
+      }
+      paramGl.glEnd();
+    }
+  }
+
+  /**
+   * This static class holds the shader compilation and linking shared by the shader-based
+   * renderers, namely <code>FourLights.TiledLightRenderer</code>,
+   * <code>FourLights.UniformLightRenderer</code>, and
+   * <code>FourLights.InstancedMeshRenderer</code>. Any failure is thrown as a
+   * <code>GLException</code> carrying the driver's log, with nothing left behind in the context,
+   * so that the caller may fall back to the fixed-function path.
+   *
+   * @author Andrew Eissen
+   */
+  private final static class ShaderPrograms {
+
+    // Utility methods
+
+    /**
+     * Compiles the two shaders and links them into a new program, which is returned. The
+     * attributes are bound to their positions in the passed array before linking, with
+     * <code>null</code> entries skipped, such that an attribute spanning several locations, like
+     * a <code>mat4</code>, is followed by as many <code>null</code> entries as it needs.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramName <code>String</code> describing the program in error messages
+     * @param paramVertexSource <code>String</code>
+     * @param paramFragmentSource <code>String</code>
+     * @param paramAttributes <code>String[]</code> attribute names by location
+     * @return <code>int</code> the program name
+     */
+    private static int link(GL2 paramGl, String paramName, String paramVertexSource,
+        String paramFragmentSource, String[] paramAttributes) {
+
+      // Declarations
+      final int vertexShader, fragmentShader, linkedProgram;
+      final int[] status;
+      final byte[] log;
+
+      // Definitions
+      vertexShader = ShaderPrograms.compile(paramGl, paramName, GL2.GL_VERTEX_SHADER,
+        paramVertexSource);
+      try {
+        fragmentShader = ShaderPrograms.compile(paramGl, paramName, GL2.GL_FRAGMENT_SHADER,
+          paramFragmentSource);
+      } catch (GLException e) {
+        paramGl.glDeleteShader(vertexShader);
+        throw e;
+      }
+      linkedProgram = paramGl.glCreateProgram();
+      status = new int[1];
+
+      for (int i = 0; i < paramAttributes.length; i++) {
+        if (paramAttributes[i] != null) {
+          paramGl.glBindAttribLocation(linkedProgram, i, paramAttributes[i]);
+        }
+      }
+      paramGl.glAttachShader(linkedProgram, vertexShader);
+      paramGl.glAttachShader(linkedProgram, fragmentShader);
+      paramGl.glLinkProgram(linkedProgram);
+      paramGl.glDeleteShader(vertexShader);
+      paramGl.glDeleteShader(fragmentShader);
+      paramGl.glGetProgramiv(linkedProgram, GL2.GL_LINK_STATUS, status, 0);
+      if (status[0] != 0) {
+        return linkedProgram;
+      }
+
+      paramGl.glGetProgramiv(linkedProgram, GL2.GL_INFO_LOG_LENGTH, status, 0);
+      log = new byte[Math.max(1, status[0])];
+      paramGl.glGetProgramInfoLog(linkedProgram, log.length, null, 0, log, 0);
+      paramGl.glDeleteProgram(linkedProgram);
+      throw new GLException("Could not link the " + paramName + " shaders: "
+        + new String(log, StandardCharsets.UTF_8).trim());
+    }
+
+    /**
+     * Compiles a single shader, throwing a <code>GLException</code> with the compiler's log
+     * should it fail.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramName <code>String</code> describing the program in error messages
+     * @param paramType <code>int</code>
+     * @param paramSource <code>String</code>
+     * @return <code>int</code> the shader name
+     */
+    private static int compile(GL2 paramGl, String paramName, int paramType,
+        String paramSource) {
+
+      // Declarations
+      final int shader;
+      final int[] status;
+      final byte[] log;
+
+      // Definitions
+      shader = paramGl.glCreateShader(paramType);
+      status = new int[1];
+
+      paramGl.glShaderSource(shader, 1, new String[] {paramSource}, null, 0);
+      paramGl.glCompileShader(shader);
+      paramGl.glGetShaderiv(shader, GL2.GL_COMPILE_STATUS, status, 0);
+      if (status[0] != 0) {
+        return shader;
+      }
+
+      paramGl.glGetShaderiv(shader, GL2.GL_INFO_LOG_LENGTH, status, 0);
+      log = new byte[Math.max(1, status[0])];
+      paramGl.glGetShaderInfoLog(shader, log.length, null, 0, log, 0);
+      paramGl.glDeleteShader(shader);
+      throw new GLException("Could not compile a " + paramName + " shader: "
+        + new String(log, StandardCharsets.UTF_8).trim());
+    }
+  }
+
+  /**
+   * This static class draws many copies of one <code>FourLights.PolyhedronMesh</code> with a
+   * single <code>glDrawElementsInstanced</code> call, each copy with its own model matrix, color,
+   * and emission, and is used by <code>--instanced</code> for both the truncated icosahedron and
+   * the octahedral light markers. The mesh is uploaded once, in the same layout and with the same
+   * triangle and line indices as <code>FourLights.RetainedShapeRenderer</code>, while the values
+   * of each instance are kept in a second buffer object, read through vertex attributes that
+   * advance once per instance rather than once per vertex. Only the instances that have changed
+   * since the previous draw are uploaded again, so copies that stand still in an unchanging view
+   * cost nothing from frame to frame.
+   * <br />
+   * <br />
+   * As the fixed-function pipeline knows nothing of per-instance attributes, the copies are
+   * transformed and lit by a small GLSL 1.30 vertex shader. It reads the light positions and
+   * colors from the compatibility built-ins that <code>glLightfv</code> already sets, and so
+   * follows the same lights and global ambient as the rest of the scene, evaluating the ambient
+   * and diffuse terms per vertex for both sides of each polygon, as the fixed-function two-sided
+   * lighting does. Which lights are switched on is passed in as a bit mask, as a shader cannot ask
+   * whether a light is enabled. The black outlines are drawn by a second instanced call over the
+   * line indices in a single flat color.
+   *
+   * @see FourLights.SceneGLEventListener#drawVisible
+   * @author Andrew Eissen
+   */
+  private final static class InstancedMeshRenderer {
+
+    /** Number of <code>float</code> values per instance: a 4x4 matrix, a color, an emission */
+    private final static int FLOATS_PER_INSTANCE = 24;
+
+    /** Byte stride between consecutive instances in the instance buffer */
+    private final static int INSTANCE_STRIDE = InstancedMeshRenderer.FLOATS_PER_INSTANCE
+      * Float.BYTES;
+
+    /** Offset of the color within an instance, following the matrix */
+    private final static int COLOR_OFFSET = 16;
+
+    /** Offset of the emission within an instance, following the color */
+    private final static int EMISSION_OFFSET = 20;
+
+    /** Attribute names by location, the matrix taking the four locations from 2 to 5 */
+    private final static String[] ATTRIBUTES = {"position", "normal", "instanceMatrix", null, null,
+      null, "instanceColor", "instanceEmission"};
+
+    /** Vertex shader, transforming and lighting each vertex of each instance */
+    private final static String VERTEX_SHADER = String.join("\n",
+      "#version 130",
+      "in vec3 position;",
+      "in vec3 normal;",
+      "in mat4 instanceMatrix;",
+      "in vec4 instanceColor;",
+      "in vec4 instanceEmission;",
+      "uniform int enabledLights;",
+      "uniform bool outline;",
+      "uniform vec4 outlineColor;",
+      "void main() {",
+      "  vec4 eyePosition = gl_ModelViewMatrix * (instanceMatrix * vec4(position, 1.0));",
+      "  gl_Position = gl_ProjectionMatrix * eyePosition;",
+      "  if (outline) {",
+      "    gl_FrontColor = outlineColor;",
+      "    gl_BackColor = outlineColor;",
+      "    return;",
+      "  }",
+      "  vec3 eyeNormal = normalize(gl_NormalMatrix * (mat3(instanceMatrix) * normal));",
+      "  vec3 front = gl_LightModel.ambient.rgb;",
+      "  vec3 back = front;",
+      "  for (int i = 0; i < 8; i++) {",
+      "    if ((enabledLights & (1 << i)) != 0) {",
+      "      vec4 place = gl_LightSource[i].position;",
+      "      vec3 toLight = normalize((place.w == 0.0) ? place.xyz : place.xyz - eyePosition.xyz);",
+      "      float facing = dot(eyeNormal, toLight);",
+      "      front += gl_LightSource[i].ambient.rgb",
+      "        + gl_LightSource[i].diffuse.rgb * max(facing, 0.0);",
+      "      back += gl_LightSource[i].ambient.rgb",
+      "        + gl_LightSource[i].diffuse.rgb * max(-facing, 0.0);",
+      "    }",
+      "  }",
+      "  gl_FrontColor = vec4(instanceEmission.rgb + front * instanceColor.rgb, instanceColor.a);",
+      "  gl_BackColor = vec4(instanceEmission.rgb + back * instanceColor.rgb, instanceColor.a);",
+      "}");
+
+    /** Fragment shader, passing on the color of whichever side is facing */
+    private final static String FRAGMENT_SHADER = String.join("\n",
+      "#version 130",
+      "void main() {",
+      "  gl_FragColor = gl_Color;",
+      "}");
+
+    // Class fields
+    private final PolyhedronMesh mesh;
+    private int program, enabledLightsLocation, outlineLocation, outlineColorLocation;
+    private int vertexArray, vertexBuffer, indexBuffer, instanceBuffer;
+    private int triangleIndexCount, lineIndexCount;
+    private int instanceCount, allocatedInstances, dirtyFirst, dirtyLast;
+    private float[] instanceData;
+    private FloatBuffer instanceView;
+    private long drawnInstances, drawCalls, uploadedBytes, frameCount;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param mesh <code>PolyhedronMesh</code> drawn by every instance
+     */
+    private InstancedMeshRenderer(PolyhedronMesh mesh) {
+      this.mesh = mesh;
+      this.instanceData = new float[InstancedMeshRenderer.FLOATS_PER_INSTANCE];
+      this.instanceView = FloatBuffer.wrap(this.instanceData);
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>InstancedMeshRenderer.instanceCount</code>
+     *
+     * @return instanceCount <code>int</code>
+     */
+    private int getInstanceCount() {
+      return this.instanceCount;
+    }
+
+    // Utility methods
+
+    /**
+     * Links the shaders and uploads the mesh in the given context, recording the layout of both
+     * the mesh and the instance buffer in a vertex array object. Every instance is uploaded
+     * afresh at the next draw. Should any of it fail, a <code>GLException</code> is thrown.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void prepare(GL2 paramGl) {
+
+      // Declarations
+      final MeshOptimizer tempData;
+      final FloatBuffer vertexData;
+      final IntBuffer indexData;
+      final int[] names;
+
+      // Definitions
+      tempData = new MeshOptimizer(this.mesh);
+      vertexData = tempData.getVertexData();
+      indexData = tempData.getIndexData();
+      names = new int[3];
+
+      this.program = ShaderPrograms.link(paramGl, "instanced drawing",
+        InstancedMeshRenderer.VERTEX_SHADER, InstancedMeshRenderer.FRAGMENT_SHADER,
+        InstancedMeshRenderer.ATTRIBUTES);
+      this.enabledLightsLocation = paramGl.glGetUniformLocation(this.program, "enabledLights");
+      this.outlineLocation = paramGl.glGetUniformLocation(this.program, "outline");
+      this.outlineColorLocation = paramGl.glGetUniformLocation(this.program, "outlineColor");
+
+      paramGl.glGenBuffers(3, names, 0);
+      this.vertexBuffer = names[0];
+      this.indexBuffer = names[1];
+      this.instanceBuffer = names[2];
+      paramGl.glGenVertexArrays(1, names, 0);
+      this.vertexArray = names[0];
+      paramGl.glBindVertexArray(this.vertexArray);
+
+      // Per vertex: the interleaved positions and normals, and the indices
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.vertexBuffer);
+      paramGl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) vertexData.capacity() * Float.BYTES,
+        vertexData, GL2.GL_STATIC_DRAW);
+      paramGl.glEnableVertexAttribArray(0);
+      paramGl.glVertexAttribPointer(0, 3, GL2.GL_FLOAT, false,
+        RetainedShapeRenderer.VERTEX_STRIDE, 0L);
+      paramGl.glEnableVertexAttribArray(1);
+      paramGl.glVertexAttribPointer(1, 3, GL2.GL_FLOAT, false,
+        RetainedShapeRenderer.VERTEX_STRIDE, RetainedShapeRenderer.NORMAL_OFFSET);
+      paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, this.indexBuffer);
+      paramGl.glBufferData(GL2.GL_ELEMENT_ARRAY_BUFFER, (long) indexData.capacity() * Integer.BYTES,
+        indexData, GL2.GL_STATIC_DRAW);
+
+      // Per instance: four matrix columns, the color, and the emission
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.instanceBuffer);
+      for (int i = 0; i < 6; i++) {
+        paramGl.glEnableVertexAttribArray(2 + i);
+        paramGl.glVertexAttribPointer(2 + i, 4, GL2.GL_FLOAT, false,
+          InstancedMeshRenderer.INSTANCE_STRIDE, (long) i * 4 * Float.BYTES);
+        paramGl.glVertexAttribDivisor(2 + i, 1);
+      }
+
+      paramGl.glBindVertexArray(0);
+      paramGl.glBindBuffer(GL2.GL_ELEMENT_ARRAY_BUFFER, 0);
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+
+      this.triangleIndexCount = tempData.getTriangleIndexCount();
+      this.lineIndexCount = indexData.capacity() - this.triangleIndexCount;
+      this.allocatedInstances = 0;
+      this.dirtyFirst = 0;
+      this.dirtyLast = this.instanceCount;
+    }
+
+    /**
+     * Deletes the program, buffers, and vertex array object, while the context that owns them is
+     * still current.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void release(GL2 paramGl) {
+
+      // Declaration
+      final int[] names;
+
+      if (this.program != 0) {
+        names = new int[] {this.vertexBuffer, this.indexBuffer, this.instanceBuffer};
+        paramGl.glDeleteProgram(this.program);
+        paramGl.glDeleteBuffers(names.length, names, 0);
+        names[0] = this.vertexArray;
+        paramGl.glDeleteVertexArrays(1, names, 0);
+        this.program = 0;
+      }
+    }
+
+    /**
+     * Sets the number of instances drawn, growing the instance array as needed. Any instances
+     * beyond the previous count hold whatever was last written to them until they are set.
+     *
+     * @param paramCount <code>int</code>
+     * @return void
+     */
+    private void setInstanceCount(int paramCount) {
+
+      // Declaration
+      final float[] grown;
+
+      if (paramCount * InstancedMeshRenderer.FLOATS_PER_INSTANCE > this.instanceData.length) {
+        grown = new float[Math.max(paramCount, 2 * this.instanceData.length
+          / InstancedMeshRenderer.FLOATS_PER_INSTANCE) * InstancedMeshRenderer.FLOATS_PER_INSTANCE];
+        System.arraycopy(this.instanceData, 0, grown, 0, this.instanceData.length);
+        this.instanceData = grown;
+        this.instanceView = FloatBuffer.wrap(grown);
+      }
+
+      this.instanceCount = paramCount;
+      this.dirtyLast = Math.min(this.dirtyLast, paramCount);
+    }
+
+    /**
+     * Writes one instance, to be uploaded at the next draw should it differ from what the
+     * instance already holds.
+     *
+     * @param paramInstance <code>int</code> index below the instance count
+     * @param paramMatrix <code>float[]</code> column-major model matrix, as from
+     *     <code>FourLights.Matrices</code>
+     * @param paramColor <code>float[]</code> RGBA diffuse and ambient color
+     * @param paramEmission <code>float[]</code> RGB emission, added regardless of the lights
+     * @return void
+     */
+    private void setInstance(int paramInstance, float[] paramMatrix, float[] paramColor,
+        float[] paramEmission) {
+
+      // Declaration
+      final int start;
+
+      // Definition
+      start = paramInstance * InstancedMeshRenderer.FLOATS_PER_INSTANCE;
+
+      if (this.holds(start, paramMatrix, paramColor, paramEmission)) {
+        return;
+      }
+
+      System.arraycopy(paramMatrix, 0, this.instanceData, start, Matrices.SIZE);
+      System.arraycopy(paramColor, 0, this.instanceData,
+        start + InstancedMeshRenderer.COLOR_OFFSET, 4);
+      System.arraycopy(paramEmission, 0, this.instanceData,
+        start + InstancedMeshRenderer.EMISSION_OFFSET, 3);
+
+      if (this.dirtyFirst >= this.dirtyLast) {
+        this.dirtyFirst = paramInstance;
+        this.dirtyLast = paramInstance + 1;
+      } else {
+        this.dirtyFirst = Math.min(this.dirtyFirst, paramInstance);
+        this.dirtyLast = Math.max(this.dirtyLast, paramInstance + 1);
+      }
+    }
+
+    /**
+     * Writes one instance from the passed array, in which it is laid out just as in the instance
+     * array from the given offset, to be uploaded at the next draw should it differ from what the
+     * instance already holds.
+     *
+     * @param paramInstance <code>int</code> index below the instance count
+     * @param paramSource <code>float[]</code>
+     * @param paramSourceStart <code>int</code>
+     * @return void
+     */
+    private void copyInstance(int paramInstance, float[] paramSource, int paramSourceStart) {
+
+      // Declarations
+      final int start;
+      boolean same;
+
+      // Definitions
+      start = paramInstance * InstancedMeshRenderer.FLOATS_PER_INSTANCE;
+      same = true;
+
+      for (int i = 0; i < InstancedMeshRenderer.FLOATS_PER_INSTANCE && same; i++) {
+        same = this.instanceData[start + i] == paramSource[paramSourceStart + i];
+      }
+      if (same) {
+        return;
+      }
+
+      System.arraycopy(paramSource, paramSourceStart, this.instanceData, start,
+        InstancedMeshRenderer.FLOATS_PER_INSTANCE);
+
+      if (this.dirtyFirst >= this.dirtyLast) {
+        this.dirtyFirst = paramInstance;
+        this.dirtyLast = paramInstance + 1;
+      } else {
+        this.dirtyFirst = Math.min(this.dirtyFirst, paramInstance);
+        this.dirtyLast = Math.max(this.dirtyLast, paramInstance + 1);
+      }
+    }
+
+    /**
+     * Returns whether the instance starting at the given offset already holds the passed values,
+     * in which case writing them again would only cause a needless upload.
+     *
+     * @param paramStart <code>int</code> offset into the instance array
+     * @param paramMatrix <code>float[]</code>
+     * @param paramColor <code>float[]</code>
+     * @param paramEmission <code>float[]</code>
+     * @return <code>boolean</code>
+     */
+    private boolean holds(int paramStart, float[] paramMatrix, float[] paramColor,
+        float[] paramEmission) {
+      for (int i = 0; i < Matrices.SIZE; i++) {
+        if (this.instanceData[paramStart + i] != paramMatrix[i]) {
+          return false;
+        }
+      }
+      for (int i = 0; i < 4; i++) {
+        if (this.instanceData[paramStart + InstancedMeshRenderer.COLOR_OFFSET + i] != paramColor[i]
+            || (i < 3 && this.instanceData[paramStart + InstancedMeshRenderer.EMISSION_OFFSET + i]
+            != paramEmission[i])) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Draws every instance, filled and lit by the lights whose bits are set in the passed mask,
+     * where bit <code>n</code> stands for <code>GL_LIGHTn</code>, and then outlined in the passed
+     * color, unless it is <code>null</code>. The current modelview matrix applies to all of the
+     * instances, and any instances changed since the previous draw are uploaded first.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramEnabledLights <code>int</code> bit mask of the enabled lights
+     * @param paramOutlineColor <code>float[]</code>, or <code>null</code> for no outlines
+     * @return void
+     */
+    private void draw(GL2 paramGl, int paramEnabledLights, float[] paramOutlineColor) {
+      this.frameCount++;
+      if (this.instanceCount == 0) {
+        return;
+      }
+
+      this.uploadInstances(paramGl);
+      paramGl.glUseProgram(this.program);
+      paramGl.glEnable(GL2.GL_VERTEX_PROGRAM_TWO_SIDE);
+      paramGl.glBindVertexArray(this.vertexArray);
+
+      // Filled faces
+      paramGl.glUniform1i(this.enabledLightsLocation, paramEnabledLights);
+      paramGl.glUniform1i(this.outlineLocation, 0);
+      paramGl.glDrawElementsInstanced(GL2.GL_TRIANGLES, this.triangleIndexCount,
+        GL2.GL_UNSIGNED_INT, 0L, this.instanceCount);
+      this.drawCalls++;
+
+      // Outlines, stored directly after the triangles
+      if (paramOutlineColor != null) {
+        paramGl.glUniform1i(this.outlineLocation, 1);
+        paramGl.glUniform4fv(this.outlineColorLocation, 1, paramOutlineColor, 0);
+        paramGl.glDrawElementsInstanced(GL2.GL_LINES, this.lineIndexCount, GL2.GL_UNSIGNED_INT,
+          (long) this.triangleIndexCount * Integer.BYTES, this.instanceCount);
+        this.drawCalls++;
+      }
+
+      paramGl.glBindVertexArray(0);
+      paramGl.glDisable(GL2.GL_VERTEX_PROGRAM_TWO_SIDE);
+      paramGl.glUseProgram(0);
+      this.drawnInstances += this.instanceCount;
+    }
+
+    /**
+     * Uploads the instances written since the previous draw, or all of them into a new buffer
+     * store should the instance count have outgrown the current one.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void uploadInstances(GL2 paramGl) {
+
+      // Declaration
+      final int first, last;
+
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, this.instanceBuffer);
+      if (this.allocatedInstances < this.instanceCount) {
+        this.allocatedInstances = this.instanceData.length
+          / InstancedMeshRenderer.FLOATS_PER_INSTANCE;
+        this.instanceView.clear();
+        paramGl.glBufferData(GL2.GL_ARRAY_BUFFER, (long) this.instanceData.length * Float.BYTES,
+          this.instanceView, GL2.GL_DYNAMIC_DRAW);
+        this.uploadedBytes += (long) this.instanceData.length * Float.BYTES;
+      } else if (this.dirtyFirst < this.dirtyLast) {
+        first = this.dirtyFirst * InstancedMeshRenderer.FLOATS_PER_INSTANCE;
+        last = this.dirtyLast * InstancedMeshRenderer.FLOATS_PER_INSTANCE;
+        this.instanceView.limit(last).position(first);
+        paramGl.glBufferSubData(GL2.GL_ARRAY_BUFFER, (long) first * Float.BYTES,
+          (long) (last - first) * Float.BYTES, this.instanceView);
+        this.uploadedBytes += (long) (last - first) * Float.BYTES;
+      }
+      paramGl.glBindBuffer(GL2.GL_ARRAY_BUFFER, 0);
+
+      this.dirtyFirst = 0;
+      this.dirtyLast = 0;
+    }
+
+    /**
+     * Summarizes the draws since the previous call, or since the renderer was created, and starts
+     * counting afresh.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declaration
+      final long frames;
+
+      // Definition
+      frames = Math.max(1, this.frameCount);
+
+      try {
+        return String.format("%.0f instance(s) in %.1f draw call(s) per frame, "
+          + "%.1f KiB of instance data uploaded per frame", (double) this.drawnInstances / frames,
+          (double) this.drawCalls / frames, this.uploadedBytes / 1024.0 / frames);
+      } finally {
+        this.drawnInstances = 0;
+        this.drawCalls = 0;
+        this.uploadedBytes = 0;
+        this.frameCount = 0;
+      }
+    }
+  }
+
+  /**
+   * This static class is the stress scene of <code>--instances</code>: a given number of copies
+   * of the truncated icosahedron, scattered through a thick shell around the original at random
+   * positions, sizes, orientations, and colors, so that the cost of culling and drawing can be
+   * followed as the count grows. The copies are drawn from a fixed seed, so that every run with
+   * the same count is the same scene. They are grouped into cubic cells of the scene graph, so
+   * that a cell out of view is culled with a single test, and, as they stand still, they are
+   * never invalidated after being placed.
+   *
+   * @see FourLights.SceneGraph
+   * @author Andrew Eissen
+   */
+  private final static class InstanceField {
+
+    /** Seed of the placements and colors, so that runs may be compared */
+    private final static long SEED = 20180422L;
+
+    /** Inner radius of the shell of copies, in world units, clear of the original shape */
+    private final static double INNER_RADIUS = 12;
+
+    /** Outer radius of the shell of copies, in world units, set to 30 */
+    private final static double OUTER_RADIUS = 30;
+
+    /** Edge of the cubic cells grouping the copies, in world units, set to 10 */
+    private final static double CELL_SIZE = 10;
+
+    // Class fields
+    private final int count;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param count <code>int</code> number of copies
+     */
+    private InstanceField(int count) {
+      this.count = count;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>InstanceField.count</code>
+     *
+     * @return count <code>int</code>
+     */
+    private int getCount() {
+      return this.count;
+    }
+
+    // Utility methods
+
+    /**
+     * Adds every copy to the given group, as a node of the passed mesh within the group's node for
+     * the cell the copy falls in, each cell's node being added to the group on first use.
+     *
+     * @param paramGroup <code>SceneNode</code>
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramLevels <code>LevelOfDetail</code> of every copy, or <code>null</code>
+     * @return void
+     */
+    private void populate(SceneNode paramGroup, PolyhedronMesh paramMesh,
+        LevelOfDetail paramLevels) {
+
+      // Declarations
+      final java.util.Random random;
+      final int cellsPerAxis;
+      final SceneNode[] cells;
+      final float[] color;
+      double x, y, z, length, radius;
+      int cell;
+      SceneNode copy;
+
+      // Definitions
+      random = new java.util.Random(InstanceField.SEED);
+      cellsPerAxis = (int) Math.ceil(2 * InstanceField.OUTER_RADIUS / InstanceField.CELL_SIZE);
+      cells = new SceneNode[cellsPerAxis * cellsPerAxis * cellsPerAxis];
+      color = new float[] {0, 0, 0, 1};
+
+      for (int i = 0; i < this.count; i++) {
+
+        // A uniformly random direction, at a radius spreading the copies evenly through the shell
+        do {
+          x = random.nextGaussian();
+          y = random.nextGaussian();
+          z = random.nextGaussian();
+          length = Math.sqrt(x * x + y * y + z * z);
+        } while (length == 0);
+        radius = Math.cbrt(Math.pow(InstanceField.INNER_RADIUS, 3) + random.nextDouble()
+          * (Math.pow(InstanceField.OUTER_RADIUS, 3) - Math.pow(InstanceField.INNER_RADIUS, 3)));
+        x *= radius / length;
+        y *= radius / length;
+        z *= radius / length;
+
+        cell = (InstanceField.cellOf(x, cellsPerAxis) * cellsPerAxis
+          + InstanceField.cellOf(y, cellsPerAxis)) * cellsPerAxis
+          + InstanceField.cellOf(z, cellsPerAxis);
+        if (cells[cell] == null) {
+          cells[cell] = new SceneNode(paramGroup, null);
+        }
+
+        copy = new SceneNode(cells[cell], paramMesh);
+        copy.setLevels(paramLevels);
+        Matrices.translate(copy.getLocal(), x, y, z);
+        Matrices.rotate(copy.getLocal(), 360 * random.nextDouble(), random.nextGaussian(),
+          random.nextGaussian(), random.nextGaussian() + 1e-6);
+        Matrices.scale(copy.getLocal(), 0.4 + 0.8 * random.nextDouble());
+        Color.getHSBColor(random.nextFloat(), 0.35F, 0.95F).getRGBColorComponents(color);
+        copy.setColor(color);
+      }
+    }
+
+    /**
+     * Returns the index along one axis of the cell holding the given coordinate.
+     *
+     * @param paramCoordinate <code>double</code>
+     * @param paramCellsPerAxis <code>int</code>
+     * @return <code>int</code>
+     */
+    private static int cellOf(double paramCoordinate, int paramCellsPerAxis) {
+      return Math.max(0, Math.min(paramCellsPerAxis - 1, (int) Math.floor((paramCoordinate
+        + InstanceField.OUTER_RADIUS) / InstanceField.CELL_SIZE)));
+    }
+  }
+
+  /**
+   * This static class generates geodesic spheres by repeated subdivision of a polyhedral base,
+   * one level at a time. The first level triangulates the base, fanning every face that is not
+   * already a triangle out from a new vertex at its center, and then splits every triangle into
+   * four at the midpoints of its edges; each further level splits every triangle into four
+   * again. Every new vertex is pushed out onto the base's circumscribed sphere, so that the mesh
+   * approaches a sphere as the levels go up, while level zero is the base itself. Starting from
+   * the 32 faces of the truncated icosahedron, the levels hold 720, 2880, 11520 triangles and so
+   * on, passing a million at level six; starting from the 20 of the icosahedron, 80, 320, 1280.
+   * <br />
+   * <br />
+   * Midpoints are shared between the two triangles on either side of an edge through an open
+   * addressing table keyed by the edge's two vertex indices, so that each level's vertices are
+   * stored once, as they are in the base, rather than once per triangle. Only the raw arrays of
+   * the latest level are kept, from which the next is built.
+   *
+   * @see FourLights.LevelOfDetail
+   * @author Andrew Eissen
+   */
+  private final static class GeodesicMesh {
+
+    // Class fields
+    private final float radius;
+    private float[] positions;
+    private int[] triangles;
+    private int vertexCount, triangleCount, level;
+
+    /**
+     * Parameterized constructor, triangulating the passed base ready for the first split
+     *
+     * @param base <code>PolyhedronMesh</code>
+     */
+    private GeodesicMesh(PolyhedronMesh base) {
+
+      // Declarations
+      int centerIndex, faceStart, faceSize;
+
+      // Definitions
+      this.radius = base.getBoundingRadius();
+      this.vertexCount = base.getVertexCount();
+      this.triangleCount = 0;
+      for (int i = 0; i < base.getFaceCount(); i++) {
+        faceSize = base.getFaceEnd(i) - base.getFaceStart(i);
+        this.triangleCount += (faceSize == 3) ? 1 : faceSize;
+        this.vertexCount += (faceSize == 3) ? 0 : 1;
+      }
+      this.positions = new float[this.vertexCount * 3];
+      this.triangles = new int[this.triangleCount * 3];
+      this.level = 0;
+
+      for (int i = 0; i < base.getVertexCount(); i++) {
+        for (int axis = 0; axis < 3; axis++) {
+          this.positions[i * 3 + axis] = base.getPosition(i, axis);
+        }
+      }
+
+      centerIndex = base.getVertexCount();
+      this.triangleCount = 0;
+      for (int i = 0; i < base.getFaceCount(); i++) {
+        faceStart = base.getFaceStart(i);
+        faceSize = base.getFaceEnd(i) - faceStart;
+        if (faceSize == 3) {
+          this.addTriangle(base.getFaceIndex(faceStart), base.getFaceIndex(faceStart + 1),
+            base.getFaceIndex(faceStart + 2));
+          continue;
+        }
+
+        // The face's center, fanned out to each of its edges
+        for (int j = 0; j < faceSize; j++) {
+          for (int axis = 0; axis < 3; axis++) {
+            this.positions[centerIndex * 3 + axis] += base.getPosition(
+              base.getFaceIndex(faceStart + j), axis) / faceSize;
+          }
+        }
+        this.project(centerIndex);
+        for (int j = 0; j < faceSize; j++) {
+          this.addTriangle(centerIndex, base.getFaceIndex(faceStart + j),
+            base.getFaceIndex(faceStart + (j + 1) % faceSize));
+        }
+        centerIndex++;
+      }
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>GeodesicMesh.level</code>, the number of splits made so far
+     *
+     * @return level <code>int</code>
+     */
+    private int getLevel() {
+      return this.level;
+    }
+
+    // Utility methods
+
+    /**
+     * Splits every triangle into four, moving on to the next level, and returns the result as a
+     * new mesh with flat face normals.
+     *
+     * @return <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh next() {
+
+      // Declarations
+      final int oldTriangleCount, capacity;
+      final int[] oldTriangles, edgeVertices;
+      final long[] edgeKeys;
+      int a, b, c, ab, bc, ca;
+
+      // Definitions
+      oldTriangleCount = this.triangleCount;
+      oldTriangles = this.triangles;
+      capacity = Integer.highestOneBit(Math.max(4, 3 * oldTriangleCount)) * 2;
+      edgeKeys = new long[capacity];
+      edgeVertices = new int[capacity];
+
+      Arrays.fill(edgeKeys, -1L);
+      this.positions = Arrays.copyOf(this.positions, (this.vertexCount + 3 * oldTriangleCount / 2
+        + 3) * 3);
+      this.triangles = new int[oldTriangleCount * 12];
+      this.triangleCount = 0;
+
+      for (int i = 0; i < oldTriangleCount; i++) {
+        a = oldTriangles[i * 3];
+        b = oldTriangles[i * 3 + 1];
+        c = oldTriangles[i * 3 + 2];
+        ab = this.midpoint(a, b, edgeKeys, edgeVertices);
+        bc = this.midpoint(b, c, edgeKeys, edgeVertices);
+        ca = this.midpoint(c, a, edgeKeys, edgeVertices);
+        this.addTriangle(a, ab, ca);
+        this.addTriangle(ab, b, bc);
+        this.addTriangle(ca, bc, c);
+        this.addTriangle(ab, bc, ca);
+      }
+
+      this.level++;
+      return PolyhedronMesh.fromTriangles(this.positions, this.vertexCount, this.triangles,
+        this.triangleCount);
+    }
+
+    /**
+     * Returns the index of the vertex halfway along the edge between the two given vertices,
+     * adding it, pushed out onto the sphere, the first time the edge is seen.
+     *
+     * @param paramFirst <code>int</code>
+     * @param paramSecond <code>int</code>
+     * @param paramKeys <code>long[]</code> edge keys, -1 where empty
+     * @param paramVertices <code>int[]</code> midpoint vertices, by slot
+     * @return <code>int</code>
+     */
+    private int midpoint(int paramFirst, int paramSecond, long[] paramKeys, int[] paramVertices) {
+
+      // Declarations
+      final long key;
+      final int mask;
+      int slot;
+
+      // Definitions
+      key = ((long) Math.min(paramFirst, paramSecond) << 32) | Math.max(paramFirst, paramSecond);
+      mask = paramKeys.length - 1;
+      slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+
+      while (paramKeys[slot] != -1L) {
+        if (paramKeys[slot] == key) {
+          return paramVertices[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      paramKeys[slot] = key;
+      paramVertices[slot] = this.vertexCount;
+      for (int axis = 0; axis < 3; axis++) {
+        this.positions[this.vertexCount * 3 + axis] = (this.positions[paramFirst * 3 + axis]
+          + this.positions[paramSecond * 3 + axis]) / 2;
+      }
+      this.project(this.vertexCount);
+      return this.vertexCount++;
+    }
+
+    /**
+     * Pushes the given vertex out along its direction from the origin onto the sphere.
+     *
+     * @param paramVertex <code>int</code>
+     * @return void
+     */
+    private void project(int paramVertex) {
+
+      // Declarations
+      final int start;
+      final float length;
+
+      // Definitions
+      start = paramVertex * 3;
+      length = (float) Math.sqrt(this.positions[start] * this.positions[start]
+        + this.positions[start + 1] * this.positions[start + 1]
+        + this.positions[start + 2] * this.positions[start + 2]);
+
+      for (int axis = 0; axis < 3; axis++) {
+        this.positions[start + axis] *= this.radius / length;
+      }
+    }
+
+    /**
+     * Appends a triangle of the given vertices.
+     *
+     * @param paramA <code>int</code>
+     * @param paramB <code>int</code>
+     * @param paramC <code>int</code>
+     * @return void
+     */
+    private void addTriangle(int paramA, int paramB, int paramC) {
+      this.triangles[this.triangleCount * 3] = paramA;
+      this.triangles[this.triangleCount * 3 + 1] = paramB;
+      this.triangles[this.triangleCount * 3 + 2] = paramC;
+      this.triangleCount++;
+    }
+  }
+
+  /**
+   * This static class picks, for each object of the <code>FourLights.SceneGraph</code> that uses
+   * it, one of the levels of a <code>FourLights.GeodesicMesh</code> by the object's size on
+   * screen, such that its triangles' edges come out at about <code>--lod-pixels</code> pixels
+   * long, however near or far the object is and however large the window. The number of
+   * triangles drawn thereby follows the screen area the objects cover rather than their number,
+   * with the finest level, <code>--geodesic</code>, as the ceiling for an object filling the
+   * screen. Levels are built the first time any object needs them, so that the finer ones, which
+   * run to millions of triangles, cost nothing unless they are used.
+   * <br />
+   * <br />
+   * An object only moves to a finer level once its size exceeds the switching size by a margin
+   * of <code>HYSTERESIS</code>, and to a coarser one once it falls short of it by the same
+   * margin, so that an object hovering about the switching size does not pop between the two
+   * levels from frame to frame.
+   *
+   * @see FourLights.SceneGraph#cull
+   * @author Andrew Eissen
+   */
+  private final static class LevelOfDetail {
+
+    /** Fraction of the switching size by which an object must pass it to change level */
+    private final static float HYSTERESIS = 0.2F;
+
+    // Class fields
+    private final PolyhedronMesh[] levels;
+    private final float edgeFraction, targetPixels;
+    private GeodesicMesh generator;
+    private MeshCache cache;
+    private byte[] baseHash;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param base <code>PolyhedronMesh</code> level zero
+     * @param maxLevel <code>int</code> finest level
+     * @param targetPixels <code>float</code> edge length to aim for, in pixels
+     */
+    private LevelOfDetail(PolyhedronMesh base, int maxLevel, float targetPixels) {
+
+      // Declarations
+      int faceStart, faceSize;
+      double edgeTotal;
+
+      // Definitions
+      this.levels = new PolyhedronMesh[maxLevel + 1];
+      this.targetPixels = targetPixels;
+      this.levels[0] = base;
+      edgeTotal = 0;
+
+      // The mean edge length of the base, relative to its radius, halving with each level
+      for (int i = 0; i < base.getFaceCount(); i++) {
+        faceStart = base.getFaceStart(i);
+        faceSize = base.getFaceEnd(i) - faceStart;
+        for (int j = 0; j < faceSize; j++) {
+          edgeTotal += LevelOfDetail.distance(base, base.getFaceIndex(faceStart + j),
+            base.getFaceIndex(faceStart + (j + 1) % faceSize));
+        }
+      }
+      this.edgeFraction = (float) (edgeTotal / base.getIndexCount() / base.getBoundingRadius());
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>LevelOfDetail.cache</code>, also hashing the base mesh, by which the
+     * cached levels built from it are found
+     *
+     * @param cache <code>MeshCache</code>
+     * @return void
+     */
+    private void setCache(MeshCache cache) {
+      this.cache = cache;
+      this.baseHash = MeshCache.hashOf(this.levels[0]);
+    }
+
+    // Getters
+
+    /**
+     * Returns the finest level.
+     *
+     * @return <code>int</code>
+     */
+    private int getMaxLevel() {
+      return this.levels.length - 1;
+    }
+
+    // Utility methods
+
+    /**
+     * Returns the mesh of the given level, from the cache if there is one holding it, and
+     * otherwise building it and any coarser levels not yet built, storing each in the cache.
+     *
+     * @param paramLevel <code>int</code>
+     * @return <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh getMesh(int paramLevel) {
+
+      // Declarations
+      PolyhedronMesh level;
+      int built;
+
+      if (this.levels[paramLevel] == null && this.cache != null) {
+        this.levels[paramLevel] = this.cache.load(MeshCache.levelName(this.baseHash, paramLevel),
+          MeshCache.levelHash(this.baseHash, paramLevel));
+      }
+      if (this.levels[paramLevel] == null) {
+        if (this.generator == null) {
+          this.generator = new GeodesicMesh(this.levels[0]);
+        }
+        while (this.generator.getLevel() < paramLevel) {
+          level = this.generator.next();
+          built = this.generator.getLevel();
+          if (this.levels[built] == null) {
+            this.levels[built] = level;
+            if (this.cache != null) {
+              this.cache.store(MeshCache.levelName(this.baseHash, built),
+                MeshCache.levelHash(this.baseHash, built), level);
+            }
+          }
+        }
+      }
+      return this.levels[paramLevel];
+    }
+
+    /**
+     * Picks the level for an object of the given radius on screen, given the level it had in the
+     * previous frame, or -1 if it had none, applying the hysteresis described above.
+     *
+     * @param paramLevel <code>int</code> level of the previous frame, or -1
+     * @param paramScreenRadius <code>float</code> radius in pixels
+     * @return <code>int</code>
+     */
+    private int select(int paramLevel, float paramScreenRadius) {
+
+      // Declarations
+      final int finer, coarser;
+
+      if (paramLevel < 0) {
+        return this.idealLevel(paramScreenRadius);
+      }
+
+      // Definitions
+      finer = this.idealLevel(paramScreenRadius * (1 - LevelOfDetail.HYSTERESIS));
+      coarser = this.idealLevel(paramScreenRadius * (1 + LevelOfDetail.HYSTERESIS));
+
+      if (finer > paramLevel) {
+        return finer;
+      } else if (coarser < paramLevel) {
+        return coarser;
+      }
+      return paramLevel;
+    }
+
+    /**
+     * Returns the coarsest level whose edges come out no longer than the target for an object
+     * of the given radius on screen, within the levels available.
+     *
+     * @param paramScreenRadius <code>float</code> radius in pixels
+     * @return <code>int</code>
+     */
+    private int idealLevel(float paramScreenRadius) {
+
+      // Declaration
+      final double edgePixels;
+
+      // Definition
+      edgePixels = paramScreenRadius * this.edgeFraction;
+
+      if (!(edgePixels > this.targetPixels)) {
+        return 0;
+      }
+      return (int) Math.min(this.getMaxLevel(),
+        Math.ceil(Math.log(edgePixels / this.targetPixels) / Math.log(2)));
+    }
+
+    /**
+     * Returns the distance between two vertices of the passed mesh.
+     *
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramFirst <code>int</code>
+     * @param paramSecond <code>int</code>
+     * @return <code>double</code>
+     */
+    private static double distance(PolyhedronMesh paramMesh, int paramFirst, int paramSecond) {
+
+      // Declaration
+      double sum, difference;
+
+      // Definition
+      sum = 0;
+
+      for (int axis = 0; axis < 3; axis++) {
+        difference = paramMesh.getPosition(paramFirst, axis)
+          - paramMesh.getPosition(paramSecond, axis);
+        sum += difference * difference;
+      }
+      return Math.sqrt(sum);
+    }
+  }
+
+  /**
+   * This static class is a node of the <code>FourLights.SceneGraph</code>. Each node holds a local
+   * transformation relative to its parent, the world transformation that follows from it, and a
+   * bounding sphere in world space enclosing its own mesh, if it has one, and those of all its
+   * descendants. Both the world transformation and the bounds are cached, and are worked out
+   * again by <code>FourLights.SceneGraph#update</code> only once the node has been invalidated,
+   * which also flags every ancestor, whose bounds may have changed with it. Untouched branches are
+   * thereby skipped outright, so a frame in which only the three light markers move updates
+   * those three and the few nodes above them.
+   * <br />
+   * <br />
+   * Nodes without a mesh merely group their children, so that a whole group may be culled by a
+   * single test. Nodes with a mesh also carry the color and emission with which it is drawn, and
+   * may be handed a <code>FourLights.LevelOfDetail</code>, in which case the mesh only sets the
+   * bounds, and what is drawn is whichever of its levels the last cull picked.
+   *
+   * @see FourLights.SceneGraph
+   * @author Andrew Eissen
+   */
+  private final static class SceneNode {
+
+    // Class fields
+    private final SceneNode parent;
+    private final ArrayList<SceneNode> children;
+    private final PolyhedronMesh mesh;
+    private final float[] local, world, center, color, emission;
+    private float radius;
+    private boolean transformDirty, boundsDirty;
+    private LevelOfDetail levels;
+    private int level;
+
+    /**
+     * Parameterized constructor, adding the new node to its parent's children. The local
+     * transformation starts out as the identity, and the color and emission as black.
+     *
+     * @param parent <code>SceneNode</code>, or <code>null</code> for the root
+     * @param mesh <code>PolyhedronMesh</code>, or <code>null</code> for a group
+     */
+    private SceneNode(SceneNode parent, PolyhedronMesh mesh) {
+      this.parent = parent;
+      this.children = new ArrayList<>();
+      this.mesh = mesh;
+      this.local = new float[Matrices.SIZE];
+      this.world = new float[Matrices.SIZE];
+      this.center = new float[3];
+      this.color = new float[] {0, 0, 0, 1};
+      this.emission = new float[] {0, 0, 0, 1};
+
+      Matrices.identity(this.local);
+      if (parent != null) {
+        parent.children.add(this);
+      }
+      this.setLevels(null);
+      this.invalidate();
+    }
+
+    // Setter
+
+    /**
+     * Setter for <code>SceneNode.levels</code>, which also forgets any level already picked
+     *
+     * @param levels <code>LevelOfDetail</code>, or <code>null</code> to draw the mesh itself
+     * @return void
+     */
+    private void setLevels(LevelOfDetail levels) {
+      this.levels = levels;
+      this.level = -1;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>SceneNode.mesh</code>
+     *
+     * @return mesh <code>PolyhedronMesh</code>, or <code>null</code> for a group
+     */
+    private PolyhedronMesh getMesh() {
+      return this.mesh;
+    }
+
+    /**
+     * Getter for <code>SceneNode.levels</code>
+     *
+     * @return levels <code>LevelOfDetail</code>, or <code>null</code>
+     */
+    private LevelOfDetail getLevels() {
+      return this.levels;
+    }
+
+    /**
+     * Getter for <code>SceneNode.level</code>, as picked by the last cull that saw the node
+     *
+     * @return level <code>int</code>, or -1 if none has been picked
+     */
+    private int getLevel() {
+      return this.level;
+    }
+
+    /**
+     * Returns the mesh to draw: that of the picked level, if the node has levels, or else its own.
+     *
+     * @return <code>PolyhedronMesh</code>
+     */
+    private PolyhedronMesh getDrawnMesh() {
+      return (this.levels != null && this.level >= 0)
+        ? this.levels.getMesh(this.level)
+        : this.mesh;
+    }
+
+    /**
+     * Getter for <code>SceneNode.local</code>, which may be written in place, so long as
+     * <code>invalidate</code> is called afterwards
+     *
+     * @return local <code>float[]</code>
+     */
+    private float[] getLocal() {
+      return this.local;
+    }
+
+    /**
+     * Getter for <code>SceneNode.world</code>, valid as of the last update
+     *
+     * @return world <code>float[]</code>
+     */
+    private float[] getWorld() {
+      return this.world;
+    }
+
+    /**
+     * Getter for <code>SceneNode.color</code>, which may be written in place
+     *
+     * @return color <code>float[]</code>
+     */
+    private float[] getColor() {
+      return this.color;
+    }
+
+    /**
+     * Getter for <code>SceneNode.emission</code>, which may be written in place
+     *
+     * @return emission <code>float[]</code>
+     */
+    private float[] getEmission() {
+      return this.emission;
+    }
+
+    // Utility methods
+
+    /**
+     * Marks the local transformation as changed, and the bounds of this node and of all its
+     * ancestors as in need of working out again. The walk up stops at the first ancestor already
+     * marked, as those above it must have been marked along with it.
+     *
+     * @return void
+     */
+    private void invalidate() {
+      this.transformDirty = true;
+      for (SceneNode node = this; node != null && !node.boundsDirty; node = node.parent) {
+        node.boundsDirty = true;
+      }
+    }
+
+    /**
+     * Sets the color with which the node's mesh is drawn.
+     *
+     * @param paramColor <code>float[]</code> RGBA
+     * @return void
+     */
+    private void setColor(float[] paramColor) {
+      System.arraycopy(paramColor, 0, this.color, 0, 4);
+    }
+
+    /**
+     * Sets the emission with which the node's mesh is drawn.
+     *
+     * @param paramEmission <code>float[]</code> RGBA
+     * @return void
+     */
+    private void setEmission(float[] paramEmission) {
+      System.arraycopy(paramEmission, 0, this.emission, 0, 4);
+    }
+
+    /**
+     * Works out the world sphere from the node's mesh and the spheres of its children, which must
+     * be up to date. The sphere is centered on the bounding box of the spheres it encloses, which
+     * is not the smallest enclosing sphere, but is close to it and costs a single pass.
+     *
+     * @return void
+     */
+    private void computeBounds() {
+
+      // Declarations
+      float minX, minY, minZ, maxX, maxY, maxZ, meshRadius, reach;
+      final float[] m;
+
+      // Definitions
+      m = this.world;
+      minX = minY = minZ = Float.POSITIVE_INFINITY;
+      maxX = maxY = maxZ = Float.NEGATIVE_INFINITY;
+      meshRadius = 0;
+
+      if (this.mesh != null) {
+        meshRadius = this.mesh.getBoundingRadius() * (float) Math.sqrt(Math.max(
+          m[0] * m[0] + m[1] * m[1] + m[2] * m[2], Math.max(m[4] * m[4] + m[5] * m[5]
+          + m[6] * m[6], m[8] * m[8] + m[9] * m[9] + m[10] * m[10])));
+        minX = m[12] - meshRadius;
+        minY = m[13] - meshRadius;
+        minZ = m[14] - meshRadius;
+        maxX = m[12] + meshRadius;
+        maxY = m[13] + meshRadius;
+        maxZ = m[14] + meshRadius;
+      }
+      for (SceneNode child : this.children) {
+        minX = Math.min(minX, child.center[0] - child.radius);
+        minY = Math.min(minY, child.center[1] - child.radius);
+        minZ = Math.min(minZ, child.center[2] - child.radius);
+        maxX = Math.max(maxX, child.center[0] + child.radius);
+        maxY = Math.max(maxY, child.center[1] + child.radius);
+        maxZ = Math.max(maxZ, child.center[2] + child.radius);
+      }
+
+      // An empty group bounds nothing, and is culled by any test
+      if (minX > maxX) {
+        this.center[0] = m[12];
+        this.center[1] = m[13];
+        this.center[2] = m[14];
+        this.radius = -1;
+        return;
+      }
+
+      this.center[0] = (minX + maxX) / 2;
+      this.center[1] = (minY + maxY) / 2;
+      this.center[2] = (minZ + maxZ) / 2;
+      this.radius = (this.mesh != null)
+        ? this.distanceTo(m[12], m[13], m[14]) + meshRadius
+        : 0;
+      for (SceneNode child : this.children) {
+        reach = this.distanceTo(child.center[0], child.center[1], child.center[2]) + child.radius;
+        this.radius = Math.max(this.radius, reach);
+      }
+    }
+
+    /**
+     * Returns the distance from the center of the node's sphere to the given point.
+     *
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @return <code>float</code>
+     */
+    private float distanceTo(float paramX, float paramY, float paramZ) {
+
+      // Declarations
+      final float x, y, z;
+
+      // Definitions
+      x = paramX - this.center[0];
+      y = paramY - this.center[1];
+      z = paramZ - this.center[2];
+
+      return (float) Math.sqrt(x * x + y * y + z * z);
+    }
+  }
+
+  /**
+   * This static class holds the six planes of a view volume, taken from the product of a
+   * projection and a view matrix after the method of Gribb and Hartmann, each plane normalized so
+   * that a point's distance from it may be compared with a sphere's radius. The planes face
+   * inwards, so that a point inside the volume lies on the positive side of all six.
+   *
+   * @see FourLights.SceneGraph#cull
+   * @author Andrew Eissen
+   */
+  private final static class Frustum {
+
+    /** A sphere entirely outside the volume */
+    private final static int OUTSIDE = 0;
+
+    /** A sphere crossing at least one of the planes */
+    private final static int INTERSECTING = 1;
+
+    /** A sphere entirely inside the volume */
+    private final static int INSIDE = 2;
+
+    // Class fields
+    private final float[] planes, clip;
+
+    /** Default constructor */
+    private Frustum() {
+      this.planes = new float[24];
+      this.clip = new float[Matrices.SIZE];
+    }
+
+    // Utility methods
+
+    /**
+     * Extracts the planes of the volume seen through the given matrices.
+     *
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @return void
+     */
+    private void extract(float[] paramProjection, float[] paramView) {
+
+      // Declarations
+      int plane;
+      float length;
+
+      // Definition
+      plane = 0;
+
+      Matrices.multiply(paramProjection, paramView, this.clip);
+
+      // Left and right, bottom and top, near and far: the last row plus and minus each other row
+      for (int row = 0; row < 3; row++) {
+        for (int sign = 1; sign >= -1; sign -= 2) {
+          for (int column = 0; column < 4; column++) {
+            this.planes[plane * 4 + column] = this.clip[column * 4 + 3]
+              + sign * this.clip[column * 4 + row];
+          }
+          length = (float) Math.sqrt(this.planes[plane * 4] * this.planes[plane * 4]
+            + this.planes[plane * 4 + 1] * this.planes[plane * 4 + 1]
+            + this.planes[plane * 4 + 2] * this.planes[plane * 4 + 2]);
+          for (int column = 0; column < 4; column++) {
+            this.planes[plane * 4 + column] /= (length > 0) ? length : 1;
+          }
+          plane++;
+        }
+      }
+    }
+
+    /**
+     * Classifies the given sphere against the volume as one of <code>OUTSIDE</code>,
+     * <code>INTERSECTING</code>, or <code>INSIDE</code>. A sphere of negative radius is always
+     * outside.
+     *
+     * @param paramCenter <code>float[]</code>
+     * @param paramRadius <code>float</code>
+     * @return <code>int</code>
+     */
+    private int classify(float[] paramCenter, float paramRadius) {
+
+      // Declarations
+      int result;
+      float distance;
+
+      // Definition
+      result = Frustum.INSIDE;
+
+      if (paramRadius < 0) {
+        return Frustum.OUTSIDE;
+      }
+
+      for (int i = 0; i < this.planes.length; i += 4) {
+        distance = this.planes[i] * paramCenter[0] + this.planes[i + 1] * paramCenter[1]
+          + this.planes[i + 2] * paramCenter[2] + this.planes[i + 3];
+        if (distance < -paramRadius) {
+          return Frustum.OUTSIDE;
+        } else if (distance < paramRadius) {
+          result = Frustum.INTERSECTING;
+        }
+      }
+      return result;
+    }
+  }
+
+  /**
+   * This static class is the scene graph used once the scene holds more than the one shape, under
+   * <code>--instanced</code> or <code>--instances</code>. Each frame,
+   * <code>FourLights.SceneGraph#cull</code> brings the cached world transformations and bounds of
+   * any invalidated nodes up to date, and then walks the tree against the camera's view volume,
+   * skipping every branch whose bounding sphere lies wholly outside it and no longer testing the
+   * branches that lie wholly inside it, all before any GL call is made. What remains is a list of
+   * the visible nodes with meshes, for the caller to draw however it likes, so that the cost of
+   * drawing follows the number of objects in view rather than the number in the scene. Visible
+   * nodes with a <code>FourLights.LevelOfDetail</code> have their level picked at the same time,
+   * from the radius of their bounding sphere once projected to the viewport, so that the number
+   * of triangles drawn also follows the screen area the objects cover.
+   * <br />
+   * <br />
+   * The nodes visited, culled, and drawn, and the triangles drawn, are counted per frame, and
+   * averaged by
+   * <code>describe</code>. The visible list is grown as needed and kept from frame to frame, so
+   * a frame of an unchanged scene allocates nothing.
+   *
+   * @see FourLights.SceneNode
+   * @see FourLights.Frustum
+   * @author Andrew Eissen
+   */
+  private final static class SceneGraph {
+
+    // Class fields
+    private final SceneNode root;
+    private final Frustum frustum;
+    private final float[] projection, view;
+    private boolean culling;
+    private SceneNode[] visible;
+    private int visibleCount, nodeCount, viewportHeight;
+    private long visited, culled, drawn, updated, triangles, frameCount;
+
+    /** Default constructor, creating an empty root group with culling on */
+    private SceneGraph() {
+      this.root = new SceneNode(null, null);
+      this.frustum = new Frustum();
+      this.projection = new float[Matrices.SIZE];
+      this.view = new float[Matrices.SIZE];
+      this.culling = true;
+      this.visible = new SceneNode[16];
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>SceneGraph.culling</code>, which, if off, has every mesh counted as
+     * visible, so that the cost of culling may be weighed against the cost of drawing everything
+     *
+     * @param culling <code>boolean</code>
+     * @return void
+     */
+    private void setCulling(boolean culling) {
+      this.culling = culling;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>SceneGraph.root</code>
+     *
+     * @return root <code>SceneNode</code>
+     */
+    private SceneNode getRoot() {
+      return this.root;
+    }
+
+    /**
+     * Getter for <code>SceneGraph.visibleCount</code>, as of the last cull
+     *
+     * @return visibleCount <code>int</code>
+     */
+    private int getVisibleCount() {
+      return this.visibleCount;
+    }
+
+    /**
+     * Returns the given visible node, as of the last cull.
+     *
+     * @param paramIndex <code>int</code> index below <code>getVisibleCount()</code>
+     * @return <code>SceneNode</code>
+     */
+    private SceneNode getVisible(int paramIndex) {
+      return this.visible[paramIndex];
+    }
+
+    // Utility methods
+
+    /**
+     * Brings the graph up to date and lists the nodes with meshes that may be seen through the
+     * given matrices, picking the levels of those with levels for a viewport of the given height.
+     *
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramViewportHeight <code>int</code> in pixels
+     * @return void
+     */
+    private void cull(float[] paramProjection, float[] paramView, int paramViewportHeight) {
+      System.arraycopy(paramProjection, 0, this.projection, 0, Matrices.SIZE);
+      System.arraycopy(paramView, 0, this.view, 0, Matrices.SIZE);
+      this.viewportHeight = paramViewportHeight;
+      this.update(this.root, null, false);
+      this.frustum.extract(paramProjection, paramView);
+      this.visibleCount = 0;
+      this.nodeCount = 0;
+      this.cull(this.root, !this.culling);
+      this.frameCount++;
+    }
+
+    /**
+     * Brings the world transformation and bounds of the given node and its descendants up to
+     * date, where they have been invalidated or where the parent has moved.
+     *
+     * @param paramNode <code>SceneNode</code>
+     * @param paramParentWorld <code>float[]</code>, or <code>null</code> for the root
+     * @param paramParentMoved <code>boolean</code>
+     * @return void
+     */
+    private void update(SceneNode paramNode, float[] paramParentWorld, boolean paramParentMoved) {
+
+      // Declaration
+      final boolean moved;
+
+      // Definition
+      moved = paramParentMoved || paramNode.transformDirty;
+
+      if (!moved && !paramNode.boundsDirty) {
+        return;
+      }
+
+      if (moved) {
+        if (paramParentWorld == null) {
+          System.arraycopy(paramNode.local, 0, paramNode.world, 0, Matrices.SIZE);
+        } else {
+          Matrices.multiply(paramParentWorld, paramNode.local, paramNode.world);
+        }
+      }
+      for (SceneNode child : paramNode.children) {
+        this.update(child, paramNode.world, moved);
+      }
+      paramNode.computeBounds();
+      paramNode.transformDirty = false;
+      paramNode.boundsDirty = false;
+      this.updated++;
+    }
+
+    /**
+     * Walks the given branch, listing its visible meshes. Once a branch is known to lie wholly
+     * inside the volume, its descendants are listed without further tests.
+     *
+     * @param paramNode <code>SceneNode</code>
+     * @param paramInside <code>boolean</code> whether the branch is known to be inside
+     * @return void
+     */
+    private void cull(SceneNode paramNode, boolean paramInside) {
+
+      // Declaration
+      boolean inside;
+
+      // Definition
+      inside = paramInside;
+
+      this.visited++;
+      this.nodeCount++;
+      if (!inside) {
+        switch (this.frustum.classify(paramNode.center, paramNode.radius)) {
+          case Frustum.OUTSIDE:
+            this.culled++;
+            return;
+          case Frustum.INSIDE:
+            inside = true;
+            break;
+          default:
+            break;
+        }
+      }
+
+      if (paramNode.mesh != null) {
+        if (this.visibleCount == this.visible.length) {
+          this.visible = Arrays.copyOf(this.visible, 2 * this.visible.length);
+        }
+        this.visible[this.visibleCount++] = paramNode;
+        if (paramNode.levels != null) {
+          paramNode.level = paramNode.levels.select(paramNode.level,
+            this.screenRadius(paramNode));
+        }
+        this.drawn++;
+        this.triangles += paramNode.getDrawnMesh().getTriangleCount();
+      }
+      for (SceneNode child : paramNode.children) {
+        this.cull(child, inside);
+      }
+    }
+
+    /**
+     * Returns the radius in pixels of the given node's bounding sphere once projected to the
+     * viewport of the last cull, from its distance in front of the camera under a perspective
+     * projection, or unchanged by distance under an orthographic one. A sphere reaching behind
+     * the camera is taken to fill the screen.
+     *
+     * @param paramNode <code>SceneNode</code>
+     * @return <code>float</code>
+     */
+    private float screenRadius(SceneNode paramNode) {
+
+      // Declarations
+      final float[] v;
+      final float pixelsPerUnit, depth;
+
+      // Definitions
+      v = this.view;
+      pixelsPerUnit = this.projection[5] * this.viewportHeight / 2;
+      depth = -(v[2] * paramNode.center[0] + v[6] * paramNode.center[1]
+        + v[10] * paramNode.center[2] + v[14]);
+
+      if (this.projection[15] != 0) {
+        return paramNode.radius * pixelsPerUnit;
+      } else if (depth <= paramNode.radius) {
+        return Float.POSITIVE_INFINITY;
+      }
+      return paramNode.radius * pixelsPerUnit / depth;
+    }
+
+    /**
+     * Summarizes the culls since the previous call, or since the graph was created, and starts
+     * counting afresh.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declaration
+      final long frames;
+
+      // Definition
+      frames = Math.max(1, this.frameCount);
+
+      try {
+        return String.format("%.1f node(s) visited, %.1f culled, %.1f drawn of %.0f triangle(s) "
+          + "and %.1f updated per frame", (double) this.visited / frames,
+          (double) this.culled / frames, (double) this.drawn / frames,
+          (double) this.triangles / frames, (double) this.updated / frames);
+      } finally {
+        this.visited = 0;
+        this.culled = 0;
+        this.drawn = 0;
+        this.triangles = 0;
+        this.updated = 0;
+        this.frameCount = 0;
+      }
+    }
+  }
+
+  /**
+   * This static class is a list of the draw commands making up a frame of the scene graph, or a
+   * stretch of one, as written by <code>FourLights.RecordedFrame</code> and replayed on the GL
+   * thread by <code>FourLights.SceneGLEventListener#submitVisible</code>. The commands are kept
+   * in two primitive arrays rather than as objects: each takes <code>INTS_PER_COMMAND</code>
+   * entries of the command array, namely its opcode, the offset of its values in the float array,
+   * and an argument, while the matrices and colors it needs are copied into the float array.
+   * Nothing refers back to the nodes, so that the graph may be moved and culled for the next
+   * frame while this one is still being replayed. Both arrays are only ever grown, so recording a
+   * steady scene allocates nothing.
+   *
+   * @see FourLights.RecordedFrame
+   * @author Andrew Eissen
+   */
+  private final static class DrawCommands {
+
+    /** Opcode loading its 16 values as the modelview matrix */
+    private final static int LOAD_MATRIX = 0;
+
+    /** Opcode setting the material emission to its 4 values */
+    private final static int EMISSION = 1;
+
+    /** Opcode drawing the shape in the color of its 4 values */
+    private final static int DRAW_SHAPE = 2;
+
+    /** Opcode drawing a light marker in the color of its 4 values */
+    private final static int DRAW_MARKER = 3;
+
+    /** Opcode drawing the geodesic level of its argument in the color of its 4 values */
+    private final static int DRAW_LEVEL = 4;
+
+    /** Opcode writing its values as an instance of the renderer given by its argument */
+    private final static int INSTANCE = 5;
+
+    /** Argument of <code>INSTANCE</code> for the shape's renderer, levels counting from zero */
+    private final static int SHAPE_INSTANCES = -1;
+
+    /** Argument of <code>INSTANCE</code> for the light markers' renderer */
+    private final static int MARKER_INSTANCES = -2;
+
+    /** Entries taken by each command in the command array: opcode, value offset, argument */
+    private final static int INTS_PER_COMMAND = 3;
+
+    // Class fields
+    private int[] commands;
+    private float[] values;
+    private int commandCount, valueCount;
+
+    /** Default constructor */
+    private DrawCommands() {
+      this.commands = new int[64 * DrawCommands.INTS_PER_COMMAND];
+      this.values = new float[1024];
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>DrawCommands.commandCount</code>
+     *
+     * @return commandCount <code>int</code>
+     */
+    private int getCommandCount() {
+      return this.commandCount;
+    }
+
+    /**
+     * Getter for <code>DrawCommands.values</code>, which is replaced as it grows
+     *
+     * @return values <code>float[]</code>
+     */
+    private float[] getValues() {
+      return this.values;
+    }
+
+    /**
+     * Returns the opcode of the given command.
+     *
+     * @param paramCommand <code>int</code>
+     * @return <code>int</code>
+     */
+    private int getOpcode(int paramCommand) {
+      return this.commands[paramCommand * DrawCommands.INTS_PER_COMMAND];
+    }
+
+    /**
+     * Returns the offset of the given command's values.
+     *
+     * @param paramCommand <code>int</code>
+     * @return <code>int</code>
+     */
+    private int getOffset(int paramCommand) {
+      return this.commands[paramCommand * DrawCommands.INTS_PER_COMMAND + 1];
+    }
+
+    /**
+     * Returns the argument of the given command.
+     *
+     * @param paramCommand <code>int</code>
+     * @return <code>int</code>
+     */
+    private int getArgument(int paramCommand) {
+      return this.commands[paramCommand * DrawCommands.INTS_PER_COMMAND + 2];
+    }
+
+    // Utility methods
+
+    /**
+     * Empties the list, keeping its arrays.
+     *
+     * @return void
+     */
+    private void clear() {
+      this.commandCount = 0;
+      this.valueCount = 0;
+    }
+
+    /**
+     * Appends a command with room for the given number of values, which the caller is to write
+     * from the returned offset into <code>getValues()</code>, as it stands after this call.
+     *
+     * @param paramOpcode <code>int</code>
+     * @param paramArgument <code>int</code>
+     * @param paramValueCount <code>int</code>
+     * @return <code>int</code> offset of the command's values
+     */
+    private int add(int paramOpcode, int paramArgument, int paramValueCount) {
+
+      // Declarations
+      final int start, offset;
+
+      // Definitions
+      start = this.commandCount * DrawCommands.INTS_PER_COMMAND;
+      offset = this.valueCount;
+
+      if (start + DrawCommands.INTS_PER_COMMAND > this.commands.length) {
+        this.commands = Arrays.copyOf(this.commands, 2 * this.commands.length);
+      }
+      if (offset + paramValueCount > this.values.length) {
+        this.values = Arrays.copyOf(this.values,
+          Math.max(2 * this.values.length, offset + paramValueCount));
+      }
+
+      this.commands[start] = paramOpcode;
+      this.commands[start + 1] = offset;
+      this.commands[start + 2] = paramArgument;
+      this.commandCount++;
+      this.valueCount += paramValueCount;
+      return offset;
+    }
+
+    /**
+     * Appends a command whose values are the first of the passed array.
+     *
+     * @param paramOpcode <code>int</code>
+     * @param paramArgument <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramLength <code>int</code> number of values to copy
+     * @return void
+     */
+    private void add(int paramOpcode, int paramArgument, float[] paramValues, int paramLength) {
+
+      // Declaration
+      final int offset;
+
+      // Definition, before the values are read, as it may grow them
+      offset = this.add(paramOpcode, paramArgument, paramLength);
+
+      System.arraycopy(paramValues, 0, this.values, offset, paramLength);
+    }
+  }
+
+  /**
+   * This static class is one frame of the scene graph as recorded ahead of drawing by
+   * <code>FourLights.SceneGLEventListener#recordFrame</code>: the scene time, camera, viewport,
+   * and light switches it was recorded for, the light rotations worked out for that time, and the
+   * draw commands of the nodes left visible by the cull. The commands are split into segments,
+   * one per worker of the pool passed to <code>RecordedFrame#encode</code>, such that each
+   * worker writes its own stretch of the visible nodes into its own
+   * <code>FourLights.DrawCommands</code> with no locking, and the segments are replayed in order.
+   * Outside the instanced path, each node's modelview matrix is multiplied out here, on the
+   * workers, rather than on the GL thread.
+   *
+   * @see FourLights.FramePipeline
+   * @see FourLights.DrawCommands
+   * @author Andrew Eissen
+   */
+  private final static class RecordedFrame {
+
+    /** Fewest visible nodes worth a segment of their own, set to 256 */
+    private final static int NODES_PER_SEGMENT = 256;
+
+    // Class fields
+    private final float[] projection, view, color;
+    private final double[] rotations;
+    private final boolean[] switches;
+    private double sceneTime;
+    private int viewportHeight, visibleCount, segmentCount;
+    private DrawCommands[] segments;
+    private SceneGraph encodedGraph;
+    private boolean instanced, levelInstanced;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param paramLightCount <code>int</code> number of light sources whose rotations are kept
+     * @param paramSwitchCount <code>int</code> number of light switches
+     */
+    private RecordedFrame(int paramLightCount, int paramSwitchCount) {
+      this.projection = new float[Matrices.SIZE];
+      this.view = new float[Matrices.SIZE];
+      this.color = new float[4];
+      this.rotations = new double[paramLightCount];
+      this.switches = new boolean[paramSwitchCount];
+      this.segments = new DrawCommands[] {new DrawCommands()};
+      this.segmentCount = 1;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>RecordedFrame.projection</code>
+     *
+     * @return projection <code>float[]</code>
+     */
+    private float[] getProjection() {
+      return this.projection;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.view</code>
+     *
+     * @return view <code>float[]</code>
+     */
+    private float[] getView() {
+      return this.view;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.color</code>, a scratch color for replaying the commands
+     *
+     * @return color <code>float[]</code>
+     */
+    private float[] getColor() {
+      return this.color;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.rotations</code>, written while recording
+     *
+     * @return rotations <code>double[]</code> in degrees, one per light source
+     */
+    private double[] getRotations() {
+      return this.rotations;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.sceneTime</code>
+     *
+     * @return sceneTime <code>double</code>
+     */
+    private double getSceneTime() {
+      return this.sceneTime;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.viewportHeight</code>
+     *
+     * @return viewportHeight <code>int</code> in pixels
+     */
+    private int getViewportHeight() {
+      return this.viewportHeight;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.visibleCount</code>
+     *
+     * @return visibleCount <code>int</code>
+     */
+    private int getVisibleCount() {
+      return this.visibleCount;
+    }
+
+    /**
+     * Getter for <code>RecordedFrame.segmentCount</code>
+     *
+     * @return segmentCount <code>int</code>
+     */
+    private int getSegmentCount() {
+      return this.segmentCount;
+    }
+
+    /**
+     * Returns the given segment of the commands.
+     *
+     * @param paramSegment <code>int</code> index below <code>getSegmentCount()</code>
+     * @return <code>DrawCommands</code>
+     */
+    private DrawCommands getSegment(int paramSegment) {
+      return this.segments[paramSegment];
+    }
+
+    // Utility methods
+
+    /**
+     * Sets the scene time, camera, viewport height, and light switches the frame is to be
+     * recorded for.
+     *
+     * @param paramSceneTime <code>double</code>
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramViewportHeight <code>int</code>
+     * @param paramSwitches <code>boolean[]</code>
+     * @return void
+     */
+    private void stamp(double paramSceneTime, float[] paramProjection, float[] paramView,
+        int paramViewportHeight, boolean[] paramSwitches) {
+      this.sceneTime = paramSceneTime;
+      System.arraycopy(paramProjection, 0, this.projection, 0, Matrices.SIZE);
+      System.arraycopy(paramView, 0, this.view, 0, Matrices.SIZE);
+      this.viewportHeight = paramViewportHeight;
+      System.arraycopy(paramSwitches, 0, this.switches, 0, this.switches.length);
+    }
+
+    /**
+     * Returns whether the frame was recorded for the passed camera, viewport height, and light
+     * switches, and for a scene time within the given tolerance of that passed.
+     *
+     * @param paramSceneTime <code>double</code>
+     * @param paramTolerance <code>double</code> in seconds
+     * @param paramProjection <code>float[]</code>
+     * @param paramView <code>float[]</code>
+     * @param paramViewportHeight <code>int</code>
+     * @param paramSwitches <code>boolean[]</code>
+     * @return <code>boolean</code>
+     */
+    private boolean matches(double paramSceneTime, double paramTolerance,
+        float[] paramProjection, float[] paramView, int paramViewportHeight,
+        boolean[] paramSwitches) {
+      return Math.abs(this.sceneTime - paramSceneTime) <= paramTolerance
+        && this.viewportHeight == paramViewportHeight
+        && Arrays.equals(this.projection, paramProjection) && Arrays.equals(this.view, paramView)
+        && Arrays.equals(this.switches, paramSwitches);
+    }
+
+    /**
+     * Writes the draw commands of the nodes left visible by the graph's last cull, split into as
+     * many segments as the pool has workers, but no more than one per
+     * <code>NODES_PER_SEGMENT</code> nodes, and all in one on the calling thread without a pool.
+     *
+     * @param paramGraph <code>SceneGraph</code>
+     * @param paramInstanced <code>boolean</code> whether the nodes are drawn by instancing
+     * @param paramLevelInstanced <code>boolean</code> whether their levels are too
+     * @param paramPool <code>ForkJoinPool</code>, or <code>null</code>
+     * @return void
+     */
+    private void encode(SceneGraph paramGraph, boolean paramInstanced,
+        boolean paramLevelInstanced, ForkJoinPool paramPool) {
+
+      // Declaration
+      final int oldLength;
+
+      this.encodedGraph = paramGraph;
+      this.instanced = paramInstanced;
+      this.levelInstanced = paramLevelInstanced;
+      this.visibleCount = paramGraph.getVisibleCount();
+      this.segmentCount = (paramPool == null) ? 1 : Math.max(1, Math.min(
+        paramPool.getParallelism(), this.visibleCount / RecordedFrame.NODES_PER_SEGMENT));
+
+      if (this.segmentCount > this.segments.length) {
+        oldLength = this.segments.length;
+        this.segments = Arrays.copyOf(this.segments, this.segmentCount);
+        for (int i = oldLength; i < this.segmentCount; i++) {
+          this.segments[i] = new DrawCommands();
+        }
+      }
+
+      if (this.segmentCount == 1) {
+        this.encodeSegment(0);
+      } else {
+        paramPool.invoke(new SegmentTask(0, this.segmentCount));
+      }
+      this.encodedGraph = null;
+    }
+
+    /**
+     * Writes the draw commands of the given segment's stretch of the visible nodes.
+     *
+     * @param paramSegment <code>int</code>
+     * @return void
+     */
+    private void encodeSegment(int paramSegment) {
+
+      // Declarations
+      final DrawCommands commands;
+      final int first, last;
+      SceneNode node;
+      int offset, target;
+      float[] values;
+
+      // Definitions
+      commands = this.segments[paramSegment];
+      first = (int) ((long) this.visibleCount * paramSegment / this.segmentCount);
+      last = (int) ((long) this.visibleCount * (paramSegment + 1) / this.segmentCount);
+
+      commands.clear();
+      for (int i = first; i < last; i++) {
+        node = this.encodedGraph.getVisible(i);
+        if (this.instanced) {
+          if (node.getLevels() != null && this.levelInstanced) {
+            target = node.getLevel();
+          } else if (node.getMesh() == PolyhedronMesh.OCTAHEDRON) {
+            target = DrawCommands.MARKER_INSTANCES;
+          } else {
+            target = DrawCommands.SHAPE_INSTANCES;
+          }
+          offset = commands.add(DrawCommands.INSTANCE, target,
+            InstancedMeshRenderer.FLOATS_PER_INSTANCE);
+          values = commands.getValues();
+          System.arraycopy(node.getWorld(), 0, values, offset, Matrices.SIZE);
+          System.arraycopy(node.getColor(), 0, values,
+            offset + InstancedMeshRenderer.COLOR_OFFSET, 4);
+          System.arraycopy(node.getEmission(), 0, values,
+            offset + InstancedMeshRenderer.EMISSION_OFFSET, 3);
+          values[offset + InstancedMeshRenderer.FLOATS_PER_INSTANCE - 1] = 0;
+        } else {
+          offset = commands.add(DrawCommands.LOAD_MATRIX, 0, Matrices.SIZE);
+          Matrices.multiply(this.view, node.getWorld(), commands.getValues(), offset);
+          commands.add(DrawCommands.EMISSION, 0, node.getEmission(), 4);
+          if (node.getLevels() != null) {
+            commands.add(DrawCommands.DRAW_LEVEL, node.getLevel(), node.getColor(), 4);
+          } else if (node.getMesh() == PolyhedronMesh.OCTAHEDRON) {
+            commands.add(DrawCommands.DRAW_MARKER, 0, node.getColor(), 4);
+          } else {
+            commands.add(DrawCommands.DRAW_SHAPE, 0, node.getColor(), 4);
+          }
+        }
+      }
+    }
+
+    /**
+     * This class splits a range of segments in half until single segments remain, encoding each
+     * on whichever pool thread picks it up.
+     */
+    private final class SegmentTask extends RecursiveAction {
+
+      /** Version of the serialized form, set to 1 */
+      private final static long serialVersionUID = 1L;
+
+      // Class fields
+      private final int first, last;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramFirst <code>int</code> first segment of the range
+       * @param paramLast <code>int</code> segment following the last of the range
+       */
+      private SegmentTask(int paramFirst, int paramLast) {
+        this.first = paramFirst;
+        this.last = paramLast;
+      }
+
+      /**
+       * Encodes the range directly if it holds a single segment, and otherwise forks both halves.
+       *
+       * @see java.util.concurrent.RecursiveAction#compute
+       * @return void
+       */
+      @Override
+      protected void compute() {
+
+        // Declaration
+        final int middle;
+
+        // Definition
+        middle = (this.first + this.last) >>> 1;
+
+        if (this.last - this.first == 1) {
+          RecordedFrame.this.encodeSegment(this.first);
+        } else {
+          ForkJoinTask.invokeAll(new SegmentTask(this.first, middle),
+            new SegmentTask(middle, this.last));
+        }
+      }
+    }
+  }
+
+  /**
+   * This class holds the options the program was launched with, as parsed from the command line
+   * by <code>FourLights.LaunchOptions#parse</code>. Run without any arguments, the program behaves
+   * exactly as it always has, opening its window with the camera and light states that were
+   * originally hardcoded. The options exist chiefly for the benefit of the <code>--headless</code>
+   * mode, in which the scene is rendered offscreen on machines that have no display, such as build
+   * or render hosts running Mesa, and for which the following are recognized:
+   * <br />
+   * <br />
+   * <pre>
+   * --headless               Render offscreen instead of opening a window
+   * --size WIDTHxHEIGHT      Offscreen image size, default 600x600
+   * --frames N               Number of frames to render, default 1
+   * --start-frame N          Simulation step, of 30 ms, at which to start, default 0
+   * --eye X,Y,Z              Camera eye position, default 5,10,30
+   * --center X,Y,Z           Camera reference point, default 0,0,0
+   * --up X,Y,Z               Camera up vector, default 0,1,0
+   * --scale S                Camera scale, default 15
+   * --lights NAME,...        Lights switched on, any of viewpoint, red, green, blue, ambient,
+   *                          or none, default red,green,blue
+   * --output FILE            PNG file to which the last frame is written
+   * --backend gl|software    Render through JOGL or entirely on the CPU, default gl; software
+   *                          implies --headless
+   * --threads N              Worker threads of the software backend, default one per processor
+   * --reference FILE         PNG file against which the last frame is compared
+   * --tolerance F            Share of pixels, from 0 to 1, allowed to differ from the reference,
+   *                          default 0.02
+   * --timing                 Time each phase of every frame, writing the results as JSON on exit
+   * --timing-overlay         Also paint the timings over the scene; implies --timing
+   * --timing-output FILE     File to which the timings are written, default standard output;
+   *                          implies --timing
+   * --fps N                  Frame rate at which the window's render loop is paced, default 60;
+   *                          0 renders frames back to back
+   * --vsync                  Ask the window's drawable to wait for the display's refresh on
+   *                          each buffer swap, best combined with --fps 0
+   * --lighting MODE          Light through the fixed-function lights, fixed, by shader with
+   *                          tiled light culling, tiled, or per pixel by shader from a light
+   *                          table in a uniform buffer, uniform; default fixed; GL backend only
+   * --render-mode MODE       Draw the shape from buffer objects uploaded once, retained, or face
+   *                          by face between glBegin and glEnd, immediate; default retained,
+   *                          falling back to immediate where buffer objects are missing; GL
+   *                          backend only
+   * --stress-lights N,...    Add N orbiting point lights, timing each count in --headless mode
+   *                          and using the first in the window; implies --lighting tiled
+   * --instanced              Draw the shape and the light markers by instanced drawing, one
+   *                          call per mesh, after culling them through the scene graph; GL
+   *                          backend only, not with --lighting tiled or uniform
+   * --instances N,...        Add N copies of the shape around it, culled through the scene
+   *                          graph and drawn one by one, or all at once with --instanced,
+   *                          timing each count in --headless mode and using the first in the
+   *                          window; GL backend only, not with --lighting tiled or uniform
+   * --geodesic DEPTH         Draw the shape and its copies as geodesic spheres of up to DEPTH
+   *                          subdivisions, from 0 to 8, each at the level its size on screen
+   *                          calls for; implies the scene graph, as --instances does
+   * --geodesic-base NAME     Polyhedron subdivided by --geodesic, truncated or icosahedron,
+   *                          default truncated
+   * --lod-pixels N           Length on screen, in pixels, of the triangle edges --geodesic
+   *                          aims for, default 12
+   * --mesh FILE              Draw the mesh of an ASCII OBJ or binary PLY file, fitted to the
+   *                          unit sphere, in place of the truncated icosahedron, loaded across
+   *                          --threads threads
+   * --mesh-cache DIR         Keep compiled copies of the --mesh file and of the --geodesic
+   *                          levels in DIR, mapped on later starts instead of rebuilt
+   * --mesh-quantize          Store the positions of new --mesh-cache entries as 16-bit steps
+   * --startup-report         Print how long each phase of the startup took, up to the first
+   *                          frame, and close the window once it is shown
+   * --startup-serial         Load JOGL's natives and build the shape's buffers where first
+   *                          needed rather than alongside the rest of the startup
+   * --pipeline               Record the next frame of the scene graph, culled and encoded as
+   *                          draw commands across --threads workers, while the current one is
+   *                          drawn; implies the scene graph, GL backend only
+   * --export DIR             Write every --headless frame to DIR as frame-NNNNN.png, read back
+   *                          asynchronously on the GL backend and encoded on --threads threads
+   * --export-format png|raw  Image format of --export, raw being the bare RGBA bytes of each
+   *                          frame, top row first, default png
+   * --export-ring N          Frames read back at once through pixel buffer objects by --export
+   *                          on the GL backend, default 3
+   * --record FILE            Record the light switches, the camera's view, and the scene time
+   *                          of every frame drawn in the window to FILE, closed on exit
+   * --replay FILE            Draw the frames recorded to FILE offscreen, as fast as they will
+   *                          go, reporting their frame times and a hash of the last; implies
+   *                          --headless, with --size matching the recorded window
+   * --presenter NAME         Show the window's scene through a gljpanel, read back into Swing,
+   *                          a heavyweight glcanvas, or a newt window, reporting the present
+   *                          cost of each frame on exit, default gljpanel
+   * </pre>
+   *
+   * @see FourLights.HeadlessRenderer
+   * @see FourLights.SoftwareRasterizer
+   * @author Andrew Eissen
+   */
+  private final static class LaunchOptions {
+
+    // Class fields
+    private boolean headless;
+    private int width, height, frameCount, startFrame;
+    private double scale;
+    private double[] eye, center, up;
+    private boolean[] lightSwitches;
+    private String outputPath, backend, referencePath;
+    private int threadCount;
+    private double tolerance;
+    private boolean timing, timingOverlay;
+    private String timingOutput;
+    private int frameRate;
+    private boolean vsync;
+    private String lighting, renderMode;
+    private int[] stressLights, instances;
+    private boolean instanced, sceneGraph;
+    private int geodesicDepth, lodPixels;
+    private String geodesicBase, meshPath, meshCache;
+    private boolean meshQuantized, startupReport, startupSerial, pipelined;
+    private String exportPath, exportFormat;
+    private int exportRing;
+    private String recordPath, replayPath, presenter;
+
+    /** Default constructor, applying the defaults of the interactive program */
+    private LaunchOptions() {
+      this.setHeadless(false);
+      this.setWidth(FourLights.WINDOW_WIDTH);
+      this.setHeight(FourLights.WINDOW_HEIGHT);
+      this.setFrameCount(1);
+      this.setStartFrame(0);
+      this.setScale(15);
+      this.setEye(new double[] {5, 10, 30});
+      this.setCenter(new double[] {0, 0, 0});
+      this.setUp(new double[] {0, 1, 0});
+      this.setLightSwitches(new boolean[] {false, true, true, true, false});
+      this.setOutputPath(null);
+      this.setBackend(FourLights.BACKEND_GL);
+      this.setThreadCount(Runtime.getRuntime().availableProcessors());
+      this.setReferencePath(null);
+      this.setTolerance(0.02);
+      this.setTiming(false);
+      this.setTimingOverlay(false);
+      this.setTimingOutput(null);
+      this.setFrameRate(60);
+      this.setVsync(false);
+      this.setLighting(FourLights.LIGHTING_FIXED);
+      this.setRenderMode(FourLights.RENDER_MODE_RETAINED);
+      this.setStressLights(new int[] {0});
+      this.setInstanced(false);
+      this.setInstances(new int[] {0});
+      this.setSceneGraph(false);
+      this.setGeodesicDepth(-1);
+      this.setGeodesicBase(FourLights.GEODESIC_TRUNCATED);
+      this.setLodPixels(12);
+      this.setMeshPath(null);
+      this.setMeshCache(null);
+      this.setMeshQuantized(false);
+      this.setStartupReport(false);
+      this.setStartupSerial(false);
+      this.setPipelined(false);
+      this.setExportPath(null);
+      this.setExportFormat(FourLights.EXPORT_PNG);
+      this.setExportRing(3);
+      this.setPresenter(FourLights.PRESENTER_GLJPANEL);
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>LaunchOptions.headless</code>
+     *
+     * @param headless <code>boolean</code>
+     * @return void
+     */
+    private void setHeadless(boolean headless) {
+      this.headless = headless;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.width</code>
+     *
+     * @param width <code>int</code>
+     * @return void
+     */
+    private void setWidth(int width) {
+      this.width = width;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.height</code>
+     *
+     * @param height <code>int</code>
+     * @return void
+     */
+    private void setHeight(int height) {
+      this.height = height;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.frameCount</code>
+     *
+     * @param frameCount <code>int</code>
+     * @return void
+     */
+    private void setFrameCount(int frameCount) {
+      this.frameCount = frameCount;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.startFrame</code>
+     *
+     * @param startFrame <code>int</code>
+     * @return void
+     */
+    private void setStartFrame(int startFrame) {
+      this.startFrame = startFrame;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.scale</code>
+     *
+     * @param scale <code>double</code>
+     * @return void
+     */
+    private void setScale(double scale) {
+      this.scale = scale;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.eye</code>
+     *
+     * @param eye <code>double[]</code>
+     * @return void
+     */
+    private void setEye(double[] eye) {
+      this.eye = eye;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.center</code>
+     *
+     * @param center <code>double[]</code>
+     * @return void
+     */
+    private void setCenter(double[] center) {
+      this.center = center;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.up</code>
+     *
+     * @param up <code>double[]</code>
+     * @return void
+     */
+    private void setUp(double[] up) {
+      this.up = up;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.lightSwitches</code>
+     *
+     * @param lightSwitches <code>boolean[]</code>
+     * @return void
+     */
+    private void setLightSwitches(boolean[] lightSwitches) {
+      this.lightSwitches = lightSwitches;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.outputPath</code>
+     *
+     * @param outputPath <code>String</code>
+     * @return void
+     */
+    private void setOutputPath(String outputPath) {
+      this.outputPath = outputPath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.backend</code>
+     *
+     * @param backend <code>String</code>
+     * @return void
+     */
+    private void setBackend(String backend) {
+      this.backend = backend;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.threadCount</code>
+     *
+     * @param threadCount <code>int</code>
+     * @return void
+     */
+    private void setThreadCount(int threadCount) {
+      this.threadCount = threadCount;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.referencePath</code>
+     *
+     * @param referencePath <code>String</code>
+     * @return void
+     */
+    private void setReferencePath(String referencePath) {
+      this.referencePath = referencePath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.tolerance</code>
+     *
+     * @param tolerance <code>double</code>
+     * @return void
+     */
+    private void setTolerance(double tolerance) {
+      this.tolerance = tolerance;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.timing</code>
+     *
+     * @param timing <code>boolean</code>
+     * @return void
+     */
+    private void setTiming(boolean timing) {
+      this.timing = timing;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.timingOverlay</code>
+     *
+     * @param timingOverlay <code>boolean</code>
+     * @return void
+     */
+    private void setTimingOverlay(boolean timingOverlay) {
+      this.timingOverlay = timingOverlay;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.timingOutput</code>
+     *
+     * @param timingOutput <code>String</code>
+     * @return void
+     */
+    private void setTimingOutput(String timingOutput) {
+      this.timingOutput = timingOutput;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.frameRate</code>
+     *
+     * @param frameRate <code>int</code>
+     * @return void
+     */
+    private void setFrameRate(int frameRate) {
+      this.frameRate = frameRate;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.vsync</code>
+     *
+     * @param vsync <code>boolean</code>
+     * @return void
+     */
+    private void setVsync(boolean vsync) {
+      this.vsync = vsync;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.lighting</code>
+     *
+     * @param lighting <code>String</code>
+     * @return void
+     */
+    private void setLighting(String lighting) {
+      this.lighting = lighting;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.renderMode</code>
+     *
+     * @param renderMode <code>String</code>
+     * @return void
+     */
+    private void setRenderMode(String renderMode) {
+      this.renderMode = renderMode;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.stressLights</code>
+     *
+     * @param stressLights <code>int[]</code>
+     * @return void
+     */
+    private void setStressLights(int[] stressLights) {
+      this.stressLights = stressLights;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.instanced</code>
+     *
+     * @param instanced <code>boolean</code>
+     * @return void
+     */
+    private void setInstanced(boolean instanced) {
+      this.instanced = instanced;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.instances</code>
+     *
+     * @param instances <code>int[]</code>
+     * @return void
+     */
+    private void setInstances(int[] instances) {
+      this.instances = instances;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.sceneGraph</code>
+     *
+     * @param sceneGraph <code>boolean</code>
+     * @return void
+     */
+    private void setSceneGraph(boolean sceneGraph) {
+      this.sceneGraph = sceneGraph;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.geodesicDepth</code>
+     *
+     * @param geodesicDepth <code>int</code>, or -1 to draw the shape as it is
+     * @return void
+     */
+    private void setGeodesicDepth(int geodesicDepth) {
+      this.geodesicDepth = geodesicDepth;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.geodesicBase</code>
+     *
+     * @param geodesicBase <code>String</code>
+     * @return void
+     */
+    private void setGeodesicBase(String geodesicBase) {
+      this.geodesicBase = geodesicBase;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.lodPixels</code>
+     *
+     * @param lodPixels <code>int</code>
+     * @return void
+     */
+    private void setLodPixels(int lodPixels) {
+      this.lodPixels = lodPixels;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.meshPath</code>
+     *
+     * @param meshPath <code>String</code>
+     * @return void
+     */
+    private void setMeshPath(String meshPath) {
+      this.meshPath = meshPath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.meshCache</code>
+     *
+     * @param meshCache <code>String</code>
+     * @return void
+     */
+    private void setMeshCache(String meshCache) {
+      this.meshCache = meshCache;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.meshQuantized</code>
+     *
+     * @param meshQuantized <code>boolean</code>
+     * @return void
+     */
+    private void setMeshQuantized(boolean meshQuantized) {
+      this.meshQuantized = meshQuantized;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.startupReport</code>
+     *
+     * @param startupReport <code>boolean</code>
+     * @return void
+     */
+    private void setStartupReport(boolean startupReport) {
+      this.startupReport = startupReport;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.startupSerial</code>
+     *
+     * @param startupSerial <code>boolean</code>
+     * @return void
+     */
+    private void setStartupSerial(boolean startupSerial) {
+      this.startupSerial = startupSerial;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.pipelined</code>
+     *
+     * @param pipelined <code>boolean</code>
+     * @return void
+     */
+    private void setPipelined(boolean pipelined) {
+      this.pipelined = pipelined;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.exportPath</code>
+     *
+     * @param exportPath <code>String</code>
+     * @return void
+     */
+    private void setExportPath(String exportPath) {
+      this.exportPath = exportPath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.exportFormat</code>
+     *
+     * @param exportFormat <code>String</code>
+     * @return void
+     */
+    private void setExportFormat(String exportFormat) {
+      this.exportFormat = exportFormat;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.exportRing</code>
+     *
+     * @param exportRing <code>int</code>
+     * @return void
+     */
+    private void setExportRing(int exportRing) {
+      this.exportRing = exportRing;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.recordPath</code>
+     *
+     * @param recordPath <code>String</code>
+     * @return void
+     */
+    private void setRecordPath(String recordPath) {
+      this.recordPath = recordPath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.replayPath</code>
+     *
+     * @param replayPath <code>String</code>
+     * @return void
+     */
+    private void setReplayPath(String replayPath) {
+      this.replayPath = replayPath;
+    }
+
+    /**
+     * Setter for <code>LaunchOptions.presenter</code>
+     *
+     * @param presenter <code>String</code>
+     * @return void
+     */
+    private void setPresenter(String presenter) {
+      this.presenter = presenter;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>LaunchOptions.headless</code>
+     *
+     * @return headless <code>boolean</code>
+     */
+    private boolean isHeadless() {
+      return this.headless;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.width</code>
+     *
+     * @return width <code>int</code>
+     */
+    private int getWidth() {
+      return this.width;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.height</code>
+     *
+     * @return height <code>int</code>
+     */
+    private int getHeight() {
+      return this.height;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.frameCount</code>
+     *
+     * @return frameCount <code>int</code>
+     */
+    private int getFrameCount() {
+      return this.frameCount;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.startFrame</code>
+     *
+     * @return startFrame <code>int</code>
+     */
+    private int getStartFrame() {
+      return this.startFrame;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.scale</code>
+     *
+     * @return scale <code>double</code>
+     */
+    private double getScale() {
+      return this.scale;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.eye</code>
+     *
+     * @return eye <code>double[]</code>
+     */
+    private double[] getEye() {
+      return this.eye;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.center</code>
+     *
+     * @return center <code>double[]</code>
+     */
+    private double[] getCenter() {
+      return this.center;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.up</code>
+     *
+     * @return up <code>double[]</code>
+     */
+    private double[] getUp() {
+      return this.up;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.lightSwitches</code>
+     *
+     * @return lightSwitches <code>boolean[]</code>
+     */
+    private boolean[] getLightSwitches() {
+      return this.lightSwitches;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.outputPath</code>
+     *
+     * @return outputPath <code>String</code>, or <code>null</code> if no image is to be written
+     */
+    private String getOutputPath() {
+      return this.outputPath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.backend</code>
+     *
+     * @return backend <code>String</code>, either <code>BACKEND_GL</code> or
+     *     <code>BACKEND_SOFTWARE</code>
+     */
+    private String getBackend() {
+      return this.backend;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.threadCount</code>
+     *
+     * @return threadCount <code>int</code>
+     */
+    private int getThreadCount() {
+      return this.threadCount;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.referencePath</code>
+     *
+     * @return referencePath <code>String</code>, or <code>null</code> if there is nothing to
+     *     compare against
+     */
+    private String getReferencePath() {
+      return this.referencePath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.tolerance</code>
+     *
+     * @return tolerance <code>double</code>
+     */
+    private double getTolerance() {
+      return this.tolerance;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.timing</code>
+     *
+     * @return timing <code>boolean</code>
+     */
+    private boolean isTiming() {
+      return this.timing;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.timingOverlay</code>
+     *
+     * @return timingOverlay <code>boolean</code>
+     */
+    private boolean isTimingOverlay() {
+      return this.timingOverlay;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.timingOutput</code>
+     *
+     * @return timingOutput <code>String</code>
+     */
+    private String getTimingOutput() {
+      return this.timingOutput;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.frameRate</code>
+     *
+     * @return frameRate <code>int</code>
+     */
+    private int getFrameRate() {
+      return this.frameRate;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.vsync</code>
+     *
+     * @return vsync <code>boolean</code>
+     */
+    private boolean isVsync() {
+      return this.vsync;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.lighting</code>
+     *
+     * @return lighting <code>String</code>
+     */
+    private String getLighting() {
+      return this.lighting;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.renderMode</code>
+     *
+     * @return renderMode <code>String</code>
+     */
+    private String getRenderMode() {
+      return this.renderMode;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.stressLights</code>
+     *
+     * @return stressLights <code>int[]</code>
+     */
+    private int[] getStressLights() {
+      return this.stressLights;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.instanced</code>
+     *
+     * @return instanced <code>boolean</code>
+     */
+    private boolean isInstanced() {
+      return this.instanced;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.instances</code>
+     *
+     * @return instances <code>int[]</code>
+     */
+    private int[] getInstances() {
+      return this.instances;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.sceneGraph</code>
+     *
+     * @return sceneGraph <code>boolean</code>
+     */
+    private boolean isSceneGraph() {
+      return this.sceneGraph;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.geodesicDepth</code>
+     *
+     * @return geodesicDepth <code>int</code>, or -1
+     */
+    private int getGeodesicDepth() {
+      return this.geodesicDepth;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.geodesicBase</code>
+     *
+     * @return geodesicBase <code>String</code>
+     */
+    private String getGeodesicBase() {
+      return this.geodesicBase;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.lodPixels</code>
+     *
+     * @return lodPixels <code>int</code>
+     */
+    private int getLodPixels() {
+      return this.lodPixels;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.meshPath</code>
+     *
+     * @return meshPath <code>String</code>, or <code>null</code> to draw the truncated icosahedron
+     */
+    private String getMeshPath() {
+      return this.meshPath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.meshCache</code>
+     *
+     * @return meshCache <code>String</code>, or <code>null</code> to cache no meshes
+     */
+    private String getMeshCache() {
+      return this.meshCache;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.meshQuantized</code>
+     *
+     * @return meshQuantized <code>boolean</code>
+     */
+    private boolean isMeshQuantized() {
+      return this.meshQuantized;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.startupReport</code>
+     *
+     * @return startupReport <code>boolean</code>
+     */
+    private boolean isStartupReport() {
+      return this.startupReport;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.startupSerial</code>
+     *
+     * @return startupSerial <code>boolean</code>
+     */
+    private boolean isStartupSerial() {
+      return this.startupSerial;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.pipelined</code>
+     *
+     * @return pipelined <code>boolean</code>
+     */
+    private boolean isPipelined() {
+      return this.pipelined;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.exportPath</code>
+     *
+     * @return exportPath <code>String</code>, or <code>null</code>
+     */
+    private String getExportPath() {
+      return this.exportPath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.exportFormat</code>
+     *
+     * @return exportFormat <code>String</code>
+     */
+    private String getExportFormat() {
+      return this.exportFormat;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.exportRing</code>
+     *
+     * @return exportRing <code>int</code>
+     */
+    private int getExportRing() {
+      return this.exportRing;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.recordPath</code>
+     *
+     * @return recordPath <code>String</code>, or <code>null</code> if input is not recorded
+     */
+    private String getRecordPath() {
+      return this.recordPath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.replayPath</code>
+     *
+     * @return replayPath <code>String</code>, or <code>null</code> if input is not replayed
+     */
+    private String getReplayPath() {
+      return this.replayPath;
+    }
+
+    /**
+     * Getter for <code>LaunchOptions.presenter</code>
+     *
+     * @return presenter <code>String</code>, one of the <code>PRESENTER_*</code> constants
+     */
+    private String getPresenter() {
+      return this.presenter;
+    }
+
+    // Utility methods
+
+    /**
+     * This static method parses the command line arguments passed to <code>FourLights#main</code>
+     * into a new options instance, starting from the interactive program's defaults. Any unknown
+     * option or malformed value results in an <code>IllegalArgumentException</code> naming the
+     * offending argument.
+     *
+     * @param paramArgs <code>String[]</code>
+     * @return <code>LaunchOptions</code>
+     */
+    private static LaunchOptions parse(String[] paramArgs) {
+
+      // Declarations
+      String flag;
+      final LaunchOptions options;
+
+      // Definition
+      options = new LaunchOptions();
+
+      for (int i = 0; i < paramArgs.length; i++) {
+        flag = paramArgs[i];
+        switch (flag) {
+          case "--headless":
+            options.setHeadless(true);
+            break;
+          case "--size":
+            options.parseSize(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--frames":
+            options.setFrameCount(LaunchOptions.parseCount(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--start-frame":
+            options.setStartFrame(LaunchOptions.parseInteger(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--eye":
+            options.setEye(LaunchOptions.parseVector(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--center":
+            options.setCenter(LaunchOptions.parseVector(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--up":
+            options.setUp(LaunchOptions.parseVector(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--scale":
+            options.setScale(LaunchOptions.parseDecimal(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--lights":
+            options.setLightSwitches(LaunchOptions.parseSwitches(
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--output":
+            options.setOutputPath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--backend":
+            options.parseBackend(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--threads":
+            options.setThreadCount(LaunchOptions.parseCount(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--reference":
+            options.setReferencePath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--tolerance":
+            options.setTolerance(LaunchOptions.parseShare(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--timing":
+            options.setTiming(true);
+            break;
+          case "--timing-overlay":
+            options.setTiming(true);
+            options.setTimingOverlay(true);
+            break;
+          case "--timing-output":
+            options.setTiming(true);
+            options.setTimingOutput(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--fps":
+            options.setFrameRate(LaunchOptions.parseRate(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--vsync":
+            options.setVsync(true);
+            break;
+          case "--lighting":
+            options.parseLighting(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--render-mode":
+            options.parseRenderMode(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--stress-lights":
+            options.setLighting(FourLights.LIGHTING_TILED);
+            options.setStressLights(LaunchOptions.parseIntegers(flag,
+              LaunchOptions.valueAfter(paramArgs, i++), 0, 1 << 16));
+            break;
+          case "--instanced":
+            options.setInstanced(true);
+            options.setSceneGraph(true);
+            break;
+          case "--instances":
+            options.setSceneGraph(true);
+            options.setInstances(LaunchOptions.parseIntegers(flag,
+              LaunchOptions.valueAfter(paramArgs, i++), 0, 1 << 20));
+            break;
+          case "--geodesic":
+            options.setSceneGraph(true);
+            options.setGeodesicDepth(LaunchOptions.parseRate(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--geodesic-base":
+            options.parseGeodesicBase(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--lod-pixels":
+            options.setLodPixels(LaunchOptions.parseCount(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--mesh":
+            options.setMeshPath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--mesh-cache":
+            options.setMeshCache(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--mesh-quantize":
+            options.setMeshQuantized(true);
+            break;
+          case "--startup-report":
+            options.setStartupReport(true);
+            break;
+          case "--startup-serial":
+            options.setStartupSerial(true);
+            break;
+          case "--pipeline":
+            options.setPipelined(true);
+            options.setSceneGraph(true);
+            break;
+          case "--export":
+            options.setExportPath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--export-format":
+            options.parseExportFormat(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--export-ring":
+            options.setExportRing(LaunchOptions.parseCount(flag,
+              LaunchOptions.valueAfter(paramArgs, i++)));
+            break;
+          case "--record":
+            options.setRecordPath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--replay":
+            options.setHeadless(true);
+            options.setReplayPath(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          case "--presenter":
+            options.parsePresenter(LaunchOptions.valueAfter(paramArgs, i++));
+            break;
+          default:
+            throw new IllegalArgumentException("Unknown option: " + flag);
+        }
+      }
+
+      if (options.isSceneGraph() && !FourLights.LIGHTING_FIXED.equals(options.getLighting())) {
+        throw new IllegalArgumentException(
+          "--instanced, --instances, --geodesic and --pipeline cannot be combined with tiled or "
+            + "uniform lighting");
+      }
+      if (options.getExportPath() != null && !options.isHeadless()) {
+        throw new IllegalArgumentException("--export requires --headless");
+      }
+      if (!FourLights.PRESENTER_GLJPANEL.equals(options.getPresenter())) {
+        if (options.isHeadless()) {
+          throw new IllegalArgumentException("--presenter cannot be combined with --headless");
+        }
+        if (options.isTimingOverlay()) {
+          throw new IllegalArgumentException("--timing-overlay requires --presenter gljpanel");
+        }
+      }
+      if (options.getRecordPath() != null && options.isHeadless()) {
+        throw new IllegalArgumentException("--record cannot be combined with --headless or "
+          + "--replay, there being no input to record");
+      }
+      if (options.isMeshQuantized() && options.getMeshCache() == null) {
+        throw new IllegalArgumentException("--mesh-quantize requires --mesh-cache");
+      }
+      if (options.getGeodesicDepth() > FourLights.GEODESIC_MAX_DEPTH) {
+        throw new IllegalArgumentException("Expected a depth from 0 to "
+          + FourLights.GEODESIC_MAX_DEPTH + " for --geodesic: " + options.getGeodesicDepth());
+      }
+
+      return options;
+    }
+
+    /**
+     * Returns the argument following the option at the given index, failing if there is none.
+     *
+     * @param paramArgs <code>String[]</code>
+     * @param paramIndex <code>int</code> index of the option itself
+     * @return <code>String</code>
+     */
+    private static String valueAfter(String[] paramArgs, int paramIndex) {
+      if (paramIndex + 1 >= paramArgs.length) {
+        throw new IllegalArgumentException("Missing value for option: " + paramArgs[paramIndex]);
+      }
+      return paramArgs[paramIndex + 1];
+    }
+
+    /**
+     * Parses a <code>WIDTHxHEIGHT</code> value into this instance's width and height.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseSize(String paramValue) {
+
+      // Declaration
+      final String[] parts;
+
+      // Definition
+      parts = paramValue.toLowerCase().split("x");
+
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected WIDTHxHEIGHT for --size: " + paramValue);
+      }
+      this.setWidth(LaunchOptions.parseCount("--size", parts[0]));
+      this.setHeight(LaunchOptions.parseCount("--size", parts[1]));
+    }
+
+    /**
+     * Parses an integer option value.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>int</code>
+     */
+    private static int parseInteger(String paramFlag, String paramValue) {
+      try {
+        return Integer.parseInt(paramValue.trim());
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Expected an integer for " + paramFlag + ": "
+          + paramValue, e);
+      }
+    }
+
+    /**
+     * Parses an integer option value that must be at least one.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>int</code>
+     */
+    private static int parseCount(String paramFlag, String paramValue) {
+
+      // Declaration
+      final int count;
+
+      // Definition
+      count = LaunchOptions.parseInteger(paramFlag, paramValue);
+
+      if (count < 1) {
+        throw new IllegalArgumentException("Expected a positive value for " + paramFlag + ": "
+          + paramValue);
+      }
+      return count;
+    }
+
+    /**
+     * Parses an integer option value that must not be negative.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>int</code>
+     */
+    private static int parseRate(String paramFlag, String paramValue) {
+
+      // Declaration
+      final int rate;
+
+      // Definition
+      rate = LaunchOptions.parseInteger(paramFlag, paramValue);
+
+      if (rate < 0) {
+        throw new IllegalArgumentException("Expected zero or a positive value for " + paramFlag
+          + ": " + paramValue);
+      }
+      return rate;
+    }
+
+    /**
+     * Parses a comma-separated list of integer option values, each of which must lie within the
+     * given inclusive bounds.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @param paramMinimum <code>int</code>
+     * @param paramMaximum <code>int</code>
+     * @return <code>int[]</code>
+     */
+    private static int[] parseIntegers(String paramFlag, String paramValue, int paramMinimum,
+        int paramMaximum) {
+
+      // Declarations
+      final String[] parts;
+      final int[] values;
+
+      // Definitions
+      parts = paramValue.split(",");
+      values = new int[parts.length];
+
+      for (int i = 0; i < values.length; i++) {
+        values[i] = LaunchOptions.parseInteger(paramFlag, parts[i]);
+        if (values[i] < paramMinimum || values[i] > paramMaximum) {
+          throw new IllegalArgumentException("Expected values from " + paramMinimum + " to "
+            + paramMaximum + " for " + paramFlag + ": " + paramValue);
+        }
+      }
+      return values;
+    }
+
+    /**
+     * Parses a decimal option value.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>double</code>
+     */
+    private static double parseDecimal(String paramFlag, String paramValue) {
+      try {
+        return Double.parseDouble(paramValue.trim());
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Expected a number for " + paramFlag + ": "
+          + paramValue, e);
+      }
+    }
+
+    /**
+     * Parses a decimal option value that must lie between zero and one inclusive.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>double</code>
+     */
+    private static double parseShare(String paramFlag, String paramValue) {
+
+      // Declaration
+      final double share;
+
+      // Definition
+      share = LaunchOptions.parseDecimal(paramFlag, paramValue);
+
+      if (share < 0 || share > 1) {
+        throw new IllegalArgumentException("Expected a value from 0 to 1 for " + paramFlag + ": "
+          + paramValue);
+      }
+      return share;
+    }
+
+    /**
+     * Parses a backend name into this instance's backend. As the software backend has no window
+     * to draw into, selecting it also selects headless rendering.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseBackend(String paramValue) {
+      if (FourLights.BACKEND_SOFTWARE.equalsIgnoreCase(paramValue.trim())) {
+        this.setBackend(FourLights.BACKEND_SOFTWARE);
+        this.setHeadless(true);
+      } else if (FourLights.BACKEND_GL.equalsIgnoreCase(paramValue.trim())) {
+        this.setBackend(FourLights.BACKEND_GL);
+      } else {
+        throw new IllegalArgumentException("Unknown backend for --backend: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses the value of <code>--presenter</code>.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parsePresenter(String paramValue) {
+      if (FourLights.PRESENTER_GLJPANEL.equalsIgnoreCase(paramValue.trim())) {
+        this.setPresenter(FourLights.PRESENTER_GLJPANEL);
+      } else if (FourLights.PRESENTER_GLCANVAS.equalsIgnoreCase(paramValue.trim())) {
+        this.setPresenter(FourLights.PRESENTER_GLCANVAS);
+      } else if (FourLights.PRESENTER_NEWT.equalsIgnoreCase(paramValue.trim())) {
+        this.setPresenter(FourLights.PRESENTER_NEWT);
+      } else {
+        throw new IllegalArgumentException("Unknown presenter for --presenter: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses the value of <code>--export-format</code>.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseExportFormat(String paramValue) {
+      if (FourLights.EXPORT_PNG.equalsIgnoreCase(paramValue.trim())) {
+        this.setExportFormat(FourLights.EXPORT_PNG);
+      } else if (FourLights.EXPORT_RAW.equalsIgnoreCase(paramValue.trim())) {
+        this.setExportFormat(FourLights.EXPORT_RAW);
+      } else {
+        throw new IllegalArgumentException("Unknown format for --export-format: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses the value of <code>--lighting</code>.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseLighting(String paramValue) {
+      if (FourLights.LIGHTING_TILED.equalsIgnoreCase(paramValue.trim())) {
+        this.setLighting(FourLights.LIGHTING_TILED);
+      } else if (FourLights.LIGHTING_UNIFORM.equalsIgnoreCase(paramValue.trim())) {
+        this.setLighting(FourLights.LIGHTING_UNIFORM);
+      } else if (FourLights.LIGHTING_FIXED.equalsIgnoreCase(paramValue.trim())) {
+        this.setLighting(FourLights.LIGHTING_FIXED);
+      } else {
+        throw new IllegalArgumentException("Unknown lighting for --lighting: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses the value of <code>--render-mode</code>.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseRenderMode(String paramValue) {
+      if (FourLights.RENDER_MODE_RETAINED.equalsIgnoreCase(paramValue.trim())) {
+        this.setRenderMode(FourLights.RENDER_MODE_RETAINED);
+      } else if (FourLights.RENDER_MODE_IMMEDIATE.equalsIgnoreCase(paramValue.trim())) {
+        this.setRenderMode(FourLights.RENDER_MODE_IMMEDIATE);
+      } else {
+        throw new IllegalArgumentException("Unknown mode for --render-mode: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses the value of <code>--geodesic-base</code>.
+     *
+     * @param paramValue <code>String</code>
+     * @return void
+     */
+    private void parseGeodesicBase(String paramValue) {
+      if (FourLights.GEODESIC_TRUNCATED.equalsIgnoreCase(paramValue.trim())) {
+        this.setGeodesicBase(FourLights.GEODESIC_TRUNCATED);
+      } else if (FourLights.GEODESIC_ICOSAHEDRON.equalsIgnoreCase(paramValue.trim())) {
+        this.setGeodesicBase(FourLights.GEODESIC_ICOSAHEDRON);
+      } else {
+        throw new IllegalArgumentException("Unknown base for --geodesic-base: " + paramValue);
+      }
+    }
+
+    /**
+     * Parses an <code>X,Y,Z</code> option value into a new three-element array.
+     *
+     * @param paramFlag <code>String</code> option name, for error messages
+     * @param paramValue <code>String</code>
+     * @return <code>double[]</code>
+     */
+    private static double[] parseVector(String paramFlag, String paramValue) {
+
+      // Declarations
+      final String[] parts;
+      final double[] vector;
+
+      // Definitions
+      parts = paramValue.split(",");
+      vector = new double[3];
+
+      if (parts.length != vector.length) {
+        throw new IllegalArgumentException("Expected X,Y,Z for " + paramFlag + ": " + paramValue);
+      }
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = LaunchOptions.parseDecimal(paramFlag, parts[i]);
+      }
+      return vector;
+    }
+
+    /**
+     * Parses a comma-separated list of light names, as listed in
+     * <code>FourLights.SWITCH_NAMES</code>, into a new light switch array in which only the named
+     * lights are on. The single name <code>none</code> switches every light off.
+     *
+     * @param paramValue <code>String</code>
+     * @return <code>boolean[]</code>
+     */
+    private static boolean[] parseSwitches(String paramValue) {
+
+      // Declarations
+      boolean known;
+      final boolean[] switches;
+
+      // Definition
+      switches = new boolean[FourLights.SWITCH_NAMES.length];
+
+      if (!paramValue.trim().equalsIgnoreCase("none")) {
+        for (String name : paramValue.split(",")) {
+          known = false;
+          for (int i = 0; i < switches.length; i++) {
+            if (FourLights.SWITCH_NAMES[i].equalsIgnoreCase(name.trim())) {
+              switches[i] = known = true;
+            }
+          }
+          if (!known) {
+            throw new IllegalArgumentException("Unknown light for --lights: " + name);
+          }
+        }
+      }
+      return switches;
+    }
+  }
+
+  /**
+   * This class renders the scene without any window, for use on build and render hosts that have
+   * no display. It creates a JOGL offscreen drawable, which JOGL backs with a framebuffer object
+   * or a pbuffer as the platform allows, attaches the very same
+   * <code>FourLights.SceneGLEventListener</code> used by the on-screen panel, and drives its
+   * <code>init</code> and <code>display</code> methods directly for the requested number of
+   * frames, advancing the scene time by one fixed simulation step before each. The
+   * last frame is then read back and handed to <code>FourLights#finishHeadless</code>, which may
+   * write it out as a PNG image or compare it against a reference.
+   * <br />
+   * <br />
+   * On Linux hosts without a GPU, Mesa's llvmpipe rasterizer may be selected by setting
+   * <code>LIBGL_ALWAYS_SOFTWARE=1</code>. Depending on the JOGL build, a display connection may
+   * still be needed to create a context, in which case an X virtual framebuffer such as
+   * <code>Xvfb</code> will serve.
+   *
+   * @see FourLights.LaunchOptions
+   * @see com.jogamp.opengl.GLOffscreenAutoDrawable
+   * @author Andrew Eissen
+   */
+  private final class HeadlessRenderer implements GLRunnable {
+
+    // Class fields
+    private int width, height, frameCount, exportRing;
+    private int[] pixels, stressCounts;
+    private PixelPackRing pixelPackRing;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param options <code>LaunchOptions</code>
+     */
+    private HeadlessRenderer(LaunchOptions options) {
+      this.setWidth(options.getWidth());
+      this.setHeight(options.getHeight());
+      this.setFrameCount((FourLights.this.getInputReplay() != null)
+        ? FourLights.this.getInputReplay().getFrameCount()
+        : options.getFrameCount());
+      this.setStressCounts((options.isSceneGraph())
+        ? options.getInstances()
+        : options.getStressLights());
+      this.setExportRing(options.getExportRing());
+      this.setPixelPackRing(null);
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>HeadlessRenderer.width</code>
+     *
+     * @param width <code>int</code>
+     * @return void
+     */
+    private void setWidth(int width) {
+      this.width = width;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.height</code>
+     *
+     * @param height <code>int</code>
+     * @return void
+     */
+    private void setHeight(int height) {
+      this.height = height;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.frameCount</code>
+     *
+     * @param frameCount <code>int</code>
+     * @return void
+     */
+    private void setFrameCount(int frameCount) {
+      this.frameCount = frameCount;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.pixels</code>
+     *
+     * @param pixels <code>int[]</code>
+     * @return void
+     */
+    private void setPixels(int[] pixels) {
+      this.pixels = pixels;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.stressCounts</code>
+     *
+     * @param stressCounts <code>int[]</code>
+     * @return void
+     */
+    private void setStressCounts(int[] stressCounts) {
+      this.stressCounts = stressCounts;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.exportRing</code>
+     *
+     * @param exportRing <code>int</code>
+     * @return void
+     */
+    private void setExportRing(int exportRing) {
+      this.exportRing = exportRing;
+    }
+
+    /**
+     * Setter for <code>HeadlessRenderer.pixelPackRing</code>
+     *
+     * @param pixelPackRing <code>PixelPackRing</code>
+     * @return void
+     */
+    private void setPixelPackRing(PixelPackRing pixelPackRing) {
+      this.pixelPackRing = pixelPackRing;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>HeadlessRenderer.width</code>
+     *
+     * @return width <code>int</code>
+     */
+    private int getWidth() {
+      return this.width;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.height</code>
+     *
+     * @return height <code>int</code>
+     */
+    private int getHeight() {
+      return this.height;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.frameCount</code>
+     *
+     * @return frameCount <code>int</code>
+     */
+    private int getFrameCount() {
+      return this.frameCount;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.pixels</code>
+     *
+     * @return pixels <code>int[]</code>, the last frame read back, or <code>null</code>
+     */
+    private int[] getPixels() {
+      return this.pixels;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.stressCounts</code>
+     *
+     * @return stressCounts <code>int[]</code>
+     */
+    private int[] getStressCounts() {
+      return this.stressCounts;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.exportRing</code>
+     *
+     * @return exportRing <code>int</code> frames read back at once under <code>--export</code>
+     */
+    private int getExportRing() {
+      return this.exportRing;
+    }
+
+    /**
+     * Getter for <code>HeadlessRenderer.pixelPackRing</code>
+     *
+     * @return pixelPackRing <code>PixelPackRing</code>, or <code>null</code> if not exporting
+     */
+    private PixelPackRing getPixelPackRing() {
+      return this.pixelPackRing;
+    }
+
+    // Utility methods
+
+    /**
+     * This method creates the offscreen drawable, renders the requested frames into it, and reports
+     * the time taken, once for every stress light count given to <code>--stress-lights</code> under
+     * tiled lighting, with the light culling statistics, or for every shape count given to
+     * <code>--instances</code>, with the scene graph and instanced drawing statistics. The timing
+     * covers the frames themselves and a final <code>glFinish</code>, but not context creation,
+     * which happens when the drawable is created. The drawable is always destroyed before
+     * returning, releasing the listener's buffers.
+     * <br />
+     * <br />
+     * Given an exporter, every frame is also read back through a
+     * <code>FourLights.PixelPackRing</code> of <code>--export-ring</code> pixel buffers right after
+     * it is displayed, and handed to the exporter's encoders, whose sustained rate is reported once
+     * the last frame has been written.
+     * <br />
+     * <br />
+     * Under <code>--replay</code>, the frames are those of the input log, each advanced to by
+     * <code>FourLights.InputReplay#advance</code> in place of the next simulation step, and timed
+     * from the start of its display to its handing over for export.
+     *
+     * @param paramExporter <code>FrameExporter</code>, or <code>null</code>
+     * @return <code>int[]</code> the last frame as top-down <code>0xRRGGBB</code> pixels
+     */
+    private int[] render(FrameExporter paramExporter) {
+
+      // Declarations
+      int drawnFrames;
+      long startTime, frameStart, elapsedTime;
+      final double firstTime;
+      final GLProfile profile;
+      final GLCapabilities capabilities;
+      final GLOffscreenAutoDrawable drawable;
+      final SceneGLEventListener tempListener;
+      final InputReplay tempReplay;
+
+      // Definitions
+      firstTime = FourLights.this.getSceneTime();
+      tempListener = FourLights.this.getSceneListener();
+      tempReplay = FourLights.this.getInputReplay();
+      FourLights.this.getStartupProfile().awaitNatives();
+      FourLights.this.getStartupProfile().begin(StartupProfile.CONTEXT);
+      profile = GLProfile.get(GLProfile.GL2);
+      capabilities = new GLCapabilities(profile);
+      capabilities.setOnscreen(false);
+      capabilities.setDoubleBuffered(false);
+      capabilities.setDepthBits(24);
+      drawable = GLDrawableFactory.getFactory(profile).createOffscreenAutoDrawable(null,
+        capabilities, null, this.getWidth(), this.getHeight());
+
+      drawable.addGLEventListener(tempListener);
+      if (paramExporter != null) {
+        this.setPixelPackRing(new PixelPackRing(paramExporter, this.getWidth(), this.getHeight(),
+          this.getExportRing()));
+      }
+      try {
+        for (int stressCount : this.getStressCounts()) {
+          tempListener.applyStressCount(stressCount);
+          if (tempReplay != null) {
+            tempReplay.rewind();
+          }
+          startTime = System.nanoTime();
+          for (drawnFrames = 0; (tempReplay != null)
+              ? tempReplay.advance()
+              : drawnFrames < this.getFrameCount(); drawnFrames++) {
+            if (tempReplay == null) {
+              FourLights.this.setSceneTime(firstTime
+                + FourLights.SimulationClock.timeOfStep(drawnFrames));
+            }
+            frameStart = System.nanoTime();
+            drawable.display();
+            if (this.getPixelPackRing() != null) {
+              drawable.invoke(true, this.getPixelPackRing());
+            }
+            if (tempReplay != null) {
+              tempReplay.frameDrawn(System.nanoTime() - frameStart);
+            }
+            FourLights.this.getStartupProfile().presented(false);
+          }
+          drawable.invoke(true, this);
+          elapsedTime = System.nanoTime() - startTime;
+          if (tempListener.getFramePipeline() != null) {
+            tempListener.getFramePipeline().drain();
+          }
+
+          System.out.printf("Rendered %d frame(s) at %dx%d in %.1f ms (%.3f ms/frame)%n",
+            drawnFrames, this.getWidth(), this.getHeight(), elapsedTime / 1e6,
+            elapsedTime / 1e6 / Math.max(1, drawnFrames));
+          if (tempListener.getTiledRenderer() != null) {
+            System.out.println("Tiled lighting: " + tempListener.getTiledRenderer().describe());
+          }
+          if (tempListener.getUniformRenderer() != null) {
+            System.out.println("Uniform lighting: "
+              + tempListener.getUniformRenderer().describe());
+          }
+          if (tempListener.getSceneGraph() != null) {
+            System.out.println("Scene graph: " + tempListener.getSceneGraph().describe());
+          }
+          if (tempListener.getShapeInstances() != null) {
+            System.out.println("Instanced drawing: "
+              + tempListener.getShapeInstances().describe());
+          }
+        }
+      } finally {
+        drawable.destroy();
+      }
+
+      if (tempListener.getFramePipeline() != null) {
+        System.out.println("Frame pipeline: " + tempListener.getFramePipeline().describe());
+      }
+      if (paramExporter != null) {
+        paramExporter.finish();
+        System.out.println(paramExporter.describe());
+      }
+      System.out.println(FourLights.this.getGlState().describe());
+
+      return this.getPixels();
+    }
+
+    /**
+     * Run on the drawable's GL thread once all frames have been displayed, this method waits for
+     * rendering to complete and reads the last frame back into <code>pixels</code>, which with
+     * timing on is recorded as that frame's presentation. Any frames still in the pixel buffers
+     * of <code>--export</code> are handed to the encoders first.
+     *
+     * @see com.jogamp.opengl.GLRunnable#run
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return <code>boolean</code>
+     */
+    @Override
+    public boolean run(GLAutoDrawable drawable) {
+      drawable.getGL().glFinish();
+      if (this.getPixelPackRing() != null) {
+        this.getPixelPackRing().flush(drawable.getGL().getGL2());
+      }
+      this.setPixels(FourLights.FrameImages.readPixels(drawable.getGL().getGL2(), this.getWidth(),
+        this.getHeight()));
+      if (FourLights.this.getFrameTimings() != null) {
+        FourLights.this.getFrameTimings().endPresent();
+      }
+      return true;
+    }
+  }
+
+  /**
+   * This static class gathers the few helpers needed to get a rendered frame out of OpenGL and onto
+   * disk. Frames are passed around as top-down arrays of opaque <code>0xRRGGBB</code> pixels, the
+   * same layout used by <code>BufferedImage#setRGB</code>.
+   *
+   * @author Andrew Eissen
+   */
+  private final static class FrameImages {
+
+    // Utility methods
+
+    /**
+     * Reads the current color buffer back into a new top-down pixel array. OpenGL returns rows
+     * bottom-up, so the rows are flipped on the way through. Alpha is ignored, as the on-screen
+     * panel ignores it too.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     * @return <code>int[]</code>
+     */
+    private static int[] readPixels(GL2 paramGl, int paramWidth, int paramHeight) {
+
+      // Declarations
+      int offset;
+      final ByteBuffer rgba;
+      final int[] pixels;
+
+      // Definitions
+      rgba = ByteBuffer.allocateDirect(paramWidth * paramHeight * 4);
+      pixels = new int[paramWidth * paramHeight];
+
+      paramGl.glPixelStorei(GL2.GL_PACK_ALIGNMENT, 1);
+      paramGl.glReadPixels(0, 0, paramWidth, paramHeight, GL2.GL_RGBA, GL2.GL_UNSIGNED_BYTE, rgba);
+
+      for (int y = 0; y < paramHeight; y++) {
+        for (int x = 0; x < paramWidth; x++) {
+          offset = ((paramHeight - 1 - y) * paramWidth + x) * 4;
+          pixels[y * paramWidth + x] = (rgba.get(offset) & 0xFF) << 16
+            | (rgba.get(offset + 1) & 0xFF) << 8 | (rgba.get(offset + 2) & 0xFF);
+        }
+      }
+      return pixels;
+    }
+
+    /**
+     * Reads the image at the given path into a new top-down pixel array, failing if the image is
+     * not of the expected size.
+     *
+     * @param paramPath <code>String</code>
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     * @return <code>int[]</code>
+     */
+    private static int[] read(String paramPath, int paramWidth, int paramHeight) {
+
+      // Declarations
+      final BufferedImage image;
+      final int[] pixels;
+
+      // Definition
+      try {
+        image = ImageIO.read(new File(paramPath));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read image from " + paramPath, e);
+      }
+
+      if (image == null) {
+        throw new IllegalArgumentException("Not a readable image: " + paramPath);
+      }
+      if (image.getWidth() != paramWidth || image.getHeight() != paramHeight) {
+        throw new IllegalArgumentException("Expected a " + paramWidth + "x" + paramHeight
+          + " image: " + paramPath);
+      }
+
+      pixels = image.getRGB(0, 0, paramWidth, paramHeight, null, 0, paramWidth);
+      for (int i = 0; i < pixels.length; i++) {
+        pixels[i] &= 0xFFFFFF;
+      }
+      return pixels;
+    }
+
+    /**
+     * Writes a top-down pixel array to the given path as a PNG image.
+     *
+     * @param paramPixels <code>int[]</code>
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     * @param paramPath <code>String</code>
+     * @return void
+     */
+    private static void write(int[] paramPixels, int paramWidth, int paramHeight,
+        String paramPath) {
+
+      // Declaration
+      final BufferedImage image;
+
+      // Definition
+      image = new BufferedImage(paramWidth, paramHeight, BufferedImage.TYPE_INT_RGB);
+
+      image.setRGB(0, 0, paramWidth, paramHeight, paramPixels, 0, paramWidth);
+      try {
+        ImageIO.write(image, "png", new File(paramPath));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not write image to " + paramPath, e);
+      }
+    }
+
+    /**
+     * Returns the SHA-256 hash of a top-down pixel array as hexadecimal, taken over the red,
+     * green, and blue bytes of each pixel, such that it does not depend on the alpha bits the
+     * backends leave in the array.
+     *
+     * @param paramPixels <code>int[]</code>
+     * @return <code>String</code>
+     */
+    private static String digest(int[] paramPixels) {
+
+      // Declarations
+      final MessageDigest digest;
+      final byte[] bytes;
+      final StringBuilder hex;
+
+      // Definitions
+      bytes = new byte[paramPixels.length * 3];
+      hex = new StringBuilder(64);
+
+      try {
+        digest = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("SHA-256 is not available", e);
+      }
+      for (int i = 0; i < paramPixels.length; i++) {
+        bytes[3 * i] = (byte) (paramPixels[i] >> 16);
+        bytes[3 * i + 1] = (byte) (paramPixels[i] >> 8);
+        bytes[3 * i + 2] = (byte) paramPixels[i];
+      }
+      for (byte value : digest.digest(bytes)) {
+        hex.append(String.format("%02x", value & 0xFF));
+      }
+      return hex.toString();
+    }
+  }
+
+  /**
+   * This static class writes the frames of <code>--export</code> out as an image sequence, one
+   * file per frame numbered from zero, on a bounded pool of encoder threads. Each frame is handed
+   * over in one of a fixed set of slots, every slot holding a direct buffer of the frame's
+   * bottom-up <code>RGBA</code> bytes, as OpenGL reads them back, and the image the
+   * <code>png</code> format encodes them from, both allocated once. A slot is taken by way of
+   * <code>FrameExporter#acquire</code>, filled, and handed to the pool by way of
+   * <code>FrameExporter#submit</code>, and returns once its frame is on disk. With every slot in
+   * use, <code>FrameExporter#acquire</code> waits for one to return, so that rendering can never
+   * run further ahead of the encoders than the slots allow, and the time spent so is reported.
+   * <br />
+   * <br />
+   * The <code>raw</code> format writes the bytes as they are, rows flipped top-down, to files of
+   * exactly <code>width * height * 4</code> bytes, leaving any conversion to whatever reads them
+   * and so keeping up with far higher frame rates than PNG's compression.
+   *
+   * @see FourLights.PixelPackRing
+   * @author Andrew Eissen
+   */
+  private final static class FrameExporter {
+
+    /** Slots per encoder thread, such that each has a frame queued behind the one it encodes */
+    private final static int SLOTS_PER_ENCODER = 2;
+
+    // Class fields
+    private final String directory, format;
+    private final int width, height;
+    private final ByteBuffer[] buffers, rows;
+    private final BufferedImage[] images;
+    private final boolean[] busy;
+    private final ForkJoinPool pool;
+    private int frameCount, writtenCount;
+    private long firstNanos, lastNanos, stallNanos, bytesWritten;
+    private Exception failure;
+
+    /**
+     * Parameterized constructor, creating the directory should it not exist
+     *
+     * @param paramDirectory <code>String</code>
+     * @param paramFormat <code>String</code>, either <code>EXPORT_PNG</code> or
+     *     <code>EXPORT_RAW</code>
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     * @param paramThreadCount <code>int</code> encoder threads
+     */
+    private FrameExporter(String paramDirectory, String paramFormat, int paramWidth,
+        int paramHeight, int paramThreadCount) {
+      this.directory = paramDirectory;
+      this.format = paramFormat;
+      this.width = paramWidth;
+      this.height = paramHeight;
+      this.buffers = new ByteBuffer[paramThreadCount * FrameExporter.SLOTS_PER_ENCODER];
+      this.rows = new ByteBuffer[this.buffers.length];
+      this.images = new BufferedImage[this.buffers.length];
+      this.busy = new boolean[this.buffers.length];
+      this.pool = new ForkJoinPool(paramThreadCount);
+
+      for (int i = 0; i < this.buffers.length; i++) {
+        this.buffers[i] = ByteBuffer.allocateDirect(paramWidth * paramHeight * 4);
+        this.rows[i] = this.buffers[i].duplicate();
+        if (FourLights.EXPORT_PNG.equals(paramFormat)) {
+          this.images[i] = new BufferedImage(paramWidth, paramHeight,
+            BufferedImage.TYPE_INT_RGB);
+        }
+      }
+
+      try {
+        Files.createDirectories(Paths.get(paramDirectory));
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not create " + paramDirectory, e);
+      }
+    }
+
+    // Getter
+
+    /**
+     * Returns the buffer of the given slot, to be filled with a frame's bottom-up
+     * <code>RGBA</code> bytes.
+     *
+     * @param paramSlot <code>int</code> slot taken by <code>FrameExporter#acquire</code>
+     * @return <code>ByteBuffer</code>
+     */
+    private ByteBuffer getBuffer(int paramSlot) {
+      return this.buffers[paramSlot];
+    }
+
+    // Utility methods
+
+    /**
+     * Takes a free slot, waiting for one to be returned by the encoders should all be in use,
+     * and rethrowing any failure met in writing a frame.
+     *
+     * @return <code>int</code> the slot
+     */
+    private synchronized int acquire() {
+
+      // Declaration
+      final long start;
+
+      // Definition
+      start = System.nanoTime();
+
+      try {
+        while (true) {
+          this.checkFailure();
+          for (int i = 0; i < this.busy.length; i++) {
+            if (!this.busy[i]) {
+              this.busy[i] = true;
+              this.stallNanos += System.nanoTime() - start;
+              return i;
+            }
+          }
+          this.wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted waiting for a frame encoder", e);
+      }
+    }
+
+    /**
+     * Hands the filled slot to the encoders as the next frame of the sequence.
+     *
+     * @param paramSlot <code>int</code>
+     * @return void
+     */
+    private void submit(int paramSlot) {
+
+      // Declaration
+      final int index;
+
+      synchronized (this) {
+        if (this.frameCount == 0) {
+          this.firstNanos = System.nanoTime();
+        }
+        index = this.frameCount++;
+      }
+
+      this.buffers[paramSlot].clear();
+      this.pool.execute(new EncodeTask(paramSlot, index));
+    }
+
+    /**
+     * Hands a frame rendered on the CPU, as top-down <code>0xRRGGBB</code> pixels, to the encoders
+     * by way of a slot, laid out as OpenGL would have read it back.
+     *
+     * @param paramPixels <code>int[]</code>
+     * @return void
+     */
+    private void submitPixels(int[] paramPixels) {
+
+      // Declarations
+      final int slot;
+      final ByteBuffer buffer;
+      int pixel;
+
+      // Definitions
+      slot = this.acquire();
+      buffer = this.buffers[slot];
+
+      buffer.clear();
+      for (int y = this.height - 1; y >= 0; y--) {
+        for (int x = 0; x < this.width; x++) {
+          pixel = paramPixels[y * this.width + x];
+          buffer.putInt((pixel << 8) | 0xFF);
+        }
+      }
+      this.submit(slot);
+    }
+
+    /**
+     * Waits for every frame submitted to be written and stops the encoders, rethrowing any
+     * failure met in writing one.
+     *
+     * @return void
+     */
+    private synchronized void finish() {
+      try {
+        for (int i = 0; i < this.busy.length; i++) {
+          while (this.busy[i]) {
+            this.wait();
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted waiting for the frame encoders", e);
+      } finally {
+        this.pool.shutdown();
+      }
+      this.checkFailure();
+    }
+
+    /**
+     * Rethrows the first failure met in writing a frame, if there was one.
+     *
+     * @return void
+     */
+    private void checkFailure() {
+      if (this.failure instanceof IOException) {
+        throw new UncheckedIOException("Could not export a frame to " + this.directory,
+          (IOException) this.failure);
+      } else if (this.failure != null) {
+        throw new IllegalStateException("Could not export a frame to " + this.directory,
+          this.failure);
+      }
+    }
+
+    /**
+     * Writes the frame held by the given slot to its file, on an encoder thread.
+     *
+     * @param paramSlot <code>int</code>
+     * @param paramIndex <code>int</code> number of the frame in the sequence
+     * @return void
+     * @throws IOException if the file could not be written
+     */
+    private void encode(int paramSlot, int paramIndex) throws IOException {
+
+      // Declarations
+      final ByteBuffer buffer, row;
+      final int stride;
+      final int[] pixels;
+      int offset;
+
+      // Definitions
+      buffer = this.buffers[paramSlot];
+      row = this.rows[paramSlot];
+      stride = this.width * 4;
+
+      if (FourLights.EXPORT_RAW.equals(this.format)) {
+        try (FileChannel channel = FileChannel.open(this.pathOf(paramIndex),
+            java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.WRITE,
+            java.nio.file.StandardOpenOption.TRUNCATE_EXISTING)) {
+          for (int y = this.height - 1; y >= 0; y--) {
+            row.limit((y + 1) * stride).position(y * stride);
+            while (row.hasRemaining()) {
+              channel.write(row);
+            }
+          }
+        }
+      } else {
+        pixels = ((DataBufferInt) this.images[paramSlot].getRaster().getDataBuffer()).getData();
+        for (int y = 0; y < this.height; y++) {
+          offset = (this.height - 1 - y) * stride;
+          for (int x = 0; x < this.width; x++, offset += 4) {
+            pixels[y * this.width + x] = (buffer.get(offset) & 0xFF) << 16
+              | (buffer.get(offset + 1) & 0xFF) << 8 | (buffer.get(offset + 2) & 0xFF);
+          }
+        }
+        if (!ImageIO.write(this.images[paramSlot], "png", this.pathOf(paramIndex).toFile())) {
+          throw new IOException("No PNG writer available");
+        }
+      }
+    }
+
+    /**
+     * Returns the path of the given frame's file.
+     *
+     * @param paramIndex <code>int</code>
+     * @return <code>java.nio.file.Path</code>
+     */
+    private java.nio.file.Path pathOf(int paramIndex) {
+      return Paths.get(this.directory, String.format("frame-%05d.%s", paramIndex,
+        (FourLights.EXPORT_RAW.equals(this.format)) ? "rgba" : "png"));
+    }
+
+    /**
+     * Returns the slot to the free ones once its frame has been written, or has failed to be.
+     *
+     * @param paramSlot <code>int</code>
+     * @param paramBytes <code>long</code> bytes written, or zero on failure
+     * @param paramFailure <code>Exception</code>, or <code>null</code>
+     * @return void
+     */
+    private synchronized void release(int paramSlot, long paramBytes, Exception paramFailure) {
+      if (paramFailure != null && this.failure == null) {
+        this.failure = paramFailure;
+      }
+      this.busy[paramSlot] = false;
+      this.writtenCount++;
+      this.bytesWritten += paramBytes;
+      this.lastNanos = System.nanoTime();
+      this.notifyAll();
+    }
+
+    /**
+     * Summarizes the export: the frames written and where, the frame rate sustained from the
+     * first frame submitted to the last written, and how long rendering waited for the encoders.
+     *
+     * @return <code>String</code>
+     */
+    private synchronized String describe() {
+
+      // Declaration
+      final double seconds;
+
+      // Definition
+      seconds = Math.max(1, this.lastNanos - this.firstNanos) / 1e9;
+
+      return String.format("Exported %d frame(s) as %s to %s: %.1f fps sustained, %.1f MB/s on "
+        + "%d encoder(s) with %d slot(s), %.1f ms spent waiting for a free slot",
+        this.writtenCount, this.format, this.directory, this.writtenCount / seconds,
+        this.bytesWritten / 1e6 / seconds, this.pool.getParallelism(), this.busy.length,
+        this.stallNanos / 1e6);
+    }
+
+    /**
+     * This class is the encoding of one frame, run on the exporter's pool.
+     */
+    private final class EncodeTask extends RecursiveAction {
+
+      /** Version of the serialized form, set to 1 */
+      private final static long serialVersionUID = 1L;
+
+      // Class fields
+      private final int slot, index;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramSlot <code>int</code>
+       * @param paramIndex <code>int</code>
+       */
+      private EncodeTask(int paramSlot, int paramIndex) {
+        this.slot = paramSlot;
+        this.index = paramIndex;
+      }
+
+      /**
+       * Encodes the frame and returns its slot, noting any failure.
+       *
+       * @see java.util.concurrent.RecursiveAction#compute
+       * @return void
+       */
+      @Override
+      protected void compute() {
+        try {
+          FrameExporter.this.encode(this.slot, this.index);
+          FrameExporter.this.release(this.slot, Files.size(FrameExporter.this.pathOf(
+            this.index)), null);
+        } catch (IOException | RuntimeException e) {
+          FrameExporter.this.release(this.slot, 0, e);
+        }
+      }
+    }
+  }
+
+  /**
+   * This static class reads the frames of <code>--export</code> back from the GL backend through a
+   * ring of pixel buffer objects, such that the GL thread does not wait on a readback, though it
+   * does wait for a free slot of the <code>FourLights.FrameExporter</code> should every encoder
+   * slot be busy, that being the export's backpressure. Run on the GL thread after each frame, it
+   * starts the frame's <code>glReadPixels</code> into the next pixel buffer of the ring, which
+   * returns at once, the copy taking place once the frame has been drawn. Only when the ring comes
+   * round to that buffer again, <code>--export-ring</code> frames later, is a slot taken from the
+   * exporter, the buffer mapped, its bytes copied into the slot, and the slot handed to the
+   * encoders, by which time the copy has long been done and the mapping does not stall. The slot is
+   * taken before the mapping, such that any wait for the encoders never happens with the buffer
+   * mapped. The frames still in the ring are handed over in order by
+   * <code>PixelPackRing#flush</code>.
+   * <br />
+   * <br />
+   * Should the context lack <code>glMapBufferRange</code>, each frame is instead read straight
+   * into a slot with a plain <code>glReadPixels</code>. The pixel buffers are deleted along with
+   * the context.
+   *
+   * @see FourLights.FrameExporter
+   * @author Andrew Eissen
+   */
+  private final static class PixelPackRing implements GLRunnable {
+
+    // Class fields
+    private final FrameExporter exporter;
+    private final int width, height;
+    private final int[] names;
+    private final boolean[] filled;
+    private int next;
+    private boolean prepared, mappable;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param paramExporter <code>FrameExporter</code>
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     * @param paramSize <code>int</code> frames in flight
+     */
+    private PixelPackRing(FrameExporter paramExporter, int paramWidth, int paramHeight,
+        int paramSize) {
+      this.exporter = paramExporter;
+      this.width = paramWidth;
+      this.height = paramHeight;
+      this.names = new int[paramSize];
+      this.filled = new boolean[paramSize];
+    }
+
+    // Utility methods
+
+    /**
+     * Starts the readback of the frame just drawn, first handing over the frame the ring's next
+     * buffer still holds.
+     *
+     * @see com.jogamp.opengl.GLRunnable#run
+     * @param drawable <code>GLAutoDrawable</code>
+     * @return <code>boolean</code>
+     */
+    @Override
+    public boolean run(GLAutoDrawable drawable) {
+
+      // Declarations
+      final GL2 gl;
+      final int slot;
+
+      // Definition
+      gl = drawable.getGL().getGL2();
+
+      if (!this.prepared) {
+        this.prepare(gl);
+      }
+      gl.glPixelStorei(GL2.GL_PACK_ALIGNMENT, 1);
+
+      if (!this.mappable) {
+        slot = this.exporter.acquire();
+        gl.glReadPixels(0, 0, this.width, this.height, GL2.GL_RGBA, GL2.GL_UNSIGNED_BYTE,
+          this.exporter.getBuffer(slot));
+        this.exporter.submit(slot);
+        return true;
+      }
+
+      if (this.filled[this.next]) {
+        this.handOver(gl, this.next);
+      }
+      gl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, this.names[this.next]);
+      gl.glReadPixels(0, 0, this.width, this.height, GL2.GL_RGBA, GL2.GL_UNSIGNED_BYTE, 0L);
+      gl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, 0);
+      this.filled[this.next] = true;
+      this.next = (this.next + 1) % this.names.length;
+      return true;
+    }
+
+    /**
+     * Hands over every frame still in the ring, oldest first.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void flush(GL2 paramGl) {
+
+      // Declaration
+      int buffer;
+
+      for (int i = 0; i < this.names.length; i++) {
+        buffer = (this.next + i) % this.names.length;
+        if (this.filled[buffer]) {
+          this.handOver(paramGl, buffer);
+        }
+      }
+    }
+
+    /**
+     * Creates the ring's pixel buffers, should the context be able to map them.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void prepare(GL2 paramGl) {
+      this.prepared = true;
+      this.mappable = paramGl.isFunctionAvailable("glMapBufferRange");
+      if (!this.mappable) {
+        return;
+      }
+
+      paramGl.glGenBuffers(this.names.length, this.names, 0);
+      for (int name : this.names) {
+        paramGl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, name);
+        paramGl.glBufferData(GL2.GL_PIXEL_PACK_BUFFER, (long) this.width * this.height * 4, null,
+          GL2.GL_STREAM_READ);
+      }
+      paramGl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, 0);
+    }
+
+    /**
+     * Takes a slot of the exporter, waiting for one should all be busy, then maps the given pixel
+     * buffer, copies its frame into the slot, and submits it.
+     *
+     * @param paramGl <code>GL2</code>
+     * @param paramBuffer <code>int</code> index into the ring
+     * @return void
+     */
+    private void handOver(GL2 paramGl, int paramBuffer) {
+
+      // Declarations
+      final int slot;
+      final ByteBuffer mapped, target;
+      final long length;
+      final IllegalStateException failure;
+
+      // Definitions
+      length = (long) this.width * this.height * 4;
+      slot = this.exporter.acquire();
+      paramGl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, this.names[paramBuffer]);
+      mapped = paramGl.glMapBufferRange(GL2.GL_PIXEL_PACK_BUFFER, 0, length,
+        GL2.GL_MAP_READ_BIT);
+
+      if (mapped == null) {
+        failure = new IllegalStateException("Could not map the pixel buffer of an exported frame");
+        paramGl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, 0);
+        this.exporter.release(slot, 0, failure);
+        throw failure;
+      }
+      target = this.exporter.getBuffer(slot);
+      target.clear();
+      target.put(mapped);
+      paramGl.glUnmapBuffer(GL2.GL_PIXEL_PACK_BUFFER);
+      paramGl.glBindBuffer(GL2.GL_PIXEL_PACK_BUFFER, 0);
+      this.filled[paramBuffer] = false;
+      this.exporter.submit(slot);
+    }
+  }
+
+  /**
+   * This class renders the scene entirely on the CPU, for hosts on which not even Mesa's llvmpipe
+   * is available, and as an independent check on what the fixed-function pipeline draws. Rather
+   * than going through <code>FourLights.SceneGLEventListener</code>, it reproduces that listener's
+   * <code>display</code> method by hand: the camera transformation is rebuilt from the same
+   * options that configured the <code>Camera</code> instance, the lights are placed with the same
+   * rotations and translations, and each vertex is lit with the same equation OpenGL applies with
+   * <code>GL_COLOR_MATERIAL</code>, two-sided lighting, and a local viewer enabled. As the scene
+   * never sets a material specular color other than black, specular terms are left out entirely.
+   * The resulting triangles and outlines are then handed to <code>FourLights.TileRasterizer</code>,
+   * which does the per-pixel work on a pool of <code>--threads</code> worker threads.
+   * <br />
+   * <br />
+   * The result is intended to match an OpenGL rendering of the same frame to within a small
+   * difference, not bit for bit. In particular, the light markers are lit by the current frame's
+   * lights and global ambient setting, whereas OpenGL lights each marker with whatever state the
+   * previous one left behind, and the outlines are biased to sit in front of the faces, whereas
+   * OpenGL leaves them to fight with the faces for the depth test. The comparison itself is made by
+   * <code>FourLights#compareWithReference</code> when a <code>--reference</code> image is given.
+   * <br />
+   * <br />
+   * Configuration values have the usual setters and getters, while the matrices and scratch
+   * arrays, which are allocated once and written on every face, are used directly.
+   *
+   * @see FourLights.TileRasterizer
+   * @see FourLights.SceneGLEventListener#display
+   * @author Andrew Eissen
+   */
+  private final class SoftwareRasterizer {
+
+    /** Number of lights accounted for, being <code>GL_LIGHT0</code> and the three light sources */
+    private final static int LIGHT_COUNT = 4;
+
+    // Class fields
+    private int width, height, frameCount, threadCount;
+    private final float[] projection, view, modelView, modelViewProjection;
+    private final float[] lightPositions, normal, triangleClip, triangleColors, lineClip;
+    private final float[][] lightAmbients, lightDiffuses;
+    private final boolean[] lightsOn;
+    private float[] globalAmbient, faceEye, faceClip, faceColors;
+    private MeshEdges edges;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param options <code>LaunchOptions</code>
+     */
+    private SoftwareRasterizer(LaunchOptions options) {
+      this.setWidth(options.getWidth());
+      this.setHeight(options.getHeight());
+      this.setFrameCount((FourLights.this.getInputReplay() != null)
+        ? FourLights.this.getInputReplay().getFrameCount()
+        : options.getFrameCount());
+      this.setThreadCount(options.getThreadCount());
+
+      this.projection = new float[16];
+      this.view = new float[16];
+      this.modelView = new float[16];
+      this.modelViewProjection = new float[16];
+      this.lightPositions = new float[SoftwareRasterizer.LIGHT_COUNT * 4];
+      this.normal = new float[3];
+      this.triangleClip = new float[12];
+      this.triangleColors = new float[9];
+      this.lineClip = new float[8];
+      this.lightAmbients = new float[SoftwareRasterizer.LIGHT_COUNT][];
+      this.lightDiffuses = new float[SoftwareRasterizer.LIGHT_COUNT][];
+      this.lightsOn = new boolean[SoftwareRasterizer.LIGHT_COUNT];
+      this.faceEye = new float[0];
+      this.faceClip = new float[0];
+      this.faceColors = new float[0];
+      this.edges = null;
+
+      this.aim(options.getScale(), options.getEye(), options.getCenter(), options.getUp());
+    }
+
+    // Setters
+
+    /**
+     * Setter for <code>SoftwareRasterizer.width</code>
+     *
+     * @param width <code>int</code>
+     * @return void
+     */
+    private void setWidth(int width) {
+      this.width = width;
+    }
+
+    /**
+     * Setter for <code>SoftwareRasterizer.height</code>
+     *
+     * @param height <code>int</code>
+     * @return void
+     */
+    private void setHeight(int height) {
+      this.height = height;
+    }
+
+    /**
+     * Setter for <code>SoftwareRasterizer.frameCount</code>
+     *
+     * @param frameCount <code>int</code>
+     * @return void
+     */
+    private void setFrameCount(int frameCount) {
+      this.frameCount = frameCount;
+    }
+
+    /**
+     * Setter for <code>SoftwareRasterizer.threadCount</code>
+     *
+     * @param threadCount <code>int</code>
+     * @return void
+     */
+    private void setThreadCount(int threadCount) {
+      this.threadCount = threadCount;
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>SoftwareRasterizer.width</code>
+     *
+     * @return width <code>int</code>
+     */
+    private int getWidth() {
+      return this.width;
+    }
+
+    /**
+     * Getter for <code>SoftwareRasterizer.height</code>
+     *
+     * @return height <code>int</code>
+     */
+    private int getHeight() {
+      return this.height;
+    }
+
+    /**
+     * Getter for <code>SoftwareRasterizer.frameCount</code>
+     *
+     * @return frameCount <code>int</code>
+     */
+    private int getFrameCount() {
+      return this.frameCount;
+    }
+
+    /**
+     * Getter for <code>SoftwareRasterizer.threadCount</code>
+     *
+     * @return threadCount <code>int</code>
+     */
+    private int getThreadCount() {
+      return this.threadCount;
+    }
+
+    /**
+     * Getter for <code>SoftwareRasterizer.projection</code>
+     *
+     * @return projection <code>float[]</code>
+     */
+    private float[] getProjection() {
+      return this.projection;
+    }
+
+    /**
+     * Getter for <code>SoftwareRasterizer.view</code>
+     *
+     * @return view <code>float[]</code>
+     */
+    private float[] getView() {
+      return this.view;
+    }
+
+    // Utility methods
+
+    /**
+     * Builds the view and projection matrices for the passed camera.
+     *
+     * @param paramScale <code>double</code>
+     * @param paramEye <code>double[]</code>
+     * @param paramCenter <code>double[]</code>
+     * @param paramUp <code>double[]</code>
+     * @return void
+     */
+    private void aim(double paramScale, double[] paramEye, double[] paramCenter,
+        double[] paramUp) {
+      Matrices.lookAt(this.view, paramEye, paramCenter, paramUp);
+      Matrices.cameraProjection(this.projection, paramScale, paramEye, paramCenter,
+        (double) this.getWidth() / this.getHeight());
+    }
+
+    /**
+     * This method renders the requested frames, advancing the animation frame number before each
+     * as <code>FourLights.HeadlessRenderer#render</code> does, reports the time taken, and returns
+     * the last frame. The worker pool is created here and shut down before returning. Given an
+     * exporter, every frame is also handed to its encoders as soon as it is rasterized. Under
+     * <code>--replay</code>, the frames are instead those of the input log, the camera being
+     * re-aimed at the view replayed for each.
+     *
+     * @param paramExporter <code>FrameExporter</code>, or <code>null</code>
+     * @return <code>int[]</code> the last frame as top-down <code>0xRRGGBB</code> pixels
+     */
+    private int[] render(FrameExporter paramExporter) {
+
+      // Declarations
+      int drawnFrames;
+      long startTime, frameStart, elapsedTime;
+      final double firstTime;
+      final ForkJoinPool pool;
+      final TileRasterizer tiles;
+      final InputReplay tempReplay;
+      final double[][] tempCameraView;
+
+      // Definitions
+      firstTime = FourLights.this.getSceneTime();
+      tempReplay = FourLights.this.getInputReplay();
+      tempCameraView = FourLights.this.getCameraView();
+      pool = new ForkJoinPool(this.getThreadCount());
+      tiles = new TileRasterizer(this.getWidth(), this.getHeight());
+
+      try {
+        startTime = System.nanoTime();
+        for (drawnFrames = 0; (tempReplay != null)
+            ? tempReplay.advance()
+            : drawnFrames < this.getFrameCount(); drawnFrames++) {
+          if (tempReplay == null) {
+            FourLights.this.setSceneTime(firstTime
+              + FourLights.SimulationClock.timeOfStep(drawnFrames));
+          } else {
+            this.aim(FourLights.this.getCameraScale(), tempCameraView[0], tempCameraView[1],
+              tempCameraView[2]);
+          }
+          frameStart = System.nanoTime();
+          FourLights.this.getStartupProfile().begin(StartupProfile.DISPLAY);
+          this.renderFrame(tiles, pool);
+          FourLights.this.getStartupProfile().end(StartupProfile.DISPLAY);
+          FourLights.this.getStartupProfile().begin(StartupProfile.PRESENT);
+          if (paramExporter != null) {
+            paramExporter.submitPixels(tiles.getPixels());
+          }
+          if (tempReplay != null) {
+            tempReplay.frameDrawn(System.nanoTime() - frameStart);
+          }
+          FourLights.this.getStartupProfile().presented(false);
+        }
+        elapsedTime = System.nanoTime() - startTime;
+      } finally {
+        pool.shutdown();
+      }
+
+      System.out.printf("Rasterized %d frame(s) at %dx%d on %d thread(s) in %.1f ms "
+        + "(%.3f ms/frame), %d triangles and %d lines per frame%n", drawnFrames,
+        this.getWidth(), this.getHeight(), this.getThreadCount(), elapsedTime / 1e6,
+        elapsedTime / 1e6 / Math.max(1, drawnFrames), tiles.getTriangleCount(),
+        tiles.getLineCount());
+      if (paramExporter != null) {
+        paramExporter.finish();
+        System.out.println(paramExporter.describe());
+      }
+
+      return tiles.getPixels();
+    }
+
+    /**
+     * This method renders a single frame in the order used by
+     * <code>FourLights.SceneGLEventListener#display</code>, first working out where the lights
+     * are, then drawing the light markers and finally the scaled shape with its outlines.
+     *
+     * @param paramTiles <code>TileRasterizer</code>
+     * @param paramPool <code>ForkJoinPool</code>
+     * @return void
+     */
+    private void renderFrame(TileRasterizer paramTiles, ForkJoinPool paramPool) {
+
+      // Declarations
+      final SceneGLEventListener tempListener;
+      final ArrayList<LightSource> tempLightSourceArrayList;
+      final double[] arrayOfRotationValues;
+      LightSource lightSource;
+
+      // Definitions
+      tempListener = FourLights.this.getSceneListener();
+      tempLightSourceArrayList = tempListener.getLightSourceArrayList();
+      arrayOfRotationValues = tempListener.updateLightRotations(FourLights.this.getSceneTime());
+
+      paramTiles.beginFrame();
+      this.updateLights(tempLightSourceArrayList, arrayOfRotationValues);
+
+      // Light markers, glowing in their own color when switched on
+      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
+        lightSource = tempLightSourceArrayList.get(i);
+        this.placeLight(lightSource, arrayOfRotationValues[i]);
+        this.drawMesh(paramTiles, PolyhedronMesh.OCTAHEDRON, FourLights.LIGHT_MARKER_COLOR,
+          (this.lightsOn[i + 1]) ? lightSource.getColor() : FourLights.BLACK, false);
+      }
+
+      // The shape itself, as drawn by FourLights.SceneGLEventListener#drawShape
+      System.arraycopy(this.view, 0, this.modelView, 0, this.view.length);
+      Matrices.scale(this.modelView, FourLights.OBJECT_SCALE);
+      this.drawMesh(paramTiles, tempListener.getMesh(), FourLights.PRIMARY_FACE_COLOR,
+        FourLights.BLACK, true);
+
+      paramTiles.resolve(paramPool);
+    }
+
+    /**
+     * This method records the eye-space position, colors, and on/off state of each light for the
+     * frame. <code>GL_LIGHT0</code> is left at its default position, a directional light shining
+     * down the line of sight, while each of the light sources sits at the origin of the
+     * transformation applied by <code>FourLights.LightSource#adjustLightSource</code>.
+     *
+     * @param paramLightSourceArrayList <code>ArrayList</code>
+     * @param paramRotationValues <code>double[]</code>
+     * @return void
+     */
+    private void updateLights(ArrayList<LightSource> paramLightSourceArrayList,
+        double[] paramRotationValues) {
+
+      // Declaration
+      LightSource lightSource;
+
+      this.lightsOn[0] = FourLights.this.isLightSwitchOn(FourLights.VIEWPOINT_SWITCH);
+      this.lightAmbients[0] = FourLights.BLACK;
+      this.lightDiffuses[0] = FourLights.DIM_LIGHTING;
+      this.lightPositions[0] = 0;
+      this.lightPositions[1] = 0;
+      this.lightPositions[2] = 1;
+      this.lightPositions[3] = 0;
+
+      for (int i = 0; i < paramLightSourceArrayList.size(); i++) {
+        lightSource = paramLightSourceArrayList.get(i);
+        this.placeLight(lightSource, paramRotationValues[i]);
+        Matrices.transformPoint(this.modelView, 0, 0, 0, this.lightPositions, (i + 1) * 4);
+        this.lightsOn[i + 1] = FourLights.this.isLightSwitchOn(lightSource.getSwitchIndex());
+        this.lightAmbients[i + 1] = lightSource.getColorAmbient();
+        this.lightDiffuses[i + 1] = lightSource.getColor();
+      }
+
+      this.globalAmbient = (FourLights.this.isLightSwitchOn(FourLights.AMBIENT_SWITCH))
+        ? FourLights.GLOBAL_AMBIENT
+        : FourLights.BLACK;
+    }
+
+    /**
+     * Sets the model-view matrix to the transformation under which the given light source and its
+     * marker are placed.
+     *
+     * @param paramLightSource <code>LightSource</code>
+     * @param paramRotateY <code>double</code>
+     * @return void
+     */
+    private void placeLight(LightSource paramLightSource, double paramRotateY) {
+      System.arraycopy(this.view, 0, this.modelView, 0, this.view.length);
+      Matrices.rotate(this.modelView, paramRotateY, 0, 1, 0);
+      Matrices.translate(this.modelView, paramLightSource.getTranslateX(),
+        paramLightSource.getTranslateY(), paramLightSource.getTranslateZ());
+    }
+
+    /**
+     * This method transforms, lights, and submits every face of the given mesh under the current
+     * model-view matrix, along with the face outlines if requested, each distinct edge drawn from
+     * the face <code>FourLights.MeshEdges</code> kept it from. Each face is lit from the
+     * side facing the viewer, found as OpenGL finds it from the winding of the face on screen,
+     * with the normal flipped for back faces as two-sided lighting does. The normal is transformed
+     * by the upper 3x3 block of the model-view matrix and renormalized, which stands in for the
+     * inverse transpose as the scene only ever rotates, translates, and scales uniformly.
+     *
+     * @param paramTiles <code>TileRasterizer</code>
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @param paramColor <code>float[]</code> material ambient and diffuse color
+     * @param paramEmission <code>float[]</code> material emission color
+     * @param paramOutlines <code>boolean</code> whether to draw the face outlines in black
+     * @return void
+     */
+    private void drawMesh(TileRasterizer paramTiles, PolyhedronMesh paramMesh, float[] paramColor,
+        float[] paramEmission, boolean paramOutlines) {
+
+      // Declarations
+      int faceStart, cornerCount, vertex, next;
+      float nx, ny, nz, length, facing;
+      final float[] mv;
+
+      // Definitions
+      mv = this.modelView;
+      Matrices.multiply(this.projection, mv, this.modelViewProjection);
+      if (paramOutlines && (this.edges == null || this.edges.getMesh() != paramMesh)) {
+        this.edges = new MeshEdges(paramMesh);
+      }
+
+      for (int face = 0; face < paramMesh.getFaceCount(); face++) {
+        faceStart = paramMesh.getFaceStart(face);
+        cornerCount = paramMesh.getFaceEnd(face) - faceStart;
+        this.ensureFaceCapacity(cornerCount);
+
+        for (int k = 0; k < cornerCount; k++) {
+          vertex = paramMesh.getFaceIndex(faceStart + k);
+          Matrices.transformPoint(mv, paramMesh.getPosition(vertex, 0),
+            paramMesh.getPosition(vertex, 1), paramMesh.getPosition(vertex, 2), this.faceEye,
+            k * 4);
+          Matrices.transformPoint(this.modelViewProjection, paramMesh.getPosition(vertex, 0),
+            paramMesh.getPosition(vertex, 1), paramMesh.getPosition(vertex, 2), this.faceClip,
+            k * 4);
+        }
+
+        // Eye-space normal
+        nx = mv[0] * paramMesh.getFaceNormal(face, 0) + mv[4] * paramMesh.getFaceNormal(face, 1)
+          + mv[8] * paramMesh.getFaceNormal(face, 2);
+        ny = mv[1] * paramMesh.getFaceNormal(face, 0) + mv[5] * paramMesh.getFaceNormal(face, 1)
+          + mv[9] * paramMesh.getFaceNormal(face, 2);
+        nz = mv[2] * paramMesh.getFaceNormal(face, 0) + mv[6] * paramMesh.getFaceNormal(face, 1)
+          + mv[10] * paramMesh.getFaceNormal(face, 2);
+        length = (float) Math.sqrt(nx * nx + ny * ny + nz * nz);
+
+        // Counterclockwise on screen exactly when the winding normal points back at the eye
+        facing = this.windingFacing();
+        this.normal[0] = (facing > 0) ? nx / length : -nx / length;
+        this.normal[1] = (facing > 0) ? ny / length : -ny / length;
+        this.normal[2] = (facing > 0) ? nz / length : -nz / length;
+
+        for (int k = 0; k < cornerCount; k++) {
+          this.shade(k, paramColor, paramEmission);
+        }
+
+        // Faces as triangle fans
+        for (int k = 1; k + 1 < cornerCount; k++) {
+          this.copyCorner(0, 0);
+          this.copyCorner(k, 1);
+          this.copyCorner(k + 1, 2);
+          paramTiles.addTriangle(this.triangleClip, this.triangleColors);
+        }
+
+        // Outlines as the line loops' segments, each edge shared between faces drawn once
+        if (paramOutlines) {
+          for (int k = 0; k < cornerCount; k++) {
+            if (!this.edges.drawsEdge(faceStart + k)) {
+              continue;
+            }
+            next = (k + 1) % cornerCount;
+            System.arraycopy(this.faceClip, k * 4, this.lineClip, 0, 4);
+            System.arraycopy(this.faceClip, next * 4, this.lineClip, 4, 4);
+            paramTiles.addLine(this.lineClip);
+          }
+        }
+      }
+    }
+
+    /**
+     * Returns a value positive when the first three corners of the current face, in eye space,
+     * wind counterclockwise as seen from the eye at the origin, and hence on screen.
+     *
+     * @return <code>float</code>
+     */
+    private float windingFacing() {
+
+      // Declarations
+      final float[] eye;
+      final float ax, ay, az, bx, by, bz;
+
+      // Definitions
+      eye = this.faceEye;
+      ax = eye[4] - eye[0];
+      ay = eye[5] - eye[1];
+      az = eye[6] - eye[2];
+      bx = eye[8] - eye[0];
+      by = eye[9] - eye[1];
+      bz = eye[10] - eye[2];
+
+      return -((ay * bz - az * by) * eye[0] + (az * bx - ax * bz) * eye[1]
+        + (ax * by - ay * bx) * eye[2]);
+    }
+
+    /**
+     * This method lights one corner of the current face, applying the fixed-function equation
+     * with the material ambient and diffuse colors both tracking <code>glColor</code>: emission,
+     * plus the global ambient, plus for each enabled light its ambient term and its diffuse term
+     * scaled by the cosine of the angle between the normal and the direction to the light. The
+     * lights are unattenuated, as in the scene, and the result is clamped as OpenGL clamps it.
+     *
+     * @param paramCorner <code>int</code>
+     * @param paramColor <code>float[]</code>
+     * @param paramEmission <code>float[]</code>
+     * @return void
+     */
+    private void shade(int paramCorner, float[] paramColor, float[] paramEmission) {
+
+      // Declarations
+      int position;
+      float lx, ly, lz, length, diffuse;
+      final int eye, out;
+
+      // Definitions
+      eye = paramCorner * 4;
+      out = paramCorner * 3;
+
+      for (int c = 0; c < 3; c++) {
+        this.faceColors[out + c] = paramEmission[c] + this.globalAmbient[c] * paramColor[c];
+      }
+
+      for (int light = 0; light < SoftwareRasterizer.LIGHT_COUNT; light++) {
+        if (this.lightsOn[light]) {
+          position = light * 4;
+          lx = this.lightPositions[position];
+          ly = this.lightPositions[position + 1];
+          lz = this.lightPositions[position + 2];
+          if (this.lightPositions[position + 3] != 0) {
+            lx -= this.faceEye[eye];
+            ly -= this.faceEye[eye + 1];
+            lz -= this.faceEye[eye + 2];
+          }
+          length = (float) Math.sqrt(lx * lx + ly * ly + lz * lz);
+          diffuse = (length > 0)
+            ? Math.max(0, (this.normal[0] * lx + this.normal[1] * ly + this.normal[2] * lz)
+              / length)
+            : 0;
+          for (int c = 0; c < 3; c++) {
+            this.faceColors[out + c] += (this.lightAmbients[light][c]
+              + diffuse * this.lightDiffuses[light][c]) * paramColor[c];
+          }
+        }
+      }
+
+      for (int c = 0; c < 3; c++) {
+        this.faceColors[out + c] = Math.max(0, Math.min(1, this.faceColors[out + c]));
+      }
+    }
+
+    /**
+     * Copies the clip coordinates and color of a face corner into a slot of the triangle passed
+     * on to the tile rasterizer.
+     *
+     * @param paramCorner <code>int</code>
+     * @param paramSlot <code>int</code>
+     * @return void
+     */
+    private void copyCorner(int paramCorner, int paramSlot) {
+      System.arraycopy(this.faceClip, paramCorner * 4, this.triangleClip, paramSlot * 4, 4);
+      System.arraycopy(this.faceColors, paramCorner * 3, this.triangleColors, paramSlot * 3, 3);
+    }
+
+    /**
+     * Grows the per-face scratch arrays, should a face have more corners than any seen before.
+     *
+     * @param paramCornerCount <code>int</code>
+     * @return void
+     */
+    private void ensureFaceCapacity(int paramCornerCount) {
+      if (this.faceColors.length < paramCornerCount * 3) {
+        this.faceEye = new float[paramCornerCount * 4];
+        this.faceClip = new float[paramCornerCount * 4];
+        this.faceColors = new float[paramCornerCount * 3];
+      }
+    }
+  }
+
+  /**
+   * This static class is the scene-agnostic half of the software rasterizer, taking triangles and
+   * lines in clip space and turning them into pixels in much the same way an OpenGL
+   * implementation does. Primitives are clipped against the near plane, divided through by
+   * <code>w</code>, mapped to the viewport, and then binned into square screen tiles by their
+   * bounding boxes. Once a frame's primitives have all been submitted,
+   * <code>FourLights.TileRasterizer#resolve</code> hands the tiles out to a
+   * <code>ForkJoinPool</code>, each worker clearing and filling its own tile, which is safe as no
+   * two tiles share a pixel. Within a tile, primitives are drawn in the order they were submitted,
+   * so the result does not depend on the number of threads.
+   * <br />
+   * <br />
+   * Triangles are filled by edge functions evaluated at pixel centers with a top-left tie rule,
+   * colors are interpolated with perspective correction, and depth is tested as with
+   * <code>GL_LESS</code>. Lines are one pixel wide, with a small depth bias so that the outlines
+   * drawn over the faces win rather than fight with them as they may in OpenGL.
+   * <br />
+   * <br />
+   * As the buffers and primitive stores are touched in the innermost loops, and the tile workers
+   * only ever read the primitive stores, the fields are used directly rather than through
+   * accessors, and those sized by the constructor are final.
+   *
+   * @see FourLights.SoftwareRasterizer
+   * @author Andrew Eissen
+   */
+  private final static class TileRasterizer {
+
+    /** Width and height of a screen tile in pixels */
+    private final static int TILE_SIZE = 64;
+
+    /** Floats stored per triangle, being x, y, z, 1/w, r, g, b for each of three vertices */
+    private final static int TRIANGLE_STRIDE = 21;
+
+    /** Floats stored per vertex of a triangle */
+    private final static int VERTEX_STRIDE = 7;
+
+    /** Floats stored per line, being window x, y, z for each of two endpoints */
+    private final static int LINE_STRIDE = 6;
+
+    /** Window depth by which lines are pulled toward the viewer before depth testing */
+    private final static float LINE_DEPTH_BIAS = 2e-4F;
+
+    // Class fields
+    private final int width, height, tilesAcross, tilesDown;
+    private final int[] pixels, binCounts;
+    private final float[] depths, clipped;
+    private final int[][] bins;
+    private float[] triangles, lines;
+    private int triangleCount, lineCount;
+
+    /**
+     * Parameterized constructor, allocating the color and depth buffers and the tile bins up front
+     *
+     * @param paramWidth <code>int</code>
+     * @param paramHeight <code>int</code>
+     */
+    private TileRasterizer(int paramWidth, int paramHeight) {
+      this.width = paramWidth;
+      this.height = paramHeight;
+      this.tilesAcross = (paramWidth + TileRasterizer.TILE_SIZE - 1) / TileRasterizer.TILE_SIZE;
+      this.tilesDown = (paramHeight + TileRasterizer.TILE_SIZE - 1) / TileRasterizer.TILE_SIZE;
+      this.pixels = new int[paramWidth * paramHeight];
+      this.depths = new float[paramWidth * paramHeight];
+      this.clipped = new float[4 * TileRasterizer.VERTEX_STRIDE];
+      this.bins = new int[this.tilesAcross * this.tilesDown][16];
+      this.binCounts = new int[this.bins.length];
+      this.triangles = new float[256 * TileRasterizer.TRIANGLE_STRIDE];
+      this.lines = new float[256 * TileRasterizer.LINE_STRIDE];
+    }
+
+    // Getters
+
+    /**
+     * Getter for <code>TileRasterizer.pixels</code>
+     *
+     * @return pixels <code>int[]</code>, the top-down <code>0xRRGGBB</code> color buffer
+     */
+    private int[] getPixels() {
+      return this.pixels;
+    }
+
+    /**
+     * Getter for <code>TileRasterizer.triangleCount</code>
+     *
+     * @return triangleCount <code>int</code>, triangles submitted this frame after clipping
+     */
+    private int getTriangleCount() {
+      return this.triangleCount;
+    }
+
+    /**
+     * Getter for <code>TileRasterizer.lineCount</code>
+     *
+     * @return lineCount <code>int</code>, lines submitted this frame after clipping
+     */
+    private int getLineCount() {
+      return this.lineCount;
+    }
+
+    // Utility methods
+
+    /**
+     * Forgets the primitives of the previous frame, keeping the storage for reuse.
+     *
+     * @return void
+     */
+    private void beginFrame() {
+      this.triangleCount = 0;
+      this.lineCount = 0;
+      Arrays.fill(this.binCounts, 0);
+    }
+
+    /**
+     * Submits a triangle given by the <code>x, y, z, w</code> clip coordinates of its three
+     * vertices and their <code>r, g, b</code> colors. The part of the triangle in front of the
+     * near plane, either a triangle or a quadrilateral, is set up and binned as one or two
+     * triangles.
+     *
+     * @param paramClip <code>float[]</code> twelve clip coordinates
+     * @param paramColors <code>float[]</code> nine color components
+     * @return void
+     */
+    private void addTriangle(float[] paramClip, float[] paramColors) {
+
+      // Declarations
+      int count, next;
+      float distance, nextDistance, t;
+      final float[] tempClipped;
+
+      // Definitions
+      count = 0;
+      tempClipped = this.clipped;
+
+      // Sutherland-Hodgman against the near plane, z >= -w, carrying the colors along
+      for (int i = 0; i < 3; i++) {
+        next = (i + 1) % 3;
+        distance = paramClip[i * 4 + 2] + paramClip[i * 4 + 3];
+        nextDistance = paramClip[next * 4 + 2] + paramClip[next * 4 + 3];
+        if (distance >= 0) {
+          TileRasterizer.lerpVertex(paramClip, paramColors, i, next, 0, tempClipped, count++);
+        }
+        if ((distance >= 0) != (nextDistance >= 0)) {
+          t = distance / (distance - nextDistance);
+          TileRasterizer.lerpVertex(paramClip, paramColors, i, next, t, tempClipped, count++);
+        }
+      }
+
+      for (int i = 1; i + 1 < count; i++) {
+        this.setupTriangle(tempClipped, 0, i, i + 1);
+      }
+    }
+
+    /**
+     * Submits a line given by the <code>x, y, z, w</code> clip coordinates of its two endpoints,
+     * shortened to the part in front of the near plane.
+     *
+     * @param paramClip <code>float[]</code> eight clip coordinates
+     * @return void
+     */
+    private void addLine(float[] paramClip) {
+
+      // Declarations
+      float t;
+      final float startDistance, endDistance;
+      final float[] tempClipped;
+
+      // Definitions
+      startDistance = paramClip[2] + paramClip[3];
+      endDistance = paramClip[6] + paramClip[7];
+      tempClipped = this.clipped;
+
+      if (startDistance >= 0 || endDistance >= 0) {
+        System.arraycopy(paramClip, 0, tempClipped, 0, 8);
+        if (startDistance < 0 || endDistance < 0) {
+          t = startDistance / (startDistance - endDistance);
+          for (int k = 0; k < 4; k++) {
+            tempClipped[(startDistance < 0) ? k : 4 + k] = paramClip[k]
+              + (paramClip[4 + k] - paramClip[k]) * t;
+          }
+        }
+        this.setupLine(tempClipped);
+      }
+    }
+
+    /**
+     * Renders every tile of the frame on the passed pool and waits for all of them to finish.
+     *
+     * @param paramPool <code>ForkJoinPool</code>
+     * @return void
+     */
+    private void resolve(ForkJoinPool paramPool) {
+      paramPool.invoke(new TileTask(0, this.bins.length));
+    }
+
+    /**
+     * Writes vertex <code>from</code>, or the point a fraction <code>t</code> of the way from it to
+     * vertex <code>to</code>, into the clipped polygon at the given vertex slot.
+     *
+     * @param paramClip <code>float[]</code>
+     * @param paramColors <code>float[]</code>
+     * @param paramFrom <code>int</code>
+     * @param paramTo <code>int</code>
+     * @param paramT <code>float</code>
+     * @param paramOut <code>float[]</code>
+     * @param paramSlot <code>int</code>
+     * @return void
+     */
+    private static void lerpVertex(float[] paramClip, float[] paramColors, int paramFrom,
+        int paramTo, float paramT, float[] paramOut, int paramSlot) {
+
+      // Declaration
+      final int out;
+
+      // Definition
+      out = paramSlot * TileRasterizer.VERTEX_STRIDE;
+
+      for (int k = 0; k < 4; k++) {
+        paramOut[out + k] = paramClip[paramFrom * 4 + k]
+          + (paramClip[paramTo * 4 + k] - paramClip[paramFrom * 4 + k]) * paramT;
+      }
+      for (int k = 0; k < 3; k++) {
+        paramOut[out + 4 + k] = paramColors[paramFrom * 3 + k]
+          + (paramColors[paramTo * 3 + k] - paramColors[paramFrom * 3 + k]) * paramT;
+      }
+    }
+
+    /**
+     * Maps three vertices of the clipped polygon to window coordinates, storing them in place of
+     * <code>w</code> with <code>1/w</code> for perspective-correct interpolation, and bins the
+     * resulting triangle into every tile its bounding box touches.
+     *
+     * @param paramClipped <code>float[]</code>
+     * @param paramA <code>int</code>
+     * @param paramB <code>int</code>
+     * @param paramC <code>int</code>
+     * @return void
+     */
+    private void setupTriangle(float[] paramClipped, int paramA, int paramB, int paramC) {
+
+      // Declarations
+      int in, out;
+      float inverseW, minX, maxX, minY, maxY;
+      final int base;
+
+      // Definitions
+      if ((this.triangleCount + 1) * TileRasterizer.TRIANGLE_STRIDE > this.triangles.length) {
+        this.triangles = Arrays.copyOf(this.triangles, this.triangles.length * 2);
+      }
+      base = this.triangleCount * TileRasterizer.TRIANGLE_STRIDE;
+      minX = minY = Float.POSITIVE_INFINITY;
+      maxX = maxY = Float.NEGATIVE_INFINITY;
+
+      for (int v = 0; v < 3; v++) {
+        in = ((v == 0) ? paramA : (v == 1) ? paramB : paramC) * TileRasterizer.VERTEX_STRIDE;
+        out = base + v * TileRasterizer.VERTEX_STRIDE;
+        inverseW = 1 / paramClipped[in + 3];
+        this.triangles[out] = (paramClipped[in] * inverseW + 1) * 0.5F * this.width;
+        this.triangles[out + 1] = (paramClipped[in + 1] * inverseW + 1) * 0.5F * this.height;
+        this.triangles[out + 2] = (paramClipped[in + 2] * inverseW + 1) * 0.5F;
+        this.triangles[out + 3] = inverseW;
+        this.triangles[out + 4] = paramClipped[in + 4];
+        this.triangles[out + 5] = paramClipped[in + 5];
+        this.triangles[out + 6] = paramClipped[in + 6];
+        minX = Math.min(minX, this.triangles[out]);
+        maxX = Math.max(maxX, this.triangles[out]);
+        minY = Math.min(minY, this.triangles[out + 1]);
+        maxY = Math.max(maxY, this.triangles[out + 1]);
+      }
+
+      this.bin(this.triangleCount++, minX, maxX, minY, maxY);
+    }
+
+    /**
+     * Maps the two endpoints of a clipped line to window coordinates and bins it, padded by a
+     * pixel, into every tile its bounding box touches. Lines are binned as the complement of
+     * their index so that they may share the tile bins with the triangles.
+     *
+     * @param paramClipped <code>float[]</code>
+     * @return void
+     */
+    private void setupLine(float[] paramClipped) {
+
+      // Declarations
+      float inverseW;
+      final int base;
+
+      // Definitions
+      if ((this.lineCount + 1) * TileRasterizer.LINE_STRIDE > this.lines.length) {
+        this.lines = Arrays.copyOf(this.lines, this.lines.length * 2);
+      }
+      base = this.lineCount * TileRasterizer.LINE_STRIDE;
+
+      for (int v = 0; v < 2; v++) {
+        inverseW = 1 / paramClipped[v * 4 + 3];
+        this.lines[base + v * 3] = (paramClipped[v * 4] * inverseW + 1) * 0.5F * this.width;
+        this.lines[base + v * 3 + 1] = (paramClipped[v * 4 + 1] * inverseW + 1) * 0.5F
+          * this.height;
+        this.lines[base + v * 3 + 2] = (paramClipped[v * 4 + 2] * inverseW + 1) * 0.5F;
+      }
+
+      this.bin(~this.lineCount++,
+        Math.min(this.lines[base], this.lines[base + 3]) - 1,
+        Math.max(this.lines[base], this.lines[base + 3]) + 1,
+        Math.min(this.lines[base + 1], this.lines[base + 4]) - 1,
+        Math.max(this.lines[base + 1], this.lines[base + 4]) + 1);
+    }
+
+    /**
+     * Appends the given primitive to the bin of every tile overlapped by the given window-space
+     * bounding box, growing bins as needed. Boxes entirely off screen are not binned at all.
+     *
+     * @param paramPrimitive <code>int</code> triangle index, or complement of a line index
+     * @param paramMinX <code>float</code>
+     * @param paramMaxX <code>float</code>
+     * @param paramMinY <code>float</code>
+     * @param paramMaxY <code>float</code>
+     * @return void
+     */
+    private void bin(int paramPrimitive, float paramMinX, float paramMaxX, float paramMinY,
+        float paramMaxY) {
+
+      // Declarations
+      int tile;
+      final int firstColumn, lastColumn, firstRow, lastRow;
+
+      // Definitions
+      firstColumn = Math.max(0, TileRasterizer.tileOf(paramMinX));
+      lastColumn = Math.min(this.tilesAcross - 1, TileRasterizer.tileOf(paramMaxX));
+      firstRow = Math.max(0, TileRasterizer.tileOf(paramMinY));
+      lastRow = Math.min(this.tilesDown - 1, TileRasterizer.tileOf(paramMaxY));
+
+      for (int row = firstRow; row <= lastRow; row++) {
+        for (int column = firstColumn; column <= lastColumn; column++) {
+          tile = row * this.tilesAcross + column;
+          if (this.binCounts[tile] == this.bins[tile].length) {
+            this.bins[tile] = Arrays.copyOf(this.bins[tile], this.bins[tile].length * 2);
+          }
+          this.bins[tile][this.binCounts[tile]++] = paramPrimitive;
+        }
+      }
+    }
+
+    /**
+     * Clears the given tile to black at the far depth and draws its binned primitives in order.
+     * Window rows count upward from the bottom, as in OpenGL, while the color buffer is stored
+     * top-down, so rows are flipped on the way into the buffers.
+     *
+     * @param paramTile <code>int</code>
+     * @return void
+     */
+    private void renderTile(int paramTile) {
+
+      // Declarations
+      int primitive;
+      final int left, bottom, right, top;
+
+      // Definitions
+      left = (paramTile % this.tilesAcross) * TileRasterizer.TILE_SIZE;
+      bottom = (paramTile / this.tilesAcross) * TileRasterizer.TILE_SIZE;
+      right = Math.min(left + TileRasterizer.TILE_SIZE, this.width);
+      top = Math.min(bottom + TileRasterizer.TILE_SIZE, this.height);
+
+      for (int y = bottom; y < top; y++) {
+        Arrays.fill(this.pixels, this.rowStart(y) + left, this.rowStart(y) + right, 0);
+        Arrays.fill(this.depths, this.rowStart(y) + left, this.rowStart(y) + right, 1);
+      }
+
+      for (int i = 0; i < this.binCounts[paramTile]; i++) {
+        primitive = this.bins[paramTile][i];
+        if (primitive >= 0) {
+          this.fillTriangle(primitive * TileRasterizer.TRIANGLE_STRIDE, left, bottom, right, top);
+        } else {
+          this.drawLine(~primitive * TileRasterizer.LINE_STRIDE, left, bottom, right, top);
+        }
+      }
+    }
+
+    /**
+     * Fills the part of a triangle lying within the given tile bounds.
+     *
+     * @param paramBase <code>int</code> offset of the triangle within the triangle store
+     * @param paramLeft <code>int</code>
+     * @param paramBottom <code>int</code>
+     * @param paramRight <code>int</code>
+     * @param paramTop <code>int</code>
+     * @return void
+     */
+    private void fillTriangle(int paramBase, int paramLeft, int paramBottom, int paramRight,
+        int paramTop) {
+
+      // Declarations
+      int a, b, c, swap, index;
+      float px, py, edgeA, edgeB, edgeC, depth, inverseW, w0, w1, w2;
+      final float area;
+      final boolean topLeftA, topLeftB, topLeftC;
+      final int minX, maxX, minY, maxY;
+      final float[] tempTriangles;
+
+      // Definitions
+      tempTriangles = this.triangles;
+      a = paramBase;
+      b = paramBase + TileRasterizer.VERTEX_STRIDE;
+      c = paramBase + 2 * TileRasterizer.VERTEX_STRIDE;
+
+      // Wind counterclockwise so that every edge function is positive inside
+      if (TileRasterizer.edge(tempTriangles, a, b, tempTriangles[c], tempTriangles[c + 1]) < 0) {
+        swap = b;
+        b = c;
+        c = swap;
+      }
+      area = TileRasterizer.edge(tempTriangles, a, b, tempTriangles[c], tempTriangles[c + 1]);
+      topLeftA = TileRasterizer.isTopLeft(tempTriangles, b, c);
+      topLeftB = TileRasterizer.isTopLeft(tempTriangles, c, a);
+      topLeftC = TileRasterizer.isTopLeft(tempTriangles, a, b);
+      minX = Math.max(paramLeft, (int) Math.floor(Math.min(tempTriangles[a],
+        Math.min(tempTriangles[b], tempTriangles[c]))));
+      maxX = Math.min(paramRight - 1, (int) Math.ceil(Math.max(tempTriangles[a],
+        Math.max(tempTriangles[b], tempTriangles[c]))));
+      minY = Math.max(paramBottom, (int) Math.floor(Math.min(tempTriangles[a + 1],
+        Math.min(tempTriangles[b + 1], tempTriangles[c + 1]))));
+      maxY = Math.min(paramTop - 1, (int) Math.ceil(Math.max(tempTriangles[a + 1],
+        Math.max(tempTriangles[b + 1], tempTriangles[c + 1]))));
+
+      if (area > 0) {
+        for (int y = minY; y <= maxY; y++) {
+          py = y + 0.5F;
+          for (int x = minX; x <= maxX; x++) {
+            px = x + 0.5F;
+            edgeA = TileRasterizer.edge(tempTriangles, b, c, px, py);
+            edgeB = TileRasterizer.edge(tempTriangles, c, a, px, py);
+            edgeC = TileRasterizer.edge(tempTriangles, a, b, px, py);
+            if ((edgeA > 0 || edgeA == 0 && topLeftA) && (edgeB > 0 || edgeB == 0 && topLeftB)
+                && (edgeC > 0 || edgeC == 0 && topLeftC)) {
+              edgeA /= area;
+              edgeB /= area;
+              edgeC /= area;
+              depth = edgeA * tempTriangles[a + 2] + edgeB * tempTriangles[b + 2]
+                + edgeC * tempTriangles[c + 2];
+              index = this.rowStart(y) + x;
+              if (depth >= 0 && depth < this.depths[index]) {
+                w0 = edgeA * tempTriangles[a + 3];
+                w1 = edgeB * tempTriangles[b + 3];
+                w2 = edgeC * tempTriangles[c + 3];
+                inverseW = 1 / (w0 + w1 + w2);
+                this.depths[index] = depth;
+                this.pixels[index] = TileRasterizer.toPixel(
+                  (w0 * tempTriangles[a + 4] + w1 * tempTriangles[b + 4]
+                    + w2 * tempTriangles[c + 4]) * inverseW,
+                  (w0 * tempTriangles[a + 5] + w1 * tempTriangles[b + 5]
+                    + w2 * tempTriangles[c + 5]) * inverseW,
+                  (w0 * tempTriangles[a + 6] + w1 * tempTriangles[b + 6]
+                    + w2 * tempTriangles[c + 6]) * inverseW);
+              }
+            }
+          }
+        }
+      }
+    }
+
+    /**
+     * Draws the part of a black, one pixel wide line lying within the given tile bounds, stepping
+     * once per pixel along its major axis and leaving out the final endpoint as OpenGL does.
+     *
+     * @param paramBase <code>int</code> offset of the line within the line store
+     * @param paramLeft <code>int</code>
+     * @param paramBottom <code>int</code>
+     * @param paramRight <code>int</code>
+     * @param paramTop <code>int</code>
+     * @return void
+     */
+    private void drawLine(int paramBase, int paramLeft, int paramBottom, int paramRight,
+        int paramTop) {
+
+      // Declarations
+      int x, y, index;
+      float t, depth;
+      final float startX, startY, startZ, deltaX, deltaY, deltaZ;
+      final int steps;
+
+      // Definitions
+      startX = this.lines[paramBase];
+      startY = this.lines[paramBase + 1];
+      startZ = this.lines[paramBase + 2];
+      deltaX = this.lines[paramBase + 3] - startX;
+      deltaY = this.lines[paramBase + 4] - startY;
+      deltaZ = this.lines[paramBase + 5] - startZ;
+      steps = (int) Math.ceil(Math.max(Math.abs(deltaX), Math.abs(deltaY)));
+
+      for (int i = 0; i < steps; i++) {
+        t = (i + 0.5F) / steps;
+        x = (int) Math.floor(startX + deltaX * t);
+        y = (int) Math.floor(startY + deltaY * t);
+        if (x >= paramLeft && x < paramRight && y >= paramBottom && y < paramTop) {
+          depth = startZ + deltaZ * t - TileRasterizer.LINE_DEPTH_BIAS;
+          index = this.rowStart(y) + x;
+          if (depth < this.depths[index]) {
+            this.depths[index] = Math.max(depth, 0);
+            this.pixels[index] = 0;
+          }
+        }
+      }
+    }
+
+    /**
+     * Returns the tile column or row containing the given window coordinate, which may lie off
+     * screen in either direction.
+     *
+     * @param paramCoordinate <code>float</code>
+     * @return <code>int</code>
+     */
+    private static int tileOf(float paramCoordinate) {
+      return Math.floorDiv((int) Math.floor(paramCoordinate), TileRasterizer.TILE_SIZE);
+    }
+
+    /**
+     * Returns the offset into the top-down buffers of the given bottom-up window row.
+     *
+     * @param paramY <code>int</code>
+     * @return <code>int</code>
+     */
+    private int rowStart(int paramY) {
+      return (this.height - 1 - paramY) * this.width;
+    }
+
+    /**
+     * Evaluates the edge function of the edge from vertex <code>from</code> to vertex
+     * <code>to</code> at the given point, positive to the left of the edge.
+     *
+     * @param paramTriangles <code>float[]</code>
+     * @param paramFrom <code>int</code>
+     * @param paramTo <code>int</code>
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @return <code>float</code>
+     */
+    private static float edge(float[] paramTriangles, int paramFrom, int paramTo, float paramX,
+        float paramY) {
+      return (paramTriangles[paramTo] - paramTriangles[paramFrom])
+        * (paramY - paramTriangles[paramFrom + 1])
+        - (paramTriangles[paramTo + 1] - paramTriangles[paramFrom + 1])
+        * (paramX - paramTriangles[paramFrom]);
+    }
+
+    /**
+     * Returns whether the counterclockwise edge from vertex <code>from</code> to vertex
+     * <code>to</code> is a top or left edge, whose pixel centers belong to the triangle.
+     *
+     * @param paramTriangles <code>float[]</code>
+     * @param paramFrom <code>int</code>
+     * @param paramTo <code>int</code>
+     * @return <code>boolean</code>
+     */
+    private static boolean isTopLeft(float[] paramTriangles, int paramFrom, int paramTo) {
+
+      // Declarations
+      final float deltaX, deltaY;
+
+      // Definitions
+      deltaX = paramTriangles[paramTo] - paramTriangles[paramFrom];
+      deltaY = paramTriangles[paramTo + 1] - paramTriangles[paramFrom + 1];
+
+      return deltaY < 0 || (deltaY == 0 && deltaX < 0);
+    }
+
+    /**
+     * Packs a color given as floating point components into an opaque <code>0xRRGGBB</code>
+     * pixel, clamping and rounding each component as OpenGL does on its way to the framebuffer.
+     *
+     * @param paramRed <code>float</code>
+     * @param paramGreen <code>float</code>
+     * @param paramBlue <code>float</code>
+     * @return <code>int</code>
+     */
+    private static int toPixel(float paramRed, float paramGreen, float paramBlue) {
+      return TileRasterizer.toByte(paramRed) << 16 | TileRasterizer.toByte(paramGreen) << 8
+        | TileRasterizer.toByte(paramBlue);
+    }
+
+    /**
+     * Converts a color component in the range 0 to 1 to its nearest 8-bit value.
+     *
+     * @param paramComponent <code>float</code>
+     * @return <code>int</code>
+     */
+    private static int toByte(float paramComponent) {
+      return Math.round(Math.max(0, Math.min(1, paramComponent)) * 255);
+    }
+
+    /**
+     * This class splits a range of tiles in half until single tiles remain, rendering each on
+     * whichever pool thread picks it up.
+     */
+    private final class TileTask extends RecursiveAction {
+
+      /** Version of the serialized form, set to 1 */
+      private final static long serialVersionUID = 1L;
+
+      // Class fields
+      private final int first, last;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param paramFirst <code>int</code> first tile of the range
+       * @param paramLast <code>int</code> tile following the last of the range
+       */
+      private TileTask(int paramFirst, int paramLast) {
+        this.first = paramFirst;
+        this.last = paramLast;
+      }
+
+      /**
+       * Renders the range directly if it holds a single tile, and otherwise forks both halves.
+       *
+       * @see java.util.concurrent.RecursiveAction#compute
+       * @return void
+       */
+      @Override
+      protected void compute() {
+
+        // Declaration
+        final int middle;
+
+        // Definition
+        middle = (this.first + this.last) >>> 1;
+
+        if (this.last - this.first == 1) {
+          TileRasterizer.this.renderTile(this.first);
+        } else {
+          ForkJoinTask.invokeAll(new TileTask(this.first, middle),
+            new TileTask(middle, this.last));
+        }
+      }
+    }
+  }
+
+  /**
+   * This static class gathers the handful of 4x4 matrix operations needed to transform the scene
+   * on the CPU, as the fixed-function pipeline otherwise does on the author's behalf. Matrices are
+   * plain <code>float[16]</code> arrays in the column-major order used by OpenGL itself, such that
+   * element <code>(row, column)</code> lives at index <code>column * 4 + row</code>, and the
+   * methods mirror their GL counterparts, the in-place ones post-multiplying the passed matrix just
+   * as <code>glRotated</code> and friends post-multiply the current matrix. None of the methods
+   * allocate, so callers hold on to their own arrays between frames.
+   *
+   * @see FourLights.SoftwareRasterizer
+   * @author Andrew Eissen
+   */
+  private final static class Matrices {
+
+    /** Number of elements in a 4x4 matrix */
+    private final static int SIZE = 16;
+
+    // Utility methods
+
+    /**
+     * Overwrites the passed matrix with the identity matrix, as <code>glLoadIdentity</code> does.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @return void
+     */
+    private static void identity(float[] paramMatrix) {
+      for (int i = 0; i < Matrices.SIZE; i++) {
+        paramMatrix[i] = (i % 5 == 0) ? 1 : 0;
+      }
+    }
+
+    /**
+     * Writes the product <code>left * right</code> into <code>out</code>, which must not be either
+     * of the operands.
+     *
+     * @param paramLeft <code>float[]</code>
+     * @param paramRight <code>float[]</code>
+     * @param paramOut <code>float[]</code>
+     * @return void
+     */
+    private static void multiply(float[] paramLeft, float[] paramRight, float[] paramOut) {
+      Matrices.multiply(paramLeft, paramRight, paramOut, 0);
+    }
+
+    /**
+     * Writes the product <code>left * right</code> into the 16 elements of <code>out</code> from
+     * the given offset, which must not overlap either of the operands.
+     *
+     * @param paramLeft <code>float[]</code>
+     * @param paramRight <code>float[]</code>
+     * @param paramOut <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return void
+     */
+    private static void multiply(float[] paramLeft, float[] paramRight, float[] paramOut,
+        int paramOffset) {
+
+      // Declaration
+      float sum;
+
+      for (int column = 0; column < 4; column++) {
+        for (int row = 0; row < 4; row++) {
+          sum = 0;
+          for (int k = 0; k < 4; k++) {
+            sum += paramLeft[k * 4 + row] * paramRight[column * 4 + k];
+          }
+          paramOut[paramOffset + column * 4 + row] = sum;
+        }
+      }
+    }
+
+    /**
+     * Post-multiplies the passed matrix by a translation, as <code>glTranslated</code> does.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramX <code>double</code>
+     * @param paramY <code>double</code>
+     * @param paramZ <code>double</code>
+     * @return void
+     */
+    private static void translate(float[] paramMatrix, double paramX, double paramY,
+        double paramZ) {
+      for (int row = 0; row < 4; row++) {
+        paramMatrix[12 + row] += paramMatrix[row] * paramX + paramMatrix[4 + row] * paramY
+          + paramMatrix[8 + row] * paramZ;
+      }
+    }
+
+    /**
+     * Post-multiplies the passed matrix by a uniform scale, as <code>glScaled</code> does when
+     * passed the same factor thrice.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramFactor <code>double</code>
+     * @return void
+     */
+    private static void scale(float[] paramMatrix, double paramFactor) {
+      for (int i = 0; i < 12; i++) {
+        paramMatrix[i] *= paramFactor;
+      }
+    }
+
+    /**
+     * Post-multiplies the passed matrix by a rotation of the given number of degrees about the
+     * given axis, as <code>glRotated</code> does. Each row of the upper 3x3 block is rewritten in
+     * turn from local copies, so no scratch matrix is needed.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramDegrees <code>double</code>
+     * @param paramX <code>double</code>
+     * @param paramY <code>double</code>
+     * @param paramZ <code>double</code>
+     * @return void
+     */
+    private static void rotate(float[] paramMatrix, double paramDegrees, double paramX,
+        double paramY, double paramZ) {
+
+      // Declarations
+      final double length, x, y, z, c, s, t;
+      final double r00, r01, r02, r10, r11, r12, r20, r21, r22;
+      double m0, m1, m2;
+
+      // Definitions
+      length = Math.sqrt(paramX * paramX + paramY * paramY + paramZ * paramZ);
+      x = paramX / length;
+      y = paramY / length;
+      z = paramZ / length;
+      c = Math.cos(Math.toRadians(paramDegrees));
+      s = Math.sin(Math.toRadians(paramDegrees));
+      t = 1 - c;
+      r00 = t * x * x + c;
+      r01 = t * x * y - s * z;
+      r02 = t * x * z + s * y;
+      r10 = t * x * y + s * z;
+      r11 = t * y * y + c;
+      r12 = t * y * z - s * x;
+      r20 = t * x * z - s * y;
+      r21 = t * y * z + s * x;
+      r22 = t * z * z + c;
+
+      for (int row = 0; row < 4; row++) {
+        m0 = paramMatrix[row];
+        m1 = paramMatrix[4 + row];
+        m2 = paramMatrix[8 + row];
+        paramMatrix[row] = (float) (m0 * r00 + m1 * r10 + m2 * r20);
+        paramMatrix[4 + row] = (float) (m0 * r01 + m1 * r11 + m2 * r21);
+        paramMatrix[8 + row] = (float) (m0 * r02 + m1 * r12 + m2 * r22);
+      }
+    }
+
+    /**
+     * Overwrites the passed matrix with a perspective projection, as <code>glFrustum</code> would
+     * produce when applied to the identity matrix.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramLeft <code>double</code>
+     * @param paramRight <code>double</code>
+     * @param paramBottom <code>double</code>
+     * @param paramTop <code>double</code>
+     * @param paramNear <code>double</code>
+     * @param paramFar <code>double</code>
+     * @return void
+     */
+    private static void frustum(float[] paramMatrix, double paramLeft, double paramRight,
+        double paramBottom, double paramTop, double paramNear, double paramFar) {
+      Matrices.identity(paramMatrix);
+      paramMatrix[0] = (float) (2 * paramNear / (paramRight - paramLeft));
+      paramMatrix[5] = (float) (2 * paramNear / (paramTop - paramBottom));
+      paramMatrix[8] = (float) ((paramRight + paramLeft) / (paramRight - paramLeft));
+      paramMatrix[9] = (float) ((paramTop + paramBottom) / (paramTop - paramBottom));
+      paramMatrix[10] = (float) (-(paramFar + paramNear) / (paramFar - paramNear));
+      paramMatrix[11] = -1;
+      paramMatrix[14] = (float) (-2 * paramFar * paramNear / (paramFar - paramNear));
+      paramMatrix[15] = 0;
+    }
+
+    /**
+     * Overwrites the passed matrix with the projection <code>Camera#apply</code> sets for a
+     * perspective camera whose limits were set by <code>Camera#setScale</code>, widening the
+     * limits to preserve the given aspect ratio and placing the near and far planes about the
+     * reference point.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramScale <code>double</code>
+     * @param paramEye <code>double[]</code>
+     * @param paramCenter <code>double[]</code>
+     * @param paramAspect <code>double</code> width of the image over its height
+     * @return void
+     */
+    private static void cameraProjection(float[] paramMatrix, double paramScale,
+        double[] paramEye, double[] paramCenter, double paramAspect) {
+
+      // Declarations
+      double left, right, bottom, top, extra;
+      final double viewDistance, near, far, shrink;
+
+      // Definitions
+      left = bottom = -paramScale;
+      right = top = paramScale;
+      viewDistance = Math.sqrt(Math.pow(paramEye[0] - paramCenter[0], 2)
+        + Math.pow(paramEye[1] - paramCenter[1], 2) + Math.pow(paramEye[2] - paramCenter[2], 2));
+      near = Math.max(0.1, viewDistance - 2 * paramScale);
+      far = viewDistance + 2 * paramScale;
+      shrink = near / viewDistance;
+
+      // The limits form a square window, so only the aspect ratio decides which way to widen
+      if (paramAspect > 1) {
+        extra = (paramAspect - 1) * (right - left) / 2;
+        left -= extra;
+        right += extra;
+      } else if (paramAspect < 1) {
+        extra = (1 / paramAspect - 1) * (top - bottom) / 2;
+        bottom -= extra;
+        top += extra;
+      }
+
+      Matrices.frustum(paramMatrix, left * shrink, right * shrink, bottom * shrink,
+        top * shrink, near, far);
+    }
+
+    /**
+     * Overwrites the passed matrix with a viewing transformation, as <code>gluLookAt</code> would
+     * produce when applied to the identity matrix.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramEye <code>double[]</code>
+     * @param paramCenter <code>double[]</code>
+     * @param paramUp <code>double[]</code>
+     * @return void
+     */
+    private static void lookAt(float[] paramMatrix, double[] paramEye, double[] paramCenter,
+        double[] paramUp) {
+
+      // Declarations
+      double fx, fy, fz, sx, sy, sz, length;
+      final double ux, uy, uz;
+
+      // Forward vector, normalized
+      fx = paramCenter[0] - paramEye[0];
+      fy = paramCenter[1] - paramEye[1];
+      fz = paramCenter[2] - paramEye[2];
+      length = Math.sqrt(fx * fx + fy * fy + fz * fz);
+      fx /= length;
+      fy /= length;
+      fz /= length;
+
+      // Side vector, forward cross up, normalized
+      sx = fy * paramUp[2] - fz * paramUp[1];
+      sy = fz * paramUp[0] - fx * paramUp[2];
+      sz = fx * paramUp[1] - fy * paramUp[0];
+      length = Math.sqrt(sx * sx + sy * sy + sz * sz);
+      sx /= length;
+      sy /= length;
+      sz /= length;
+
+      // Recomputed up vector, side cross forward
+      ux = sy * fz - sz * fy;
+      uy = sz * fx - sx * fz;
+      uz = sx * fy - sy * fx;
+
+      Matrices.identity(paramMatrix);
+      paramMatrix[0] = (float) sx;
+      paramMatrix[4] = (float) sy;
+      paramMatrix[8] = (float) sz;
+      paramMatrix[1] = (float) ux;
+      paramMatrix[5] = (float) uy;
+      paramMatrix[9] = (float) uz;
+      paramMatrix[2] = (float) -fx;
+      paramMatrix[6] = (float) -fy;
+      paramMatrix[10] = (float) -fz;
+      Matrices.translate(paramMatrix, -paramEye[0], -paramEye[1], -paramEye[2]);
+    }
+
+    /**
+     * Transforms the point <code>(x, y, z, 1)</code> by the passed matrix, writing the four
+     * resulting components into <code>out</code> from the given offset.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @param paramX <code>float</code>
+     * @param paramY <code>float</code>
+     * @param paramZ <code>float</code>
+     * @param paramOut <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return void
+     */
+    private static void transformPoint(float[] paramMatrix, float paramX, float paramY,
+        float paramZ, float[] paramOut, int paramOffset) {
+      for (int row = 0; row < 4; row++) {
+        paramOut[paramOffset + row] = paramMatrix[row] * paramX + paramMatrix[4 + row] * paramY
+          + paramMatrix[8 + row] * paramZ + paramMatrix[12 + row];
+      }
+    }
+  }
+
+  /**
+   * This static class is a CPU-side stand-in for one of the fixed-function matrix stacks, built
+   * on the operations of <code>FourLights.Matrices</code>. Its matrices are preallocated to a
+   * fixed depth and reused from frame to frame, so pushing, popping, and transforming allocate
+   * nothing and send nothing to the context. Only <code>MatrixStack#load</code> does, with a
+   * single <code>glLoadMatrixf</code> right before the geometry that needs the top matrix, and
+   * not even that where the top matches what was last loaded.
+   * <br />
+   * <br />
+   * The last loaded matrix is shadowed in the same manner as <code>FourLights.GLStateCache</code>
+   * shadows the rest of the context's state, and must likewise be forgotten by way of
+   * <code>MatrixStack#forget</code> whenever the context may have been changed behind its back.
+   * Both stacks leave the context in <code>GL_MODELVIEW</code> mode, the mode every other part of
+   * the program expects.
+   *
+   * @see FourLights.Matrices
+   * @see FourLights.SceneGLEventListener#applyCamera
+   * @author Andrew Eissen
+   */
+  private final static class MatrixStack {
+
+    /** Number of matrices the stack holds, set to 16 */
+    private final static int DEPTH = 16;
+
+    // Class fields
+    private final int mode;
+    private final float[][] matrices;
+    private final float[] loaded, scratch;
+    private int depth;
+
+    /**
+     * Parameterized constructor, creating a stack holding only the identity matrix
+     *
+     * @param paramMode <code>int</code>, <code>GL_MODELVIEW</code> or <code>GL_PROJECTION</code>
+     */
+    private MatrixStack(int paramMode) {
+      this.mode = paramMode;
+      this.matrices = new float[MatrixStack.DEPTH][Matrices.SIZE];
+      this.loaded = new float[Matrices.SIZE];
+      this.scratch = new float[Matrices.SIZE];
+      this.depth = 0;
+      Matrices.identity(this.matrices[0]);
+      this.forget();
+    }
+
+    // Getters
+
+    /**
+     * Returns the top matrix, which may be written to directly in place of any of the
+     * transformations below.
+     *
+     * @return <code>float[]</code>
+     */
+    private float[] getTop() {
+      return this.matrices[this.depth];
+    }
+
+    // Utility methods
+
+    /**
+     * Drops every matrix pushed, leaving the bottom one on top, as it was left.
+     *
+     * @return void
+     */
+    private void clear() {
+      this.depth = 0;
+    }
+
+    /**
+     * Pushes a copy of the top matrix, as <code>glPushMatrix</code> does.
+     *
+     * @return void
+     */
+    private void push() {
+      if (this.depth == MatrixStack.DEPTH - 1) {
+        throw new IllegalStateException("Matrix stack overflow");
+      }
+      System.arraycopy(this.matrices[this.depth], 0, this.matrices[this.depth + 1], 0,
+        Matrices.SIZE);
+      this.depth++;
+    }
+
+    /**
+     * Pops the top matrix, as <code>glPopMatrix</code> does.
+     *
+     * @return void
+     */
+    private void pop() {
+      if (this.depth == 0) {
+        throw new IllegalStateException("Matrix stack underflow");
+      }
+      this.depth--;
+    }
+
+    /**
+     * Post-multiplies the top matrix by a translation.
+     *
+     * @param paramX <code>double</code>
+     * @param paramY <code>double</code>
+     * @param paramZ <code>double</code>
+     * @return void
+     */
+    private void translate(double paramX, double paramY, double paramZ) {
+      Matrices.translate(this.matrices[this.depth], paramX, paramY, paramZ);
+    }
+
+    /**
+     * Post-multiplies the top matrix by a uniform scale.
+     *
+     * @param paramFactor <code>double</code>
+     * @return void
+     */
+    private void scale(double paramFactor) {
+      Matrices.scale(this.matrices[this.depth], paramFactor);
+    }
+
+    /**
+     * Post-multiplies the top matrix by a rotation of the given number of degrees about the
+     * given axis.
+     *
+     * @param paramDegrees <code>double</code>
+     * @param paramX <code>double</code>
+     * @param paramY <code>double</code>
+     * @param paramZ <code>double</code>
+     * @return void
+     */
+    private void rotate(double paramDegrees, double paramX, double paramY, double paramZ) {
+      Matrices.rotate(this.matrices[this.depth], paramDegrees, paramX, paramY, paramZ);
+    }
+
+    /**
+     * Post-multiplies the top matrix by the passed one, as <code>glMultMatrixf</code> does.
+     *
+     * @param paramMatrix <code>float[]</code>
+     * @return void
+     */
+    private void multiply(float[] paramMatrix) {
+      Matrices.multiply(this.matrices[this.depth], paramMatrix, this.scratch);
+      System.arraycopy(this.scratch, 0, this.matrices[this.depth], 0, Matrices.SIZE);
+    }
+
+    /**
+     * Loads the top matrix into the context's stack of this stack's mode, unless it is already
+     * the one loaded there, returning to <code>GL_MODELVIEW</code> mode afterwards.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void load(GL2 paramGl) {
+
+      // Declaration
+      final float[] top;
+
+      // Definition
+      top = this.matrices[this.depth];
+
+      if (Arrays.equals(top, this.loaded)) {
+        return;
+      }
+      System.arraycopy(top, 0, this.loaded, 0, Matrices.SIZE);
+      if (this.mode == GL2.GL_MODELVIEW) {
+        paramGl.glLoadMatrixf(top, 0);
+      } else {
+        paramGl.glMatrixMode(this.mode);
+        paramGl.glLoadMatrixf(top, 0);
+        paramGl.glMatrixMode(GL2.GL_MODELVIEW);
+      }
+    }
+
+    /**
+     * Forgets the last loaded matrix, such that the next load is sent whatever the top.
+     *
+     * @return void
+     */
+    private void forget() {
+      Arrays.fill(this.loaded, Float.NaN);
+    }
+  }
+
+  /**
+   * This class exposes the scene's CPU hot paths, one method apiece, to the JUnit tests and the
+   * JMH benchmarks of the Maven build, which sit in this same package, and is as such the one
+   * part of the program that is package-private rather than private. It is built by
+   * <code>FourLights#scenePaths</code> around a scene set up as for the software backend, with no
+   * window, and points that scene at the passed <code>GL2</code>, which needs no context, such as
+   * the no-op stub of the tests. The light markers are drawn by <code>FourLights.MeshGLUT</code>
+   * through that same <code>GL2</code>, as the real <code>GLUT</code> insists on a current
+   * context.
+   * <br />
+   * <br />
+   * The scene is set up by the <code>use</code> methods, namely the mesh size, as built by
+   * <code>FourLights.PolyhedronMesh#repeat</code>, the lights switched on, whether the shape is
+   * drawn from uploaded buffers, the size of the scene graph, and the geodesic sphere whose
+   * normals are generated, after which the path methods may be called over and over. The scene
+   * graph's frame pipeline and the worker pool shared with the software rasterizer and
+   * <code>FourLights.MeshNormals</code> are shut down by <code>ScenePaths#close</code>.
+   *
+   * @see FourLights#scenePaths
+   * @see FourLights.MeshGLUT
+   * @author Andrew Eissen
+   */
+  final class ScenePaths {
+
+    // Class fields
+    private final GL2 gl;
+    private final SoftwareRasterizer rasterizer;
+    private final TileRasterizer tiles;
+    private final UniformLightRenderer uniformLights;
+    private final ForkJoinPool pool;
+    private PolyhedronMesh normalMesh;
+    private MeshNormals normals;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param options <code>LaunchOptions</code>
+     * @param gl <code>GL2</code>
+     */
+    private ScenePaths(LaunchOptions options, GL2 gl) {
+
+      // Declaration
+      final SceneGLEventListener tempListener;
+
+      // Definition
+      tempListener = FourLights.this.getSceneListener();
+
+      this.gl = gl;
+      this.rasterizer = new SoftwareRasterizer(options);
+      this.tiles = new TileRasterizer(options.getWidth(), options.getHeight());
+      this.uniformLights = new UniformLightRenderer();
+      this.pool = new ForkJoinPool(this.rasterizer.getThreadCount());
+
+      FourLights.this.setGl(gl);
+      FourLights.this.getGlState().reset(gl);
+      FourLights.this.getModelView().forget();
+      FourLights.this.getProjection().forget();
+      FourLights.this.setGlut(new MeshGLUT(gl));
+      tempListener.configureLightSources();
+      tempListener.prepareShape();
+    }
+
+    // Getters
+
+    /**
+     * Returns the faces of the mesh readied by <code>ScenePaths#useGeodesicMesh</code>.
+     *
+     * @return <code>int</code>
+     */
+    int getFaceCount() {
+      return this.normals.getFaceCount();
+    }
+
+    /**
+     * Returns the vertices of the mesh readied by <code>ScenePaths#useGeodesicMesh</code>.
+     *
+     * @return <code>int</code>
+     */
+    int getVertexCount() {
+      return this.normals.getVertexCount();
+    }
+
+    /**
+     * Returns the vertices of the given face of the readied mesh, in order.
+     *
+     * @param paramFace <code>int</code>
+     * @return <code>int[]</code>
+     */
+    int[] getFaceVertices(int paramFace) {
+
+      // Declaration
+      final int[] vertices;
+
+      // Definition
+      vertices = new int[this.normalMesh.getFaceEnd(paramFace)
+        - this.normalMesh.getFaceStart(paramFace)];
+
+      for (int i = 0; i < vertices.length; i++) {
+        vertices[i] = this.normalMesh.getFaceIndex(this.normalMesh.getFaceStart(paramFace) + i);
+      }
+      return vertices;
+    }
+
+    /**
+     * Returns the given vertex position of the readied mesh along the given axis.
+     *
+     * @param paramVertex <code>int</code>
+     * @param paramAxis <code>int</code>
+     * @return <code>float</code>
+     */
+    float getPosition(int paramVertex, int paramAxis) {
+      return this.normalMesh.getPosition(paramVertex, paramAxis);
+    }
+
+    /**
+     * Returns the given face normal, as last computed by <code>ScenePaths#computeNormals</code>.
+     *
+     * @param paramFace <code>int</code>
+     * @param paramAxis <code>int</code>
+     * @return <code>float</code>
+     */
+    float getFaceNormal(int paramFace, int paramAxis) {
+      return this.normals.getFaceNormal(paramFace, paramAxis);
+    }
+
+    /**
+     * Returns the given vertex normal, as last computed by <code>ScenePaths#computeNormals</code>.
+     *
+     * @param paramVertex <code>int</code>
+     * @param paramAxis <code>int</code>
+     * @return <code>float</code>
+     */
+    float getVertexNormal(int paramVertex, int paramAxis) {
+      return this.normals.getVertexNormal(paramVertex, paramAxis);
+    }
+
+    // Utility methods
+
+    /**
+     * Draws the given number of copies of the truncated icosahedron as the shape, all coinciding.
+     *
+     * @param paramCopies <code>int</code>
+     * @return void
+     */
+    void useMesh(int paramCopies) {
+      FourLights.this.getSceneListener().setMesh((paramCopies == 1)
+        ? PolyhedronMesh.TRUNCATED_ICOSAHEDRON
+        : PolyhedronMesh.TRUNCATED_ICOSAHEDRON.repeat(paramCopies));
+      FourLights.this.getSceneListener().prepareShape();
+    }
+
+    /**
+     * Switches on the given number of lights, in the order red, green, blue, viewpoint, and all
+     * others off. The global ambient light is left off throughout.
+     *
+     * @param paramCount <code>int</code> from 0 to 4
+     * @return void
+     */
+    void useLights(int paramCount) {
+
+      // Declaration
+      final int[] order;
+
+      // Definition
+      order = new int[] {FourLights.RED_SWITCH, FourLights.GREEN_SWITCH, FourLights.BLUE_SWITCH,
+        FourLights.VIEWPOINT_SWITCH};
+
+      FourLights.this.setLightSwitch(FourLights.AMBIENT_SWITCH, false);
+      for (int i = 0; i < order.length; i++) {
+        FourLights.this.setLightSwitch(order[i], i < paramCount);
+      }
+    }
+
+    /**
+     * Has the shape drawn from the buffers uploaded by
+     * <code>FourLights.SceneGLEventListener#prepareShape</code>, or face by face in immediate
+     * mode.
+     *
+     * @param paramRetained <code>boolean</code>
+     * @return void
+     */
+    void useRetainedShape(boolean paramRetained) {
+      FourLights.this.getSceneListener().setImmediateMode(!paramRetained);
+      FourLights.this.getSceneListener().prepareShape();
+    }
+
+    /**
+     * Surrounds the shape with the given number of copies in a scene graph, recorded ahead by a
+     * frame pipeline across the worker pool's threads, or removes both for zero.
+     *
+     * @param paramObjects <code>int</code>
+     * @return void
+     */
+    void useSceneGraph(int paramObjects) {
+
+      // Declaration
+      final SceneGLEventListener tempListener;
+
+      // Definition
+      tempListener = FourLights.this.getSceneListener();
+
+      if (tempListener.getFramePipeline() != null) {
+        tempListener.getFramePipeline().shutdown();
+        tempListener.setFramePipeline(null);
+      }
+      tempListener.setSceneGraph(null);
+      if (paramObjects > 0) {
+        tempListener.setSceneGraph(tempListener.buildSceneGraph(paramObjects));
+        tempListener.setFramePipeline(
+          new FramePipeline(this.rasterizer.getThreadCount(), 1e-9));
+        tempListener.getFramePipeline().start();
+      }
+    }
+
+    /**
+     * Readies the normals of the geodesic sphere of the truncated icosahedron with at least the
+     * given number of faces, or the finest there is, for the normal paths.
+     *
+     * @param paramFaces <code>int</code>
+     * @return void
+     */
+    void useGeodesicMesh(int paramFaces) {
+
+      // Declarations
+      final LevelOfDetail levels;
+      int level;
+
+      // Definitions
+      levels = new LevelOfDetail(PolyhedronMesh.TRUNCATED_ICOSAHEDRON,
+        FourLights.GEODESIC_MAX_DEPTH, 1);
+      level = 0;
+
+      while (level < levels.getMaxLevel() && levels.getMesh(level).getFaceCount() < paramFaces) {
+        level++;
+      }
+      this.normalMesh = levels.getMesh(level);
+      this.normals = new MeshNormals(this.normalMesh);
+    }
+
+    /**
+     * Draws one whole frame through <code>FourLights.SceneGLEventListener#display</code>, the
+     * passed drawable giving the surface size, the animation clock having moved on since the last.
+     *
+     * @param paramDrawable <code>GLAutoDrawable</code>
+     * @return void
+     */
+    void display(GLAutoDrawable paramDrawable) {
+      FourLights.this.setFrameDamage(FourLights.DAMAGE_ALL);
+      FourLights.this.setSceneTime(FourLights.this.getSceneTime()
+        + FourLights.SimulationClock.timeOfStep(1));
+      FourLights.this.getSceneListener().display(paramDrawable);
+    }
+
+    /**
+     * Calls the original <code>FourLights.TruncatedIcosahedron</code> getters, once called every
+     * frame.
+     *
+     * @return <code>int</code> the number of arrays returned, so that the calls are not dropped
+     */
+    int callGeometryGetters() {
+      return TruncatedIcosahedron.getVertices().length + TruncatedIcosahedron.getFaces().length
+        + TruncatedIcosahedron.getNormals().length;
+    }
+
+    /**
+     * Hands the normal of every face of the shape to GL by way of
+     * <code>FourLights.SceneGLEventListener#calculateNormal</code>.
+     *
+     * @return void
+     */
+    void calculateNormals() {
+
+      // Declaration
+      final PolyhedronMesh tempMesh;
+
+      // Definition
+      tempMesh = FourLights.this.getSceneListener().getMesh();
+
+      for (int face = 0; face < tempMesh.getFaceCount(); face++) {
+        FourLights.this.getSceneListener().calculateNormal(this.gl, tempMesh, face);
+      }
+    }
+
+    /**
+     * Hands the normal of the given face of the readied geodesic mesh to GL by way of
+     * <code>FourLights.SceneGLEventListener#calculateNormal</code>.
+     *
+     * @param paramFace <code>int</code>
+     * @return void
+     */
+    void calculateNormal(int paramFace) {
+      FourLights.this.getSceneListener().calculateNormal(this.gl, this.normalMesh, paramFace);
+    }
+
+    /**
+     * Runs the fixed-function lighting of
+     * <code>FourLights.SceneGLEventListener#applyLighting</code>.
+     *
+     * @return void
+     */
+    void applyLighting() {
+      FourLights.this.getSceneListener().applyLighting();
+    }
+
+    /**
+     * Runs the lighting of <code>--lighting uniform</code>, filling and uploading the light table
+     * and drawing the markers. As the stub cannot link shaders, the renderer is never prepared,
+     * which leaves the calls it makes per frame unchanged.
+     *
+     * @return void
+     */
+    void applyUniformLighting() {
+      FourLights.this.getSceneListener().applyUniformLighting(this.uniformLights);
+    }
+
+    /**
+     * Draws the shape by <code>FourLights.SceneGLEventListener#drawShape</code>.
+     *
+     * @return void
+     */
+    void drawShape() {
+      FourLights.this.getSceneListener().drawShape();
+    }
+
+    /**
+     * Renders a frame on the software backend.
+     *
+     * @return <code>int</code> the first pixel, so that the frame is not dropped
+     */
+    int renderSoftwareFrame() {
+      this.rasterizer.renderFrame(this.tiles, this.pool);
+      return this.tiles.getPixels()[0];
+    }
+
+    /**
+     * Culls the scene graph, or not, and draws whatever is left of it.
+     *
+     * @param paramCulled <code>boolean</code>
+     * @return void
+     */
+    void drawSceneGraph(boolean paramCulled) {
+
+      // Declaration
+      final SceneGLEventListener tempListener;
+
+      // Definition
+      tempListener = FourLights.this.getSceneListener();
+
+      tempListener.getSceneGraph().setCulling(paramCulled);
+      tempListener.getSceneGraph().cull(this.rasterizer.getProjection(),
+        this.rasterizer.getView(), this.rasterizer.getHeight());
+      tempListener.drawVisible();
+    }
+
+    /**
+     * Steps the scene time on by one simulation step and draws the frame the pipeline recorded
+     * ahead for it, having the next one recorded meanwhile.
+     *
+     * @return void
+     */
+    void drawPipelined() {
+
+      // Declarations
+      final SceneGLEventListener tempListener;
+      final FramePipeline tempPipeline;
+      final RecordedFrame tempFrame;
+
+      // Definitions
+      tempListener = FourLights.this.getSceneListener();
+      tempPipeline = tempListener.getFramePipeline();
+      FourLights.this.setSceneTime(FourLights.this.getSceneTime()
+        + FourLights.SimulationClock.timeOfStep(1));
+      tempFrame = tempPipeline.take(FourLights.this.getSceneTime(),
+        this.rasterizer.getProjection(), this.rasterizer.getView(), this.rasterizer.getHeight());
+
+      tempPipeline.request(FourLights.this.getSceneTime(), this.rasterizer.getProjection(),
+        this.rasterizer.getView(), this.rasterizer.getHeight());
+      tempListener.submitVisible(tempFrame);
+    }
+
+    /**
+     * Generates every face and vertex normal of the readied geodesic mesh, on the calling thread
+     * alone or across the worker pool.
+     *
+     * @param paramParallel <code>boolean</code>
+     * @return <code>float</code> the first face normal's x, so that the work is not dropped
+     */
+    float computeNormals(boolean paramParallel) {
+      this.normals.compute((paramParallel) ? this.pool : null);
+      return this.normals.getFaceNormal(0, 0);
+    }
+
+    /**
+     * Shuts down the frame pipeline, should there be one, and the worker pool.
+     *
+     * @return void
+     */
+    void close() {
+      this.useSceneGraph(0);
+      this.pool.shutdown();
+    }
+  }
+
+  /**
+   * This static class stands in for <code>GLUT</code> under <code>FourLights.ScenePaths</code>.
+   * The real <code>GLUT</code> draws through whichever context is current, and there is none, so
+   * the light markers are instead drawn through the passed <code>GL2</code> from
+   * <code>FourLights.PolyhedronMesh#OCTAHEDRON</code>, making the same calls GLUT makes for a
+   * solid octahedron.
+   *
+   * @author Andrew Eissen
+   */
+  private final static class MeshGLUT extends GLUT {
+
+    // Class fields
+    private final GL2 gl;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param gl <code>GL2</code>
+     */
+    private MeshGLUT(GL2 gl) {
+      this.gl = gl;
+    }
+
+    /**
+     * Draws the octahedron as GLUT would, one triangle per <code>glBegin</code>.
+     *
+     * @see com.jogamp.opengl.util.gl2.GLUT#glutSolidOctahedron
+     * @return void
+     */
+    @Override
+    public void glutSolidOctahedron() {
+
+      // Declaration
+      final PolyhedronMesh tempMesh;
+
+      // Definition
+      tempMesh = PolyhedronMesh.OCTAHEDRON;
+
+      for (int face = 0; face < tempMesh.getFaceCount(); face++) {
+        this.gl.glBegin(GL2.GL_TRIANGLES);
+        this.gl.glNormal3f(tempMesh.getFaceNormal(face, 0), tempMesh.getFaceNormal(face, 1),
+          tempMesh.getFaceNormal(face, 2));
+        for (int i = tempMesh.getFaceStart(face); i < tempMesh.getFaceEnd(face); i++) {
+          this.gl.glVertex3f(tempMesh.getPosition(tempMesh.getFaceIndex(i), 0),
+            tempMesh.getPosition(tempMesh.getFaceIndex(i), 1),
+            tempMesh.getPosition(tempMesh.getFaceIndex(i), 2));
+        }
+        this.gl.glEnd();
+      }
+    }
+  }
+
+  /**
+   * This static class stands between the scene and its <code>GL2</code> for the fixed-function
+   * state the scene sets over and over, namely the enable bits, the material emission, specular,
+   * and shininess, the colors of the lights, the light model, and the clear color. Every frame,
+   * <code>FourLights.SceneGLEventListener#display</code>,
+   * <code>FourLights.SceneGLEventListener#applyLighting</code>, and
+   * <code>FourLights.LightSource#adjustLightSource</code> set much of this state to the very values
+   * it already holds, each such call costing a trip through JOGL into the driver for nothing. The
+   * methods of this class, named after the <code>GL2</code> methods they stand in for, shadow the
+   * values last set and drop any call that would leave the state as it is, passing the rest on.
+   * <br />
+   * <br />
+   * Only state that means the same whenever it is set is shadowed. Light positions are
+   * transformed by the modelview matrix current at the time of the call, and the material's
+   * ambient and diffuse colors are overwritten by <code>glColor</code> while
+   * <code>GL_COLOR_MATERIAL</code> is enabled in its default mode, which the scene never
+   * changes, so calls setting either are always passed on, as
+   * are calls for capabilities and parameters not shadowed. Unknown values are held as
+   * <code>NaN</code>, which compares unequal to everything, so the first call after
+   * <code>FourLights.GLStateCache#reset</code>, made whenever a new context is initialized, always
+   * goes through. Anything setting the shadowed state other than through this class must be
+   * followed by a reset. The calls issued and dropped are counted per frame, so that the savings
+   * may be seen, and summarized by <code>FourLights.GLStateCache#describe</code>.
+   *
+   * @see FourLights.SceneGLEventListener#init
+   * @author Andrew Eissen
+   */
+  private final static class GLStateCache {
+
+    /** Number of fixed-function lights shadowed, from <code>GL_LIGHT0</code> onward */
+    private final static int LIGHT_COUNT = 8;
+
+    /** Capabilities shadowed besides the lights, in the order of their enable bits */
+    private final static int[] CAPABILITIES = {GL2.GL_LIGHTING, GL2.GL_DEPTH_TEST,
+      GL2.GL_NORMALIZE, GL2.GL_COLOR_MATERIAL, GL2.GL_CULL_FACE};
+
+    /** Number of floats set aside for each shadowed parameter, enough for a color */
+    private final static int SLOT_SIZE = 4;
+
+    /** Enable bit state not yet known */
+    private final static byte UNKNOWN = 0;
+
+    /** Enable bit state of an enabled capability */
+    private final static byte ENABLED = 1;
+
+    /** Enable bit state of a disabled capability */
+    private final static byte DISABLED = 2;
+
+    // Class fields
+    private GL2 gl;
+    private final byte[] capabilities;
+    private final float[] materials, lights, lightModel, clearColor, scalar;
+    private int issuedCalls, droppedCalls, lastIssuedCalls, lastDroppedCalls;
+    private long totalIssuedCalls, totalDroppedCalls, frameCount;
+
+    /** Default constructor */
+    private GLStateCache() {
+      this.capabilities = new byte[GLStateCache.CAPABILITIES.length + GLStateCache.LIGHT_COUNT];
+      this.materials = new float[2 * 3 * GLStateCache.SLOT_SIZE];
+      this.lights = new float[GLStateCache.LIGHT_COUNT * 3 * GLStateCache.SLOT_SIZE];
+      this.lightModel = new float[3 * GLStateCache.SLOT_SIZE];
+      this.clearColor = new float[GLStateCache.SLOT_SIZE];
+      this.scalar = new float[1];
+      this.forget();
+    }
+
+    // Utility methods
+
+    /**
+     * Points this instance at the given <code>GL2</code>, that of a newly initialized context or of
+     * <code>FourLights.ScenePaths</code>, forgetting all shadowed state, which that context may
+     * hold differently.
+     *
+     * @param paramGl <code>GL2</code>
+     * @return void
+     */
+    private void reset(GL2 paramGl) {
+      this.gl = paramGl;
+      this.forget();
+    }
+
+    /**
+     * Marks all shadowed state as unknown.
+     *
+     * @return void
+     */
+    private void forget() {
+      Arrays.fill(this.capabilities, GLStateCache.UNKNOWN);
+      Arrays.fill(this.materials, Float.NaN);
+      Arrays.fill(this.lights, Float.NaN);
+      Arrays.fill(this.lightModel, Float.NaN);
+      Arrays.fill(this.clearColor, Float.NaN);
+    }
+
+    /**
+     * Marks the start of a frame, keeping the counts of the frame before it.
+     *
+     * @return void
+     */
+    private void beginFrame() {
+      this.lastIssuedCalls = this.issuedCalls;
+      this.lastDroppedCalls = this.droppedCalls;
+      this.issuedCalls = 0;
+      this.droppedCalls = 0;
+      this.frameCount++;
+    }
+
+    /**
+     * Stands in for <code>GL2#glEnable</code>.
+     *
+     * @param paramCapability <code>int</code>
+     * @return void
+     */
+    private void glEnable(int paramCapability) {
+      if (this.capabilityChanges(paramCapability, GLStateCache.ENABLED)) {
+        this.gl.glEnable(paramCapability);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glDisable</code>.
+     *
+     * @param paramCapability <code>int</code>
+     * @return void
+     */
+    private void glDisable(int paramCapability) {
+      if (this.capabilityChanges(paramCapability, GLStateCache.DISABLED)) {
+        this.gl.glDisable(paramCapability);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glClearColor</code>.
+     *
+     * @param paramRed <code>float</code>
+     * @param paramGreen <code>float</code>
+     * @param paramBlue <code>float</code>
+     * @param paramAlpha <code>float</code>
+     * @return void
+     */
+    private void glClearColor(float paramRed, float paramGreen, float paramBlue,
+        float paramAlpha) {
+
+      // Declarations
+      final float[] tempClearColor;
+      final boolean changed;
+
+      // Definitions
+      tempClearColor = this.clearColor;
+      changed = tempClearColor[0] != paramRed || tempClearColor[1] != paramGreen
+        || tempClearColor[2] != paramBlue || tempClearColor[3] != paramAlpha;
+
+      if (this.count(changed)) {
+        tempClearColor[0] = paramRed;
+        tempClearColor[1] = paramGreen;
+        tempClearColor[2] = paramBlue;
+        tempClearColor[3] = paramAlpha;
+        this.gl.glClearColor(paramRed, paramGreen, paramBlue, paramAlpha);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glMaterialfv</code>.
+     *
+     * @param paramFace <code>int</code>
+     * @param paramName <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return void
+     */
+    private void glMaterialfv(int paramFace, int paramName, float[] paramValues,
+        int paramOffset) {
+      if (this.materialChanges(paramFace, paramName, paramValues, paramOffset)) {
+        this.gl.glMaterialfv(paramFace, paramName, paramValues, paramOffset);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glMateriali</code>.
+     *
+     * @param paramFace <code>int</code>
+     * @param paramName <code>int</code>
+     * @param paramValue <code>int</code>
+     * @return void
+     */
+    private void glMateriali(int paramFace, int paramName, int paramValue) {
+      this.scalar[0] = paramValue;
+      if (this.materialChanges(paramFace, paramName, this.scalar, 0)) {
+        this.gl.glMateriali(paramFace, paramName, paramValue);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glLightfv</code>.
+     *
+     * @param paramLight <code>int</code>
+     * @param paramName <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return void
+     */
+    private void glLightfv(int paramLight, int paramName, float[] paramValues, int paramOffset) {
+
+      // Declarations
+      final int light, slot;
+
+      // Definitions
+      light = paramLight - GL2.GL_LIGHT0;
+      slot = GLStateCache.colorSlotOf(paramName);
+
+      if (this.count(light < 0 || light >= GLStateCache.LIGHT_COUNT || slot < 0
+          || this.changes(this.lights, (light * 3 + slot) * GLStateCache.SLOT_SIZE, paramValues,
+          paramOffset, GLStateCache.SLOT_SIZE))) {
+        this.gl.glLightfv(paramLight, paramName, paramValues, paramOffset);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glLightModelfv</code>.
+     *
+     * @param paramName <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return void
+     */
+    private void glLightModelfv(int paramName, float[] paramValues, int paramOffset) {
+      if (this.lightModelChanges(paramName, paramValues, paramOffset)) {
+        this.gl.glLightModelfv(paramName, paramValues, paramOffset);
+      }
+    }
+
+    /**
+     * Stands in for <code>GL2#glLightModeli</code>.
+     *
+     * @param paramName <code>int</code>
+     * @param paramValue <code>int</code>
+     * @return void
+     */
+    private void glLightModeli(int paramName, int paramValue) {
+      this.scalar[0] = paramValue;
+      if (this.lightModelChanges(paramName, this.scalar, 0)) {
+        this.gl.glLightModeli(paramName, paramValue);
+      }
+    }
+
+    /**
+     * Summarizes the calls issued and dropped, per frame on average and in the last full frame.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
+
+      // Declaration
+      final long frames;
+
+      // Definition
+      frames = Math.max(1, this.frameCount);
+
+      return String.format("GL state calls: %.1f issued and %.1f dropped per frame over %d "
+        + "frame(s), %d issued and %d dropped in the last", (double) this.totalIssuedCalls / frames,
+        (double) this.totalDroppedCalls / frames, this.frameCount, this.lastIssuedCalls,
+        this.lastDroppedCalls);
+    }
+
+    /**
+     * Records the given enable bit state, returning and counting whether it differs from the
+     * shadowed state. Capabilities not shadowed always differ.
+     *
+     * @param paramCapability <code>int</code>
+     * @param paramState <code>byte</code> <code>ENABLED</code> or <code>DISABLED</code>
+     * @return <code>boolean</code>
+     */
+    private boolean capabilityChanges(int paramCapability, byte paramState) {
+
+      // Declarations
+      int index;
+      final boolean changed;
+
+      // Definitions
+      index = paramCapability - GL2.GL_LIGHT0;
+      if (index < 0 || index >= GLStateCache.LIGHT_COUNT) {
+        index = GLStateCache.LIGHT_COUNT;
+        while (index < this.capabilities.length
+            && GLStateCache.CAPABILITIES[index - GLStateCache.LIGHT_COUNT] != paramCapability) {
+          index++;
+        }
+      }
+      changed = index == this.capabilities.length || this.capabilities[index] != paramState;
+
+      if (changed && index < this.capabilities.length) {
+        this.capabilities[index] = paramState;
+      }
+      return this.count(changed);
+    }
 
     /**
-     * Setter for <code>SceneGLJPanel.lightSourceArrayList</code>
+     * Records the given material parameter for the given face or faces, returning and counting
+     * whether it differs from the shadowed value of any of them.
      *
-     * @param lightSourceArrayList <code>ArrayList</code>
-     * @return void
+     * @param paramFace <code>int</code>
+     * @param paramName <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return <code>boolean</code>
      */
-    private void setLightSourceArrayList(ArrayList<LightSource> lightSourceArrayList) {
-      this.lightSourceArrayList = lightSourceArrayList;
-    }
+    private boolean materialChanges(int paramFace, int paramName, float[] paramValues,
+        int paramOffset) {
 
-    // Getter
+      // Declarations
+      final int slot, length;
+      boolean changed;
+
+      // Definitions
+      slot = GLStateCache.materialSlotOf(paramName);
+      length = (paramName == GL2.GL_SHININESS) ? 1 : GLStateCache.SLOT_SIZE;
+      changed = false;
+
+      if (slot < 0 || (paramFace != GL2.GL_FRONT && paramFace != GL2.GL_BACK
+          && paramFace != GL2.GL_FRONT_AND_BACK)) {
+        return this.count(true);
+      }
+
+      // Both faces are updated, so no short-circuiting here
+      if (paramFace != GL2.GL_BACK) {
+        changed |= this.changes(this.materials, slot * GLStateCache.SLOT_SIZE, paramValues,
+          paramOffset, length);
+      }
+      if (paramFace != GL2.GL_FRONT) {
+        changed |= this.changes(this.materials, (3 + slot) * GLStateCache.SLOT_SIZE, paramValues,
+          paramOffset, length);
+      }
+      return this.count(changed);
+    }
 
     /**
-     * Getter for <code>SceneGLJPanel.lightSourceArrayList</code>
+     * Records the given light model parameter, returning and counting whether it differs from
+     * the shadowed value.
      *
-     * @return lightSourceArrayList <code>ArrayList</code>
+     * @param paramName <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @return <code>boolean</code>
      */
-    private ArrayList<LightSource> getLightSourceArrayList() {
-      return this.lightSourceArrayList;
+    private boolean lightModelChanges(int paramName, float[] paramValues, int paramOffset) {
+      switch (paramName) {
+        case GL2.GL_LIGHT_MODEL_AMBIENT:
+          return this.count(this.changes(this.lightModel, 0, paramValues, paramOffset,
+            GLStateCache.SLOT_SIZE));
+        case GL2.GL_LIGHT_MODEL_TWO_SIDE:
+          return this.count(this.changes(this.lightModel, GLStateCache.SLOT_SIZE, paramValues,
+            paramOffset, 1));
+        case GL2.GL_LIGHT_MODEL_LOCAL_VIEWER:
+          return this.count(this.changes(this.lightModel, 2 * GLStateCache.SLOT_SIZE,
+            paramValues, paramOffset, 1));
+        default:
+          return this.count(true);
+      }
     }
 
-    // Utility methods
-
     /**
-     * This method creates a number of new <code>LightSource</code> instances on demand,
-     * specifically within the body of <code>FourLights.SceneGLEventListener#init</code>. These new
-     * initialized objects are created (the constructors of which then call their own related
-     * configuration handlers via <code>FourLights.LightSource#configureLightSource</code>) and then
-     * shunted into the <code>lightSourceArrayList</code> list for later use in iteration.
+     * Copies the given values over the shadowed ones, returning whether any differed.
      *
-     * @see FourLights.SceneGLEventListener#init
-     * @see FourLights.LightSource#configureLightSource
-     * @return void
+     * @param paramShadow <code>float[]</code>
+     * @param paramShadowOffset <code>int</code>
+     * @param paramValues <code>float[]</code>
+     * @param paramOffset <code>int</code>
+     * @param paramLength <code>int</code>
+     * @return <code>boolean</code>
      */
-    private void constructLightSources() {
+    private boolean changes(float[] paramShadow, int paramShadowOffset, float[] paramValues,
+        int paramOffset, int paramLength) {
 
       // Declaration
-      final ArrayList<LightSource> tempLightSourceArrayList;
+      boolean changed;
 
       // Definition
-      tempLightSourceArrayList = this.getLightSourceArrayList();
-
-      // New red light
-      tempLightSourceArrayList.add(new LightSource(FourLights.this.getRedLight(),
-        GL2.GL_LIGHT1, FourLights.COLOR_1, FourLights.COLOR_1_AMBIENT, 11, 9, -25));
+      changed = false;
 
-      // New green light
-      tempLightSourceArrayList.add(new LightSource(FourLights.this.getGreenLight(),
-        GL2.GL_LIGHT2, FourLights.COLOR_2, FourLights.COLOR_2_AMBIENT, 10, 5, -15));
-
-      // New blue light
-      tempLightSourceArrayList.add(new LightSource(FourLights.this.getBlueLight(),
-        GL2.GL_LIGHT3, FourLights.COLOR_3, FourLights.COLOR_3_AMBIENT, 9, 7, -5));
+      for (int i = 0; i < paramLength; i++) {
+        if (paramShadow[paramShadowOffset + i] != paramValues[paramOffset + i]) {
+          paramShadow[paramShadowOffset + i] = paramValues[paramOffset + i];
+          changed = true;
+        }
+      }
+      return changed;
     }
 
     /**
-     * This method is a helper method called with every repaint by the primary scene event listener
-     * display method, namely <code>FourLights.SceneGLEventListener#display</code>. It handles the
-     * changes in y-axis rotation angle placement of the three primary encircling light sources, the
-     * newly calculated values of which are then passed to all <code>LightSource</code> instances'
-     * <code>FourLights.LightSource#adjustLightSource</code> methods. It also handles the switches
-     * on and off of the viewpoint light.
+     * Counts a call as issued or dropped, passing the verdict through.
      *
-     * @see FourLights.SceneGLEventListener#display
-     * @return void
+     * @param paramIssued <code>boolean</code>
+     * @return <code>boolean</code>
      */
-    private void applyLighting() {
-
-      // Declarations (cache temp variables)
-      final int tempFrameNumber;
-      final GL2 tempGl;
-      final JCheckBox tempViewpointLight;
-      final ArrayList<LightSource> tempLightSourceArrayList;
-      final double[] arrayOfRotationValues;
-
-      // Definitions
-      tempFrameNumber = FourLights.this.getFrameNumber();
-      tempGl = FourLights.this.getGl();
-      tempViewpointLight = FourLights.this.getViewpointLight();
-      tempLightSourceArrayList = this.getLightSourceArrayList();
-      arrayOfRotationValues = new double[] {
-        -tempFrameNumber,
-        (tempFrameNumber + 100) * 0.8743,
-        (tempFrameNumber - 100) * 1.3057
-      };
-
-      // Adds a bit of pseudo-reflection to the lighting balls (helpful when they're switched off)
-      tempGl.glColor3d(0.5, 0.5, 0.5);
-      tempGl.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_SPECULAR, FourLights.BLACK, 0);
-
-      // Toggle viewpoint light source
-      if (tempViewpointLight.isSelected()) {
-          tempGl.glEnable(GL2.GL_LIGHT0);
-          tempGl.glLightfv(GL2.GL_LIGHT0, GL2.GL_DIFFUSE, FourLights.DIM_LIGHTING, 0);
-          tempGl.glLightModeli(GL2.GL_LIGHT_MODEL_TWO_SIDE, 1);
+    private boolean count(boolean paramIssued) {
+      if (paramIssued) {
+        this.issuedCalls++;
+        this.totalIssuedCalls++;
       } else {
-          tempGl.glDisable(GL2.GL_LIGHT0);
+        this.droppedCalls++;
+        this.totalDroppedCalls++;
       }
+      return paramIssued;
+    }
 
-      // Redefine light source y-axis rotational angle values (a bit messy)
-      for (int i = 0; i < tempLightSourceArrayList.size(); i++) {
-        tempLightSourceArrayList.get(i).adjustLightSource(arrayOfRotationValues[i]);
+    /**
+     * Returns the shadow slot of the given material parameter, or -1 for any not shadowed.
+     *
+     * @param paramName <code>int</code>
+     * @return <code>int</code>
+     */
+    private static int materialSlotOf(int paramName) {
+      switch (paramName) {
+        case GL2.GL_EMISSION:
+          return 0;
+        case GL2.GL_SPECULAR:
+          return 1;
+        case GL2.GL_SHININESS:
+          return 2;
+        default:
+          return -1;
       }
-
-      // Turn off emission color
-      tempGl.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, FourLights.BLACK, 0);
     }
 
     /**
-     * As with the above lighting method, this method is called from within the primary scene event
-     * listener's display method, namely <code>FourLights.SceneGLEventListener#display</code>, with
-     * every repaint of the scene. It is responsible for rendering the author's chosen scene object,
-     * a <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">truncated icosahedron</a>,
-     * the vertices, face indices, and normals of which were derived from a class provided in the
-     * Project 2 template files package, namely <code>Polyhedron</code>. A copy of the class may be
-     * found <a href="http://math.hws.edu/graphicsbook/source/jogl/Polyhedron.java">here</a>. They
-     * are included in this program in the below inner static class, aptly named
-     * <code>FourLights.TruncatedIcosahedron</code>.
+     * Returns the shadow slot of the given light color parameter, or -1 for any other.
      *
-     * @see FourLights.TruncatedIcosahedron
-     * @see FourLights.SceneGLEventListener#display
-     * @return void
+     * @param paramName <code>int</code>
+     * @return <code>int</code>
      */
-    private void drawShape() {
+    private static int colorSlotOf(int paramName) {
+      switch (paramName) {
+        case GL2.GL_AMBIENT:
+          return 0;
+        case GL2.GL_DIFFUSE:
+          return 1;
+        case GL2.GL_SPECULAR:
+          return 2;
+        default:
+          return -1;
+      }
+    }
+  }
 
-      // Declarations
-      final GL2 tempGl;
-      final int[][] tempFaces;
-      final double[][] tempNormals, tempVertices;
+  /**
+   * This static class follows the program from the start of the JVM to its first frame, marking
+   * when each phase of that stretch begins and ends, and runs alongside it the two pieces of work
+   * nothing else waits on until late. Loading JOGL's native libraries and probing the GL profiles
+   * the machine offers, which <code>new GLCapabilities(null)</code> would otherwise do on the
+   * spot, is started on its own thread as soon as the options are known, while the scene's
+   * classes load and its meshes are read; and the retained renderer's vertex and index data is
+   * built on another while the window and the GL context are created, as both need only the
+   * mesh. Each is awaited where its result is first needed, or, with
+   * <code>--startup-serial</code>, run right there as it always was, for comparison.
+   * <br />
+   * <br />
+   * With <code>--startup-report</code>, the phases are printed once the first frame has been
+   * shown, in milliseconds since the start of the JVM, those run alongside others marked as
+   * such, and the window then closed, so that the same run may serve to record an AppCDS archive
+   * of the classes it loaded. The class count and the JVM's start time are only asked of the
+   * management beans then, such that loading those does not count against the startup measured.
+   *
+   * @see FourLights.LaunchOptions
+   * @author Andrew Eissen
+   */
+  private final static class StartupProfile {
 
-      // Definitions (cache values)
-      tempGl = FourLights.this.getGl();
-      tempFaces = FourLights.TruncatedIcosahedron.getFaces();
-      tempNormals = FourLights.TruncatedIcosahedron.getNormals();
-      tempVertices = FourLights.TruncatedIcosahedron.getVertices();
+    /** Phase from the start of the JVM to the entry of <code>main</code> */
+    private final static int JVM = 0;
 
-      // Clone new matrix copy
-      tempGl.glPushMatrix();
+    /** Phase parsing the options and loading and initializing the classes of the program */
+    private final static int CLASSES = 1;
 
-      // Apply default scaling to this matrix
-      tempGl.glScaled(FourLights.OBJECT_SCALE, FourLights.OBJECT_SCALE, FourLights.OBJECT_SCALE);
+    /** Phase loading JOGL's native libraries and probing the GL profiles */
+    private final static int NATIVES = 2;
 
-      // Apply translation to matrix using centerpoint coordinates
-      tempGl.glTranslated(0, 0, 0);
+    /** Phase setting the scene up, reading any meshes and building any scene graph */
+    private final static int SCENE = 3;
 
-      // Iterate through the object's faces
-      for (int i = 0; i < tempFaces.length; i++) {
+    /** Phase building the vertex and index data of the retained renderer */
+    private final static int MESH = 4;
 
-        // New matrix copy on top for each face
-        tempGl.glPushMatrix();
+    /** Phase building and showing the window */
+    private final static int WINDOW = 5;
 
-        // Draw the faces (GL2.GL_TRIANGLE_FAN colors triangle primative slices between vertices)
-        this.drawShape(tempGl, FourLights.PRIMARY_FACE_COLOR, tempFaces, tempVertices,
-          tempNormals[i], GL2.GL_TRIANGLE_FAN, i);
+    /** Phase from the drawable being shown or created to the call of <code>init</code> */
+    private final static int CONTEXT = 6;
 
-        // Draw black borders between vertices w/ GL_LINE_LOOP
-        this.drawShape(tempGl, FourLights.BLACK, tempFaces, tempVertices, tempNormals[i],
-          GL2.GL_LINE_LOOP, i);
+    /** Phase of <code>FourLights.SceneGLEventListener#init</code> */
+    private final static int INIT = 7;
 
-        // Remove face matrix copy
-        tempGl.glPopMatrix();
-      }
+    /** Phase of the first <code>FourLights.SceneGLEventListener#display</code> */
+    private final static int DISPLAY = 8;
 
-      // Delete this master matrix copy/restore to original matrix copy
-      tempGl.glPopMatrix();
+    /** Phase from the end of the first display to its frame being shown or read back */
+    private final static int PRESENT = 9;
+
+    /** Names of the phases, by index */
+    private final static String[] PHASE_NAMES = {"jvm", "classes", "natives", "scene", "mesh",
+      "window", "context", "init", "display", "present"};
+
+    // Class fields
+    private final long mainNanos, mainMillis;
+    private final long[] starts, ends;
+    private final boolean serial, report;
+    private StartupTask nativesTask, meshTask;
+
+    /**
+     * Parameterized constructor
+     *
+     * @param mainNanos <code>long</code> <code>System#nanoTime</code> on entering
+     *     <code>main</code>
+     * @param mainMillis <code>long</code> <code>System#currentTimeMillis</code> on entering
+     *     <code>main</code>
+     * @param options <code>LaunchOptions</code>
+     */
+    private StartupProfile(long mainNanos, long mainMillis, LaunchOptions options) {
+      this.mainNanos = mainNanos;
+      this.mainMillis = mainMillis;
+      this.starts = new long[StartupProfile.PHASE_NAMES.length];
+      this.ends = new long[StartupProfile.PHASE_NAMES.length];
+      this.serial = options.isStartupSerial();
+      this.report = options.isStartupReport();
+      this.begin(StartupProfile.CLASSES, mainNanos);
     }
 
+    // Getters
+
     /**
-     * This method is an overloaded method of that above it, used by that method as an extended
-     * helper method that paints the faces of the truncated icosohedron and renders each face's
-     * black borders. It basically assembles the vertices as specified in the faces list by the
-     * <code>int</code> indices associated with each vertex, setting the colors and normals
-     * accordingly. As this function is run twice per loop iteration in the above method, the author
-     * decided to simply pass the needed arrays and primatives as parameters rather than make a
-     * large number of accessor method invocations for every run of this method.
-     * <br />
-     * <br />
-     * Originally, it was within this method that the author called a separate helper function,
-     * namely <code>FourLights.SceneGLJPanel#calculateNormal</code>, to help calculate the normals
-     * for each face to ensure that lighting occurred as expected. However, upon realizing that the
-     * <code>Polyhedron.java</code> class already listed normals, the author commented out the
-     * method invocation in favor of using a faster, preassembled array. However, uncommenting the
-     * line and commenting out the usage of the hardcoded array will demonstrate that the method
-     * calculates the same normals and behaves the same way as expected.
+     * Getter for <code>StartupProfile.serial</code>
      *
-     * @param paramGl <code>GL2</code> cached copy
-     * @param paramColorArray <code>float[]</code>
-     * @param paramFaces <code>int[][]</code> cached copy
-     * @param paramVertices <code>double[][]</code> cached copy
-     * @param paramNormals <code>double[]</code> cached copy
-     * @param paramImmediateMode <code>int</code>
-     * @param paramCounter <code>int</code>
+     * @return serial <code>boolean</code>
+     */
+    private boolean isSerial() {
+      return this.serial;
+    }
+
+    /**
+     * Getter for <code>StartupProfile.report</code>
+     *
+     * @return report <code>boolean</code>
+     */
+    private boolean isReport() {
+      return this.report;
+    }
+
+    // Utility methods
+
+    /**
+     * Marks the start of the given phase, should it not have started already.
+     *
+     * @param paramPhase <code>int</code>
      * @return void
      */
-    private void drawShape(GL2 paramGl, float[] paramColorArray, int[][] paramFaces,
-        double[][] paramVertices, double[] paramNormals, int paramImmediateMode, int paramCounter) {
+    private void begin(int paramPhase) {
+      this.begin(paramPhase, System.nanoTime());
+    }
 
-      // Declaration
-      int vertexIndex;
+    /**
+     * Marks the start of the given phase at the given time, should it not have started already.
+     *
+     * @param paramPhase <code>int</code>
+     * @param paramNanos <code>long</code>
+     * @return void
+     */
+    private void begin(int paramPhase, long paramNanos) {
+      if (this.starts[paramPhase] == 0) {
+        this.starts[paramPhase] = paramNanos;
+      }
+    }
 
-      // Set OpenGL float color values for red, green, blue
-      paramGl.glColor3f(paramColorArray[0], paramColorArray[1], paramColorArray[2]);
+    /**
+     * Marks the end of the given phase, should it have started and not yet ended.
+     *
+     * @param paramPhase <code>int</code>
+     * @return void
+     */
+    private void end(int paramPhase) {
+      if (this.starts[paramPhase] != 0 && this.ends[paramPhase] == 0) {
+        this.ends[paramPhase] = System.nanoTime();
+      }
+    }
 
-      // Provide mode (GL2.GL_TRIANGLE_FAN suggested for faces)
-      paramGl.glBegin(paramImmediateMode);
+    /**
+     * Loads and initializes every class of the program up front, as the last of the class
+     * loading phase, such that the phase holds the whole of it rather than the loading being
+     * spread across the first use of each class, and starts the loading of JOGL's natives before
+     * it, should the GL backend be in use.
+     *
+     * @param paramNatives <code>boolean</code> whether JOGL will be used
+     * @return void
+     */
+    private void loadClasses(boolean paramNatives) {
+      if (paramNatives && !this.isSerial()) {
+        this.nativesTask = new StartupTask(this, StartupProfile.NATIVES, null);
+        this.nativesTask.start();
+      }
 
-      // Set face normal prior to vertices definitions
-      paramGl.glNormal3dv(paramNormals, 0);
+      try {
+        for (Class<?> nested : FourLights.class.getDeclaredClasses()) {
+          Class.forName(nested.getName(), true, FourLights.class.getClassLoader());
+        }
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException("Could not load " + e.getMessage(), e);
+      }
+      this.end(StartupProfile.CLASSES);
+      this.begin(StartupProfile.SCENE);
+    }
 
-      // Originally, before realizing Polyhedron.java listed normals, these were calculated below
-      //this.calculateNormal(paramGl, paramVertices, paramFaces[paramCounter]);
+    /**
+     * Ends the scene setup and starts building the retained renderer's data for the given mesh,
+     * should the GL backend be in use, unless the startup is serial.
+     *
+     * @param paramRenderer <code>RetainedShapeRenderer</code>, or <code>null</code> if unused
+     * @param paramMesh <code>PolyhedronMesh</code>
+     * @return void
+     */
+    private void prepareMesh(RetainedShapeRenderer paramRenderer, PolyhedronMesh paramMesh) {
+      this.end(StartupProfile.SCENE);
+      if (paramRenderer != null && !this.isSerial()) {
+        paramRenderer.setPreparedMesh(paramMesh);
+        this.meshTask = new StartupTask(this, StartupProfile.MESH, paramRenderer);
+        this.meshTask.start();
+      }
+    }
 
-      // Build vertices
-      for (int i = 0; i < paramFaces[paramCounter].length; i++) {
-        vertexIndex = paramFaces[paramCounter][i];
-        paramGl.glVertex3dv(paramVertices[vertexIndex], 0);
+    /**
+     * Waits for JOGL's natives to have loaded, loading them here and now if the startup is
+     * serial.
+     *
+     * @return void
+     */
+    private void awaitNatives() {
+      if (this.nativesTask == null) {
+        this.nativesTask = new StartupTask(this, StartupProfile.NATIVES, null);
+        this.nativesTask.run();
       }
+      this.nativesTask.await();
+    }
 
-      // Complete primitive assembly
-      paramGl.glEnd();
+    /**
+     * Waits for the retained renderer's data to have been built, should it have been started.
+     *
+     * @return void
+     */
+    private void awaitMesh() {
+      if (this.meshTask != null) {
+        this.meshTask.await();
+      }
     }
 
     /**
-     * This unused helper method was created personally by the author using the OpenGL wiki's
-     * <a href="https://www.khronos.org/opengl/wiki/Calculating_a_Surface_Normal">pseudo-code</a>
-     * for calculating face normals. This was prior to his realization that the aforementioned
-     * template files class <code>Polyhedron.java</code> included the normal values as well as the
-     * vertices and faces list in its contents. Regardless, as this class may have some use for
-     * other students, the author has seen fit to leave it in just in case.
+     * Marks the first frame as shown and, with <code>--startup-report</code>, prints the phases,
+     * exiting afterwards if asked to.
      *
-     * @see <a href="https://www.khronos.org/opengl/wiki/Calculating_a_Surface_Normal">Calculating a
-     *      Surface Normal</a>
-     * @param paramGl <code>GL2</code> instance, cached from two methods above
-     * @param paramVertices <code>double[][]</code> two-dimensional array listing vertices
-     * @param paramFaceIndices <code>int[]</code> single line from two-dimensional vertex index face
-     *        array listing.
+     * @param paramExit <code>boolean</code> whether to exit once printed
      * @return void
      */
-    private void calculateNormal(GL2 paramGl, double[][] paramVertices, int[] paramFaceIndices) {
+    private void presented(boolean paramExit) {
+      if (this.ends[StartupProfile.DISPLAY] == 0 || this.ends[StartupProfile.PRESENT] != 0) {
+        return;
+      }
+      this.end(StartupProfile.PRESENT);
+      if (this.isReport()) {
+        System.out.print(this.describe());
+        if (paramExit) {
+          System.exit(0);
+        }
+      }
+    }
+
+    /**
+     * Returns the phases reached, one per line, in milliseconds since the start of the JVM,
+     * followed by the time to the first frame, the classes loaded by then, and whether a class
+     * data sharing archive was in use.
+     *
+     * @return <code>String</code>
+     */
+    private String describe() {
 
       // Declarations
-      int pointLength, j;
-      double normalX, normalY, normalZ;
-      final double[][] points;
+      final java.lang.management.RuntimeMXBean runtime;
+      final StringBuilder lines;
+      final double jvmMillis;
+      String archive;
 
-      // Definition
-      points = new double[paramFaceIndices.length][];
+      // Definitions
+      runtime = ManagementFactory.getRuntimeMXBean();
+      lines = new StringBuilder();
+      jvmMillis = this.mainMillis - runtime.getStartTime();
+      archive = "default CDS archive only";
 
-      // Add vertices at those face indices to array
-      for (int i = 0; i < paramFaceIndices.length; i++) {
-        points[i] = paramVertices[paramFaceIndices[i]];
+      for (String argument : runtime.getInputArguments()) {
+        if (argument.startsWith("-XX:SharedArchiveFile=")) {
+          archive = "AppCDS archive " + argument.substring(argument.indexOf('=') + 1);
+        }
       }
 
-      // More definitions
-      pointLength = points.length;
-      normalX = normalY = normalZ = 0;
+      lines.append(String.format("Startup phases, in ms since JVM start:%n"));
+      lines.append(String.format("  %-8s %9s %9s %9s%n", "phase", "start", "end", "length"));
+      lines.append(String.format("  %-8s %9.1f %9.1f %9.1f%n", StartupProfile.PHASE_NAMES[0],
+        0.0, jvmMillis, jvmMillis));
+      for (int i = 1; i < StartupProfile.PHASE_NAMES.length; i++) {
+        if (this.starts[i] != 0 && this.ends[i] != 0) {
+          lines.append(String.format("  %-8s %9.1f %9.1f %9.1f%s%n",
+            StartupProfile.PHASE_NAMES[i], jvmMillis + (this.starts[i] - this.mainNanos) / 1e6,
+            jvmMillis + (this.ends[i] - this.mainNanos) / 1e6,
+            (this.ends[i] - this.starts[i]) / 1e6,
+            (i == StartupProfile.NATIVES || i == StartupProfile.MESH) && !this.isSerial()
+              ? "  alongside" : ""));
+        }
+      }
+      lines.append(String.format("First frame after %.1f ms; %d classes loaded; %s%n",
+        jvmMillis + (this.ends[StartupProfile.PRESENT] - this.mainNanos) / 1e6,
+        ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(), archive));
+      return lines.toString();
+    }
 
-      // Cross products based on pseudocode formulas
-      for (int i = 0; i < pointLength; i++) {
-        j = (i + 1) % pointLength;
-        normalX += (points[i][1] - points[j][1]) * (points[i][2] + points[j][2]);
-        normalY += (points[i][2] - points[j][2]) * (points[i][0] + points[j][0]);
-        normalZ += (points[i][0] - points[j][0]) * (points[i][1] + points[j][1]);
+    /**
+     * This class runs one piece of the startup work, the loading of JOGL's natives or the
+     * building of the retained renderer's data, on its own thread or inline, marking the phase
+     * as it goes. Anything it throws is handed over to the thread that awaits it.
+     *
+     * @author Andrew Eissen
+     */
+    private final static class StartupTask extends Thread {
+
+      // Class fields
+      private final StartupProfile profile;
+      private final int phase;
+      private final RetainedShapeRenderer renderer;
+      private RuntimeException failure;
+
+      /**
+       * Parameterized constructor
+       *
+       * @param profile <code>StartupProfile</code>
+       * @param phase <code>int</code> <code>NATIVES</code> or <code>MESH</code>
+       * @param renderer <code>RetainedShapeRenderer</code>, for the <code>MESH</code> phase
+       */
+      private StartupTask(StartupProfile profile, int phase, RetainedShapeRenderer renderer) {
+        super("startup-" + StartupProfile.PHASE_NAMES[phase]);
+        this.profile = profile;
+        this.phase = phase;
+        this.renderer = renderer;
+        this.setDaemon(true);
       }
 
-      // Apply normal
-      paramGl.glNormal3d(normalX, normalY, normalZ);
+      /**
+       * Does the phase's work between its marks.
+       *
+       * @see java.lang.Thread#run
+       * @return void
+       */
+      @Override
+      public void run() {
+        this.profile.begin(this.phase);
+        try {
+          if (this.phase == StartupProfile.NATIVES) {
+            GLProfile.initSingleton();
+          } else {
+            this.renderer.prepare();
+          }
+        } catch (RuntimeException e) {
+          this.failure = e;
+        }
+        this.profile.end(this.phase);
+      }
+
+      /**
+       * Waits for the work to finish, should it run on its own thread, and rethrows anything it
+       * threw.
+       *
+       * @return void
+       */
+      private void await() {
+        try {
+          if (this.getState() != Thread.State.NEW) {
+            this.join();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        if (this.failure != null) {
+          throw this.failure;
+        }
+      }
     }
   }
 
   /**
-   * This class serves the primary scene event listener of the program, implementing the required
-   * <code>GLEventListener</code> interface. However, only <code>GLEventListener#init</code> and
-   * <code>GLEventListener#display</code> were fully implemented due to their importance in
-   * initializing the scene and refreshing and updating its contents as required with each change.
-   * As per the <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single
-   * responsibility principle</a>, the code contained herein is only related to refreshing the scene
-   * and handling the elements contained therein.
+   * This class is the shutdown hook registered when the program is run with <code>--timing</code>,
+   * writing the collected timings out as JSON as the program exits, whether by the window being
+   * closed or the headless render finishing.
    *
-   * @see com.jogamp.opengl.GLEventListener
-   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   * @see FourLights.FrameTimings#writeJson
+   * @author Andrew Eissen
    */
-  private final class SceneGLEventListener implements GLEventListener {
+  private final class TimingDump extends Thread {
+
+    // Class fields
+    private final String outputPath;
 
     /**
-     * One of the four required methods of the <code>GLEventListener</code> interface, this method
-     * renders the original scene, defining all the necessary lighting modes and models; begins the
-     * initialization of new <code>LightSource</code> objects; and defines the global
-     * <code>GL2</code> instance used by all methods in other inner classes in coordination with
-     * this one.
+     * Parameterized constructor
      *
-     * @see com.jogamp.opengl.GLEventListener#init
-     * @param drawable <code>GLAutoDrawable</code>
+     * @param outputPath <code>String</code>, or <code>null</code> for standard output
+     */
+    private TimingDump(String outputPath) {
+      this.outputPath = outputPath;
+    }
+
+    /**
+     * Writes the timings.
+     *
+     * @see java.lang.Thread#run
      * @return void
      */
     @Override
-    public void init(GLAutoDrawable drawable) {
+    public void run() {
+      FourLights.this.getFrameTimings().writeJson(this.outputPath);
+    }
+  }
+
+  /**
+   * This static class keeps the per-phase frame timings recorded when the program is run with
+   * <code>--timing</code>. Each phase of <code>FourLights.SceneGLEventListener#display</code> is
+   * timed by calling <code>FourLights.FrameTimings#mark</code> at the start of the frame and
+   * <code>FourLights.FrameTimings#lap</code> at the end of each phase, which records both the
+   * wall-clock and the thread CPU time since the previous mark or lap into that phase's pair of
+   * <code>FourLights.LatencyHistogram</code> instances. The time <code>GLJPanel</code> then spends
+   * reading the frame back and painting it, or in <code>--headless</code> mode waiting for and
+   * reading back the last frame, is recorded as the <code>present</code> phase, and the whole of
+   * <code>display</code> as the <code>frame</code> phase.
+   * <br />
+   * <br />
+   * All storage is allocated by the constructor, so recording allocates nothing. When timing is
+   * off, no instance exists at all and the scene's only cost is a <code>null</code> check per
+   * phase. The histograms are written and read from the rendering thread, with the exception of
+   * the final JSON dump made from a shutdown hook, which may miss a frame in flight.
+   *
+   * @see FourLights.LatencyHistogram
+   * @author Andrew Eissen
+   */
+  private final static class FrameTimings {
+
+    /** Phase covering <code>glClear</code> */
+    private final static int CLEAR = 0;
+
+    /** Phase covering <code>FourLights.SceneGLEventListener#applyCamera</code> */
+    private final static int CAMERA = 1;
+
+    /** Phase covering <code>FourLights.SceneGLEventListener#applyLighting</code> */
+    private final static int LIGHTING = 2;
+
+    /** Phase covering the global ambient light and material setup */
+    private final static int AMBIENT = 3;
+
+    /** Phase covering <code>FourLights.SceneGLEventListener#drawShape</code> */
+    private final static int SHAPE = 4;
+
+    /** Phase covering the readback and painting of the finished frame */
+    private final static int PRESENT = 5;
+
+    /** Phase covering the whole of <code>FourLights.SceneGLEventListener#display</code> */
+    private final static int FRAME = 6;
+
+    /** Fixed-width font of the overlay, so that its columns line up */
+    private final static Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    /** Names of the phases, in index order, as shown in the overlay and the JSON dump */
+    private final static String[] PHASE_NAMES = {"clear", "camera", "lighting", "ambient", "shape",
+      "present", "frame"};
+
+    // Class fields
+    private final LatencyHistogram[] wallTimes, cpuTimes;
+    private final java.lang.management.ThreadMXBean threadBean;
+    private final boolean overlay;
+    private long markWall, markCpu, frameWall, frameCpu, presentWall, presentCpu;
+    private boolean presentPending;
 
-      // Declaration
-      final GL2 tempGl;
-      final SceneGLJPanel tempScenePanel;
+    /**
+     * Parameterized constructor
+     *
+     * @param overlay <code>boolean</code> whether the overlay is painted over the scene
+     */
+    private FrameTimings(boolean overlay) {
+      this.wallTimes = new LatencyHistogram[FrameTimings.PHASE_NAMES.length];
+      this.cpuTimes = new LatencyHistogram[FrameTimings.PHASE_NAMES.length];
+      for (int i = 0; i < FrameTimings.PHASE_NAMES.length; i++) {
+        this.wallTimes[i] = new LatencyHistogram();
+        this.cpuTimes[i] = new LatencyHistogram();
+      }
+      this.threadBean = ManagementFactory.getThreadMXBean();
+      this.overlay = overlay;
+    }
 
-      // Definitions
-      tempGl = drawable.getGL().getGL2();
-      tempScenePanel = FourLights.this.getScenePanel();
+    // Getters
 
-      // Set as class GL2 instance
-      FourLights.this.setGl(tempGl);
+    /**
+     * Getter for <code>FrameTimings.overlay</code>
+     *
+     * @return overlay <code>boolean</code>
+     */
+    private boolean isOverlay() {
+      return this.overlay;
+    }
 
-      tempGl.glClearColor(0, 0, 0, 1); // black background
-      tempGl.glEnable(GL2.GL_DEPTH_TEST);
-      tempGl.glEnable(GL2.GL_LIGHTING);
-      tempGl.glEnable(GL2.GL_LIGHT0);
-      tempGl.glEnable(GL2.GL_NORMALIZE);
-      tempGl.glEnable(GL2.GL_COLOR_MATERIAL);
-      tempGl.glLightModeli(GL2.GL_LIGHT_MODEL_LOCAL_VIEWER, 1);
-      tempGl.glMateriali(GL2.GL_FRONT_AND_BACK, GL2.GL_SHININESS, 32);
+    // Utility methods
 
-      // Initialize new LightSource instances, allowing them to configure individually
-      tempScenePanel.constructLightSources();
+    /**
+     * Marks the start of a frame, from which the first phase and the whole frame are timed.
+     *
+     * @return void
+     */
+    private void mark() {
+      this.markWall = this.frameWall = System.nanoTime();
+      this.markCpu = this.frameCpu = this.cpuTime();
     }
 
     /**
-     * The other defined method of the four total methods required for implementation of the
-     * <code>GLEventListener</code> interface, this method is called every time the scene is
-     * refreshed to paint the scene objects anew in accordance with whatever transformations have
-     * been applied and whatever check boxes have been clicked. This method's contents were taken
-     * from the original version of the file and modified with extracts from the fellow template
-     * <code>UnlitCube.java</code> as needed.
+     * Records the time since the last mark or lap against the given phase and starts the next.
      *
-     * @see com.jogamp.opengl.GLEventListener#display
-     * @param drawable <code>GLAutoDrawable</code>
+     * @param paramPhase <code>int</code>
      * @return void
      */
-    @Override
-    public void display(GLAutoDrawable drawable) {
+    private void lap(int paramPhase) {
 
       // Declarations
-      final GL2 tempGl;
-      final Camera tempCamera;
-      final SceneGLJPanel tempScenePanel;
-      final JCheckBox tempAmbientLight;
+      final long wall, cpu;
 
       // Definitions
-      tempGl = FourLights.this.getGl();
-      tempCamera = FourLights.this.getSceneCamera();
-      tempScenePanel = FourLights.this.getScenePanel();
-      tempAmbientLight = FourLights.this.getAmbientLight();
-
-      // From UnlitCube.java
-      tempGl.glClearColor(0, 0, 0, 0);
-      tempGl.glClear(GL2.GL_COLOR_BUFFER_BIT | GL2.GL_DEPTH_BUFFER_BIT);
+      wall = System.nanoTime();
+      cpu = this.cpuTime();
 
-      // Apply GL2 instance to Camera instance
-      tempCamera.apply(tempGl);
+      this.wallTimes[paramPhase].record(wall - this.markWall);
+      this.cpuTimes[paramPhase].record(cpu - this.markCpu);
+      this.markWall = wall;
+      this.markCpu = cpu;
+    }
 
-      // Changing lighting of all the LightSource elements per change in their rotations
-      tempScenePanel.applyLighting();
+    /**
+     * Records the whole frame since <code>FourLights.FrameTimings#mark</code> and starts timing
+     * the presentation of the frame, which <code>FourLights.FrameTimings#endPresent</code> ends.
+     *
+     * @return void
+     */
+    private void endFrame() {
+      this.presentWall = System.nanoTime();
+      this.presentCpu = this.cpuTime();
+      this.wallTimes[FrameTimings.FRAME].record(this.presentWall - this.frameWall);
+      this.cpuTimes[FrameTimings.FRAME].record(this.presentCpu - this.frameCpu);
+      this.presentPending = true;
+    }
 
-      // Handle the selection of global ambient lighting if applied by user
-      if (tempAmbientLight.isSelected()) {
-          tempGl.glLightModelfv(GL2.GL_LIGHT_MODEL_AMBIENT, FourLights.GLOBAL_AMBIENT, 0);
-      } else {
-          tempGl.glLightModelfv(GL2.GL_LIGHT_MODEL_AMBIENT, FourLights.BLACK, 0);
+    /**
+     * Records the presentation of the last frame, if one has been drawn since the last call. A
+     * panel repainted from its existing image records nothing.
+     *
+     * @return void
+     */
+    private void endPresent() {
+      if (this.presentPending) {
+        this.presentPending = false;
+        this.wallTimes[FrameTimings.PRESENT].record(System.nanoTime() - this.presentWall);
+        this.cpuTimes[FrameTimings.PRESENT].record(this.cpuTime() - this.presentCpu);
       }
+    }
 
-      tempGl.glColor3d(0.7, 0.7, 0.7);
-      tempGl.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_SPECULAR, FourLights.BLACK, 0);
-      tempScenePanel.drawShape();
+    /**
+     * Returns the CPU time used so far by the current thread, or zero where it is not measured.
+     *
+     * @return <code>long</code>
+     */
+    private long cpuTime() {
+      return (this.threadBean.isCurrentThreadCpuTimeSupported())
+        ? this.threadBean.getCurrentThreadCpuTime()
+        : 0;
     }
 
     /**
-     * Noop method required by <code>GLEventListener</code>
+     * Draws a small table of wall-clock percentiles, in microseconds, over the top left of the
+     * scene panel. This builds strings, so it is only ever called with the overlay switched on.
      *
-     * @see com.jogamp.opengl.GLEventListener#reshape
-     * @param drawable <code>GLAutoDrawable</code>
-     * @param i <code>int</code>
-     * @param i1 <code>int</code>
-     * @param i2 <code>int</code>
-     * @param i3 <code>int</code>
+     * @param paramGraphics <code>Graphics</code>
      * @return void
      */
-    @Override
-    public void reshape(GLAutoDrawable drawable, int i, int i1, int i2, int i3) {}
+    private void paintOverlay(Graphics paramGraphics) {
+
+      // Declarations
+      final int lineHeight;
+      LatencyHistogram histogram;
+
+      // Definitions
+      paramGraphics.setFont(FrameTimings.OVERLAY_FONT);
+      lineHeight = paramGraphics.getFontMetrics().getHeight();
+
+      paramGraphics.setColor(Color.WHITE);
+      paramGraphics.drawString(String.format("%-9s %8s %8s %8s", "us", "p50", "p99", "p99.9"),
+        8, lineHeight);
+      for (int i = 0; i < FrameTimings.PHASE_NAMES.length; i++) {
+        histogram = this.wallTimes[i];
+        paramGraphics.drawString(String.format("%-9s %8.1f %8.1f %8.1f",
+          FrameTimings.PHASE_NAMES[i], histogram.percentile(0.5) / 1e3,
+          histogram.percentile(0.99) / 1e3, histogram.percentile(0.999) / 1e3), 8,
+          lineHeight * (i + 2));
+      }
+    }
 
     /**
-     * Noop method required by <code>GLEventListener</code>
+     * Writes every phase's wall-clock and CPU time statistics to the given path as JSON, or to
+     * standard output if the path is <code>null</code>. Times are given in microseconds.
      *
-     * @see com.jogamp.opengl.GLEventListener#dispose
-     * @param drawable <code>GLAutoDrawable</code>
+     * @param paramPath <code>String</code>
      * @return void
      */
-    @Override
-    public void dispose(GLAutoDrawable drawable) {}
+    private void writeJson(String paramPath) {
+
+      // Declaration
+      final StringBuilder json;
+
+      // Definition
+      json = new StringBuilder("{\n  \"unit\": \"us\",\n  \"phases\": {\n");
+
+      for (int i = 0; i < FrameTimings.PHASE_NAMES.length; i++) {
+        json.append("    \"").append(FrameTimings.PHASE_NAMES[i]).append("\": {\"wall\": ");
+        this.wallTimes[i].appendJson(json);
+        json.append(", \"cpu\": ");
+        this.cpuTimes[i].appendJson(json);
+        json.append((i + 1 < FrameTimings.PHASE_NAMES.length) ? "},\n" : "}\n");
+      }
+      json.append("  }\n}\n");
+
+      if (paramPath == null) {
+        System.out.print(json);
+      } else {
+        try {
+          Files.write(Paths.get(paramPath), json.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+          throw new UncheckedIOException("Could not write timings to " + paramPath, e);
+        }
+      }
+    }
   }
 
   /**
-   * This class serves as the primary encapsulating construct used to define and create new rotating
-   * light ball units that encircle the main object of the scene, in the case of this program, the
-   * truncated icosahedron. Originally, one of the author's previous implementations of this project
-   * had the light sources created within the <code>FourLights.SceneGLEventListener#init</code>
-   * method using some helper methods. However, the code used grew to the point of becoming
-   * difficult to read and stretched across several inner classes, leading the author to consolidate
-   * all code related to the light objects in a separate inner class, in accordance with the
-   * <a href="https://en.wikipedia.org/wiki/Single_responsibility_principle">single responsibility
-   * principle</a>, a paradigm which undergird the author's rewrite at a base level.
+   * This static class records the input that decides what the window draws, such that
+   * <code>--replay</code> may draw the very same frames again offscreen. The log is a compact
+   * binary one: after a header holding <code>InputRecorder.MAGIC</code> and
+   * <code>InputRecorder.VERSION</code>, each event is written as its type byte, the milliseconds
+   * since recording began, and its values. There are but three types of event. A
+   * <code>SWITCHES</code> event holds every light switch as one bit of a byte, written once at
+   * the start and again with every click of a check box. A <code>CAMERA</code> event holds the
+   * eye, center, and up vectors as nine doubles, written whenever
+   * <code>FourLights.SceneGLEventListener#applyCamera</code> reads them back from the dragged
+   * trackball. A <code>FRAME</code> event holds the scene time of a frame, written as the frame
+   * is finished, such that every event preceding it went into its drawing. The render loop's
+   * jitter thus never reaches the log, which only holds the scene times the fixed-step
+   * <code>FourLights.SimulationClock</code> handed out.
+   * <br />
+   * <br />
+   * Events may arrive from the event dispatch thread and the render loop alike, so every method
+   * writing one is synchronized. They are buffered, and the log is closed by this class doubling
+   * as a shutdown hook.
    *
-   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
+   * @see FourLights.InputReplay
+   * @author Andrew Eissen
    */
-  private final class LightSource {
+  private final static class InputRecorder extends Thread {
+
+    /** First bytes of an input log, being <code>"FLIR"</code> in ASCII */
+    private final static int MAGIC = 0x464C4952;
+
+    /** Version of the input log format, to be raised whenever it changes */
+    private final static int VERSION = 1;
+
+    /** Event type of a frame finished, followed by its scene time */
+    private final static byte FRAME = 0;
+
+    /** Event type of the light switches changing, followed by a byte of switch bits */
+    private final static byte SWITCHES = 1;
+
+    /** Event type of the camera moving, followed by the eye, center, and up vectors */
+    private final static byte CAMERA = 2;
 
     // Class fields
-    private JCheckBox checkBox;
-    private int lightType;
-    private float[] color, colorAmbient;
-    private double translateX, translateY, translateZ;
+    private final String path;
+    private final DataOutputStream output;
+    private final long startNanos;
+    private IOException failure;
+    private long eventCount;
 
     /**
-     * Parameterized constructor
+     * Parameterized constructor, opening the log and writing the header along with the current
+     * light switches and camera
      *
-     * @param checkBox <code>JCheckBox</code>
-     * @param lightType <code>int</code>
-     * @param color <code>float[][]</code>
-     * @param colorAmbient <code>float[][]</code>
-     * @param translateX <code>double</code>
-     * @param translateY <code>double</code>
-     * @param translateZ <code>double</code>
+     * @param paramPath <code>String</code>
+     * @param paramSwitches <code>boolean[]</code>
+     * @param paramCameraView <code>double[][]</code> holding the eye, center, and up vectors
      */
-    private LightSource(JCheckBox checkBox, int lightType, float[] color, float[] colorAmbient,
-        double translateX, double translateY, double translateZ) {
-
-      // Set fields
-      this.setCheckBox(checkBox);
-      this.setLightType(lightType);
-      this.setColor(color);
-      this.setColorAmbient(colorAmbient);
-      this.setTranslateX(translateX);
-      this.setTranslateY(translateY);
-      this.setTranslateZ(translateZ);
+    private InputRecorder(String paramPath, boolean[] paramSwitches,
+        double[][] paramCameraView) {
+      super("FourLights input recorder");
+      this.path = paramPath;
+      this.startNanos = System.nanoTime();
 
-      // Set individual configuration
-      this.configureLightSource();
+      try {
+        this.output = new DataOutputStream(new BufferedOutputStream(
+          Files.newOutputStream(Paths.get(paramPath))));
+        this.output.writeInt(InputRecorder.MAGIC);
+        this.output.writeInt(InputRecorder.VERSION);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not record input to " + paramPath, e);
+      }
+      this.switches(paramSwitches);
+      this.camera(paramCameraView);
     }
 
-    // Setters
+    // Utility methods
 
     /**
-     * Setter for <code>LightSource.checkBox</code>
+     * Records a frame finished at the given scene time.
      *
-     * @param checkBox <code>JCheckBox</code>
+     * @param paramSceneTime <code>double</code>
      * @return void
      */
-    private void setCheckBox(JCheckBox checkBox) {
-      this.checkBox = checkBox;
+    private synchronized void frame(double paramSceneTime) {
+      try {
+        this.begin(InputRecorder.FRAME);
+        this.output.writeDouble(paramSceneTime);
+      } catch (IOException e) {
+        this.fail(e);
+      }
     }
 
     /**
-     * Setter for <code>LightSource.lightType</code>
+     * Records the passed light switches.
      *
-     * @param lightType <code>int</code>
+     * @param paramSwitches <code>boolean[]</code>
      * @return void
      */
-    private void setLightType(int lightType) {
-      this.lightType = lightType;
+    private synchronized void switches(boolean[] paramSwitches) {
+
+      // Declaration
+      int bits;
+
+      // Definition
+      bits = 0;
+
+      for (int i = 0; i < paramSwitches.length; i++) {
+        bits |= (paramSwitches[i]) ? 1 << i : 0;
+      }
+      try {
+        this.begin(InputRecorder.SWITCHES);
+        this.output.writeByte(bits);
+      } catch (IOException e) {
+        this.fail(e);
+      }
     }
 
     /**
-     * Setter for <code>LightSource.color</code>
+     * Records the passed camera vectors.
      *
-     * @param color <code>float[]</code>
+     * @param paramCameraView <code>double[][]</code> holding the eye, center, and up vectors
      * @return void
      */
-    private void setColor(float[] color) {
-      this.color = color;
+    private synchronized void camera(double[][] paramCameraView) {
+      try {
+        this.begin(InputRecorder.CAMERA);
+        for (double[] vector : paramCameraView) {
+          for (double value : vector) {
+            this.output.writeDouble(value);
+          }
+        }
+      } catch (IOException e) {
+        this.fail(e);
+      }
     }
 
     /**
-     * Setter for <code>LightSource.colorAmbient</code>
+     * Writes the type and time stamp with which every event starts.
      *
-     * @param colorAmbient <code>float[]</code>
+     * @param paramType <code>byte</code>
      * @return void
+     * @throws IOException if the log could not be written
      */
-    private void setColorAmbient(float[] colorAmbient) {
-      this.colorAmbient = colorAmbient;
+    private void begin(byte paramType) throws IOException {
+      if (this.failure != null) {
+        throw this.failure;
+      }
+      this.output.writeByte(paramType);
+      this.output.writeInt((int) ((System.nanoTime() - this.startNanos) / 1000000L));
+      this.eventCount++;
     }
 
     /**
-     * Setter for <code>LightSource.translateX</code>
+     * Notes the first failure to write the log, such that no further event is written and the
+     * failure is reported as the log is closed, rather than thrown at the event dispatch thread.
      *
-     * @param translateX <code>double</code>
+     * @param paramFailure <code>IOException</code>
      * @return void
      */
-    private void setTranslateX(double translateX) {
-      this.translateX = translateX;
+    private void fail(IOException paramFailure) {
+      if (this.failure == null) {
+        this.failure = paramFailure;
+      }
     }
 
     /**
-     * Setter for <code>LightSource.translateY</code>
+     * Closes the log as the program exits, reporting how many events it holds.
      *
-     * @param translateY <code>double</code>
+     * @see java.lang.Thread#run
      * @return void
      */
-    private void setTranslateY(double translateY) {
-      this.translateY = translateY;
+    @Override
+    public void run() {
+      synchronized (this) {
+        try {
+          this.output.close();
+        } catch (IOException e) {
+          this.fail(e);
+        }
+        if (this.failure != null) {
+          throw new UncheckedIOException("Could not record input to " + this.path,
+            this.failure);
+        }
+        System.out.printf("Recorded %d input event(s) to %s%n", this.eventCount, this.path);
+      }
     }
+  }
+
+  /**
+   * This class plays an input log written by <code>FourLights.InputRecorder</code> back into the
+   * scene, for <code>--replay</code>. The whole log is read up front into a pair of primitive
+   * arrays, and <code>InputReplay#advance</code> then applies the events up to and including
+   * the next frame, switching the lights, placing the camera, and setting the scene time, for
+   * the offscreen renderer to draw the frame as the window once did. Frames are drawn back to
+   * back rather than at the times they were recorded, and each is timed by the renderer by way
+   * of <code>InputReplay#frameDrawn</code>, such that two builds replaying the same log do the
+   * same work and may be compared by their frame times and by the hash of their last frame.
+   * <br />
+   * <br />
+   * The camera is written straight into <code>FourLights.cameraView</code>, rather than put
+   * through the <code>Camera</code> instance, so that the replay does not depend on the
+   * trackball's own arithmetic.
+   *
+   * @see FourLights.InputRecorder
+   * @author Andrew Eissen
+   */
+  private final class InputReplay {
+
+    // Class fields
+    private final String path;
+    private byte[] types;
+    private double[] values;
+    private int eventCount, valueCount, frameCount, recordedMillis, cursor, valueCursor;
+    private LatencyHistogram frameTimes;
+    private long replayNanos;
 
     /**
-     * Setter for <code>LightSource.translateZ</code>
+     * Parameterized constructor, reading the whole log
      *
-     * @param translateZ <code>double</code>
-     * @return void
+     * @param paramPath <code>String</code>
      */
-    private void setTranslateZ(double translateZ) {
-      this.translateZ = translateZ;
+    private InputReplay(String paramPath) {
+      this.path = paramPath;
+      this.types = new byte[256];
+      this.values = new double[1024];
+
+      try (DataInputStream input = new DataInputStream(new BufferedInputStream(
+          Files.newInputStream(Paths.get(paramPath))))) {
+        if (input.readInt() != InputRecorder.MAGIC
+            || input.readInt() != InputRecorder.VERSION) {
+          throw new IllegalArgumentException("Not an input log of this version: " + paramPath);
+        }
+        this.read(input);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Could not read input log " + paramPath, e);
+      }
+      this.rewind();
     }
 
-    // Getters
+    // Getter
 
     /**
-     * Getter for <code>LightSource.checkBox</code>
+     * Getter for <code>InputReplay.frameCount</code>
      *
-     * @return checkBox <code>JCheckBox</code>
+     * @return frameCount <code>int</code> frames in the log
      */
-    private JCheckBox getCheckBox() {
-      return this.checkBox;
+    private int getFrameCount() {
+      return this.frameCount;
     }
 
+    // Utility methods
+
     /**
-     * Getter for <code>LightSource.lightType</code>
+     * Reads every complete event of the log, stopping quietly at one cut short, as the last may
+     * be should the recording program have been killed.
      *
-     * @return lightType <code>int</code>
+     * @param paramInput <code>DataInputStream</code> positioned after the header
+     * @return void
+     * @throws IOException if the log could not be read
      */
-    private int getLightType() {
-      return this.lightType;
+    private void read(DataInputStream paramInput) throws IOException {
+
+      // Declarations
+      int type, millis, count;
+      final double[] event;
+
+      // Definition
+      event = new double[9];
+
+      while (true) {
+        try {
+          type = paramInput.readByte();
+          millis = paramInput.readInt();
+          if (type == InputRecorder.FRAME) {
+            event[0] = paramInput.readDouble();
+            count = 1;
+          } else if (type == InputRecorder.SWITCHES) {
+            event[0] = paramInput.readUnsignedByte();
+            count = 1;
+          } else if (type == InputRecorder.CAMERA) {
+            for (int i = 0; i < 9; i++) {
+              event[i] = paramInput.readDouble();
+            }
+            count = 9;
+          } else {
+            throw new IllegalArgumentException("Unknown event type " + type + " in input log "
+              + this.path);
+          }
+        } catch (EOFException e) {
+          return;
+        }
+
+        if (this.eventCount == this.types.length) {
+          this.types = Arrays.copyOf(this.types, 2 * this.types.length);
+        }
+        if (this.valueCount + count > this.values.length) {
+          this.values = Arrays.copyOf(this.values, 2 * this.values.length + count);
+        }
+        this.types[this.eventCount++] = (byte) type;
+        System.arraycopy(event, 0, this.values, this.valueCount, count);
+        this.valueCount += count;
+        this.frameCount += (type == InputRecorder.FRAME) ? 1 : 0;
+        this.recordedMillis = millis;
+      }
     }
 
     /**
-     * Getter for <code>LightSource.color</code>
+     * Starts the replay over from the first event, forgetting the frame times measured so far.
      *
-     * @return color <code>float[]</code>
+     * @return void
      */
-    private float[] getColor() {
-      return this.color;
+    private void rewind() {
+      this.cursor = 0;
+      this.valueCursor = 0;
+      this.frameTimes = new LatencyHistogram();
+      this.replayNanos = 0;
     }
 
     /**
-     * Getter for <code>LightSource.colorAmbient</code>
+     * Applies the events up to and including the next frame.
      *
-     * @return colorAmbient <code>float[]</code>
+     * @return <code>boolean</code> <code>true</code> if there is a frame to draw, or
+     *     <code>false</code> once the log is done with
      */
-    private float[] getColorAmbient() {
-      return this.colorAmbient;
+    private boolean advance() {
+
+      // Declarations
+      byte type;
+      final double[][] tempCameraView;
+
+      // Definition
+      tempCameraView = FourLights.this.getCameraView();
+
+      while (this.cursor < this.eventCount) {
+        type = this.types[this.cursor++];
+        if (type == InputRecorder.FRAME) {
+          FourLights.this.setSceneTime(this.values[this.valueCursor++]);
+          return true;
+        } else if (type == InputRecorder.SWITCHES) {
+          for (int i = 0; i < FourLights.this.getLightSwitches().length; i++) {
+            FourLights.this.setLightSwitch(i,
+              ((int) this.values[this.valueCursor] >> i & 1) != 0);
+          }
+          this.valueCursor++;
+        } else {
+          for (int i = 0; i < 9; i++) {
+            tempCameraView[i / 3][i % 3] = this.values[this.valueCursor++];
+          }
+          FourLights.this.setCameraMoved(false);
+        }
+      }
+      return false;
     }
 
     /**
-     * Getter for <code>LightSource.translateX</code>
+     * Records how long the renderer took to draw the frame last advanced to.
      *
-     * @return translateX <code>double</code>
+     * @param paramNanos <code>long</code>
+     * @return void
      */
-    private double getTranslateX() {
-      return this.translateX;
+    private void frameDrawn(long paramNanos) {
+      this.frameTimes.record(paramNanos);
+      this.replayNanos += paramNanos;
     }
 
     /**
-     * Getter for <code>LightSource.translateY</code>
+     * Summarizes the replay since the last rewind: the frames drawn from the log, the time the
+     * recording spanned, and the total and percentile frame times of the replay.
      *
-     * @return translateY <code>double</code>
+     * @return <code>String</code>
      */
-    private double getTranslateY() {
-      return this.translateY;
+    private String describe() {
+      return String.format("Replayed %d frame(s) of %s, recorded over %.1f s, in %.1f ms "
+        + "(p50 %.3f ms, p99 %.3f ms, max %.3f ms per frame)", this.frameCount, this.path,
+        this.recordedMillis / 1e3, this.replayNanos / 1e6, this.frameTimes.percentile(0.5) / 1e6,
+        this.frameTimes.percentile(0.99) / 1e6, this.frameTimes.percentile(1) / 1e6);
+    }
+  }
+
+  /**
+   * This static class is a fixed-size latency histogram in the manner of HdrHistogram, recording
+   * nanosecond durations into power-of-two ranges each split into <code>SUB_BUCKETS / 2</code>
+   * linear steps, which bounds the error of any reported percentile to
+   * about three percent while keeping the whole histogram to a single array of a little over a
+   * thousand counters. Durations beyond the largest bucket, a little over half an hour, are
+   * counted in it. The count, total, and largest value are kept exactly.
+   *
+   * @see FourLights.FrameTimings
+   * @author Andrew Eissen
+   */
+  private final static class LatencyHistogram {
+
+    /** Number of linear sub-buckets per power of two, itself a power of two */
+    private final static int SUB_BUCKETS = 64;
+
+    /** Base two logarithm of <code>SUB_BUCKETS</code> */
+    private final static int SUB_BUCKET_BITS = 6;
+
+    /** Base two logarithm of the largest duration told apart, about 36 minutes in nanoseconds */
+    private final static int MAX_BITS = 41;
+
+    // Class fields
+    private final long[] counts;
+    private long count, total, maximum;
+
+    /** Default constructor */
+    private LatencyHistogram() {
+      this.counts = new long[LatencyHistogram.SUB_BUCKETS / 2
+        * (LatencyHistogram.MAX_BITS - LatencyHistogram.SUB_BUCKET_BITS + 2)];
     }
 
+    // Getter
+
     /**
-     * Getter for <code>LightSource.translateZ</code>
+     * Getter for <code>LatencyHistogram.count</code>
      *
-     * @return translateZ <code>double</code>
+     * @return count <code>long</code> durations recorded
      */
-    private double getTranslateZ() {
-      return this.translateZ;
+    private long getCount() {
+      return this.count;
     }
 
     // Utility methods
 
     /**
-     * This method is called once at the end of the constructor to set the properties associated
-     * with this lighting object instance. Originally, this code existed in one of the above classes
-     * and was being re-invoked with every scene refresh. The creation of a dedicated class for
-     * lighting objects helped resolve this issue. In the first version of file, if the author
-     * remembers correctly, the code was just copy-pasted for each of the light objects, an approach
-     * that inspired the author to rewrite the whole class in its entirety to have it be a bit more
-     * readable.
+     * Records a single duration, treating negative values, which a clock step may produce, as
+     * zero.
      *
+     * @param paramNanos <code>long</code>
      * @return void
      */
-    private void configureLightSource() {
+    private void record(long paramNanos) {
 
-      // Declarations of temp fields
-      final GL2 tempGl;
-      final int tempLightType;
-      final float[] tempColor, tempColorAmbient;
+      // Declaration
+      final long value;
+
+      // Definition
+      value = Math.max(0, paramNanos);
+
+      this.counts[LatencyHistogram.indexOf(value)]++;
+      this.count++;
+      this.total += value;
+      this.maximum = Math.max(this.maximum, value);
+    }
+
+    /**
+     * Returns the smallest bucket upper bound below which the given fraction of the recorded
+     * durations fall, or zero if nothing has been recorded.
+     *
+     * @param paramFraction <code>double</code> from 0 to 1
+     * @return <code>long</code> nanoseconds
+     */
+    private long percentile(double paramFraction) {
+
+      // Declarations
+      long seen;
+      final long target;
 
-      // Definitions (cached)
-      tempGl = FourLights.this.getGl();
-      tempLightType = this.getLightType();
-      tempColor = this.getColor();
-      tempColorAmbient = this.getColorAmbient();
+      // Definitions
+      seen = 0;
+      target = Math.max(1, (long) Math.ceil(paramFraction * this.count));
 
-      // Define light models
-      tempGl.glLightfv(tempLightType, GL2.GL_AMBIENT, tempColorAmbient, 0);
-      tempGl.glLightModeli(GL2.GL_LIGHT_MODEL_TWO_SIDE, 1);
-      tempGl.glLightfv(tempLightType, GL2.GL_DIFFUSE, tempColor, 0);
-      tempGl.glLightfv(tempLightType, GL2.GL_SPECULAR, tempColor, 0);
+      for (int i = 0; i < this.counts.length; i++) {
+        seen += this.counts[i];
+        if (seen >= target) {
+          return Math.min(LatencyHistogram.upperBoundOf(i), this.maximum);
+        }
+      }
+      return 0;
     }
 
     /**
-     * This method is called externally by <code>FourLights.SceneGLJPanel#applyLighting</code> in a
-     * <code>for</code> loop for each of the created <code>LightSource</code> elements. It takes a
-     * passed <code>rotateY</code> y-axis rotation <code>double</code> parameter and applies that
-     * new value to <code>GL2#glRotated</code> to simulate the movement of the lighting ball around
-     * the truncated icosahedron.
+     * Appends this histogram's statistics to the passed builder as a JSON object, in
+     * microseconds.
      *
-     * @see FourLights.SceneGLJPanel#applyLighting
-     * @param paramRotateY <code>double</code>
+     * @param paramJson <code>StringBuilder</code>
      * @return void
      */
-    private void adjustLightSource(double paramRotateY) {
+    private void appendJson(StringBuilder paramJson) {
+      paramJson.append(String.format("{\"count\": %d, \"mean\": %.3f, \"p50\": %.3f, "
+        + "\"p99\": %.3f, \"p99.9\": %.3f, \"max\": %.3f}", this.count,
+        (this.count == 0) ? 0 : (double) this.total / this.count / 1e3,
+        this.percentile(0.5) / 1e3, this.percentile(0.99) / 1e3, this.percentile(0.999) / 1e3,
+        this.maximum / 1e3));
+    }
+
+    /**
+     * Returns the bucket holding the given non-negative duration. Values below
+     * <code>SUB_BUCKETS</code> have a bucket each, and every power of two above that is split
+     * into <code>SUB_BUCKETS / 2</code> steps by its leading bits.
+     *
+     * @param paramValue <code>long</code>
+     * @return <code>int</code>
+     */
+    private static int indexOf(long paramValue) {
 
       // Declarations
-      final GLUT tempGlut;
-      final GL2 tempGl;
-      final int tempLightType;
-      final double tempTranslateX, tempTranslateY, tempTranslateZ;
-      final float[] tempColor;
-      final JCheckBox tempCheckBox;
+      final long value;
+      final int shift;
 
       // Definitions
-      tempGlut = FourLights.this.getGlut();
-      tempGl = FourLights.this.getGl();
-      tempLightType = this.getLightType();
-      tempTranslateX = this.getTranslateX();
-      tempTranslateY = this.getTranslateY();
-      tempTranslateZ = this.getTranslateZ();
-      tempColor = this.getColor();
-      tempCheckBox = this.getCheckBox();
+      value = Math.min(paramValue, (1L << LatencyHistogram.MAX_BITS) - 1);
+      shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - LatencyHistogram.SUB_BUCKET_BITS);
 
-      if (tempCheckBox.isSelected()) {
-          tempGl.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, tempColor, 0);
-          tempGl.glEnable(tempLightType);
-      } else {
-          tempGl.glMaterialfv(GL2.GL_FRONT_AND_BACK, GL2.GL_EMISSION, FourLights.BLACK, 0);
-          tempGl.glDisable(tempLightType);
-      }
+      return shift * (LatencyHistogram.SUB_BUCKETS / 2) + (int) (value >>> shift);
+    }
+
+    /**
+     * Returns the largest duration held by the given bucket, the inverse of
+     * <code>FourLights.LatencyHistogram#indexOf</code>.
+     *
+     * @param paramIndex <code>int</code>
+     * @return <code>long</code>
+     */
+    private static long upperBoundOf(int paramIndex) {
+
+      // Declaration
+      final int shift;
+
+      // Definition
+      shift = Math.max(0, paramIndex / (LatencyHistogram.SUB_BUCKETS / 2) - 1);
 
-      tempGl.glPushMatrix();
-      tempGl.glRotated(paramRotateY, 0, 1, 0);
-      tempGl.glTranslated(tempTranslateX, tempTranslateY, tempTranslateZ);
-      tempGl.glLightfv(tempLightType, GL2.GL_POSITION, FourLights.BLACK, 0);
-      tempGlut.glutSolidOctahedron(); // originally glutSolidSphere(1.0, 16, 8);
-      tempGl.glPopMatrix();
+      return ((long) (paramIndex - shift * (LatencyHistogram.SUB_BUCKETS / 2) + 1) << shift) - 1;
     }
   }
 
   /**
-   * This class is the inner class event listener used to handle the presses or clicks of
-   * <code>JCheckBox</code> items. Its sole required interface method, <code>actionPerformed</code>,
-   * itself calls the superclass method <code>FourLights.checkboxHandler</code>.
+   * This static class is the fixed-step simulation clock of <code>FourLights.RenderLoop</code>,
+   * after the usual "fix your timestep" pattern. Real time elapsed is added to an accumulator,
+   * from which whole steps of <code>SIMULATION_STEP_NANOS</code> are then taken, so that the
+   * animation advances in identical steps whatever the frame rate. The time reported for
+   * rendering is that of the last step plus the fraction of a step left in the accumulator,
+   * which keeps the motion smooth at frame rates above the step rate. After a stall, such as the
+   * window being dragged, no more than <code>MAX_CATCH_UP_STEPS</code> are taken at once and the
+   * rest dropped, so the lights resume where they were rather than jumping ahead.
+   * <br />
+   * <br />
+   * The offscreen renderers advance the scene by exactly one step per frame instead, by way of
+   * <code>FourLights.SimulationClock#timeOfStep</code>, so that their output depends only on the
+   * frame numbers asked for.
    *
-   * @see java.awt.event.ActionListener
+   * @see FourLights.RenderLoop
    * @author Andrew Eissen
    */
-  private final class CheckBoxListener implements ActionListener {
+  private final static class SimulationClock {
+
+    // Class fields
+    private long steps, accumulatedNanos, lastNanos, droppedSteps;
+    private boolean running;
 
     /**
-     * This method is the sole method required of the <code>ActionListener</code> interface, namely
-     * <code>java.awt.event.ActionListener#actionPerformed</code>. It simply calls the superclass
-     * method <code>FourLights.checkboxHandler</code> when <code>JCheckBox</code> changes are
-     * detected.
+     * Parameterized constructor
      *
-     * @see FourLights#checkboxHandler
-     * @see java.awt.event.ActionListener#actionPerformed
-     * @param e <code>ActionEvent</code>
-     * @return void
+     * @param steps <code>long</code> simulation steps already taken
      */
-    @Override
-    public void actionPerformed(ActionEvent e) {
-      FourLights.this.checkboxHandler(e);
+    private SimulationClock(long steps) {
+      this.steps = steps;
     }
-  }
 
-  /**
-   * This class is the inner class event listener used to handle the passage of <code>Timer</code>
-   * interval periods. Its sole required interface method, <code>actionPerformed</code>, itself
-   * calls the superclass method <code>FourLights.timerHandler</code>.
-   *
-   * @see java.awt.event.ActionListener
-   * @author Andrew Eissen
-   */
-  private final class TimerListener implements ActionListener {
+    // Getters
 
     /**
-     * This method is the sole method required of the <code>ActionListener</code> interface, namely
-     * <code>java.awt.event.ActionListener#actionPerformed</code>. It simply calls the superclass
-     * method <code>FourLights.timerHandler</code> when <code>Timer</code> intervals elapse.
+     * Getter for <code>SimulationClock.droppedSteps</code>
      *
-     * @see FourLights#timerHandler
-     * @see java.awt.event.ActionListener#actionPerformed
-     * @param e <code>ActionEvent</code>
-     * @return void
+     * @return droppedSteps <code>long</code>
      */
-    @Override
-    public void actionPerformed(ActionEvent e) {
-      FourLights.this.timerHandler();
+    private long getDroppedSteps() {
+      return this.droppedSteps;
     }
-  }
 
-  /**
-   * This static class defines the vertices, face vertex indices, and face normals of a standard
-   * <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">truncated icosahedron</a> object,
-   * itself composed of 32 hexagonal and pentagonal faces and 60 vertices. The code for this object
-   * was borrowed from the Project 2 templates package file entitled <code>Polyhedron.java</code>,
-   * which contained the necessary arrays within its contents under the title "Soccer ball." In a
-   * deceptive twist, that file also had a static object entitled "truncatedicosahedron" which, upon
-   * further examination, was not actually a shape of this form but was rather an
-   * <a href="https://en.wikipedia.org/wiki/Icosidodecahedron">icosidodecahedron</a> due to its use
-   * of triangles and pentagons as the base shapes rather than hexagons and pentagons.
-   *
-   * @see <a href="https://en.wikipedia.org/wiki/Truncated_icosahedron">Truncated icosahedron</a>
-   * @see <a href="http://math.hws.edu/graphicsbook/source/jogl/Polyhedron.java">Polyhedron.java</a>
-   * @author David J. Eck, Andrew Eissen, UMUC faculty, et al.
-   */
-  private final static class TruncatedIcosahedron {
+    // Utility methods
 
     /**
-     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
-     * vertex data.
+     * Returns the scene time, in seconds, at the start of the given simulation step.
      *
-     * @return <code>double[][]</code>
+     * @param paramStep <code>long</code>
+     * @return <code>double</code>
      */
-    private static double[][] getVertices() {
-      return new double[][] {
-        {-0.666667,-0.745356,0.206011},
-        {-0.666667,-0.745356,-0.206011},
-        {-0.872678,-0.412023,-0.333333},
-        {-1.000000,-0.206011,0.000000},
-        {-0.872678,-0.412023,0.333333},
-        {0.333333,0.872678,0.412023},
-        {0.206011,0.666667,0.745356},
-        {-0.206011,0.666667,0.745356},
-        {-0.333333,0.872678,0.412023},
-        {0.000000,1.000000,0.206011},
-        {0.206011,0.666667,-0.745356},
-        {0.333333,0.872678,-0.412023},
-        {0.000000,1.000000,-0.206011},
-        {-0.333333,0.872678,-0.412023},
-        {-0.206011,0.666667,-0.745356},
-        {0.872678,0.412023,0.333333},
-        {0.666667,0.745356,0.206011},
-        {0.666667,0.745356,-0.206011},
-        {0.872678,0.412023,-0.333333},
-        {1.000000,0.206011,0.000000},
-        {0.872678,-0.412023,0.333333},
-        {1.000000,-0.206011,0.000000},
-        {0.872678,-0.412023,-0.333333},
-        {0.666667,-0.745356,-0.206011},
-        {0.666667,-0.745356,0.206011},
-        {0.333333,-0.872678,-0.412023},
-        {0.206011,-0.666667,-0.745356},
-        {-0.206011,-0.666667,-0.745356},
-        {-0.333333,-0.872678,-0.412023},
-        {0.000000,-1.000000,-0.206011},
-        {0.206011,-0.666667,0.745356},
-        {0.333333,-0.872678,0.412023},
-        {0.000000,-1.000000,0.206011},
-        {-0.333333,-0.872678,0.412023},
-        {-0.206011,-0.666667,0.745356},
-        {0.412023,0.333333,0.872678},
-        {0.745356,0.206011,0.666667},
-        {0.745356,-0.206011,0.666667},
-        {0.412023,-0.333333,0.872678},
-        {0.206011,0.000000,1.000000},
-        {-0.206011,0.000000,1.000000},
-        {-0.412023,-0.333333,0.872678},
-        {-0.745356,-0.206011,0.666667},
-        {-0.745356,0.206011,0.666667},
-        {-0.412023,0.333333,0.872678},
-        {0.745356,-0.206011,-0.666667},
-        {0.745356,0.206011,-0.666667},
-        {0.412023,0.333333,-0.872678},
-        {0.206011,0.000000,-1.000000},
-        {0.412023,-0.333333,-0.872678},
-        {-0.412023,0.333333,-0.872678},
-        {-0.745356,0.206011,-0.666667},
-        {-0.745356,-0.206011,-0.666667},
-        {-0.412023,-0.333333,-0.872678},
-        {-0.206011,0.000000,-1.000000},
-        {-0.666667,0.745356,-0.206011},
-        {-0.666667,0.745356,0.206011},
-        {-0.872678,0.412023,0.333333},
-        {-1.000000,0.206011,0.000000},
-        {-0.872678,0.412023,-0.333333}
-      };
+    private static double timeOfStep(long paramStep) {
+      return paramStep * (FourLights.SIMULATION_STEP_NANOS / 1e9);
     }
 
     /**
-     * This static method returns a two-dimensional <code>int</code> array containing polyhedron
-     * face vertex index data.
+     * Starts or restarts the clock, counting time from the given <code>System#nanoTime</code>.
      *
-     * @return <code>int[][]</code>
+     * @param paramNow <code>long</code>
+     * @return void
      */
-    private static int[][] getFaces() {
-      return new int[][] {
-        {0,1,2,3,4},
-        {5,6,7,8,9},
-        {10,11,12,13,14},
-        {15,16,17,18,19},
-        {20,21,22,23,24},
-        {25,26,27,28,29},
-        {30,31,32,33,34},
-        {35,36,37,38,39},
-        {40,41,42,43,44},
-        {45,46,47,48,49},
-        {50,51,52,53,54},
-        {55,56,57,58,59},
-        {15,36,35,6,5,16},
-        {20,37,36,15,19,21},
-        {30,38,37,20,24,31},
-        {40,39,38,30,34,41},
-        {39,40,44,7,6,35},
-        {45,22,21,19,18,46},
-        {10,47,46,18,17,11},
-        {11,17,16,5,9,12},
-        {55,13,12,9,8,56},
-        {50,14,13,55,59,51},
-        {54,48,47,10,14,50},
-        {49,26,25,23,22,45},
-        {31,24,23,25,29,32},
-        {0,33,32,29,28,1},
-        {3,58,57,43,42,4},
-        {56,8,7,44,43,57},
-        {52,2,1,28,27,53},
-        {53,27,26,49,48,54},
-        {4,42,41,34,33,0},
-        {2,52,51,59,58,3}
-      };
+    private void resume(long paramNow) {
+      this.lastNanos = paramNow;
+      this.running = true;
     }
 
     /**
-     * This static method returns a two-dimensional <code>double</code> array containing polyhedron
-     * face normals data.
+     * Stops the clock, first taking any steps due by the given <code>System#nanoTime</code>.
      *
-     * @return <code>double[][]</code>
+     * @param paramNow <code>long</code>
+     * @return void
      */
-    private static double[][] getNormals() {
-      return new double[][] {
-        {0.850651,0.525731,-0.000000},
-          {-0.000000,-0.850651,-0.525731},
-          {-0.000000,-0.850651,0.525731},
-          {-0.850651,-0.525731,-0.000000},
-          {-0.850651,0.525731,0.000000},
-          {0.000000,0.850651,0.525731},
-          {-0.000000,0.850651,-0.525731},
-          {-0.525731,-0.000000,-0.850651},
-          {0.525731,0.000000,-0.850651},
-          {-0.525731,0.000000,0.850651},
-          {0.525731,0.000000,0.850651},
-          {0.850651,-0.525731,0.000000},
-          {-0.577350,-0.577350,-0.577350},
-          {-0.934172,0.000000,-0.356822},
-          {-0.577350,0.577350,-0.577350},
-          {0.000000,0.356822,-0.934172},
-          {0.000000,-0.356822,-0.934172},
-          {-0.934172,0.000000,0.356822},
-          {-0.577350,-0.577350,0.577350},
-          {-0.356822,-0.934172,0.000000},
-          {0.356822,-0.934172,0.000000},
-          {0.577350,-0.577350,0.577350},
-          {0.000000,-0.356822,0.934172},
-          {-0.577350,0.577350,0.577350},
-          {-0.356822,0.934172,0.000000},
-          {0.356822,0.934172,-0.000000},
-          {0.934172,0.000000,-0.356822},
-          {0.577350,-0.577350,-0.577350},
-          {0.577350,0.577350,0.577350},
-          {-0.000000,0.356822,0.934172},
-          {0.577350,0.577350,-0.577350},
-          {0.934172,-0.000000,0.356822}
-      };
+    private void pause(long paramNow) {
+      this.advance(paramNow);
+      this.running = false;
+    }
+
+    /**
+     * Adds the time since the last call to the accumulator and takes the whole steps it holds,
+     * up to <code>MAX_CATCH_UP_STEPS</code>. Nothing happens while the clock is paused.
+     *
+     * @param paramNow <code>long</code> <code>System#nanoTime</code>
+     * @return void
+     */
+    private void advance(long paramNow) {
+
+      // Declaration
+      long due;
+
+      if (!this.running) {
+        return;
+      }
+
+      // Definition
+      this.accumulatedNanos += paramNow - this.lastNanos;
+      this.lastNanos = paramNow;
+      due = this.accumulatedNanos / FourLights.SIMULATION_STEP_NANOS;
+
+      if (due > FourLights.MAX_CATCH_UP_STEPS) {
+        this.droppedSteps += due - FourLights.MAX_CATCH_UP_STEPS;
+        due = FourLights.MAX_CATCH_UP_STEPS;
+        this.accumulatedNanos %= FourLights.SIMULATION_STEP_NANOS;
+      } else {
+        this.accumulatedNanos -= due * FourLights.SIMULATION_STEP_NANOS;
+      }
+      this.steps += due;
+    }
+
+    /**
+     * Returns the scene time, in seconds, interpolated between the last step and the next.
+     *
+     * @return <code>double</code>
+     */
+    private double getTime() {
+      return SimulationClock.timeOfStep(this.steps) + this.accumulatedNanos / 1e9;
     }
   }
-}
\ No newline at end of file
+}
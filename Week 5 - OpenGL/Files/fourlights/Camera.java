@@ -0,0 +1,298 @@
+/**
+ * Camera.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package fourlights;
+
+import java.awt.Component;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+
+/**
+ * This class stands in for the <code>Camera</code> class of David Eck's graphicsbook, found
+ * <a href="http://math.hws.edu/graphicsbook/source/jogl/Camera.java">here</a>, such that
+ * <code>FourLights</code> compiles and runs from the Maven build without it. It offers only what
+ * <code>FourLights</code> calls, with the same signatures, so that the original may be dropped in
+ * its place unchanged: the view set by <code>lookAt</code> and read back by
+ * <code>getViewParameters</code>, the scale, and a trackball by which the view may be dragged
+ * about its center.
+ * <br />
+ * <br />
+ * The trackball maps the mouse onto a sphere filling the component, and each drag rotates the
+ * eye and up vector about the center by the rotation carrying the previous point on the sphere
+ * to the new one, such that the scene seems to turn with the mouse, as the original's does.
+ *
+ * @author Andrew Eissen
+ */
+public class Camera {
+
+  // Class fields
+  private final double[] viewParameters;
+  private double scale;
+
+  /** Default constructor, looking down the negative z-axis from a distance of 30 */
+  public Camera() {
+    this.viewParameters = new double[] {0, 0, 30, 0, 0, 0, 0, 1, 0};
+    this.scale = 10;
+  }
+
+  // Setters
+
+  /**
+   * Sets the view, as the arguments of <code>gluLookAt</code> would.
+   *
+   * @param eyeX <code>double</code>
+   * @param eyeY <code>double</code>
+   * @param eyeZ <code>double</code>
+   * @param centerX <code>double</code>
+   * @param centerY <code>double</code>
+   * @param centerZ <code>double</code>
+   * @param upX <code>double</code>
+   * @param upY <code>double</code>
+   * @param upZ <code>double</code>
+   * @return void
+   */
+  public void lookAt(double eyeX, double eyeY, double eyeZ, double centerX, double centerY,
+      double centerZ, double upX, double upY, double upZ) {
+    this.viewParameters[0] = eyeX;
+    this.viewParameters[1] = eyeY;
+    this.viewParameters[2] = eyeZ;
+    this.viewParameters[3] = centerX;
+    this.viewParameters[4] = centerY;
+    this.viewParameters[5] = centerZ;
+    this.viewParameters[6] = upX;
+    this.viewParameters[7] = upY;
+    this.viewParameters[8] = upZ;
+  }
+
+  /**
+   * Setter for <code>Camera.scale</code>, the half-extent of the view volume at the center
+   *
+   * @param scale <code>double</code>
+   * @return void
+   */
+  public void setScale(double scale) {
+    this.scale = scale;
+  }
+
+  // Getters
+
+  /**
+   * Getter for <code>Camera.scale</code>
+   *
+   * @return scale <code>double</code>
+   */
+  public double getScale() {
+    return this.scale;
+  }
+
+  /**
+   * Returns a copy of the view, as the eye, center, and up vector, in that order.
+   *
+   * @return <code>double[]</code> nine values
+   */
+  public double[] getViewParameters() {
+    return this.viewParameters.clone();
+  }
+
+  // Utility methods
+
+  /**
+   * Lets the view be dragged about its center with the mouse over the passed component, which
+   * is repainted with every drag.
+   *
+   * @param component <code>Component</code>
+   * @return void
+   */
+  public void installTrackball(Component component) {
+
+    // Declaration
+    final MouseAdapter trackball;
+
+    // Definition
+    trackball = new MouseAdapter() {
+
+      // Class fields
+      private final double[] previous = new double[3];
+      private final double[] current = new double[3];
+
+      @Override
+      public void mousePressed(MouseEvent e) {
+        Camera.toSphere(component, e.getX(), e.getY(), this.previous);
+      }
+
+      @Override
+      public void mouseDragged(MouseEvent e) {
+        Camera.toSphere(component, e.getX(), e.getY(), this.current);
+        Camera.this.rotate(this.previous, this.current);
+        System.arraycopy(this.current, 0, this.previous, 0, 3);
+        component.repaint();
+      }
+    };
+    component.addMouseListener(trackball);
+    component.addMouseMotionListener(trackball);
+  }
+
+  /**
+   * Rotates the eye and up vector about the center such that the scene turns by the rotation
+   * carrying the first passed point on the trackball sphere to the second, both in view space.
+   *
+   * @param paramFrom <code>double[]</code>
+   * @param paramTo <code>double[]</code>
+   * @return void
+   */
+  private void rotate(double[] paramFrom, double[] paramTo) {
+
+    // Declarations
+    final double[] view, axis, forward, side, up;
+    final double angle;
+
+    // Definitions
+    view = this.viewParameters;
+    axis = Camera.cross(paramFrom, paramTo);
+    angle = Math.acos(Math.max(-1, Math.min(1, Camera.dot(paramFrom, paramTo))));
+    forward = Camera.normalize(new double[] {view[0] - view[3], view[1] - view[4],
+      view[2] - view[5]});
+    side = Camera.normalize(Camera.cross(new double[] {view[6], view[7], view[8]}, forward));
+    up = Camera.cross(forward, side);
+
+    if (Camera.dot(axis, axis) < 1e-18) {
+      return;
+    }
+
+    // The axis, given in view space, is taken into world space by the camera's own axes
+    Camera.rotateView(view, Camera.normalize(new double[] {
+      axis[0] * side[0] + axis[1] * up[0] + axis[2] * forward[0],
+      axis[0] * side[1] + axis[1] * up[1] + axis[2] * forward[1],
+      axis[0] * side[2] + axis[1] * up[2] + axis[2] * forward[2]}), -angle);
+  }
+
+  /**
+   * Rotates the eye about the center, and the up vector with it, by the passed angle about the
+   * passed unit axis, by Rodrigues' formula.
+   *
+   * @param paramView <code>double[]</code> eye, center, and up vector, rotated in place
+   * @param paramAxis <code>double[]</code> unit axis
+   * @param paramAngle <code>double</code> radians
+   * @return void
+   */
+  private static void rotateView(double[] paramView, double[] paramAxis, double paramAngle) {
+
+    // Declarations
+    final double[] eye, up;
+
+    // Definitions
+    eye = Camera.rotated(new double[] {paramView[0] - paramView[3], paramView[1] - paramView[4],
+      paramView[2] - paramView[5]}, paramAxis, paramAngle);
+    up = Camera.rotated(new double[] {paramView[6], paramView[7], paramView[8]}, paramAxis,
+      paramAngle);
+
+    for (int i = 0; i < 3; i++) {
+      paramView[i] = paramView[3 + i] + eye[i];
+      paramView[6 + i] = up[i];
+    }
+  }
+
+  /**
+   * Returns the passed vector rotated by the passed angle about the passed unit axis.
+   *
+   * @param paramVector <code>double[]</code>
+   * @param paramAxis <code>double[]</code>
+   * @param paramAngle <code>double</code> radians
+   * @return <code>double[]</code>
+   */
+  private static double[] rotated(double[] paramVector, double[] paramAxis, double paramAngle) {
+
+    // Declarations
+    final double cos, sin, along;
+    final double[] across;
+
+    // Definitions
+    cos = Math.cos(paramAngle);
+    sin = Math.sin(paramAngle);
+    along = Camera.dot(paramAxis, paramVector) * (1 - cos);
+    across = Camera.cross(paramAxis, paramVector);
+
+    return new double[] {
+      paramVector[0] * cos + across[0] * sin + paramAxis[0] * along,
+      paramVector[1] * cos + across[1] * sin + paramAxis[1] * along,
+      paramVector[2] * cos + across[2] * sin + paramAxis[2] * along};
+  }
+
+  /**
+   * Maps a point of the passed component onto the unit trackball sphere centered on it, points
+   * outside the sphere falling onto its rim, writing the view-space point into the passed array.
+   *
+   * @param paramComponent <code>Component</code>
+   * @param paramX <code>int</code>
+   * @param paramY <code>int</code>
+   * @param paramPoint <code>double[]</code>
+   * @return void
+   */
+  private static void toSphere(Component paramComponent, int paramX, int paramY,
+      double[] paramPoint) {
+
+    // Declarations
+    final double radius, lengthSquared;
+
+    // Definitions
+    radius = Math.max(1, Math.min(paramComponent.getWidth(), paramComponent.getHeight())) / 2.0;
+    paramPoint[0] = (paramX - paramComponent.getWidth() / 2.0) / radius;
+    paramPoint[1] = (paramComponent.getHeight() / 2.0 - paramY) / radius;
+    lengthSquared = paramPoint[0] * paramPoint[0] + paramPoint[1] * paramPoint[1];
+
+    if (lengthSquared > 1) {
+      paramPoint[0] /= Math.sqrt(lengthSquared);
+      paramPoint[1] /= Math.sqrt(lengthSquared);
+      paramPoint[2] = 0;
+    } else {
+      paramPoint[2] = Math.sqrt(1 - lengthSquared);
+    }
+  }
+
+  /**
+   * Returns the cross product of the passed vectors.
+   *
+   * @param paramA <code>double[]</code>
+   * @param paramB <code>double[]</code>
+   * @return <code>double[]</code>
+   */
+  private static double[] cross(double[] paramA, double[] paramB) {
+    return new double[] {paramA[1] * paramB[2] - paramA[2] * paramB[1],
+      paramA[2] * paramB[0] - paramA[0] * paramB[2], paramA[0] * paramB[1] - paramA[1] * paramB[0]};
+  }
+
+  /**
+   * Returns the dot product of the passed vectors.
+   *
+   * @param paramA <code>double[]</code>
+   * @param paramB <code>double[]</code>
+   * @return <code>double</code>
+   */
+  private static double dot(double[] paramA, double[] paramB) {
+    return paramA[0] * paramB[0] + paramA[1] * paramB[1] + paramA[2] * paramB[2];
+  }
+
+  /**
+   * Scales the passed vector to unit length in place, returning it.
+   *
+   * @param paramVector <code>double[]</code>
+   * @return <code>double[]</code>
+   */
+  private static double[] normalize(double[] paramVector) {
+
+    // Declaration
+    final double length;
+
+    // Definition
+    length = Math.sqrt(Camera.dot(paramVector, paramVector));
+
+    if (length > 0) {
+      for (int i = 0; i < 3; i++) {
+        paramVector[i] /= length;
+      }
+    }
+    return paramVector;
+  }
+}
@@ -0,0 +1,53 @@
+/**
+ * Benchmarks.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class is the entry point of <code>benchmarks.jar</code>. It runs the JMH benchmarks of the
+ * scene's CPU hot paths, taking the usual JMH command line, such as a benchmark name pattern or
+ * <code>-p lights=4</code>, and always adds the <code>gc</code> profiler, whose
+ * <code>gc.alloc.rate.norm</code> gives the bytes allocated per call of each path. A run that
+ * names <code>-prof gc</code> itself is left as it is.
+ *
+ * @author Andrew Eissen
+ */
+public final class Benchmarks {
+
+  /** Private constructor, the class holding only the entry point */
+  private Benchmarks() {}
+
+  /**
+   * Main method
+   *
+   * @param args <code>String[]</code> JMH command line
+   * @return void
+   * @throws CommandLineOptionException should the command line not parse
+   * @throws RunnerException should a benchmark fail
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+    // Declarations
+    final CommandLineOptions commandLine;
+    final OptionsBuilder options;
+
+    // Definitions
+    commandLine = new CommandLineOptions(args);
+    options = new OptionsBuilder();
+
+    options.parent(commandLine);
+    if (commandLine.getProfilers().isEmpty()) {
+      options.addProfiler(GCProfiler.class);
+    }
+    new Runner(options.build()).run();
+  }
+}
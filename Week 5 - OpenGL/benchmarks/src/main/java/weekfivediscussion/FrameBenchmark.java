@@ -0,0 +1,95 @@
+/**
+ * FrameBenchmark.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks whole frames, those of the GL backend through
+ * <code>FourLights.SceneGLEventListener#display</code> against the no-op <code>GL2</code>, and
+ * those of the software backend at 320 by 240, with none and all of the four lights on.
+ *
+ * @author Andrew Eissen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+
+  /** Width of the frame */
+  private final static int WIDTH = 320;
+
+  /** Height of the frame */
+  private final static int HEIGHT = 240;
+
+  /** Lights switched on */
+  @Param({"0", "4"})
+  public int lights;
+
+  // Class fields
+  private FourLights.ScenePaths paths;
+  private GLAutoDrawable drawable;
+
+  /**
+   * Builds the scene at the frame size and switches on the lights.
+   *
+   * @return void
+   */
+  @Setup
+  public void setUp() {
+    this.paths = FourLights.scenePaths(GLStubs.gl2(), "--size",
+      FrameBenchmark.WIDTH + "x" + FrameBenchmark.HEIGHT);
+    this.drawable = GLStubs.drawable(GLStubs.gl2(), FrameBenchmark.WIDTH,
+      FrameBenchmark.HEIGHT);
+    this.paths.useLights(this.lights);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @TearDown
+  public void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Benchmarks one frame of the GL backend.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void display() {
+    this.paths.display(this.drawable);
+  }
+
+  /**
+   * Benchmarks one frame of the software backend.
+   *
+   * @return <code>int</code>
+   */
+  @Benchmark
+  public int renderSoftwareFrame() {
+    return this.paths.renderSoftwareFrame();
+  }
+}
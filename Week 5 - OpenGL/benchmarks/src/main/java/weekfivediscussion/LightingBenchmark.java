@@ -0,0 +1,84 @@
+/**
+ * LightingBenchmark.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the per-frame lighting, both the fixed-function lights of the default
+ * path and the light table of <code>--lighting uniform</code>, with none and all of the four
+ * lights switched on, against the no-op <code>GL2</code>.
+ *
+ * @author Andrew Eissen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LightingBenchmark {
+
+  /** Lights switched on */
+  @Param({"0", "4"})
+  public int lights;
+
+  // Class fields
+  private FourLights.ScenePaths paths;
+
+  /**
+   * Builds the scene and switches on the lights.
+   *
+   * @return void
+   */
+  @Setup
+  public void setUp() {
+    this.paths = FourLights.scenePaths(GLStubs.gl2());
+    this.paths.useLights(this.lights);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @TearDown
+  public void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Benchmarks <code>FourLights.SceneGLEventListener#applyLighting</code>.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void applyLighting() {
+    this.paths.applyLighting();
+  }
+
+  /**
+   * Benchmarks <code>FourLights.SceneGLEventListener#applyUniformLighting</code>.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void applyUniformLighting() {
+    this.paths.applyUniformLighting();
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * MeshNormalsBenchmark.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the generation of the face and vertex normals of a geodesic sphere, on
+ * one thread and across the worker pool, up to the finest sphere there is, of some twelve million
+ * faces.
+ *
+ * @author Andrew Eissen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeshNormalsBenchmark {
+
+  /** Least faces of the geodesic sphere */
+  @Param({"10000", "1000000", "10000000"})
+  public int faces;
+
+  // Class fields
+  private FourLights.ScenePaths paths;
+
+  /**
+   * Builds the scene and the geodesic sphere.
+   *
+   * @return void
+   */
+  @Setup
+  public void setUp() {
+    this.paths = FourLights.scenePaths(GLStubs.gl2());
+    this.paths.useGeodesicMesh(this.faces);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @TearDown
+  public void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Benchmarks the normals computed on the calling thread.
+   *
+   * @return <code>float</code>
+   */
+  @Benchmark
+  public float serial() {
+    return this.paths.computeNormals(false);
+  }
+
+  /**
+   * Benchmarks the normals computed across the worker pool.
+   *
+   * @return <code>float</code>
+   */
+  @Benchmark
+  public float parallel() {
+    return this.paths.computeNormals(true);
+  }
+}
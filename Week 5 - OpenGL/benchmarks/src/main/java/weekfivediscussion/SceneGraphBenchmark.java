@@ -0,0 +1,93 @@
+/**
+ * SceneGraphBenchmark.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the scene graph, drawn whole, drawn after frustum and small-feature
+ * culling, and drawn from the frames its pipeline records ahead on the worker threads.
+ *
+ * @author Andrew Eissen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SceneGraphBenchmark {
+
+  /** Objects in the scene graph */
+  @Param({"1000", "10000"})
+  public int objects;
+
+  // Class fields
+  private FourLights.ScenePaths paths;
+
+  /**
+   * Builds the scene and its graph.
+   *
+   * @return void
+   */
+  @Setup
+  public void setUp() {
+    this.paths = FourLights.scenePaths(GLStubs.gl2());
+    this.paths.useSceneGraph(this.objects);
+  }
+
+  /**
+   * Shuts down the frame pipeline and the scene's worker pool.
+   *
+   * @return void
+   */
+  @TearDown
+  public void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Benchmarks drawing every object.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void drawAll() {
+    this.paths.drawSceneGraph(false);
+  }
+
+  /**
+   * Benchmarks culling the graph and drawing what is left.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void drawCulled() {
+    this.paths.drawSceneGraph(true);
+  }
+
+  /**
+   * Benchmarks drawing the frame recorded ahead by the pipeline.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void drawPipelined() {
+    this.paths.drawPipelined();
+  }
+}
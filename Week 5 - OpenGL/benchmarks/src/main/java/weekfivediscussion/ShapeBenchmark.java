@@ -0,0 +1,99 @@
+/**
+ * ShapeBenchmark.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the drawing of the shape, face by face in immediate mode or from the
+ * uploaded buffers, for the truncated icosahedron and a mesh of sixteen copies of it, along with
+ * the per-face normals and the original geometry getters once called every frame.
+ *
+ * @author Andrew Eissen
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShapeBenchmark {
+
+  /** Copies of the truncated icosahedron in the mesh */
+  @Param({"1", "16"})
+  public int copies;
+
+  /** Whether the shape is drawn from uploaded buffers */
+  @Param({"false", "true"})
+  public boolean retained;
+
+  // Class fields
+  private FourLights.ScenePaths paths;
+
+  /**
+   * Builds the scene around the mesh.
+   *
+   * @return void
+   */
+  @Setup
+  public void setUp() {
+    this.paths = FourLights.scenePaths(GLStubs.gl2());
+    this.paths.useMesh(this.copies);
+    this.paths.useRetainedShape(this.retained);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @TearDown
+  public void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Benchmarks <code>FourLights.SceneGLEventListener#drawShape</code>.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void drawShape() {
+    this.paths.drawShape();
+  }
+
+  /**
+   * Benchmarks <code>FourLights.SceneGLEventListener#calculateNormal</code> over every face.
+   *
+   * @return void
+   */
+  @Benchmark
+  public void calculateNormals() {
+    this.paths.calculateNormals();
+  }
+
+  /**
+   * Benchmarks the <code>FourLights.TruncatedIcosahedron</code> getters.
+   *
+   * @return <code>int</code>
+   */
+  @Benchmark
+  public int callGeometryGetters() {
+    return this.paths.callGeometryGetters();
+  }
+}
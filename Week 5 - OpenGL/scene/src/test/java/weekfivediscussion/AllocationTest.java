@@ -0,0 +1,193 @@
+/**
+ * AllocationTest.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GLAutoDrawable;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * This class checks that a frame of the GL backend allocates nothing on the heap once the
+ * scene is set up. Whole frames are drawn through
+ * <code>FourLights.SceneGLEventListener#display</code> against the no-op <code>GL2</code> of
+ * <code>GLStubs</code>, which boxes no argument, and the bytes allocated by the test's thread are
+ * read from <code>com.sun.management.ThreadMXBean</code> before and after. The frames are first
+ * drawn often enough for the JIT to compile the path, then measured, and the test fails should
+ * the measured frames allocate a single byte apiece on average. A control frame that allocates
+ * on purpose checks that the meter sees allocations at all.
+ *
+ * @author Andrew Eissen
+ */
+class AllocationTest {
+
+  /** Frames drawn before measuring, for the JIT to compile the path */
+  private final static int WARMUP_FRAMES = 20000;
+
+  /** Frames measured */
+  private final static int MEASURED_FRAMES = 10000;
+
+  /** Size of the frame, which does not bear on the calls made */
+  private final static int SIZE = 64;
+
+  // Class fields
+  private com.sun.management.ThreadMXBean threads;
+  private FourLights.ScenePaths paths;
+  private GLAutoDrawable drawable;
+  private long[] sink;
+
+  /**
+   * Builds the scene against the no-op <code>GL2</code>.
+   *
+   * @return void
+   */
+  @BeforeEach
+  void setUp() {
+
+    // Declaration
+    final GL2 gl;
+
+    // Definitions
+    gl = GLStubs.gl2();
+    this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    this.paths = FourLights.scenePaths(gl, "--size", SIZE + "x" + SIZE);
+    this.drawable = GLStubs.drawable(gl, SIZE, SIZE);
+
+    this.threads.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @AfterEach
+  void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Checks that frames drawn from the uploaded buffers, as by default, and face by face in
+   * immediate mode allocate nothing, with none and all of the lights on.
+   *
+   * @param paramRetained <code>boolean</code>
+   * @return void
+   */
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void displayAllocatesNothing(boolean paramRetained) {
+
+    // Declaration
+    final Runnable frame;
+
+    // Definition
+    frame = new Runnable() {
+      @Override
+      public void run() {
+        AllocationTest.this.paths.display(AllocationTest.this.drawable);
+      }
+    };
+
+    this.paths.useRetainedShape(paramRetained);
+    for (int lights : new int[] {0, 4}) {
+      this.paths.useLights(lights);
+      this.assertAllocationFree(frame, "display, " + lights + " lights, retained "
+        + paramRetained);
+    }
+  }
+
+  /**
+   * Checks that the lighting of <code>--lighting uniform</code> allocates nothing.
+   *
+   * @return void
+   */
+  @Test
+  void uniformLightingAllocatesNothing() {
+    this.paths.useLights(4);
+    this.assertAllocationFree(new Runnable() {
+      @Override
+      public void run() {
+        AllocationTest.this.paths.applyUniformLighting();
+      }
+    }, "applyUniformLighting");
+  }
+
+  /**
+   * Checks that the meter reports a frame that allocates, such that the other tests cannot pass
+   * merely because nothing was counted.
+   *
+   * @return void
+   */
+  @Test
+  void meterSeesAllocation() {
+
+    // Declaration
+    final double perFrame;
+
+    // Definition
+    perFrame = this.measure(new Runnable() {
+      @Override
+      public void run() {
+        AllocationTest.this.paths.display(AllocationTest.this.drawable);
+        AllocationTest.this.sink = new long[16];
+      }
+    });
+
+    assertTrue(perFrame >= 16 * Long.BYTES, "Control frame measured at " + perFrame
+      + " bytes, the meter is not counting");
+  }
+
+  /**
+   * Fails should the passed frame allocate a byte or more per call on average.
+   *
+   * @param paramFrame <code>Runnable</code>
+   * @param paramName <code>String</code> named in the failure
+   * @return void
+   */
+  private void assertAllocationFree(Runnable paramFrame, String paramName) {
+
+    // Declaration
+    final double perFrame;
+
+    // Definition
+    perFrame = this.measure(paramFrame);
+
+    assertTrue(perFrame < 1, paramName + " allocated " + perFrame + " bytes per frame");
+  }
+
+  /**
+   * Draws the passed frame to warm it up, then returns the bytes the test's thread allocated per
+   * call over the measured calls.
+   *
+   * @param paramFrame <code>Runnable</code>
+   * @return <code>double</code>
+   */
+  private double measure(Runnable paramFrame) {
+
+    // Declarations
+    final long thread, before, after;
+
+    // Definition
+    thread = Thread.currentThread().getId();
+
+    for (int i = 0; i < WARMUP_FRAMES; i++) {
+      paramFrame.run();
+    }
+    before = this.threads.getThreadAllocatedBytes(thread);
+    for (int i = 0; i < MEASURED_FRAMES; i++) {
+      paramFrame.run();
+    }
+    after = this.threads.getThreadAllocatedBytes(thread);
+
+    return (after - before) / (double) MEASURED_FRAMES;
+  }
+}
@@ -0,0 +1,217 @@
+/**
+ * MeshNormalsTest.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.jogamp.opengl.GL2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * This class checks the normals generated by <code>FourLights.MeshNormals</code> over a geodesic
+ * sphere of some hundred thousand faces, enough for each pass to be split between the threads of
+ * the worker pool. The normals computed across the pool must equal those computed on one thread
+ * to the bit; the face normals must point as those handed to GL by
+ * <code>FourLights.SceneGLEventListener#calculateNormal</code>, read back from the stub
+ * <code>GL2</code>; and the vertex normals must match a plain sequential reference working in
+ * <code>double</code>, summing the Newell normal of every face into each of its vertices.
+ *
+ * @author Andrew Eissen
+ */
+class MeshNormalsTest {
+
+  /** Least faces of the geodesic sphere */
+  private final static int FACES = 100000;
+
+  /** Largest difference allowed of any component of a unit normal from its reference */
+  private final static double EPSILON = 1e-4;
+
+  // Class fields
+  private StubGL2 gl;
+  private FourLights.ScenePaths paths;
+
+  /**
+   * Builds the scene with four worker threads and readies the geodesic sphere.
+   *
+   * @return void
+   */
+  @BeforeEach
+  void setUp() {
+    this.gl = (StubGL2) GLStubs.gl2();
+    this.paths = FourLights.scenePaths((GL2) this.gl, "--threads", "4");
+    this.paths.useGeodesicMesh(FACES);
+  }
+
+  /**
+   * Shuts down the scene's worker pool.
+   *
+   * @return void
+   */
+  @AfterEach
+  void tearDown() {
+    this.paths.close();
+  }
+
+  /**
+   * Checks that the normals computed across the pool equal those computed on one thread.
+   *
+   * @return void
+   */
+  @Test
+  void parallelMatchesSerial() {
+
+    // Declarations
+    final float[][] faces, vertices;
+
+    // Definitions
+    assertTrue(this.paths.getFaceCount() >= FACES, "Sphere too small to split");
+    this.paths.computeNormals(false);
+    faces = this.faceNormals();
+    vertices = this.vertexNormals();
+
+    this.paths.computeNormals(true);
+    for (int axis = 0; axis < 3; axis++) {
+      for (int i = 0; i < faces[axis].length; i++) {
+        assertEquals(faces[axis][i], this.paths.getFaceNormal(i, axis), 0f, "Face " + i);
+      }
+      for (int i = 0; i < vertices[axis].length; i++) {
+        assertEquals(vertices[axis][i], this.paths.getVertexNormal(i, axis), 0f, "Vertex " + i);
+      }
+    }
+  }
+
+  /**
+   * Checks that each face normal, once normalized, matches that of <code>calculateNormal</code>.
+   *
+   * @return void
+   */
+  @Test
+  void faceNormalsMatchCalculateNormal() {
+
+    // Declarations
+    final double[] normal;
+    double length;
+
+    // Definitions
+    normal = this.gl.getLastNormal();
+    this.paths.computeNormals(true);
+
+    for (int face = 0; face < this.paths.getFaceCount(); face++) {
+      this.paths.calculateNormal(face);
+      length = Math.sqrt(normal[0] * normal[0] + normal[1] * normal[1] + normal[2] * normal[2]);
+      for (int axis = 0; axis < 3; axis++) {
+        assertEquals(normal[axis] / length, this.paths.getFaceNormal(face, axis), EPSILON,
+          "Face " + face + ", axis " + axis);
+      }
+    }
+  }
+
+  /**
+   * Checks the vertex normals against the area-weighted sums of a sequential reference.
+   *
+   * @return void
+   */
+  @Test
+  void vertexNormalsMatchSequentialReference() {
+
+    // Declarations
+    final double[][] reference;
+    final double[] faceNormal;
+    int[] vertices;
+    int current, next;
+    double length;
+
+    // Definitions
+    reference = new double[this.paths.getVertexCount()][3];
+    faceNormal = new double[3];
+    this.paths.computeNormals(true);
+
+    // Newell's method, as in calculateNormal, summed into every vertex of the face
+    for (int face = 0; face < this.paths.getFaceCount(); face++) {
+      vertices = this.paths.getFaceVertices(face);
+      faceNormal[0] = faceNormal[1] = faceNormal[2] = 0;
+      for (int i = 0; i < vertices.length; i++) {
+        current = vertices[i];
+        next = vertices[(i + 1) % vertices.length];
+        for (int axis = 0; axis < 3; axis++) {
+          faceNormal[axis] += (this.position(current, axis + 1) - this.position(next, axis + 1))
+            * (this.position(current, axis + 2) + this.position(next, axis + 2));
+        }
+      }
+      for (int vertex : vertices) {
+        for (int axis = 0; axis < 3; axis++) {
+          reference[vertex][axis] += faceNormal[axis];
+        }
+      }
+    }
+
+    for (int vertex = 0; vertex < reference.length; vertex++) {
+      length = Math.sqrt(reference[vertex][0] * reference[vertex][0]
+        + reference[vertex][1] * reference[vertex][1]
+        + reference[vertex][2] * reference[vertex][2]);
+      for (int axis = 0; axis < 3; axis++) {
+        assertEquals(reference[vertex][axis] / length, this.paths.getVertexNormal(vertex, axis),
+          EPSILON, "Vertex " + vertex + ", axis " + axis);
+      }
+    }
+  }
+
+  /**
+   * Returns the given coordinate of the given vertex, the axis taken modulo three.
+   *
+   * @param paramVertex <code>int</code>
+   * @param paramAxis <code>int</code>
+   * @return <code>double</code>
+   */
+  private double position(int paramVertex, int paramAxis) {
+    return this.paths.getPosition(paramVertex, paramAxis % 3);
+  }
+
+  /**
+   * Returns a copy of every face normal, by axis.
+   *
+   * @return <code>float[][]</code>
+   */
+  private float[][] faceNormals() {
+
+    // Declaration
+    final float[][] normals;
+
+    // Definition
+    normals = new float[3][this.paths.getFaceCount()];
+
+    for (int axis = 0; axis < 3; axis++) {
+      for (int i = 0; i < normals[axis].length; i++) {
+        normals[axis][i] = this.paths.getFaceNormal(i, axis);
+      }
+    }
+    return normals;
+  }
+
+  /**
+   * Returns a copy of every vertex normal, by axis.
+   *
+   * @return <code>float[][]</code>
+   */
+  private float[][] vertexNormals() {
+
+    // Declaration
+    final float[][] normals;
+
+    // Definition
+    normals = new float[3][this.paths.getVertexCount()];
+
+    for (int axis = 0; axis < 3; axis++) {
+      for (int i = 0; i < normals[axis].length; i++) {
+        normals[axis][i] = this.paths.getVertexNormal(i, axis);
+      }
+    }
+    return normals;
+  }
+}
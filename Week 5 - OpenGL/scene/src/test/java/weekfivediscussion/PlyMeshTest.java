@@ -0,0 +1,187 @@
+/**
+ * PlyMeshTest.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * This class checks the binary PLY path of <code>FourLights.MeshLoader</code> through
+ * <code>--mesh</code>, on octahedra written by the test itself. A plain octahedron is rendered
+ * on the software backend as the reference; the same octahedron with per-face colors before the
+ * index list, a per-face quality after it, and an <code>edge</code> element after the faces must
+ * render the very same frame. A header declaring more vertices than a direct buffer can hold must
+ * be refused with a message saying so.
+ *
+ * @author Andrew Eissen
+ */
+class PlyMeshTest {
+
+  /** Vertices of the octahedron */
+  private final static float[][] VERTICES = {{1, 0, 0}, {-1, 0, 0}, {0, 1, 0}, {0, -1, 0},
+    {0, 0, 1}, {0, 0, -1}};
+
+  /** Faces of the octahedron */
+  private final static int[][] FACES = {{4, 0, 2}, {4, 2, 1}, {4, 1, 3}, {4, 3, 0}, {5, 2, 0},
+    {5, 1, 2}, {5, 3, 1}, {5, 0, 3}};
+
+  // Class fields
+  @TempDir
+  Path directory;
+  private Path reference;
+
+  /**
+   * Writes and renders the plain octahedron as the reference.
+   *
+   * @return void
+   * @throws IOException should the file not be written
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    this.reference = this.directory.resolve("plain.png");
+    PlyMeshTest.render(PlyMeshTest.write(this.directory.resolve("plain.ply"), false,
+      PlyMeshTest.VERTICES.length), "--output", this.reference.toString());
+  }
+
+  /**
+   * Checks that scalar face properties and elements after the faces are stepped over.
+   *
+   * @return void
+   * @throws IOException should the file not be written
+   */
+  @Test
+  void extraPropertiesAndElementsAreSkipped() throws IOException {
+
+    // Declaration
+    final Path mesh;
+
+    // Definition
+    mesh = PlyMeshTest.write(this.directory.resolve("extras.ply"), true,
+      PlyMeshTest.VERTICES.length);
+
+    assertDoesNotThrow(new Executable() {
+      @Override
+      public void execute() {
+        PlyMeshTest.render(mesh, "--reference", PlyMeshTest.this.reference.toString(),
+          "--tolerance", "0");
+      }
+    });
+  }
+
+  /**
+   * Checks that a mesh too large for the direct buffers is refused before it is read.
+   *
+   * @return void
+   * @throws IOException should the file not be written
+   */
+  @Test
+  void oversizedMeshIsRefused() throws IOException {
+
+    // Declarations
+    final Path mesh;
+    final IllegalArgumentException error;
+
+    // Definitions
+    mesh = PlyMeshTest.write(this.directory.resolve("huge.ply"), false, 200000000);
+    error = assertThrows(IllegalArgumentException.class, new Executable() {
+      @Override
+      public void execute() {
+        PlyMeshTest.render(mesh);
+      }
+    });
+
+    assertTrue(error.getMessage().startsWith("Mesh too large for direct buffers"),
+      error.getMessage());
+  }
+
+  /**
+   * Renders a frame of the passed mesh on the software backend with the passed further options.
+   *
+   * @param paramMesh <code>Path</code>
+   * @param paramOptions <code>String[]</code>
+   * @return void
+   */
+  private static void render(Path paramMesh, String... paramOptions) {
+
+    // Declarations
+    final String[] options;
+    final String[] args;
+
+    // Definitions
+    options = new String[] {"--backend", "software", "--headless", "--size", "100x100",
+      "--frames", "1", "--threads", "2", "--mesh", paramMesh.toString()};
+    args = Arrays.copyOf(options, options.length + paramOptions.length);
+
+    System.arraycopy(paramOptions, 0, args, options.length, paramOptions.length);
+    FourLights.main(args);
+  }
+
+  /**
+   * Writes the octahedron as a little-endian binary PLY file, optionally with per-face colors
+   * and quality and a trailing <code>edge</code> element, declaring the given vertex count.
+   *
+   * @param paramPath <code>Path</code>
+   * @param paramExtras <code>boolean</code>
+   * @param paramVertexCount <code>int</code> declared in the header
+   * @return <code>Path</code>
+   * @throws IOException should the file not be written
+   */
+  private static Path write(Path paramPath, boolean paramExtras, int paramVertexCount)
+      throws IOException {
+
+    // Declarations
+    final StringBuilder header;
+    final byte[] text;
+    final ByteBuffer body;
+
+    // Definitions
+    header = new StringBuilder("ply\nformat binary_little_endian 1.0\n")
+      .append("element vertex ").append(paramVertexCount).append('\n')
+      .append("property float x\nproperty float y\nproperty float z\n")
+      .append("element face ").append(PlyMeshTest.FACES.length).append('\n');
+    if (paramExtras) {
+      header.append("property uchar red\nproperty uchar green\nproperty uchar blue\n");
+    }
+    header.append("property list uchar int vertex_indices\n");
+    if (paramExtras) {
+      header.append("property float quality\nelement edge 2\nproperty int vertex1\n")
+        .append("property int vertex2\n");
+    }
+    text = header.append("end_header\n").toString().getBytes(StandardCharsets.US_ASCII);
+    body = ByteBuffer.allocate(text.length + 1024).order(ByteOrder.LITTLE_ENDIAN);
+
+    body.put(text);
+    for (float[] vertex : PlyMeshTest.VERTICES) {
+      body.putFloat(vertex[0]).putFloat(vertex[1]).putFloat(vertex[2]);
+    }
+    for (int[] face : PlyMeshTest.FACES) {
+      if (paramExtras) {
+        body.put((byte) 255).put((byte) 0).put((byte) 0);
+      }
+      body.put((byte) face.length).putInt(face[0]).putInt(face[1]).putInt(face[2]);
+      if (paramExtras) {
+        body.putFloat(0.5f);
+      }
+    }
+    if (paramExtras) {
+      body.putInt(0).putInt(1).putInt(2).putInt(3);
+    }
+    return Files.write(paramPath, Arrays.copyOf(body.array(), body.position()));
+  }
+}
@@ -0,0 +1,114 @@
+/**
+ * ReferenceImageTest.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * This class checks the software backend against a reference frame by way of the
+ * <code>--reference</code> and <code>--tolerance</code> options, which throw an
+ * <code>IllegalStateException</code> when more than the tolerated share of pixels differ. The
+ * reference, <code>software-frame.png</code>, is frame 40 of the default scene, its default lights
+ * on, at 200 by 150, rendered on a single thread; the test renders the same frame across four
+ * threads, such that the tiles landing on different threads must not change the image. Should a GL
+ * driver be at hand, the reference may be replaced by the same frame rendered by the
+ * <code>gl</code> backend, e.g. under Mesa with <code>LIBGL_ALWAYS_SOFTWARE=1</code>, and the
+ * tolerance raised to allow for the two rasterizers' differing edges.
+ *
+ * @author Andrew Eissen
+ */
+class ReferenceImageTest {
+
+  /** Share of pixels allowed to differ from the reference */
+  private final static String TOLERANCE = "0.001";
+
+  /**
+   * Checks that the frame matches the reference within the tolerance.
+   *
+   * @return void
+   * @throws URISyntaxException should the reference not be found
+   */
+  @Test
+  void softwareFrameMatchesReference() throws URISyntaxException {
+
+    // Declaration
+    final String reference;
+
+    // Definition
+    reference = ReferenceImageTest.referencePath();
+
+    assertDoesNotThrow(new Executable() {
+      @Override
+      public void execute() {
+        ReferenceImageTest.render(reference);
+      }
+    });
+  }
+
+  /**
+   * Checks that a frame differing from the reference, with every light off, fails the comparison,
+   * such that the test above cannot pass by comparing nothing.
+   *
+   * @return void
+   * @throws URISyntaxException should the reference not be found
+   */
+  @Test
+  void differingFrameFails() throws URISyntaxException {
+
+    // Declaration
+    final String reference;
+
+    // Definition
+    reference = ReferenceImageTest.referencePath();
+
+    assertThrows(IllegalStateException.class, new Executable() {
+      @Override
+      public void execute() {
+        ReferenceImageTest.render(reference, "--lights", "none");
+      }
+    });
+  }
+
+  /**
+   * Renders frame 40 of the scene on four threads, comparing it against the passed reference.
+   *
+   * @param paramReference <code>String</code>
+   * @param paramOptions <code>String[]</code> further options, such as other lights
+   * @return void
+   */
+  private static void render(String paramReference, String... paramOptions) {
+
+    // Declarations
+    final String[] options;
+    final String[] args;
+
+    // Definitions
+    options = new String[] {"--backend", "software", "--headless", "--size", "200x150",
+      "--start-frame", "40", "--frames", "1", "--threads", "4", "--reference", paramReference,
+      "--tolerance", ReferenceImageTest.TOLERANCE};
+    args = Arrays.copyOf(options, options.length + paramOptions.length);
+
+    System.arraycopy(paramOptions, 0, args, options.length, paramOptions.length);
+    FourLights.main(args);
+  }
+
+  /**
+   * Returns the path of the reference frame among the test resources.
+   *
+   * @return <code>String</code>
+   * @throws URISyntaxException should the resource not be a valid path
+   */
+  private static String referencePath() throws URISyntaxException {
+    return Path.of(ReferenceImageTest.class.getResource("software-frame.png").toURI()).toString();
+  }
+}
@@ -0,0 +1,312 @@
+/**
+ * GLStubs.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GLAutoDrawable;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * This class builds the no-op <code>GL2</code> and <code>GLAutoDrawable</code> that the tests and
+ * the JMH benchmarks run the scene against, in place of a context. <code>GL2</code> has some two
+ * and a half thousand methods, too many for a <code>java.lang.reflect.Proxy</code>, whose
+ * generated class exceeds the size allowed of a method, and a proxy would box every argument in
+ * any case, which an allocation test cannot have. Rather than keep so large a class by hand, its
+ * source is generated here from the interface by reflection, each method counting the call and
+ * returning a zero value, <code>false</code>, <code>null</code>, or the stub itself where a
+ * <code>GL</code> of its own kind is expected, and compiled once per run by the system Java
+ * compiler. Any method the passed base class already implements, such as those of
+ * <code>StubGL2</code> that must do more than nothing, is left to it.
+ *
+ * @see StubGL2
+ * @see StubDrawable
+ * @author Andrew Eissen
+ */
+public final class GLStubs {
+
+  /** Package of the generated classes, that of the scene, so that they may share its access */
+  private final static String PACKAGE = "weekfivediscussion";
+
+  /** Generated classes already compiled, by the simple name of the interface they implement */
+  private final static Map<String, Class<?>> COMPILED = new HashMap<>();
+
+  /** Private constructor, the class holding only static methods */
+  private GLStubs() {}
+
+  // Utility methods
+
+  /**
+   * Returns a new no-op <code>GL2</code>, which is also a <code>StubGL2</code>.
+   *
+   * @return <code>GL2</code>
+   */
+  public static GL2 gl2() {
+    return (GL2) GLStubs.instantiate(GL2.class, StubGL2.class);
+  }
+
+  /**
+   * Returns a new no-op <code>GLAutoDrawable</code> handing out the passed <code>GL2</code> and
+   * surface size.
+   *
+   * @param paramGl <code>GL2</code>
+   * @param paramWidth <code>int</code>
+   * @param paramHeight <code>int</code>
+   * @return <code>GLAutoDrawable</code>
+   */
+  public static GLAutoDrawable drawable(GL2 paramGl, int paramWidth, int paramHeight) {
+
+    // Declaration
+    final StubDrawable drawable;
+
+    // Definition
+    drawable = (StubDrawable) GLStubs.instantiate(GLAutoDrawable.class, StubDrawable.class);
+
+    drawable.setUp(paramGl, paramWidth, paramHeight);
+    return (GLAutoDrawable) drawable;
+  }
+
+  /**
+   * Returns a new instance of the class implementing the passed interface on top of the passed
+   * base class, generating and compiling it on first use.
+   *
+   * @param paramInterface <code>Class</code>
+   * @param paramBase <code>Class</code>
+   * @return <code>Object</code>
+   */
+  private static synchronized Object instantiate(Class<?> paramInterface, Class<?> paramBase) {
+
+    // Declaration
+    Class<?> stub;
+
+    // Definition
+    stub = GLStubs.COMPILED.get(paramInterface.getSimpleName());
+
+    try {
+      if (stub == null) {
+        stub = GLStubs.compile(paramInterface, paramBase);
+        GLStubs.COMPILED.put(paramInterface.getSimpleName(), stub);
+      }
+      return stub.getConstructor().newInstance();
+    } catch (ReflectiveOperationException | IOException | URISyntaxException e) {
+      throw new IllegalStateException("Could not build a stub " + paramInterface.getName(), e);
+    }
+  }
+
+  /**
+   * Generates the source of the stub, compiles it into a temporary directory, and loads it.
+   *
+   * @param paramInterface <code>Class</code>
+   * @param paramBase <code>Class</code>
+   * @return <code>Class</code>
+   * @throws IOException should the source not be written
+   * @throws URISyntaxException should a class path entry not be a valid path
+   * @throws ClassNotFoundException should the compiled class not be found
+   */
+  private static Class<?> compile(Class<?> paramInterface, Class<?> paramBase)
+      throws IOException, URISyntaxException, ClassNotFoundException {
+
+    // Declarations
+    final String name;
+    final Path directory, source;
+    final Set<String> classPath;
+    final Map<String, Method> methods;
+    final JavaCompiler compiler;
+    final ByteArrayOutputStream errors;
+    final ClassLoader loader;
+
+    // Definitions
+    name = "Generated" + paramInterface.getSimpleName();
+    directory = Files.createTempDirectory("glstubs");
+    source = directory.resolve(name + ".java");
+    classPath = new LinkedHashSet<>();
+    methods = GLStubs.methodsToGenerate(paramInterface, paramBase);
+    compiler = ToolProvider.getSystemJavaCompiler();
+    errors = new ByteArrayOutputStream();
+
+    if (compiler == null) {
+      throw new IllegalStateException("The stubs need a JDK, this runtime having no compiler");
+    }
+
+    // Whatever the generated source names must be on the compiler's class path
+    GLStubs.addLocation(classPath, paramInterface);
+    GLStubs.addLocation(classPath, paramBase);
+    for (Method method : methods.values()) {
+      GLStubs.addLocation(classPath, method.getReturnType());
+      for (Class<?> parameter : method.getParameterTypes()) {
+        GLStubs.addLocation(classPath, parameter);
+      }
+    }
+
+    Files.write(source, GLStubs.generate(name, paramInterface, paramBase, methods)
+      .getBytes(StandardCharsets.UTF_8));
+    if (compiler.run(null, null, errors, "-nowarn", "-proc:none", "-d", directory.toString(),
+        "-classpath", String.join(File.pathSeparator, classPath), source.toString()) != 0) {
+      throw new IllegalStateException("Could not compile " + name + ":\n"
+        + errors.toString(StandardCharsets.UTF_8));
+    }
+
+    loader = new URLClassLoader(new URL[] {directory.toUri().toURL()},
+      paramBase.getClassLoader());
+    return loader.loadClass(GLStubs.PACKAGE + "." + name);
+  }
+
+  /**
+   * Returns the methods of the passed interface that the passed base class leaves
+   * unimplemented, one per signature, keyed and so ordered by signature.
+   *
+   * @param paramInterface <code>Class</code>
+   * @param paramBase <code>Class</code>
+   * @return <code>Map</code>
+   */
+  private static Map<String, Method> methodsToGenerate(Class<?> paramInterface,
+      Class<?> paramBase) {
+
+    // Declarations
+    final Map<String, Method> methods;
+    String key;
+    Method known;
+
+    // Definition
+    methods = new TreeMap<>();
+
+    for (Method method : paramInterface.getMethods()) {
+      if (Modifier.isStatic(method.getModifiers()) || method.isDefault()
+          || GLStubs.isImplemented(paramBase, method)) {
+        continue;
+      }
+
+      // Of methods inherited along several paths, the most specific return type is kept
+      key = method.getName() + Arrays.toString(method.getParameterTypes());
+      known = methods.get(key);
+      if (known == null || known.getReturnType().isAssignableFrom(method.getReturnType())) {
+        methods.put(key, method);
+      }
+    }
+    return methods;
+  }
+
+  /**
+   * Returns whether the passed base class has a concrete public method of the same signature.
+   *
+   * @param paramBase <code>Class</code>
+   * @param paramMethod <code>Method</code>
+   * @return <code>boolean</code>
+   */
+  private static boolean isImplemented(Class<?> paramBase, Method paramMethod) {
+    try {
+      return !Modifier.isAbstract(paramBase.getMethod(paramMethod.getName(),
+        paramMethod.getParameterTypes()).getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Generates the source of the stub class.
+   *
+   * @param paramName <code>String</code> simple name of the class
+   * @param paramInterface <code>Class</code>
+   * @param paramBase <code>Class</code>
+   * @param paramMethods <code>Map</code> the methods to generate
+   * @return <code>String</code>
+   */
+  private static String generate(String paramName, Class<?> paramInterface, Class<?> paramBase,
+      Map<String, Method> paramMethods) {
+
+    // Declarations
+    final StringBuilder builder;
+    Class<?>[] parameters;
+    Class<?> returnType;
+
+    // Definition
+    builder = new StringBuilder();
+
+    builder.append("package ").append(GLStubs.PACKAGE).append(";\n\n")
+      .append("public final class ").append(paramName).append(" extends ")
+      .append(paramBase.getCanonicalName()).append(" implements ")
+      .append(paramInterface.getCanonicalName()).append(" {\n");
+
+    for (Method method : paramMethods.values()) {
+      parameters = method.getParameterTypes();
+      returnType = method.getReturnType();
+
+      builder.append("  public ").append(returnType.getCanonicalName()).append(' ')
+        .append(method.getName()).append('(');
+      for (int i = 0; i < parameters.length; i++) {
+        builder.append((i == 0) ? "" : ", ").append(parameters[i].getCanonicalName())
+          .append(" p").append(i);
+      }
+      builder.append(") { ");
+
+      if (method.getName().startsWith("glGen") && Arrays.equals(parameters,
+          new Class<?>[] {int.class, int[].class, int.class})) {
+        builder.append("name(p0, p1, p2);");
+      } else {
+        builder.append("called();");
+      }
+
+      if (returnType == boolean.class) {
+        builder.append(" return false;");
+      } else if (returnType.isPrimitive() && returnType != void.class) {
+        builder.append(" return (").append(returnType.getName()).append(") 0;");
+      } else if (!returnType.isPrimitive() && returnType.isAssignableFrom(paramInterface)) {
+        builder.append(" return this;");
+      } else if (!returnType.isPrimitive()) {
+        builder.append(" return null;");
+      }
+      builder.append(" }\n");
+    }
+    return builder.append("}\n").toString();
+  }
+
+  /**
+   * Adds the class path entry from which the passed class was loaded, if any.
+   *
+   * @param paramClassPath <code>Set</code>
+   * @param paramClass <code>Class</code>
+   * @return void
+   * @throws URISyntaxException should the entry not be a valid path
+   */
+  private static void addLocation(Set<String> paramClassPath, Class<?> paramClass)
+      throws URISyntaxException {
+
+    // Declarations
+    Class<?> element;
+    final CodeSource codeSource;
+
+    // Definitions
+    element = paramClass;
+    while (element.isArray()) {
+      element = element.getComponentType();
+    }
+    codeSource = (element.isPrimitive() || element.getProtectionDomain() == null)
+      ? null
+      : element.getProtectionDomain().getCodeSource();
+
+    if (codeSource != null && codeSource.getLocation() != null) {
+      paramClassPath.add(Path.of(codeSource.getLocation().toURI()).toString());
+    }
+  }
+}
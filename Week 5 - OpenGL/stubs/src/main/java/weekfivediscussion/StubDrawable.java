@@ -0,0 +1,79 @@
+/**
+ * StubDrawable.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+import com.jogamp.opengl.GL;
+
+/**
+ * This abstract class is the base of the no-op <code>GLAutoDrawable</code> built by
+ * <code>GLStubs#drawable</code>, holding the <code>GL</code> and surface size the scene asks a
+ * drawable for. Every other method is generated to do nothing, as with
+ * <code>StubGL2</code>.
+ *
+ * @see GLStubs
+ * @author Andrew Eissen
+ */
+public abstract class StubDrawable {
+
+  // Class fields
+  private GL gl;
+  private int width, height;
+
+  // Setters
+
+  /**
+   * Sets the <code>GL</code> and surface size handed out, called once by
+   * <code>GLStubs#drawable</code>.
+   *
+   * @param paramGl <code>GL</code>
+   * @param paramWidth <code>int</code>
+   * @param paramHeight <code>int</code>
+   * @return void
+   */
+  final void setUp(GL paramGl, int paramWidth, int paramHeight) {
+    this.gl = paramGl;
+    this.width = paramWidth;
+    this.height = paramHeight;
+  }
+
+  // Getters
+
+  /**
+   * Getter for <code>StubDrawable.gl</code>
+   *
+   * @return gl <code>GL</code>
+   */
+  public GL getGL() {
+    return this.gl;
+  }
+
+  /**
+   * Getter for <code>StubDrawable.width</code>
+   *
+   * @return width <code>int</code>
+   */
+  public int getSurfaceWidth() {
+    return this.width;
+  }
+
+  /**
+   * Getter for <code>StubDrawable.height</code>
+   *
+   * @return height <code>int</code>
+   */
+  public int getSurfaceHeight() {
+    return this.height;
+  }
+
+  // Utility methods
+
+  /**
+   * Does nothing, made by every generated method.
+   *
+   * @return void
+   */
+  protected final void called() {}
+}
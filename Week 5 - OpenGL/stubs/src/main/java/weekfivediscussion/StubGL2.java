@@ -0,0 +1,116 @@
+/**
+ * StubGL2.java
+ * @version 1.0
+ * @author Andrew Eissen
+ */
+package weekfivediscussion;
+
+/**
+ * This abstract class is the base of the no-op <code>GL2</code> built by
+ * <code>GLStubs#gl2</code>, holding the few calls that must do more than nothing for the scene to
+ * run without a context. The generated subclass implements every other method of
+ * <code>GL2</code> by counting the call and returning zero, <code>false</code>, or
+ * <code>null</code>, such that, unlike a <code>java.lang.reflect.Proxy</code>, no argument is ever
+ * boxed and a call allocates nothing. The arguments of the last <code>glNormal3d</code> are kept,
+ * so that normals handed to GL may be checked, and the <code>glGen*</code> calls hand out
+ * increasing object names, so that buffer and vertex array setup succeeds.
+ *
+ * @see GLStubs
+ * @author Andrew Eissen
+ */
+public abstract class StubGL2 {
+
+  // Class fields
+  private long callCount;
+  private int lastName;
+  private final double[] lastNormal;
+
+  /** Default constructor */
+  protected StubGL2() {
+    this.lastNormal = new double[3];
+  }
+
+  // Getters
+
+  /**
+   * Getter for <code>StubGL2.callCount</code>
+   *
+   * @return callCount <code>long</code> GL calls made so far
+   */
+  public long getCallCount() {
+    return this.callCount;
+  }
+
+  /**
+   * Getter for <code>StubGL2.lastNormal</code>, written in place by each <code>glNormal3d</code>
+   *
+   * @return lastNormal <code>double[]</code>
+   */
+  public double[] getLastNormal() {
+    return this.lastNormal;
+  }
+
+  // Utility methods
+
+  /**
+   * Counts a call, made by every generated method.
+   *
+   * @return void
+   */
+  protected final void called() {
+    this.callCount++;
+  }
+
+  /**
+   * Hands out the next object names into the passed array, made by every generated
+   * <code>glGen*</code> method.
+   *
+   * @param paramCount <code>int</code>
+   * @param paramNames <code>int[]</code>
+   * @param paramOffset <code>int</code>
+   * @return void
+   */
+  protected final void name(int paramCount, int[] paramNames, int paramOffset) {
+    this.called();
+    for (int i = 0; i < paramCount; i++) {
+      paramNames[paramOffset + i] = ++this.lastName;
+    }
+  }
+
+  /**
+   * Keeps the passed normal.
+   *
+   * @param paramX <code>double</code>
+   * @param paramY <code>double</code>
+   * @param paramZ <code>double</code>
+   * @return void
+   */
+  public void glNormal3d(double paramX, double paramY, double paramZ) {
+    this.called();
+    this.lastNormal[0] = paramX;
+    this.lastNormal[1] = paramY;
+    this.lastNormal[2] = paramZ;
+  }
+
+  /**
+   * Reports every function as available, as the scene checks for buffer objects and shaders.
+   *
+   * @param paramName <code>String</code>
+   * @return <code>boolean</code> always <code>true</code>
+   */
+  public boolean isFunctionAvailable(String paramName) {
+    this.called();
+    return true;
+  }
+
+  /**
+   * Reports every extension as available.
+   *
+   * @param paramName <code>String</code>
+   * @return <code>boolean</code> always <code>true</code>
+   */
+  public boolean isExtensionAvailable(String paramName) {
+    this.called();
+    return true;
+  }
+}